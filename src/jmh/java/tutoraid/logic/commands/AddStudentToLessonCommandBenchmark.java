@@ -0,0 +1,70 @@
+package tutoraid.logic.commands;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutoraid.commons.core.index.Index;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.BenchmarkModels;
+import tutoraid.model.ModelManager;
+import tutoraid.model.lesson.Lesson;
+
+/**
+ * Benchmarks adding every student in the book to a few lessons with one {@code AddStudentToLessonCommand}.
+ * The students are removed from the lessons again before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddStudentToLessonCommandBenchmark {
+
+    private static final int LESSON_COUNT = 3;
+
+    @Param({"100", "10000", "100000"})
+    public int bookSize;
+
+    private ModelManager model;
+    private AddStudentToLessonCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = BenchmarkModels.createModel(bookSize, LESSON_COUNT);
+        ArrayList<Index> studentIndexes = new ArrayList<>(bookSize);
+        for (int i = 1; i <= bookSize; i++) {
+            studentIndexes.add(Index.fromOneBased(i));
+        }
+        ArrayList<Index> lessonIndexes = new ArrayList<>(LESSON_COUNT);
+        for (int i = 1; i <= LESSON_COUNT; i++) {
+            lessonIndexes.add(Index.fromOneBased(i));
+        }
+        command = new AddStudentToLessonCommand(studentIndexes, lessonIndexes);
+    }
+
+    @Setup(Level.Invocation)
+    public void removeStudentsFromLessons() {
+        for (Lesson lesson : model.getLessonBook().getLessonList()) {
+            model.deleteLessonFromStudents(lesson);
+        }
+    }
+
+    @Benchmark
+    public CommandResult addEveryStudentToLessons() throws CommandException {
+        return command.execute(model);
+    }
+}
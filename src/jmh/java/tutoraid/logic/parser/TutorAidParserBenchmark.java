@@ -0,0 +1,117 @@
+package tutoraid.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutoraid.logic.commands.Command;
+import tutoraid.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing each type of command, and commands that name many students or lessons by index.
+ * Run with the {@code gc} profiler, as the {@code jmh} Gradle task does, to see the memory allocated per command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TutorAidParserBenchmark {
+
+    /**
+     * A command of each type that the parser recognises.
+     */
+    public enum CommandText {
+        ADD_STUDENT("add -s sn/John Doe sp/81234567 pn/Mrs Doe pp/91234567"),
+        ADD_LESSON("add -l n/Maths 1 c/50 p/100 t/Mon 1000-1200"),
+        ADD_STUDENT_TO_LESSON("add -sl s/1 2 3 4 l/2"),
+        ADD_PROGRESS("add -p 1 Finished Prelims"),
+        DELETE_STUDENT("del -s 1"),
+        DELETE_LESSON("del -l 1"),
+        DELETE_STUDENT_FROM_LESSON("del -sl s/1 2 3 4 l/2"),
+        DELETE_PROGRESS("del -p 1"),
+        EDIT_STUDENT("edit -s 1 sn/Jon Poh sp/87654321 pn/Mr Po pp/98765432"),
+        EDIT_LESSON("edit -l 1 n/Maths 2 c/30 p/110 t/Tue 1100-1300"),
+        CLEAR("clear"),
+        LIST("list -a"),
+        EXIT("exit"),
+        HELP("help"),
+        VIEW_STUDENT("view -s 1"),
+        VIEW_LESSON("view -l 1"),
+        FIND_STUDENT("find -s alice bob charlie"),
+        FIND_LESSON("find -l eng math sci"),
+        FUZZY_FIND_STUDENT("find -fs alise bobb d/1"),
+        FUZZY_FIND_LESSON("find -fl mathh sceince d/1"),
+        RUN("run data/new_students.txt"),
+        IMPORT("import -s data/students.csv"),
+        EXPORT("export -sl data/rosters.csv"),
+        STATS("stats"),
+        DEBUG("debug dump data/debug.log");
+
+        private final String text;
+
+        CommandText(String text) {
+            this.text = text;
+        }
+    }
+
+    private final TutorAidParser parser = new TutorAidParser();
+
+    @Benchmark
+    public Command parseCommand(SingleCommand singleCommand) throws ParseException {
+        return parser.parseCommand(singleCommand.command.text);
+    }
+
+    @Benchmark
+    public Command parseAddManyStudentsToLessons(ManyIndexes manyIndexes) throws ParseException {
+        return parser.parseCommand(manyIndexes.addStudentsToLessons);
+    }
+
+    @Benchmark
+    public Command parseDeleteManyStudentsFromLessons(ManyIndexes manyIndexes) throws ParseException {
+        return parser.parseCommand(manyIndexes.deleteStudentsFromLessons);
+    }
+
+    /**
+     * One command of each type in turn.
+     */
+    @State(Scope.Thread)
+    public static class SingleCommand {
+        @Param
+        public CommandText command;
+    }
+
+    /**
+     * Commands that add or remove {@code indexCount} students to or from three lessons.
+     */
+    @State(Scope.Thread)
+    public static class ManyIndexes {
+        @Param({"10", "1000", "5000"})
+        public int indexCount;
+
+        private String addStudentsToLessons;
+        private String deleteStudentsFromLessons;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String studentIndexes = IntStream.rangeClosed(1, indexCount).mapToObj(Integer::toString)
+                    .collect(Collectors.joining(" "));
+            addStudentsToLessons = "add -sl s/" + studentIndexes + " l/1 2 3";
+            deleteStudentsFromLessons = "del -sl s/" + studentIndexes + " l/1 2 3";
+        }
+    }
+}
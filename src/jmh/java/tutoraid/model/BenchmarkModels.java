@@ -0,0 +1,51 @@
+package tutoraid.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
+
+/**
+ * A utility class to build models of a given size for benchmarks.
+ */
+public class BenchmarkModels {
+
+    private BenchmarkModels() {}
+
+    /**
+     * Returns {@code count} students with distinct names, none of whom attend any lesson.
+     */
+    public static List<Student> createStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder().withStudentName("Student " + i).build());
+        }
+        return students;
+    }
+
+    /**
+     * Returns {@code count} lessons with distinct names, each with room for {@code capacity} students.
+     */
+    public static List<Lesson> createLessons(int count, int capacity) {
+        List<Lesson> lessons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lessons.add(new LessonBuilder().withLessonName("Lesson " + i)
+                    .withCapacity(Integer.toString(capacity)).build());
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns a model with {@code studentCount} students and {@code lessonCount} lessons, each with room for every
+     * student. No student attends any lesson.
+     */
+    public static ModelManager createModel(int studentCount, int lessonCount) {
+        ModelManager model = new ModelManager();
+        model.addStudents(createStudents(studentCount));
+        model.addLessons(createLessons(lessonCount, studentCount));
+        return model;
+    }
+}
@@ -0,0 +1,150 @@
+package tutoraid.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
+
+/**
+ * Benchmarks the operations of {@code ModelManager} on the student and lesson lists, at several sizes of book.
+ * Operations that change the model either undo themselves in the same invocation, or are undone by a setup method
+ * before the next invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelManagerBenchmark {
+
+    private static final int LESSON_COUNT = 100;
+
+    @Param({"100", "10000", "100000"})
+    public int bookSize;
+
+    private ModelManager model;
+    private Student newStudent;
+    private Student lastStudent;
+    private Student editedStudent;
+    // the student and the lesson that every lesson and every student respectively are linked to
+    private Student busyStudent;
+    private Lesson fullLesson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = BenchmarkModels.createModel(bookSize, LESSON_COUNT);
+        List<Student> students = model.getStudentBook().getStudentList();
+        List<Lesson> lessons = model.getLessonBook().getLessonList();
+        newStudent = new StudentBuilder().withStudentName("New Student").build();
+        lastStudent = students.get(bookSize - 1);
+        editedStudent = new StudentBuilder(students.get(bookSize / 2)).withStudentPhone("91234567").build();
+        busyStudent = students.get(0);
+        fullLesson = lessons.get(0);
+        lessons.forEach(lesson -> model.addStudentToLesson(busyStudent, lesson));
+        students.stream().skip(1).forEach(student -> model.addStudentToLesson(student, fullLesson));
+    }
+
+    @Benchmark
+    public void addAndDeleteStudent() {
+        model.addStudent(newStudent);
+        model.deleteStudent(newStudent);
+    }
+
+    @Benchmark
+    public boolean hasStudent_present() {
+        return model.hasStudent(lastStudent);
+    }
+
+    @Benchmark
+    public boolean hasStudent_absent() {
+        return model.hasStudent(newStudent);
+    }
+
+    /**
+     * Replaces a student in the middle of the list with an edited copy, which replaces it in the next invocation.
+     */
+    @Benchmark
+    public void setStudent() {
+        Student target = model.getStudentBook().getStudentList().get(bookSize / 2);
+        model.setStudent(target, editedStudent);
+        editedStudent = target;
+    }
+
+    @Benchmark
+    public int viewStudent() {
+        model.viewStudent(busyStudent);
+        return model.getFilteredLessonList().size();
+    }
+
+    @Benchmark
+    public int viewLesson() {
+        model.viewLesson(fullLesson);
+        return model.getFilteredStudentList().size();
+    }
+
+    @Benchmark
+    public void deleteStudentWithCascade(DeletedStudent deleted) {
+        model.deleteStudentFromLessons(deleted.student);
+        model.deleteStudent(deleted.student);
+    }
+
+    @Benchmark
+    public void deleteLessonWithCascade(DeletedLesson deleted) {
+        model.deleteLessonFromStudents(deleted.lesson);
+        model.deleteLesson(deleted.lesson);
+    }
+
+    /**
+     * A student who attends every lesson, added back before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class DeletedStudent {
+        private Student student;
+
+        @Setup(Level.Invocation)
+        public void setUp(ModelManagerBenchmark benchmark) {
+            if (student == null) {
+                student = new StudentBuilder().withStudentName("Deleted Student").build();
+            }
+            benchmark.model.addStudent(student);
+            benchmark.model.getLessonBook().getLessonList()
+                    .forEach(lesson -> benchmark.model.addStudentToLesson(student, lesson));
+        }
+    }
+
+    /**
+     * A lesson that every student attends, added back before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class DeletedLesson {
+        private Lesson lesson;
+
+        @Setup(Level.Invocation)
+        public void setUp(ModelManagerBenchmark benchmark) {
+            if (lesson == null) {
+                lesson = new LessonBuilder().withLessonName("Deleted Lesson")
+                        .withCapacity(Integer.toString(benchmark.bookSize)).build();
+            }
+            benchmark.model.addLesson(lesson);
+            benchmark.model.getStudentBook().getStudentList()
+                    .forEach(student -> benchmark.model.addStudentToLesson(student, lesson));
+        }
+    }
+}
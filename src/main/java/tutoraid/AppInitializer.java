@@ -0,0 +1,371 @@
+package tutoraid;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import tutoraid.commons.core.Config;
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.core.Messages;
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.util.ConfigUtil;
+import tutoraid.commons.util.StringUtil;
+import tutoraid.logic.Logic;
+import tutoraid.logic.LogicManager;
+import tutoraid.model.LessonBook;
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.ReadOnlyUserPrefs;
+import tutoraid.model.StudentBook;
+import tutoraid.model.UserPrefs;
+import tutoraid.model.student.InitialStudent;
+import tutoraid.model.util.SampleDataUtil;
+import tutoraid.storage.BinaryTutorAidLessonStorage;
+import tutoraid.storage.BinaryTutorAidStudentStorage;
+import tutoraid.storage.JournaledTutorAidLessonStorage;
+import tutoraid.storage.JournaledTutorAidStudentStorage;
+import tutoraid.storage.JsonUserPrefsStorage;
+import tutoraid.storage.Storage;
+import tutoraid.storage.StorageManager;
+import tutoraid.storage.TutorAidLessonStorage;
+import tutoraid.storage.TutorAidStudentStorage;
+import tutoraid.storage.UserPrefsStorage;
+
+/**
+ * Wires up the config, storage, model and logic of the application, without any UI, so that they can be shared by
+ * the GUI and the headless command-line interface.
+ */
+public class AppInitializer {
+
+    /**
+     * Bounds of the ring buffer of a flight recording, beyond which the oldest events are dropped.
+     */
+    public static final Duration RECORDING_MAX_AGE = Duration.ofMinutes(30);
+    public static final long RECORDING_MAX_SIZE = 50L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private Config config;
+    private Storage storage;
+    private Model model;
+    private Logic logic;
+    // Whether the books in the model are the ones in the data files, rather than sample or empty books
+    private boolean isModelSaved = true;
+
+    private String message = String.format("%s\n", Messages.WELCOME_MESSAGE);
+
+    /**
+     * Reads the config, user prefs and data files given by {@code appParameters}, and creates the model and logic.
+     * Failures to save the data files in the background are passed to {@code messagePrinter}, on the background
+     * thread.
+     */
+    public void init(AppParameters appParameters, Consumer<String> messagePrinter) {
+        if (appParameters.getRecordingPath() != null) {
+            startFlightRecording(appParameters.getRecordingPath());
+        }
+        config = initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        TutorAidLessonStorage tutorAidLessonStorage =
+                new JournaledTutorAidLessonStorage(userPrefs.getLessonBookFilePath());
+        TutorAidStudentStorage tutorAidStudentStorage =
+                new JournaledTutorAidStudentStorage(userPrefs.getStudentBookFilePath(), new LessonBook());
+        if (userPrefs.isBinaryStorageEnabled()) {
+            tutorAidLessonStorage = new BinaryTutorAidLessonStorage(tutorAidLessonStorage);
+            tutorAidStudentStorage = new BinaryTutorAidStudentStorage(tutorAidStudentStorage);
+        } else {
+            convertBinaryFilesToJson(tutorAidLessonStorage, tutorAidStudentStorage);
+        }
+
+        StorageManager storageManager =
+                new StorageManager(tutorAidStudentStorage, tutorAidLessonStorage, userPrefsStorage);
+        storageManager.enableWriteBehind(e -> messagePrinter.accept(LogicManager.FILE_OPS_ERROR_MESSAGE + e));
+        storage = storageManager;
+
+        LogsCenter.init(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage, isModelSaved);
+    }
+
+    /**
+     * Writes out any pending saves of the data files, saving the books again if their saves failed in the
+     * background, and saves the user prefs.
+     */
+    public void stop() {
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data files " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the welcome message, followed by any problems found while reading the data files.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Starts a flight recording that keeps the most recent events, within {@code RECORDING_MAX_AGE} and
+     * {@code RECORDING_MAX_SIZE}, and dumps them to {@code recordingPath} when the application exits.
+     * The recording can also be dumped while the application runs, with {@code jcmd <pid> JFR.dump name=TutorAid}.
+     */
+    private void startFlightRecording(Path recordingPath) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("TutorAid");
+            recording.setToDisk(true);
+            recording.setMaxAge(RECORDING_MAX_AGE);
+            recording.setMaxSize(RECORDING_MAX_SIZE);
+            recording.setDestination(recordingPath);
+            recording.setDumpOnExit(true);
+            recording.start();
+            logger.info("Flight recording will be dumped to " + recordingPath + " on exit");
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start flight recording: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the student and lesson books back to json if they were saved in the binary format before it was
+     * switched off in the user prefs.
+     * The binary files are only deleted once both books are saved as json, so that a book that fails to convert
+     * does not leave the other without its binary file to be converted again from.
+     */
+    static void convertBinaryFilesToJson(TutorAidLessonStorage jsonLessonStorage,
+                                         TutorAidStudentStorage jsonStudentStorage) {
+        BinaryTutorAidLessonStorage binaryLessonStorage = new BinaryTutorAidLessonStorage(jsonLessonStorage);
+        BinaryTutorAidStudentStorage binaryStudentStorage = new BinaryTutorAidStudentStorage(jsonStudentStorage);
+        try {
+            Optional<ReadOnlyLessonBook> lessonBook = binaryLessonStorage.convertToJson();
+            if (lessonBook.isPresent()) {
+                binaryStudentStorage.convertToJson(lessonBook.get());
+                binaryStudentStorage.deleteBinaryFile();
+                binaryLessonStorage.deleteBinaryFile();
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert binary data files to json: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s student and lesson books
+     * and {@code userPrefs}. <br>
+     * The data from the sample student book will be used instead if {@code storage}'s student book is not found,
+     * or an empty student book will be used instead if errors occur when reading {@code storage}'s student book.
+     * This applies to the lesson book too.
+     * The student book is parsed on another thread while the lesson book is parsed, and the students are only linked
+     * to their lessons once both files have been read.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        long loadStartTime = System.nanoTime();
+        ExecutorService studentLoader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "student-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<Optional<List<InitialStudent>>> initialStudentsFuture = studentLoader.submit(() -> {
+            long startTime = System.nanoTime();
+            Optional<List<InitialStudent>> initialStudents = storage.readInitialStudents();
+            logPhaseTime("Parsing students", startTime);
+            return initialStudents;
+        });
+        studentLoader.shutdown();
+
+        ReadOnlyStudentBook studentsInitialData;
+        Optional<ReadOnlyLessonBook> lessonBookOptional;
+        ReadOnlyLessonBook lessonsInitialData;
+        boolean hasError = false;
+        try {
+            long startTime = System.nanoTime();
+            lessonBookOptional = storage.readLessonBook();
+            logPhaseTime("Parsing lessons", startTime);
+            if (lessonBookOptional.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample LessonBook");
+                message += String.format("\n%s", Messages.MESSAGE_NO_LESSON_DATA);
+                isModelSaved = false;
+            }
+            lessonsInitialData = lessonBookOptional.orElseGet(SampleDataUtil::getSampleLessonBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty database.");
+            lessonsInitialData = new LessonBook();
+            message += String.format("\n%s", Messages.MESSAGE_JSON_INTEGRITY_ERROR);
+            hasError = true;
+            isModelSaved = false;
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty database.");
+            lessonsInitialData = new LessonBook();
+            message += String.format("\n%s", Messages.MESSAGE_JSON_INTEGRITY_ERROR);
+            hasError = true;
+            isModelSaved = false;
+        }
+
+        try {
+            if (hasError) {
+                initialStudentsFuture.cancel(true);
+                studentsInitialData = new StudentBook();
+            } else {
+                Optional<List<InitialStudent>> initialStudentsOptional = getInitialStudents(initialStudentsFuture);
+                if (initialStudentsOptional.isEmpty()) {
+                    logger.info("Data file not found. Will be starting with a sample StudentBook");
+                    message += String.format("\n%s", Messages.MESSAGE_NO_STUDENT_DATA);
+                    isModelSaved = false;
+                    studentsInitialData = SampleDataUtil.getSampleStudentBook(lessonsInitialData);
+                } else {
+                    long startTime = System.nanoTime();
+                    studentsInitialData = storage.linkStudents(initialStudentsOptional.get(), lessonsInitialData);
+                    logPhaseTime("Linking students to lessons", startTime);
+                }
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty database.");
+            message += String.format("\n%s", Messages.MESSAGE_JSON_INTEGRITY_ERROR);
+            studentsInitialData = new StudentBook();
+            lessonsInitialData = new LessonBook();
+            isModelSaved = false;
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty database.");
+            message += String.format("\n%s", Messages.MESSAGE_JSON_INTEGRITY_ERROR);
+            studentsInitialData = new StudentBook();
+            lessonsInitialData = new LessonBook();
+            isModelSaved = false;
+        }
+        logPhaseTime("Loading data", loadStartTime);
+        return new ModelManager(studentsInitialData, lessonsInitialData, userPrefs);
+    }
+
+    /**
+     * Waits for the students being parsed by {@code initialStudentsFuture}, rethrowing any failure to read them.
+     */
+    private static Optional<List<InitialStudent>> getInitialStudents(
+            Future<Optional<List<InitialStudent>>> initialStudentsFuture) throws DataConversionException, IOException {
+        try {
+            return initialStudentsFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the student book", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void logPhaseTime(String phase, long startTime) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info(phase + " took " + elapsedMillis + " ms");
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty StudentBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -2,6 +2,7 @@ package tutoraid;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,14 @@ import tutoraid.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private Path recordingPath;
+    private boolean isHeadless;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,23 +32,77 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the file that a continuous flight recording is dumped to when the application exits, or null if the
+     * application is not recorded.
+     */
+    public Path getRecordingPath() {
+        return recordingPath;
+    }
+
+    public void setRecordingPath(Path recordingPath) {
+        this.recordingPath = recordingPath;
+    }
+
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
-        AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        return parse(parameters.getNamed());
+    }
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+    /**
+     * Parses the raw command-line arguments, for when the application is started without JavaFX.
+     * Named parameters are given as {@code --name=value}, like the parameters of a JavaFX application.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.equals(HEADLESS_FLAG)) {
+                isHeadless = true;
+            } else if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setHeadless(isHeadless);
+        return appParameters;
+    }
 
+    private static AppParameters parse(Map<String, String> namedParameters) {
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"), "config"));
+        appParameters.setScriptPath(parsePath(namedParameters.get("script"), "script"));
+        appParameters.setRecordingPath(parsePath(namedParameters.get("recording"), "recording"));
         return appParameters;
     }
 
+    private static Path parsePath(String pathParameter, String parameterName) {
+        if (pathParameter != null && !FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + parameterName + " path " + pathParameter + ". Ignoring it.");
+            return null;
+        }
+        return pathParameter != null ? Paths.get(pathParameter) : null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +114,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && Objects.equals(getRecordingPath(), otherAppParameters.getRecordingPath())
+                && isHeadless() == otherAppParameters.isHeadless();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, recordingPath, isHeadless);
     }
 }
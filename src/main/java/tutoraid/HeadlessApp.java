@@ -0,0 +1,120 @@
+package tutoraid;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.logic.Logic;
+import tutoraid.logic.commands.CommandResult;
+import tutoraid.logic.commands.RunCommand;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, reading commands from a script file or from standard input and printing their
+ * results to standard output. The JavaFX toolkit is never started, so this runs on machines without a display.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, printing results to {@code out} and
+     * errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Initializes the application from {@code appParameters}, runs its script, or the commands on standard input if
+     * there is no script, and saves the data files.
+     *
+     * @return the exit status of the application.
+     */
+    public static int launch(AppParameters appParameters) {
+        logger.info("=================[ Starting StudentBook and LessonBook without a GUI ]=================");
+        AppInitializer initializer = new AppInitializer();
+        initializer.init(appParameters, System.err::println);
+        HeadlessApp app = new HeadlessApp(initializer.getLogic(), System.out, System.err);
+        try {
+            if (appParameters.getScriptPath() != null) {
+                return app.runScript(appParameters.getScriptPath());
+            }
+            return app.runCommands(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        } finally {
+            initializer.stop();
+        }
+    }
+
+    /**
+     * Executes the commands in the script at {@code scriptPath} as a single batch, so that either all of them or none
+     * of them take effect.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_FAILURE} otherwise.
+     */
+    public int runScript(Path scriptPath) {
+        requireNonNull(scriptPath);
+        try {
+            out.println(logic.executeBatch(Files.readAllLines(scriptPath)).getFeedbackToUser());
+            return EXIT_SUCCESS;
+        } catch (IOException e) {
+            err.println(String.format(RunCommand.MESSAGE_READ_FAILED, scriptPath, e.getMessage()));
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+        }
+        return EXIT_FAILURE;
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, until the input ends or an exit command is executed.
+     * A failed command is reported and the commands after it are still executed.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_FAILURE} otherwise.
+     */
+    public int runCommands(BufferedReader in) {
+        requireNonNull(in);
+        int status = EXIT_SUCCESS;
+        try {
+            for (String commandText = in.readLine(); commandText != null; commandText = in.readLine()) {
+                if (commandText.isBlank()) {
+                    continue;
+                }
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(result.getFeedbackToUser());
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    err.println(e.getMessage());
+                    status = EXIT_FAILURE;
+                }
+            }
+        } catch (IOException e) {
+            err.println("Could not read commands: " + e.getMessage());
+            status = EXIT_FAILURE;
+        }
+        return status;
+    }
+}
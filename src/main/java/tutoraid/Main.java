@@ -17,9 +17,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * With the {@code --headless} flag, the application runs without a GUI instead, reading commands from the file
+ * given by {@code --script=FILE}, or from standard input.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.launch(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
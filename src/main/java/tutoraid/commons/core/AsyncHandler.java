@@ -0,0 +1,185 @@
+package tutoraid.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static tutoraid.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that queues log records and publishes them to its target handlers on a single background
+ * thread, so that logging never waits for the console or the log file.
+ * The queue is lock-free and holds at most {@code capacity} records. Records that arrive while it is full are handled
+ * according to the {@link OverflowPolicy}.
+ * Messages are formatted by the target handlers on the background thread, so parameters of a record are turned into
+ * strings there. The source of each record is taken to be its logger, rather than found by walking the stack.
+ */
+public class AsyncHandler extends Handler {
+
+    /**
+     * What to do with a record that arrives while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops the record, and reports how many records were dropped once the queue has been drained. */
+        DROP,
+        /** Publishes the record on the thread that logged it, after the records already queued. */
+        PUBLISH_IN_CALLER
+    }
+
+    public static final String MESSAGE_DROPPED_RECORDS = "{0} log records were dropped because the log queue was full.";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final List<Handler> targets;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Queue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+    // the number of records queued and not yet published, which ConcurrentLinkedQueue cannot count in constant time
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread drainThread;
+    private volatile boolean isDrainThreadWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncHandler} that publishes records to {@code targets}, with a queue of at most
+     * {@code capacity} records.
+     */
+    public AsyncHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.targets = List.copyOf(targets);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        drainThread = new Thread(this::drain, "log-writer");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        if (isClosed) {
+            publishToTargets(record);
+            return;
+        }
+
+        if (queuedCount.incrementAndGet() > capacity) {
+            queuedCount.decrementAndGet();
+            handleOverflow(record);
+            return;
+        }
+        queue.offer(record);
+        if (isDrainThreadWaiting) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    /**
+     * Waits until the records queued so far have been published, and then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        while (queuedCount.get() > 0 && drainThread.isAlive()) {
+            LockSupport.unpark(drainThread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Publishes the records left in the queue, and then closes the target handlers.
+     * Records published after the handler is closed are passed straight to the target handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped since the last report of dropped records.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void handleOverflow(LogRecord record) {
+        switch (overflowPolicy) {
+        case PUBLISH_IN_CALLER:
+            flush();
+            publishToTargets(record);
+            break;
+        default:
+            droppedCount.incrementAndGet();
+            break;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            LogRecord record = queue.poll();
+            if (record != null) {
+                publishToTargets(record);
+                // counted until published, so that flush waits for the record being published
+                queuedCount.decrementAndGet();
+                continue;
+            }
+            if (isClosed) {
+                return;
+            }
+            reportDroppedRecords();
+            isDrainThreadWaiting = true;
+            // records offered before the flag was set are seen here, and later ones unpark this thread
+            if (queue.isEmpty() && !isClosed) {
+                LockSupport.park(this);
+            }
+            isDrainThreadWaiting = false;
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord report = new LogRecord(Level.WARNING, MESSAGE_DROPPED_RECORDS);
+            report.setParameters(new Object[] {dropped});
+            report.setLoggerName(AsyncHandler.class.getSimpleName());
+            report.setSourceClassName(report.getLoggerName());
+            publishToTargets(report);
+        }
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                // such as a lazy message that fails, which must not stop the drain thread
+                reportError("Failed to publish a log record.", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private Level diagnosticLogLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
     public Level getLogLevel() {
@@ -24,6 +25,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public Level getDiagnosticLogLevel() {
+        return diagnosticLogLevel;
+    }
+
+    public void setDiagnosticLogLevel(Level diagnosticLogLevel) {
+        this.diagnosticLogLevel = diagnosticLogLevel;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -44,18 +53,20 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
+                && Objects.equals(diagnosticLogLevel, o.diagnosticLogLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, diagnosticLogLevel, userPrefsFilePath);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
+        sb.append("\nDiagnostic log level : " + diagnosticLogLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         return sb.toString();
     }
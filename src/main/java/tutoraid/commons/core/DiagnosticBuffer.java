@@ -0,0 +1,118 @@
+package tutoraid.commons.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutoraid.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+import tutoraid.commons.util.FileUtil;
+
+/**
+ * A {@code Handler} that keeps the most recent {@code capacity} log records in memory, down to the {@code FINE}
+ * level by default, so that they can be written to a file when a problem is reported.
+ * Keeping a record stores a copy of it in a ring buffer, without locking or formatting it. The copy holds the string
+ * of each parameter of the record, taken as it is kept, so the parameters may change after they are logged, but
+ * should be cheap to turn into strings. The messages are only formatted when the records are dumped.
+ */
+public class DiagnosticBuffer extends Handler {
+
+    private final AtomicReferenceArray<LogRecord> records;
+    private final AtomicLong nextIndex = new AtomicLong();
+
+    /**
+     * Creates a {@code DiagnosticBuffer} that keeps the last {@code capacity} records.
+     */
+    public DiagnosticBuffer(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        records = new AtomicReferenceArray<>(capacity);
+        setLevel(Level.FINE);
+        setFormatter(new SimpleFormatter());
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        records.set((int) (nextIndex.getAndIncrement() % records.length()), copyOf(record));
+    }
+
+    /**
+     * Returns a copy of {@code record} whose parameters are replaced by their strings, so that the copy does not
+     * change with them. The record itself is left alone, as other handlers may still be formatting it.
+     */
+    private static LogRecord copyOf(LogRecord record) {
+        LogRecord copy = new LogRecord(record.getLevel(), record.getMessage());
+        copy.setLoggerName(record.getLoggerName());
+        copy.setResourceBundle(record.getResourceBundle());
+        copy.setResourceBundleName(record.getResourceBundleName());
+        copy.setInstant(record.getInstant());
+        copy.setSequenceNumber(record.getSequenceNumber());
+        copy.setThreadID(record.getThreadID());
+        copy.setThrown(record.getThrown());
+        copy.setSourceClassName(record.getLoggerName());
+        copy.setSourceMethodName(null);
+        Object[] parameters = record.getParameters();
+        if (parameters != null) {
+            Object[] strings = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                strings[i] = String.valueOf(parameters[i]);
+            }
+            copy.setParameters(strings);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the records kept, oldest first. Records kept while this is called may or may not be included.
+     */
+    public List<LogRecord> getRecords() {
+        long end = nextIndex.get();
+        List<LogRecord> kept = new ArrayList<>(records.length());
+        for (long index = Math.max(0, end - records.length()); index < end; index++) {
+            LogRecord record = records.get((int) (index % records.length()));
+            if (record != null) {
+                kept.add(record);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Writes the records kept to {@code file}, oldest first, replacing the file if it exists.
+     *
+     * @return the number of records written.
+     * @throws IOException if the file cannot be written.
+     */
+    public int dump(Path file) throws IOException {
+        requireNonNull(file);
+        List<LogRecord> kept = getRecords();
+        FileUtil.createParentDirsOfFile(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+            for (LogRecord record : kept) {
+                writer.write(getFormatter().format(record));
+            }
+        }
+        return kept.size();
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
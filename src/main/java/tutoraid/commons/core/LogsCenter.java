@@ -1,37 +1,52 @@
 package tutoraid.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import tutoraid.commons.core.AsyncHandler.OverflowPolicy;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written to the console and the file by an {@link AsyncHandler}, so logging does not wait for either.
+ * Messages that are costly to build should be passed as parameters, or wrapped with {@link #lazy(Supplier)}, so that
+ *   they are only built on the log writer thread, and only if they are logged.
+ * Every logger also logs to a {@link DiagnosticBuffer} of the most recent records, at the diagnostic log level of the
+ *   {@code config}, which can be dumped to a file when more detail is needed than the log file holds. Loggers only
+ *   create records below the {@code INFO} level if one of the two levels asks for them.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "tutoraid.log";
+    private static final int MAX_QUEUED_RECORDS = 8192;
+    private static final int MAX_DIAGNOSTIC_RECORDS = 4096;
     private static Level currentLogLevel = Level.INFO;
+    private static final DiagnosticBuffer diagnosticBuffer = createDiagnosticBuffer();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncHandler asyncHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
+     * Initializes with a custom log level and diagnostic log level (specified in the {@code config} object)
      * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
      * Logging levels for existing loggers will only be updated if the logger with the same name
      * is requested again from the LogsCenter.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        diagnosticBuffer.setLevel(config.getDiagnosticLogLevel());
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
@@ -43,8 +58,9 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
+        logger.addHandler(diagnosticBuffer);
+        logger.setLevel(getLowestLevel(currentLogLevel, diagnosticBuffer.getLevel()));
 
         return Logger.getLogger(name);
     }
@@ -60,37 +76,62 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the buffer of the most recent records logged by the loggers of the LogsCenter.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    public static DiagnosticBuffer getDiagnosticBuffer() {
+        return diagnosticBuffer;
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Returns a log record parameter whose string is given by {@code messageSupplier}, for messages that should only
+     * be built if they are logged, e.g. {@code logger.log(Level.FINE, "Saved {0}", lazy(() -> describe(book)))}.
+     * The message is built on the log writer thread, so {@code messageSupplier} must only read values that do not
+     * change. If the record is also kept by the {@link DiagnosticBuffer}, the message is built as it is logged.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    public static Object lazy(Supplier<String> messageSupplier) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return messageSupplier.get();
+            }
+        };
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            List<Handler> targets = new ArrayList<>();
+            targets.add(createConsoleHandler());
+            try {
+                targets.add(createFileHandler());
+            } catch (IOException e) {
+                logger.warning("Error adding file handler for logger.");
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncHandler(targets, MAX_QUEUED_RECORDS, OverflowPolicy.DROP);
+            asyncHandler.setLevel(currentLogLevel);
         }
+        logger.addHandler(asyncHandler);
+    }
+
+    private static DiagnosticBuffer createDiagnosticBuffer() {
+        DiagnosticBuffer buffer = new DiagnosticBuffer(MAX_DIAGNOSTIC_RECORDS);
+        buffer.setLevel(currentLogLevel);
+        return buffer;
+    }
+
+    private static Level getLowestLevel(Level first, Level second) {
+        return first.intValue() <= second.intValue() ? first : second;
+    }
+
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
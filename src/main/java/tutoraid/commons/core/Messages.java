@@ -11,7 +11,11 @@ public class Messages {
     public static final String MESSAGE_INVALID_DELETE_COMMAND = "Invalid delete command format! "
             + "Must start with 'del -s', 'del -l', 'del -p', or 'del -sl'.";
     public static final String MESSAGE_INVALID_FIND_COMMAND = "Invalid find command format! "
-            + "Must start with 'find -s' or 'find -l'.";
+            + "Must start with 'find -s', 'find -l', 'find -fs' or 'find -fl'.";
+    public static final String MESSAGE_INVALID_IMPORT_COMMAND = "Invalid import command format! "
+            + "Must start with 'import -s' or 'import -l'.";
+    public static final String MESSAGE_INVALID_EXPORT_COMMAND = "Invalid export command format! "
+            + "Must start with 'export -s', 'export -l', 'export -sl' or 'export -p'.";
     public static final String MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX = "The student index provided is invalid.";
     public static final String MESSAGE_INVALID_STUDENTS_DISPLAYED_INDEX = "One or more of the student indexes provided "
             + "is invalid.";
@@ -0,0 +1,121 @@
+package tutoraid.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the records of a CSV file one at a time, so that a file of any size is read in bounded memory.
+ * Fields may be quoted with double quotes, in which case they may hold commas, line breaks and doubled quotes.
+ * Blank lines are skipped. Malformed quoting is read leniently rather than rejected: a quote inside an unquoted field
+ * is kept as it is, and a quoted field left open runs to the end of the file.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int END_OF_FILE = -1;
+
+    private final BufferedReader reader;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+
+    /**
+     * Creates a {@code CsvReader} that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or an empty {@code Optional} at the end of the file.
+     */
+    public Optional<List<String>> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        do {
+            fields.clear();
+            recordLineNumber = lineNumber;
+            if (!readFields(fields)) {
+                return Optional.empty();
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        return Optional.of(fields);
+    }
+
+    /**
+     * Returns the line of the file that the last record read starts on, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the fields up to the end of the current record into {@code fields}.
+     * Returns false if the file has already ended.
+     */
+    private boolean readFields(List<String> fields) throws IOException {
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasCharacters = false;
+        while (true) {
+            int c = reader.read();
+            if (c == END_OF_FILE) {
+                if (hasCharacters) {
+                    fields.add(field.toString());
+                }
+                return hasCharacters;
+            }
+            hasCharacters = true;
+            if (isQuoted) {
+                if (c == QUOTE && peek() == QUOTE) {
+                    reader.read();
+                    field.append(QUOTE);
+                } else if (c == QUOTE) {
+                    isQuoted = false;
+                } else {
+                    countLine(c);
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    reader.read();
+                }
+                lineNumber++;
+                fields.add(field.toString());
+                return true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private void countLine(int c) throws IOException {
+        if (c == '\n' || c == '\r' && peek() != '\n') {
+            lineNumber++;
+        }
+    }
+
+    private int peek() throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        reader.reset();
+        return c;
+    }
+}
@@ -0,0 +1,70 @@
+package tutoraid.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows to a CSV file in the format read by {@link CsvReader}.
+ * Fields holding commas, double quotes or line breaks are quoted, with their double quotes doubled.
+ */
+public class CsvWriter implements RowWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} that writes rows to {@code writer}, which should be buffered.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(values.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
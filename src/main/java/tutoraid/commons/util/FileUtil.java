@@ -75,9 +75,13 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @return the number of bytes written.
      */
-    public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+    public static long writeToFile(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        return bytes.length;
     }
 
 }
@@ -0,0 +1,55 @@
+package tutoraid.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes rows to a JSON Lines file, as one JSON object per line that maps each column to its value.
+ * The objects are generated straight into the underlying writer, without building a string for each row.
+ */
+public class JsonLinesWriter implements RowWriter {
+
+    // rows are separated by line breaks rather than the spaces Jackson puts between root values by default
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().setRootValueSeparator(null);
+
+    private final JsonGenerator generator;
+    private final List<String> columns;
+
+    /**
+     * Creates a {@code JsonLinesWriter} that writes rows with the given {@code columns} to {@code writer}, which
+     * should be buffered.
+     */
+    public JsonLinesWriter(Writer writer, List<String> columns) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(columns);
+        this.generator = JSON_FACTORY.createGenerator(writer);
+        this.columns = columns;
+    }
+
+    /**
+     * Writes a row holding {@code values}, which must have one value for each column.
+     */
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values, but got " + values.size());
+        }
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeStringField(columns.get(i), values.get(i));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -3,6 +3,8 @@ package tutoraid.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,16 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import tutoraid.commons.core.LogsCenter;
 import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,8 +48,8 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
-    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+    static <T> long serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
+        return FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -76,18 +85,92 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array under {@code arrayField} of the json object in the given file one at a time,
+     * passing each to {@code consumer} as an instance of {@code classOfElement}. The file is streamed, so only the
+     * element being read is held in memory. Other fields of the object are skipped.
+     * @param filePath cannot be null.
+     * @return false if the file is not found.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code consumer} rejects an element.
+     */
+    public static <T> boolean readJsonArray(Path filePath, String arrayField, Class<T> classOfElement,
+            ElementConsumer<? super T> consumer) throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(filePath);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object");
+            }
+            boolean isArrayFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayField)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayField);
+                }
+                isArrayFound = true;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(objectMapper.readValue(parser, classOfElement));
+                }
+            }
+            if (!isArrayFound) {
+                throw new JsonParseException(parser, "Missing field " + arrayField);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a writer of a json object that holds a single array under {@code arrayField}, whose elements are
+     * written to the given file one at a time as they are passed to {@link JsonArrayWriter#write}. The file is
+     * replaced if it exists, and is complete once the writer is closed.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonArrayWriter writeJsonArray(Path filePath, String arrayField) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayField);
+
+        OutputStream outputStream = Files.newOutputStream(filePath);
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream).useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayField);
+            return new JsonArrayWriter(generator);
+        } catch (IOException e) {
+            outputStream.close();
+            throw e;
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
+     * @return the number of bytes written
      * @throws IOException if there was an error during writing to the file
      */
-    public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+    public static <T> long saveJsonFile(T jsonFile, Path filePath) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        return serializeObjectToJsonFile(filePath, jsonFile);
     }
 
 
@@ -110,6 +193,67 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given JSON tree to instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values in the JSON tree
+     */
+    public static <T> T fromJsonNode(JsonNode node, Class<T> instanceClass) throws IOException {
+        return objectMapper.treeToValue(node, instanceClass);
+    }
+
+    /**
+     * Accepts the elements read by {@link #readJsonArray}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        void accept(T element) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes the elements of the array opened by {@link #writeJsonArray}.
+     */
+    public static class JsonArrayWriter implements AutoCloseable {
+        private static final ObjectWriter elementWriter =
+                objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        private final JsonGenerator generator;
+
+        private JsonArrayWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        /**
+         * Writes {@code element} as the next element of the array.
+         */
+        public void write(Object element) throws IOException {
+            elementWriter.writeValue(generator, element);
+        }
+
+        /**
+         * Ends the array and its object, and closes the file.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } finally {
+                generator.close();
+            }
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,85 @@
+package tutoraid.commons.util;
+
+import static tutoraid.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in nanoseconds, so that their percentiles can be found without keeping every latency.
+ * Latencies are counted in buckets that grow with the latency, so a percentile is reported at most an eighth above
+ * the true value. Recording takes a few atomic increments and never allocates, and may be done from any thread.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketIndexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts a latency of {@code nanos}, which must not be negative.
+     */
+    public void record(long nanos) {
+        checkArgument(nanos >= 0, "Latency must not be negative.");
+        bucketCounts.incrementAndGet(bucketIndexOf(nanos));
+        count.incrementAndGet();
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of latencies counted.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the longest latency counted, or 0 if none has been.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns an upper bound of the latency that {@code percentile} percent of the latencies counted are within,
+     * or 0 if none has been counted.
+     */
+    public long getPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile must be above 0 and at most 100.");
+        long rank = (long) Math.ceil(percentile / 100 * count.get());
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT && rank > 0; i++) {
+            seen += bucketCounts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBoundOf(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bucket of {@code nanos}. Latencies below {@code SUB_BUCKET_COUNT * 2} each have their own bucket,
+     * and each doubling of the latency above that is split into {@code SUB_BUCKET_COUNT} buckets.
+     */
+    private static int bucketIndexOf(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((nanos >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    private static long bucketUpperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,80 @@
+package tutoraid.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A set that compares its elements by reference instead of {@code equals}, and iterates over them in insertion order.
+ * Membership checks, insertions and removals all take constant time.
+ * Does not allow nulls.
+ */
+public class LinkedIdentitySet<E> extends AbstractSet<E> {
+
+    private final Map<IdentityKey, E> elements = new LinkedHashMap<>();
+
+    public LinkedIdentitySet() {}
+
+    /**
+     * Creates a {@code LinkedIdentitySet} containing the elements of {@code items}, in iteration order.
+     */
+    public LinkedIdentitySet(Collection<? extends E> items) {
+        addAll(items);
+    }
+
+    @Override
+    public boolean contains(Object item) {
+        return elements.containsKey(new IdentityKey(item));
+    }
+
+    @Override
+    public boolean add(E item) {
+        requireNonNull(item);
+        return elements.putIfAbsent(new IdentityKey(item), item) == null;
+    }
+
+    @Override
+    public boolean remove(Object item) {
+        return elements.remove(new IdentityKey(item)) != null;
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return elements.values().iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Wraps an element so that it is hashed and compared by reference.
+     */
+    private static class IdentityKey {
+        private final Object item;
+
+        IdentityKey(Object item) {
+            this.item = item;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).item == item;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(item);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package tutoraid.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of terms that finds the terms starting with a prefix, ignoring case.
+ * The same term may be added several times, and stays in the trie until it has been removed as many times.
+ * Finding completions only visits the nodes below the prefix until enough terms are found, so its cost depends on
+ * the length of the prefix and the number of completions asked for rather than on the number of terms.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code term} to the trie.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        Node node = root;
+        for (char c : term.toLowerCase().toCharArray()) {
+            node = node.children.computeIfAbsent(c, unused -> new Node());
+        }
+        node.terms.merge(term, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code term} from the trie, if it is in the trie.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        remove(root, term, term.toLowerCase(), 0);
+    }
+
+    /**
+     * Returns up to {@code limit} terms that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (char c : prefix.toLowerCase().toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return new ArrayList<>();
+            }
+        }
+        List<String> completions = new ArrayList<>();
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    private static void collect(Node node, int limit, List<String> completions) {
+        for (String term : node.terms.keySet()) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            completions.add(term);
+        }
+        for (Node child : node.children.values()) {
+            if (completions.size() >= limit) {
+                return;
+            }
+            collect(child, limit, completions);
+        }
+    }
+
+    /**
+     * Removes {@code term} from below {@code node}, and returns true if {@code node} is then empty.
+     */
+    private static boolean remove(Node node, String term, String key, int depth) {
+        if (depth == key.length()) {
+            node.terms.computeIfPresent(term, (unused, count) -> count > 1 ? count - 1 : null);
+        } else {
+            Node child = node.children.get(key.charAt(depth));
+            if (child != null && remove(child, term, key, depth + 1)) {
+                node.children.remove(key.charAt(depth));
+            }
+        }
+        return node.terms.isEmpty() && node.children.isEmpty();
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private final Map<String, Integer> terms = new TreeMap<>();
+    }
+}
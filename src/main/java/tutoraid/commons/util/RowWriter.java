@@ -0,0 +1,16 @@
+package tutoraid.commons.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes rows of values to a file one at a time, so that no more than one row is held in memory.
+ */
+public interface RowWriter extends Closeable {
+
+    /**
+     * Writes a row holding {@code values}, one for each column.
+     */
+    void writeRow(List<String> values) throws IOException;
+}
@@ -69,6 +69,58 @@ public class StringUtil {
         return false;
     }
 
+    /**
+     * Returns true if the {@code sentence} contains a word within {@code maxDistance} edits of the {@code word}.
+     *   Ignores case.
+     *   <br>examples:<pre>
+     *       containsWordWithinDistanceIgnoreCase("Alice Pauline", "ALCIE", 2) == true
+     *       containsWordWithinDistanceIgnoreCase("Alice Pauline", "alcie", 1) == false
+     *       </pre>
+     * @param sentence cannot be null
+     * @param word cannot be null
+     * @see #getEditDistance(String, String)
+     */
+    public static boolean containsWordWithinDistanceIgnoreCase(String sentence, String word, int maxDistance) {
+        requireNonNull(sentence);
+        requireNonNull(word);
+
+        String preppedWord = word.trim().toLowerCase();
+        return Arrays.stream(sentence.toLowerCase().split("\\s+"))
+                .filter(currWord -> !currWord.isEmpty())
+                .anyMatch(currWord -> getEditDistance(preppedWord, currWord) <= maxDistance);
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions and substitutions needed to turn {@code first}
+     * into {@code second}.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alcie") == 2
+     *       getEditDistance("kurz", "kunz") == 1
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
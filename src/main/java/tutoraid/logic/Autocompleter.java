@@ -0,0 +1,176 @@
+package tutoraid.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import tutoraid.commons.util.PrefixTrie;
+import tutoraid.logic.commands.AddProgressCommand;
+import tutoraid.logic.commands.AddStudentToLessonCommand;
+import tutoraid.logic.commands.DeleteLessonCommand;
+import tutoraid.logic.commands.DeleteStudentCommand;
+import tutoraid.logic.commands.FuzzyFindLessonCommand;
+import tutoraid.logic.commands.FuzzyFindStudentCommand;
+import tutoraid.logic.parser.CliSyntax;
+import tutoraid.logic.parser.Prefix;
+import tutoraid.logic.parser.TutorAidParser;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+
+/**
+ * Completes partially typed commands with command words, flags, prefixes, and student and lesson names.
+ * The names are kept in sync with the books by {@link #update(ReadOnlyStudentBook, ReadOnlyLessonBook)}, which only
+ * looks up the students and lessons that the change logs of the books record as added, edited or deleted since the
+ * last update.
+ * Completions may be requested from any thread.
+ */
+public class Autocompleter {
+
+    private static final List<String> FLAGS = List.of(DeleteStudentCommand.COMMAND_FLAG,
+            DeleteLessonCommand.COMMAND_FLAG, AddStudentToLessonCommand.COMMAND_FLAG,
+            AddProgressCommand.COMMAND_FLAG, FuzzyFindStudentCommand.COMMAND_FLAG, FuzzyFindLessonCommand.COMMAND_FLAG);
+
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie arguments = new PrefixTrie();
+
+    // the names each student and lesson ID was added to the trie with, so that edits in place can be found
+    private final Map<Long, String> studentNames = new HashMap<>();
+    private final Map<Long, String> lessonNames = new HashMap<>();
+    private long studentBookVersion = -1;
+    private long lessonBookVersion = -1;
+
+    /**
+     * Creates an {@code Autocompleter} with the names in {@code studentBook} and {@code lessonBook}.
+     */
+    public Autocompleter(ReadOnlyStudentBook studentBook, ReadOnlyLessonBook lessonBook) {
+        TutorAidParser.COMMAND_WORDS.forEach(commandWords::add);
+        FLAGS.forEach(arguments::add);
+        CliSyntax.PREFIXES.stream().map(Prefix::getPrefix).forEach(arguments::add);
+        update(studentBook, lessonBook);
+    }
+
+    /**
+     * Brings the student and lesson names up to date with {@code studentBook} and {@code lessonBook}.
+     * Does nothing for a book that has not been modified since the last update.
+     */
+    public synchronized void update(ReadOnlyStudentBook studentBook, ReadOnlyLessonBook lessonBook) {
+        requireNonNull(studentBook);
+        requireNonNull(lessonBook);
+        if (studentBook.getVersion() != studentBookVersion) {
+            updateNames(studentNames, studentBook.getChangeLog().getIdsChangedSince(studentBookVersion),
+                    studentBook.getStudentList(), studentBook::getStudent, Student::getId,
+                    student -> student.getStudentName().fullName);
+            studentBookVersion = studentBook.getVersion();
+        }
+        if (lessonBook.getVersion() != lessonBookVersion) {
+            updateNames(lessonNames, lessonBook.getChangeLog().getIdsChangedSince(lessonBookVersion),
+                    lessonBook.getLessonList(), lessonBook::getLesson, Lesson::getId,
+                    lesson -> lesson.getLessonName().lessonName);
+            lessonBookVersion = lessonBook.getVersion();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} completions of {@code commandText}, each being the whole command text with its
+     * last part completed. The first word is completed with command words, and later parts with flags, prefixes,
+     * and student and lesson names, which may span several words.
+     */
+    public synchronized List<String> getCompletions(String commandText, int limit) {
+        requireNonNull(commandText);
+        int commandWordStart = commandText.length() - commandText.stripLeading().length();
+        int commandWordEnd = indexOfWhitespace(commandText, commandWordStart);
+        if (commandWordEnd == -1) {
+            return complete(commandWords, commandText, commandWordStart, limit);
+        }
+
+        // the longest completable part is tried first, so that names are completed as a whole
+        for (int start = commandWordEnd + 1; start < commandText.length(); start++) {
+            if (!Character.isWhitespace(commandText.charAt(start - 1))
+                    || Character.isWhitespace(commandText.charAt(start))) {
+                continue;
+            }
+            List<String> completions = complete(arguments, commandText, start, limit);
+            int prefixLength = getPrefixLength(commandText, start);
+            if (completions.isEmpty() && prefixLength > 0) {
+                completions = complete(arguments, commandText, start + prefixLength, limit);
+            }
+            if (!completions.isEmpty()) {
+                return completions;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<String> complete(PrefixTrie trie, String commandText, int start, int limit) {
+        String part = commandText.substring(start);
+        List<String> completions = new ArrayList<>();
+        if (part.isEmpty()) {
+            return completions;
+        }
+        for (String term : trie.getCompletions(part, limit + 1)) {
+            if (!term.equals(part) && completions.size() < limit) {
+                completions.add(commandText.substring(0, start) + term);
+            }
+        }
+        return completions;
+    }
+
+    private static int getPrefixLength(String commandText, int start) {
+        for (Prefix prefix : CliSyntax.PREFIXES) {
+            if (commandText.startsWith(prefix.getPrefix(), start)) {
+                return prefix.getPrefix().length();
+            }
+        }
+        return 0;
+    }
+
+    private static int indexOfWhitespace(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Updates the names of the items with {@code changedIds}, looking each up with {@code getItem}. If the changes
+     * are not known, all the names are replaced with those of {@code items} instead.
+     */
+    private <T> void updateNames(Map<Long, String> indexedNames, Optional<Set<Long>> changedIds, List<T> items,
+                                 LongFunction<Optional<T>> getItem, ToLongFunction<T> getId,
+                                 Function<T, String> getName) {
+        if (changedIds.isEmpty()) {
+            indexedNames.values().forEach(arguments::remove);
+            indexedNames.clear();
+            for (T item : items) {
+                String name = getName.apply(item);
+                indexedNames.put(getId.applyAsLong(item), name);
+                arguments.add(name);
+            }
+            return;
+        }
+
+        for (long id : changedIds.get()) {
+            Optional<String> name = getItem.apply(id).map(getName);
+            String indexedName = name.isPresent() ? indexedNames.put(id, name.get()) : indexedNames.remove(id);
+            if (indexedName != null && !name.equals(Optional.of(indexedName))) {
+                arguments.remove(indexedName);
+            }
+            if (name.isPresent() && !name.get().equals(indexedName)) {
+                arguments.add(name.get());
+            }
+        }
+    }
+}
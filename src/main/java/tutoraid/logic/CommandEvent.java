@@ -0,0 +1,26 @@
+package tutoraid.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for one phase of a command, as timed by {@link LogicManager}.
+ */
+@Name("tutoraid.CommandPhase")
+@Label("Command Phase")
+@Category({"TutorAid", "Logic"})
+@Description("Parsing, executing or saving the books after a command")
+class CommandEvent extends Event {
+
+    @Label("Command Type")
+    String commandType;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Successful")
+    boolean isSuccessful;
+}
@@ -0,0 +1,90 @@
+package tutoraid.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import tutoraid.commons.util.LatencyHistogram;
+
+/**
+ * Keeps a latency histogram of each phase of each type of command executed.
+ * Latencies may be recorded and read from any thread.
+ */
+public class LatencyRecorder {
+
+    /**
+     * The phases that a command is timed in.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE, TOTAL;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private volatile String lastCommandType;
+    private volatile long lastCommandNanos;
+
+    /**
+     * Records that {@code phase} of a command of {@code commandType} took {@code nanos}.
+     * The total latency is also remembered as that of the last command.
+     */
+    public void record(String commandType, Phase phase, long nanos) {
+        requireNonNull(commandType);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandType, unused -> createHistograms())[phase.ordinal()].record(nanos);
+        if (phase == Phase.TOTAL) {
+            lastCommandNanos = nanos;
+            lastCommandType = commandType;
+        }
+    }
+
+    /**
+     * Returns the types of command that have been timed, in alphabetical order.
+     */
+    public List<String> getCommandTypes() {
+        List<String> commandTypes = new ArrayList<>(histograms.keySet());
+        Collections.sort(commandTypes);
+        return commandTypes;
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of the commands of {@code commandType}, or an empty {@code Optional} if no
+     * such command has been timed.
+     */
+    public Optional<LatencyHistogram> getHistogram(String commandType, Phase phase) {
+        requireNonNull(phase);
+        return Optional.ofNullable(histograms.get(commandType)).map(phases -> phases[phase.ordinal()]);
+    }
+
+    /**
+     * Returns the type of the last command whose total latency was recorded, or an empty {@code Optional} if there
+     * has been none.
+     */
+    public Optional<String> getLastCommandType() {
+        return Optional.ofNullable(lastCommandType);
+    }
+
+    /**
+     * Returns the total latency of the last command, or 0 if there has been none.
+     */
+    public long getLastCommandNanos() {
+        return lastCommandNanos;
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        return phases;
+    }
+}
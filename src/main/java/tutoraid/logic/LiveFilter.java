@@ -0,0 +1,144 @@
+package tutoraid.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tutoraid.logic.commands.FindCommand;
+import tutoraid.logic.commands.FindLessonCommand;
+import tutoraid.logic.commands.FindStudentCommand;
+import tutoraid.model.Model;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.Student;
+
+/**
+ * Filters a list of the model by a partially typed find command, without executing the command.
+ * {@link #evaluate()} looks the matching items up in the name index of the model on the model thread, and waits for
+ * them on another thread. Only the final result is pushed into the model, by {@link #apply()}, and only if no newer
+ * filter was requested in the meantime.
+ */
+public class LiveFilter<T> {
+
+    private static final Pattern FIND_COMMAND_FORMAT = Pattern.compile(Pattern.quote(FindCommand.COMMAND_WORD)
+            + "\\s+(?<commandFlag>\\S+)(?<keywords>.*)");
+
+    private final Supplier<Predicate<T>> finder;
+    private final Consumer<Predicate<T>> filterUpdater;
+    private final Executor modelExecutor;
+    private final AtomicLong generations;
+    private final long generation;
+    private volatile Predicate<T> filter;
+
+    private LiveFilter(Supplier<Predicate<T>> finder, Consumer<Predicate<T>> filterUpdater, Executor modelExecutor,
+            AtomicLong generations) {
+        this.finder = finder;
+        this.filterUpdater = filterUpdater;
+        this.modelExecutor = modelExecutor;
+        this.generations = generations;
+        this.generation = generations.get();
+    }
+
+    /**
+     * Returns a filter of the list that {@code commandText} would find in, if it is a {@code find -s} or
+     * {@code find -l} command. A find command without keywords yet shows the whole list.
+     * Every call increments {@code generations}, so that the filters returned by earlier calls are no longer applied.
+     *
+     * @param modelExecutor runs tasks on the thread that changes {@code model}.
+     * @param generations counts the filters requested, and is incremented by anything else that should stop earlier
+     *     filters from being applied, such as executing a command.
+     */
+    public static Optional<LiveFilter<?>> of(String commandText, Model model, Executor modelExecutor,
+            AtomicLong generations) {
+        requireNonNull(commandText);
+        requireNonNull(model);
+        requireNonNull(modelExecutor);
+        requireNonNull(generations);
+        generations.incrementAndGet();
+        Matcher matcher = FIND_COMMAND_FORMAT.matcher(commandText.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        String trimmedKeywords = matcher.group("keywords").trim();
+        List<String> keywords = Arrays.asList(trimmedKeywords.split("\\s+"));
+        switch (matcher.group("commandFlag")) {
+
+        case FindStudentCommand.COMMAND_FLAG:
+            Supplier<Predicate<Student>> studentFinder = trimmedKeywords.isEmpty()
+                    ? () -> Model.PREDICATE_SHOW_ALL_STUDENTS
+                    : () -> {
+                        Set<Student> matches = model.getMatchingStudents(new NameContainsSubstringsPredicate(keywords));
+                        return matches::contains;
+                    };
+            return Optional.of(new LiveFilter<>(studentFinder, model::updateFilteredStudentList, modelExecutor,
+                    generations));
+
+        case FindLessonCommand.COMMAND_FLAG:
+            Supplier<Predicate<Lesson>> lessonFinder = trimmedKeywords.isEmpty()
+                    ? () -> Model.PREDICATE_SHOW_ALL_LESSONS
+                    : () -> {
+                        Set<Lesson> matches =
+                                model.getMatchingLessons(new LessonNameContainsSubstringsPredicate(keywords));
+                        return matches::contains;
+                    };
+            return Optional.of(new LiveFilter<>(lessonFinder, model::updateFilteredLessonList, modelExecutor,
+                    generations));
+
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Finds the items that match the find command on the model thread. May be called from any thread but the model
+     * thread, which it waits on. If the calling thread is interrupted while waiting, the lookup is cancelled if it has
+     * not started yet.
+     *
+     * @return true if the items were found.
+     */
+    public boolean evaluate() {
+        Future<Predicate<T>> matches = CompletableFuture.supplyAsync(finder, modelExecutor);
+        try {
+            filter = matches.get();
+            return true;
+        } catch (InterruptedException e) {
+            matches.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The filter could not be evaluated.", e.getCause());
+        }
+    }
+
+    /**
+     * Shows only the items found by {@link #evaluate()} in the filtered list of the model, on the model thread,
+     * unless a newer filter was requested or a command was executed before it runs.
+     * Must be called after {@link #evaluate()} has returned true.
+     */
+    public void apply() {
+        Predicate<T> evaluatedFilter = filter;
+        if (evaluatedFilter == null) {
+            throw new IllegalStateException("The filter has not been evaluated.");
+        }
+        modelExecutor.execute(() -> {
+            if (generations.get() == generation) {
+                filterUpdater.accept(evaluatedFilter);
+            }
+        });
+    }
+}
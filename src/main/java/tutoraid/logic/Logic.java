@@ -1,11 +1,16 @@
 package tutoraid.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.logic.commands.CommandResult;
 import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.logic.parser.TutorAidParser;
 import tutoraid.logic.parser.exceptions.ParseException;
 import tutoraid.model.Model;
 import tutoraid.model.ReadOnlyLessonBook;
@@ -27,6 +32,50 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses all of the commands, and then executes them as one unit of work: if one of them fails, the changes made by
+     * the commands before it are rolled back. The books are saved once, after the last command.
+     * @param commandTexts The commands, one per line. Blank lines and comments are skipped.
+     * @return the result of the batch.
+     * @throws CommandException If a command fails, or the books cannot be saved.
+     * @throws ParseException If any of the commands cannot be parsed, in which case none is executed.
+     * @see TutorAidParser#parseBatch(java.util.Iterator)
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Executes the command on the model thread, after the commands executed before it, and returns a future of the
+     * result. The future completes on the model thread, exceptionally with a {@code CommandException} or
+     * {@code ParseException} if the command fails.
+     * Once a command has been executed this way, the model must only be changed on the model thread.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Returns up to {@code limit} completions of the partially typed {@code commandText}.
+     * May be called from any thread.
+     *
+     * @see Autocompleter#getCompletions(String, int)
+     */
+    List<String> getCompletions(String commandText, int limit);
+
+    /**
+     * Returns a filter of the list that the partially typed find command in {@code commandText} would find in, or an
+     * empty {@code Optional} if {@code commandText} is not such a command. The filter reads and changes the model on
+     * the model thread. Executing a command or requesting another filter stops the filter from being applied.
+     *
+     * @see LiveFilter#of(String, Model, java.util.concurrent.Executor, java.util.concurrent.atomic.AtomicLong)
+     */
+    Optional<LiveFilter<?>> getLiveFilter(String commandText);
+
+    /**
+     * Returns the recorder that the latency of every command executed is recorded in.
+     * May be read from any thread.
+     */
+    LatencyRecorder getLatencyRecorder();
+
     /**
      * Returns the StudentBook.
      *
@@ -66,4 +115,12 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Saves the books again if their saves failed in the background, after the commands requested so far, and
+     * waits until every save has been written to the data files.
+     *
+     * @throws IOException if a book could not be saved.
+     */
+    void flush() throws IOException;
 }
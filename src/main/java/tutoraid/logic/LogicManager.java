@@ -2,11 +2,21 @@ package tutoraid.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.commons.core.LogsCenter;
+import tutoraid.logic.LatencyRecorder.Phase;
 import tutoraid.logic.commands.Command;
 import tutoraid.logic.commands.CommandResult;
 import tutoraid.logic.commands.exceptions.CommandException;
@@ -21,42 +31,195 @@ import tutoraid.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands executed asynchronously run one at a time on a dedicated model thread, so that long commands do not hold
+ * up the FX thread.
+ * The parse, execute and save phases of every command are timed in a {@link LatencyRecorder}, and emitted as
+ * flight recorder events.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    // Never the version of a book, so that a book with this saved version is always saved
+    private static final long UNSAVED_VERSION = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TutorAidParser tutorAidParser;
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+    private final Autocompleter autocompleter;
+    // the thread is only started by the first asynchronous command
+    private final ExecutorService modelExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "model");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // incremented by every live filter requested and every command executed, so that only the latest filter applies
+    private final AtomicLong liveFilterGeneration = new AtomicLong();
+
+    // Versions of the books when they were last in sync with storage
+    private long savedStudentBookVersion;
+    private long savedLessonBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The books in {@code model} are assumed to be in sync with {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isModelSaved} is false, as when sample or empty books were used in place of the data files, both books
+     * are saved after the first command, so that the files never refer to each other's unsaved data.
+     */
+    public LogicManager(Model model, Storage storage, boolean isModelSaved) {
         this.model = model;
         this.storage = storage;
-        tutorAidParser = new TutorAidParser();
+        tutorAidParser = new TutorAidParser(latencyRecorder);
+        if (isModelSaved) {
+            savedStudentBookVersion = model.getStudentBook().getVersion();
+            savedLessonBookVersion = model.getLessonBook().getVersion();
+            storage.markStudentBookSaved(model.getStudentBook());
+            storage.markLessonBookSaved(model.getLessonBook());
+        } else {
+            savedStudentBookVersion = UNSAVED_VERSION;
+            savedLessonBookVersion = UNSAVED_VERSION;
+        }
+        autocompleter = new Autocompleter(model.getStudentBook(), model.getLessonBook());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.log(Level.INFO, "----------------[USER COMMAND][{0}]", commandText);
+        CommandEvent parseEvent = new CommandEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command command = tutorAidParser.parseCommand(commandText);
+        return execute(command, parseEvent, System.nanoTime() - parseStart);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.log(Level.INFO, "----------------[USER BATCH][{0} lines]", commandTexts.size());
+        CommandEvent parseEvent = new CommandEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command command = tutorAidParser.parseBatch(commandTexts.iterator());
+        return execute(command, parseEvent, System.nanoTime() - parseStart);
+    }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        modelExecutor.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable t) {
+                // errors too, such as failed assertions, so that the caller is never left waiting
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Executes {@code command}, which took {@code parseNanos} to parse, and then saves the books it modified.
+     */
+    private CommandResult execute(Command command, CommandEvent parseEvent, long parseNanos)
+            throws CommandException {
+        String commandType = command.getClass().getSimpleName();
+        liveFilterGeneration.incrementAndGet();
+        endPhase(parseEvent, commandType, Phase.PARSE, parseNanos, true);
+
+        CommandEvent executeEvent = new CommandEvent();
+        executeEvent.begin();
+        long executeStart = System.nanoTime();
+        boolean isSuccessful = false;
         CommandResult commandResult;
-        Command command = tutorAidParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+            isSuccessful = true;
+        } finally {
+            endPhase(executeEvent, commandType, Phase.EXECUTE, System.nanoTime() - executeStart, isSuccessful);
+            autocompleter.update(model.getStudentBook(), model.getLessonBook());
+        }
 
+        CommandEvent saveEvent = new CommandEvent();
+        saveEvent.begin();
+        long saveStart = System.nanoTime();
+        isSuccessful = false;
         try {
-            storage.saveStudentBook(model.getStudentBook());
-            storage.saveLessonBook(model.getLessonBook());
+            saveModifiedBooks();
+            isSuccessful = true;
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            endPhase(saveEvent, commandType, Phase.SAVE, System.nanoTime() - saveStart, isSuccessful);
         }
 
+        latencyRecorder.record(commandType, Phase.TOTAL, parseNanos + System.nanoTime() - executeStart);
         return commandResult;
     }
 
+    /**
+     * Records that {@code phase} of a command of {@code commandType} took {@code nanos}, and commits its flight
+     * recorder event if a recording wants it.
+     */
+    private void endPhase(CommandEvent event, String commandType, Phase phase, long nanos, boolean isSuccessful) {
+        latencyRecorder.record(commandType, phase, nanos);
+        logger.log(Level.FINE, "{0} {1} took {2} ns, successful: {3}",
+                new Object[] {commandType, phase, nanos, isSuccessful});
+        event.end();
+        if (event.shouldCommit()) {
+            event.commandType = commandType;
+            event.phase = phase.toString();
+            event.isSuccessful = isSuccessful;
+            event.commit();
+        }
+    }
+
+    /**
+     * Saves the books that were modified since they were last saved, so that commands which only read the model
+     * do not touch the disk.
+     */
+    private void saveModifiedBooks() throws IOException {
+        // a book whose save failed in the background is no longer in sync with storage
+        if (storage.checkStudentBookSaveFailed()) {
+            savedStudentBookVersion = UNSAVED_VERSION;
+        }
+        if (storage.checkLessonBookSaveFailed()) {
+            savedLessonBookVersion = UNSAVED_VERSION;
+        }
+
+        ReadOnlyStudentBook studentBook = model.getStudentBook();
+        if (studentBook.getVersion() != savedStudentBookVersion) {
+            storage.saveStudentBook(studentBook);
+            savedStudentBookVersion = studentBook.getVersion();
+        }
+
+        ReadOnlyLessonBook lessonBook = model.getLessonBook();
+        if (lessonBook.getVersion() != savedLessonBookVersion) {
+            storage.saveLessonBook(lessonBook);
+            savedLessonBookVersion = lessonBook.getVersion();
+        }
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText, int limit) {
+        return autocompleter.getCompletions(commandText, limit);
+    }
+
+    @Override
+    public Optional<LiveFilter<?>> getLiveFilter(String commandText) {
+        return LiveFilter.of(commandText, model, modelExecutor, liveFilterGeneration);
+    }
+
+    @Override
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
     @Override
     public ReadOnlyStudentBook getStudentBook() {
         return model.getStudentBook();
@@ -96,4 +259,24 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void flush() throws IOException {
+        Future<Void> saved = modelExecutor.submit(() -> {
+            storage.flush();
+            saveModifiedBooks();
+            storage.flush();
+            return null;
+        });
+        try {
+            saved.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 }
@@ -57,6 +57,6 @@ public class AddLessonCommand extends AddCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddLessonCommand // instanceof handles nulls
-                && lesson.equals(((AddLessonCommand) other).lesson));
+                && lesson.hasSameDetails(((AddLessonCommand) other).lesson));
     }
 }
@@ -57,7 +57,7 @@ public class AddProgressCommand extends AddCommand {
 
         Student studentToEdit = lastShownList.get(targetIndex.getZeroBased());
 
-        studentToEdit.addProgress(this.progress);
+        model.addProgress(studentToEdit, this.progress);
 
         model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
         model.viewStudent(studentToEdit);
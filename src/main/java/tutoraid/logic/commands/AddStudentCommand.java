@@ -57,6 +57,6 @@ public class AddStudentCommand extends AddCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddStudentCommand // instanceof handles nulls
-                && toAdd.equals(((AddStudentCommand) other).toAdd));
+                && toAdd.hasSameDetails(((AddStudentCommand) other).toAdd));
     }
 }
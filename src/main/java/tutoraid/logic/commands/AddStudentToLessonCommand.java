@@ -71,8 +71,7 @@ public class AddStudentToLessonCommand extends AddCommand {
             return String.format(WARNING_STUDENT_ALREADY_ATTENDS_LESSON,
                     student.toNameString(), lesson.toNameString()) + "\n";
         }
-        lesson.addStudent(student);
-        student.addLesson(lesson);
+        model.addStudentToLesson(student, lesson);
         return String.format(MESSAGE_SUCCESS, student.toNameString(), lesson.toNameString());
     }
 
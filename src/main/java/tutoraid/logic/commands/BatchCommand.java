@@ -0,0 +1,61 @@
+package tutoraid.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.Model;
+
+/**
+ * Executes a list of commands as one unit of work. If any of them fails, the changes made by the commands before it
+ * are rolled back, so either every command takes effect or none does.
+ */
+public class BatchCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s).";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d failed, so no changes were made: %2$s";
+
+    // keyed by the line each command was read from, so that failures can point at it
+    private final SortedMap<Integer, Command> commandsByLine;
+
+    /**
+     * Creates a {@code BatchCommand} that executes {@code commandsByLine} in the order of their lines.
+     */
+    public BatchCommand(SortedMap<Integer, Command> commandsByLine) {
+        requireNonNull(commandsByLine);
+        this.commandsByLine = new TreeMap<>(commandsByLine);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.saveCheckpoint();
+        try {
+            for (Map.Entry<Integer, Command> entry : commandsByLine.entrySet()) {
+                executeLine(model, entry.getKey(), entry.getValue());
+            }
+        } finally {
+            model.discardCheckpoint();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsByLine.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commandsByLine.equals(((BatchCommand) other).commandsByLine));
+    }
+
+    private static void executeLine(Model model, int line, Command command) throws CommandException {
+        try {
+            command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            model.rollBackToCheckpoint();
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, line, e.getMessage()), e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package tutoraid.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tutoraid.commons.core.DiagnosticBuffer;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.Model;
+
+/**
+ * Writes the most recent log records to a file, down to the diagnostic log level set in the config file, which may
+ * include detailed ones that are not written to the log file, so that they can be sent along with a report of a
+ * problem.
+ */
+public class DebugCommand extends Command {
+
+    public static final String COMMAND_WORD = "debug";
+    public static final String SUBCOMMAND_DUMP = "dump";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + SUBCOMMAND_DUMP
+            + ": Writes the most recent events, such as the commands run, to a file. Set diagnosticLogLevel to FINE "
+            + "in the config file to also include the time taken by each command and the size of each save."
+            + "\nParameters:"
+            + "\nFILE"
+            + "\nExample:"
+            + "\n" + COMMAND_WORD + " " + SUBCOMMAND_DUMP + " data/debug.log";
+
+    public static final String MESSAGE_SUCCESS = "Wrote %1$d recent event(s) to %2$s.";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    private final Path dumpPath;
+    private final DiagnosticBuffer diagnosticBuffer;
+
+    /**
+     * Creates a DebugCommand to write the records kept by {@code diagnosticBuffer} to the file at {@code dumpPath}.
+     */
+    public DebugCommand(Path dumpPath, DiagnosticBuffer diagnosticBuffer) {
+        requireNonNull(dumpPath);
+        requireNonNull(diagnosticBuffer);
+        this.dumpPath = dumpPath;
+        this.diagnosticBuffer = diagnosticBuffer;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        try {
+            int recordCount = diagnosticBuffer.dump(dumpPath);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, recordCount, dumpPath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, dumpPath, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DebugCommand // instanceof handles nulls
+                && dumpPath.equals(((DebugCommand) other).dumpPath)
+                && diagnosticBuffer == ((DebugCommand) other).diagnosticBuffer); // state check
+    }
+}
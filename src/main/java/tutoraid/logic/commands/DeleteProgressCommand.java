@@ -53,7 +53,7 @@ public class DeleteProgressCommand extends DeleteCommand {
         if (studentToEdit.isProgressListEmpty()) {
             throw new CommandException(Messages.MESSAGE_INVALID_NO_PROGRESS_TO_DELETE);
         }
-        Progress progressToDelete = studentToEdit.deleteLatestProgress();
+        Progress progressToDelete = model.deleteLatestProgress(studentToEdit);
 
         model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
         model.viewStudent(studentToEdit);
@@ -70,8 +70,7 @@ public class DeleteStudentFromLessonCommand extends DeleteCommand {
             return String.format(WARNING_STUDENT_DOES_NOT_ATTEND_LESSON,
                     student.toNameString(), lesson.toNameString()) + "\n";
         }
-        lesson.removeStudent(student);
-        student.removeLesson(lesson);
+        model.deleteStudentFromLesson(student, lesson);
         return String.format(MESSAGE_SUCCESS, student.toNameString(), lesson.toNameString());
     }
 
@@ -84,7 +84,7 @@ public class EditLessonCommand extends EditCommand {
         if (newCapacity.getCapacity() < currStudents.numberOfStudents()) {
             throw new CommandException(MESSAGE_CAPACITY_LESS_THAN_STUDENTS);
         }
-        lessonToEdit.replace(editedLesson);
+        model.replaceLesson(lessonToEdit, editedLesson);
         model.viewLesson(lessonToEdit);
         model.updateFilteredStudentList(student -> student.hasLesson(lessonToEdit));
         return new CommandResult(String.format(MESSAGE_EDIT_LESSON_SUCCESS, lessonToEdit.toNameString()));
@@ -101,7 +101,8 @@ public class EditLessonCommand extends EditCommand {
         Price updatedPrice = editLessonDescriptor.getPrice().orElse(lessonToEdit.getPrice());
         Timing updatedTiming = editLessonDescriptor.getTiming().orElse(lessonToEdit.getTiming());
 
-        return new Lesson(updatedLessonName, updatedCapacity, updatedPrice, updatedTiming);
+        return new Lesson(lessonToEdit.getId(), updatedLessonName, updatedCapacity, updatedPrice,
+                lessonToEdit.getStudents(), updatedTiming);
     }
 
     @Override
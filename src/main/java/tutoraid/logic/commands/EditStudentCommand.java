@@ -81,7 +81,7 @@ public class EditStudentCommand extends EditCommand {
             throw new CommandException(String.format(MESSAGE_NOT_CHANGED, editedStudent.toNameString()));
         }
 
-        studentToEdit.replace(editedStudent);
+        model.replaceStudent(studentToEdit, editedStudent);
         model.viewStudent(studentToEdit);
         model.updateFilteredLessonList(studentToEdit::hasLesson);
         return new CommandResult(String.format(MESSAGE_EDIT_STUDENT_SUCCESS, studentToEdit.toNameString()));
@@ -102,8 +102,8 @@ public class EditStudentCommand extends EditCommand {
         ProgressList studentProgress = studentToEdit.getProgressList();
         Lessons lessons = studentToEdit.getLessons();
 
-        return new Student(updatedStudentName, updatedStudentPhone, updatedParentName, updatedParentPhone,
-                studentProgress, lessons);
+        return new Student(studentToEdit.getId(), updatedStudentName, updatedStudentPhone, updatedParentName,
+                updatedParentPhone, studentProgress, lessons);
     }
 
     @Override
@@ -0,0 +1,103 @@
+package tutoraid.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import tutoraid.commons.util.CsvWriter;
+import tutoraid.commons.util.FileUtil;
+import tutoraid.commons.util.JsonLinesWriter;
+import tutoraid.commons.util.RowWriter;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.Model;
+
+/**
+ * Parent class of the commands that export students, lessons, rosters and progress to a file.
+ * Files ending in {@code JSON_LINES_EXTENSION} are written as JSON Lines, and any other file as CSV with a header
+ * row. Rows are written straight from the model to a buffered writer one at a time, and the file is only replaced
+ * once every row has been written.
+ */
+public abstract class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+
+    public static final String JSON_LINES_EXTENSION = ".jsonl";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d row(s) to %2$s.";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    protected final Path exportPath;
+
+    /**
+     * Creates an ExportCommand to export to the file at {@code exportPath}.
+     */
+    public ExportCommand(Path exportPath) {
+        requireNonNull(exportPath);
+        this.exportPath = exportPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path tempFile = exportPath.resolveSibling(exportPath.getFileName() + ".tmp");
+        int rowCount;
+        try {
+            FileUtil.createParentDirsOfFile(tempFile);
+            try (RowWriter writer = openWriter(tempFile)) {
+                rowCount = writeRows(model, writer);
+            }
+            moveToExportPath(tempFile);
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, exportPath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, exportPath));
+    }
+
+    /**
+     * Returns the names of the columns, in order.
+     */
+    protected abstract List<String> getColumns();
+
+    /**
+     * Writes the rows to export from {@code model} to {@code writer}, and returns the number of rows written.
+     */
+    protected abstract int writeRows(Model model, RowWriter writer) throws IOException;
+
+    private RowWriter openWriter(Path file) throws IOException {
+        BufferedWriter bufferedWriter = Files.newBufferedWriter(file, UTF_8);
+        if (exportPath.getFileName().toString().endsWith(JSON_LINES_EXTENSION)) {
+            return new JsonLinesWriter(bufferedWriter, getColumns());
+        }
+        CsvWriter csvWriter = new CsvWriter(bufferedWriter);
+        try {
+            csvWriter.writeRow(getColumns());
+        } catch (IOException e) {
+            csvWriter.close();
+            throw e;
+        }
+        return csvWriter;
+    }
+
+    private void moveToExportPath(Path tempFile) throws IOException {
+        try {
+            Files.move(tempFile, exportPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, exportPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // the original failure is more useful to the user
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package tutoraid.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import tutoraid.commons.util.RowWriter;
+import tutoraid.model.Model;
+import tutoraid.model.lesson.Lesson;
+
+/**
+ * Exports every lesson, in the format read by {@link ImportLessonsCommand}.
+ */
+public class ExportLessonsCommand extends ExportCommand {
+
+    public static final String COMMAND_FLAG = "-l";
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Exports every lesson to a CSV file, or to "
+                    + "a JSON Lines file if the file name ends with %3$s. "
+                    + "The CSV file can be imported again with '%4$s %5$s'."
+                    + "\nParameters:"
+                    + "\nFILE"
+                    + "\nExample:"
+                    + "\n%1$s %2$s data/lessons.csv",
+            COMMAND_WORD, COMMAND_FLAG, JSON_LINES_EXTENSION, ImportCommand.COMMAND_WORD,
+            ImportLessonsCommand.COMMAND_FLAG);
+
+    /**
+     * Creates an ExportLessonsCommand to export the lessons to the file at {@code exportPath}.
+     */
+    public ExportLessonsCommand(Path exportPath) {
+        super(exportPath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return ImportLessonsCommand.COLUMNS;
+    }
+
+    @Override
+    protected int writeRows(Model model, RowWriter writer) throws IOException {
+        List<Lesson> lessons = model.getLessonBook().getLessonList();
+        for (Lesson lesson : lessons) {
+            writer.writeRow(List.of(lesson.getLessonName().lessonName, lesson.getCapacity().capacity,
+                    lesson.getPrice().price, lesson.getTiming().timing));
+        }
+        return lessons.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportLessonsCommand // instanceof handles nulls
+                && exportPath.equals(((ExportLessonsCommand) other).exportPath)); // state check
+    }
+}
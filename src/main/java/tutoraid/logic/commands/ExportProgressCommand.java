@@ -0,0 +1,62 @@
+package tutoraid.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import tutoraid.commons.util.RowWriter;
+import tutoraid.model.Model;
+import tutoraid.model.student.Progress;
+import tutoraid.model.student.Student;
+
+/**
+ * Exports the progress history of every student, as one row for each progress entry, oldest first.
+ */
+public class ExportProgressCommand extends ExportCommand {
+
+    public static final String COMMAND_FLAG = "-p";
+
+    public static final List<String> COLUMNS = List.of("student", "entry", "progress");
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Exports the progress entries of every "
+                    + "student to a CSV file, or to a JSON Lines file if the file name ends with %3$s, one row per "
+                    + "entry, numbered from the oldest."
+                    + "\nParameters:"
+                    + "\nFILE"
+                    + "\nExample:"
+                    + "\n%1$s %2$s data/progress.csv",
+            COMMAND_WORD, COMMAND_FLAG, JSON_LINES_EXTENSION);
+
+    /**
+     * Creates an ExportProgressCommand to export the progress entries to the file at {@code exportPath}.
+     */
+    public ExportProgressCommand(Path exportPath) {
+        super(exportPath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected int writeRows(Model model, RowWriter writer) throws IOException {
+        int rowCount = 0;
+        for (Student student : model.getStudentBook().getStudentList()) {
+            List<Progress> entries = student.getProgressList().progressList;
+            for (int i = 0; i < entries.size(); i++) {
+                writer.writeRow(List.of(student.getStudentName().fullName, String.valueOf(i + 1),
+                        entries.get(i).progress));
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportProgressCommand // instanceof handles nulls
+                && exportPath.equals(((ExportProgressCommand) other).exportPath)); // state check
+    }
+}
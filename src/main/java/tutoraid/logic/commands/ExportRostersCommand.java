@@ -0,0 +1,60 @@
+package tutoraid.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import tutoraid.commons.util.RowWriter;
+import tutoraid.model.Model;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+
+/**
+ * Exports the roster of every lesson, as one row for each student attending each lesson.
+ */
+public class ExportRostersCommand extends ExportCommand {
+
+    public static final String COMMAND_FLAG = "-sl";
+
+    public static final List<String> COLUMNS = List.of("lesson", "student");
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Exports the students in every lesson to a "
+                    + "CSV file, or to a JSON Lines file if the file name ends with %3$s, one row per student in "
+                    + "each lesson."
+                    + "\nParameters:"
+                    + "\nFILE"
+                    + "\nExample:"
+                    + "\n%1$s %2$s data/rosters.csv",
+            COMMAND_WORD, COMMAND_FLAG, JSON_LINES_EXTENSION);
+
+    /**
+     * Creates an ExportRostersCommand to export the rosters to the file at {@code exportPath}.
+     */
+    public ExportRostersCommand(Path exportPath) {
+        super(exportPath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected int writeRows(Model model, RowWriter writer) throws IOException {
+        int rowCount = 0;
+        for (Lesson lesson : model.getLessonBook().getLessonList()) {
+            for (Student student : lesson.getStudents().students) {
+                writer.writeRow(List.of(lesson.getLessonName().lessonName, student.getStudentName().fullName));
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportRostersCommand // instanceof handles nulls
+                && exportPath.equals(((ExportRostersCommand) other).exportPath)); // state check
+    }
+}
@@ -0,0 +1,62 @@
+package tutoraid.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.StringJoiner;
+
+import tutoraid.commons.util.RowWriter;
+import tutoraid.model.Model;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+
+/**
+ * Exports every student, with the names of their lessons, in the format read by {@link ImportStudentsCommand}.
+ */
+public class ExportStudentsCommand extends ExportCommand {
+
+    public static final String COMMAND_FLAG = "-s";
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Exports every student to a CSV file, or to "
+                    + "a JSON Lines file if the file name ends with %3$s. "
+                    + "The CSV file can be imported again with '%4$s %5$s'."
+                    + "\nParameters:"
+                    + "\nFILE"
+                    + "\nExample:"
+                    + "\n%1$s %2$s data/students.csv",
+            COMMAND_WORD, COMMAND_FLAG, JSON_LINES_EXTENSION, ImportCommand.COMMAND_WORD,
+            ImportStudentsCommand.COMMAND_FLAG);
+
+    /**
+     * Creates an ExportStudentsCommand to export the students to the file at {@code exportPath}.
+     */
+    public ExportStudentsCommand(Path exportPath) {
+        super(exportPath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return ImportStudentsCommand.COLUMNS;
+    }
+
+    @Override
+    protected int writeRows(Model model, RowWriter writer) throws IOException {
+        List<Student> students = model.getStudentBook().getStudentList();
+        for (Student student : students) {
+            StringJoiner lessonNames = new StringJoiner(ImportStudentsCommand.LESSON_SEPARATOR);
+            for (Lesson lesson : student.getLessons().lessons) {
+                lessonNames.add(lesson.getLessonName().lessonName);
+            }
+            writer.writeRow(List.of(student.getStudentName().fullName, student.getStudentPhone().value,
+                    student.getParentName().fullName, student.getParentPhone().value, lessonNames.toString()));
+        }
+        return students.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportStudentsCommand // instanceof handles nulls
+                && exportPath.equals(((ExportStudentsCommand) other).exportPath)); // state check
+    }
+}
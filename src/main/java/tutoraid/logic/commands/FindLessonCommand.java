@@ -33,7 +33,7 @@ public class FindLessonCommand extends FindCommand {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.viewList(HIGH);
-        model.updateFilteredLessonList(predicate);
+        model.findLessons(predicate);
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_LESSONS_LISTED_OVERVIEW, model.getFilteredLessonList().size()));
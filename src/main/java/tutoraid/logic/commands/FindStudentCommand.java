@@ -33,7 +33,7 @@ public class FindStudentCommand extends FindCommand {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.viewList(HIGH);
-        model.updateFilteredStudentList(predicate);
+        model.findStudents(predicate);
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
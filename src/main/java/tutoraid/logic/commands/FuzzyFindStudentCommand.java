@@ -0,0 +1,50 @@
+package tutoraid.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutoraid.logic.parser.CliSyntax.PREFIX_MAX_DISTANCE;
+import static tutoraid.ui.DetailLevel.HIGH;
+
+import tutoraid.commons.core.Messages;
+import tutoraid.model.Model;
+import tutoraid.model.student.NameWithinDistancePredicate;
+
+/**
+ * Finds and lists all students in TutorAid with a word in their name within a few edits of any of the argument
+ * keywords, closest matches first. Keyword matching is case-insensitive.
+ */
+public class FuzzyFindStudentCommand extends FindCommand {
+
+    public static final String COMMAND_FLAG = "-fs";
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Finds all students with a word in their "
+                    + "names within MAX_EDITS edits of any of the specified keywords (case-insensitive) and displays "
+                    + "them as a list with index numbers, closest matches first."
+                    + "\nParameters:"
+                    + "\nKEYWORD [MORE KEYWORDS] [%3$sMAX_EDITS]"
+                    + "\nExample:"
+                    + "\n%1$s %2$s alise bobb %3$s1",
+            COMMAND_WORD, COMMAND_FLAG, PREFIX_MAX_DISTANCE);
+
+    private final NameWithinDistancePredicate predicate;
+
+    public FuzzyFindStudentCommand(NameWithinDistancePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.viewList(HIGH);
+        model.fuzzyFindStudents(predicate);
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindStudentCommand // instanceof handles nulls
+                && predicate.equals(((FuzzyFindStudentCommand) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,139 @@
+package tutoraid.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import tutoraid.commons.util.CsvReader;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.logic.parser.exceptions.ParseException;
+import tutoraid.model.Model;
+
+/**
+ * Parent class of ImportStudentsCommand and ImportLessonsCommand, which add the rows of a CSV file to TutorAid.
+ * The file is read one row at a time. Every row is checked before any is added, and either all of the rows are
+ * added, in one change to the model, or none of them are.
+ */
+public abstract class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+
+    public static final int MAX_REPORTED_ERRORS = 10;
+
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_ROWS = "%1$d row(s) are invalid, so nothing was imported:";
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "...and %1$d more.";
+    public static final String MESSAGE_TOO_MANY_COLUMNS = "Expected at most %1$d columns, but found %2$d.";
+
+    protected final Path csvPath;
+
+    /**
+     * Creates an ImportCommand to import the rows of the CSV file at {@code csvPath}.
+     */
+    public ImportCommand(Path csvPath) {
+        requireNonNull(csvPath);
+        this.csvPath = csvPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        RowImporter importer = createImporter(model);
+        List<String> reportedErrors = new ArrayList<>();
+        int errorCount = 0;
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(csvPath))) {
+            Optional<List<String>> row = reader.readRecord();
+            if (row.isPresent() && isHeader(row.get())) {
+                row = reader.readRecord();
+            }
+            for (; row.isPresent(); row = reader.readRecord()) {
+                try {
+                    checkColumnCount(row.get());
+                    importer.readRow(row.get());
+                } catch (ParseException pe) {
+                    errorCount++;
+                    if (reportedErrors.size() < MAX_REPORTED_ERRORS) {
+                        reportedErrors.add(String.format(MESSAGE_INVALID_ROW, reader.getRecordLineNumber(),
+                                pe.getMessage()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, csvPath, e.getMessage()), e);
+        }
+
+        if (errorCount > 0) {
+            throw new CommandException(formatErrors(errorCount, reportedErrors));
+        }
+        return new CommandResult(importer.importRows());
+    }
+
+    /**
+     * Returns the names of the columns, in order, as they may appear in the optional header row of the file.
+     */
+    protected abstract List<String> getColumns();
+
+    /**
+     * Returns an importer that checks the rows of the file against {@code model}, and then adds them to it.
+     */
+    protected abstract RowImporter createImporter(Model model);
+
+    /**
+     * Returns the field in {@code column} of {@code row}, or an empty string if the row stops before it.
+     */
+    protected static String getField(List<String> row, int column) {
+        return column < row.size() ? row.get(column) : "";
+    }
+
+    private boolean isHeader(List<String> row) {
+        List<String> columns = getColumns();
+        if (row.size() != columns.size()) {
+            return false;
+        }
+        for (int i = 0; i < row.size(); i++) {
+            if (!row.get(i).trim().equalsIgnoreCase(columns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkColumnCount(List<String> row) throws ParseException {
+        if (row.size() > getColumns().size()) {
+            throw new ParseException(String.format(MESSAGE_TOO_MANY_COLUMNS, getColumns().size(), row.size()));
+        }
+    }
+
+    private static String formatErrors(int errorCount, List<String> reportedErrors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_ROWS, errorCount));
+        for (String error : reportedErrors) {
+            message.append('\n').append(error);
+        }
+        if (errorCount > reportedErrors.size()) {
+            message.append('\n').append(String.format(MESSAGE_MORE_INVALID_ROWS, errorCount - reportedErrors.size()));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Checks the rows of a file one at a time, keeping what is needed to add them once all of them are valid.
+     */
+    protected interface RowImporter {
+
+        /**
+         * Checks {@code row}, and keeps it to be added if it is valid.
+         * @throws ParseException if the row is invalid.
+         */
+        void readRow(List<String> row) throws ParseException;
+
+        /**
+         * Adds every row read to the model, and returns the feedback to show the user.
+         */
+        String importRows();
+    }
+}
@@ -0,0 +1,96 @@
+package tutoraid.logic.commands;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import tutoraid.logic.parser.ParserUtil;
+import tutoraid.logic.parser.exceptions.ParseException;
+import tutoraid.model.Model;
+import tutoraid.model.lesson.Capacity;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
+import tutoraid.model.lesson.Price;
+import tutoraid.model.lesson.Students;
+import tutoraid.model.lesson.Timing;
+
+/**
+ * Imports lessons from a CSV file.
+ */
+public class ImportLessonsCommand extends ImportCommand {
+
+    public static final String COMMAND_FLAG = "-l";
+
+    public static final List<String> COLUMNS = List.of("name", "capacity", "price", "timing");
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Imports lessons from a CSV file. "
+                    + "Each row holds a lesson's name, and optionally its capacity, price and timing. "
+                    + "A header row of \"%3$s\" may come first. "
+                    + "If any row is invalid, no lessons are imported."
+                    + "\nParameters:"
+                    + "\nFILE"
+                    + "\nExample:"
+                    + "\n%1$s %2$s data/lessons.csv",
+            COMMAND_WORD, COMMAND_FLAG, String.join(",", COLUMNS));
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d lesson(s).";
+
+    /**
+     * Creates an ImportLessonsCommand to import the lessons in the CSV file at {@code csvPath}.
+     */
+    public ImportLessonsCommand(Path csvPath) {
+        super(csvPath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected RowImporter createImporter(Model model) {
+        return new LessonRowImporter(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportLessonsCommand // instanceof handles nulls
+                && csvPath.equals(((ImportLessonsCommand) other).csvPath)); // state check
+    }
+
+    /**
+     * Checks each lesson against the lessons in the model and the lessons before it in the file.
+     */
+    private static class LessonRowImporter implements RowImporter {
+        private final Model model;
+        private final List<Lesson> lessons = new ArrayList<>();
+        private final Set<LessonName> lessonNames = new HashSet<>();
+
+        LessonRowImporter(Model model) {
+            this.model = model;
+        }
+
+        @Override
+        public void readRow(List<String> row) throws ParseException {
+            LessonName lessonName = ParserUtil.parseLessonName(getField(row, 0));
+            Capacity capacity = ParserUtil.parseCapacity(getField(row, 1));
+            Price price = ParserUtil.parsePrice(getField(row, 2));
+            Timing timing = ParserUtil.parseTiming(getField(row, 3));
+            Lesson lesson = new Lesson(lessonName, capacity, price, new Students(), timing);
+            if (lessonNames.contains(lessonName) || model.hasLesson(lesson)) {
+                throw new ParseException(AddLessonCommand.MESSAGE_DUPLICATE_LESSON);
+            }
+            lessons.add(lesson);
+            lessonNames.add(lessonName);
+        }
+
+        @Override
+        public String importRows() {
+            model.addLessons(lessons);
+            return String.format(MESSAGE_SUCCESS, lessons.size());
+        }
+    }
+}
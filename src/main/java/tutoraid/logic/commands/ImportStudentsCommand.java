@@ -0,0 +1,138 @@
+package tutoraid.logic.commands;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tutoraid.commons.util.LinkedIdentitySet;
+import tutoraid.logic.parser.ParserUtil;
+import tutoraid.logic.parser.exceptions.ParseException;
+import tutoraid.model.Model;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
+import tutoraid.model.student.Lessons;
+import tutoraid.model.student.ParentName;
+import tutoraid.model.student.Phone;
+import tutoraid.model.student.ProgressList;
+import tutoraid.model.student.Student;
+import tutoraid.model.student.StudentName;
+
+/**
+ * Imports students from a CSV file, and adds them to the lessons named in the file.
+ */
+public class ImportStudentsCommand extends ImportCommand {
+
+    public static final String COMMAND_FLAG = "-s";
+
+    public static final String LESSON_SEPARATOR = ";";
+
+    public static final List<String> COLUMNS = List.of("name", "phone", "parent name", "parent phone", "lessons");
+
+    public static final String MESSAGE_USAGE = String.format("%1$s %2$s: Imports students from a CSV file. "
+                    + "Each row holds a student's name, and optionally their phone, parent name, parent phone, "
+                    + "and the names of existing lessons they attend, separated by '%3$s'. "
+                    + "A header row of \"%4$s\" may come first. "
+                    + "If any row is invalid, no students are imported."
+                    + "\nParameters:"
+                    + "\nFILE"
+                    + "\nExample:"
+                    + "\n%1$s %2$s data/students.csv",
+            COMMAND_WORD, COMMAND_FLAG, LESSON_SEPARATOR, String.join(",", COLUMNS));
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d student(s).";
+    public static final String MESSAGE_UNKNOWN_LESSON = "There is no lesson named %1$s.";
+
+    /**
+     * Creates an ImportStudentsCommand to import the students in the CSV file at {@code csvPath}.
+     */
+    public ImportStudentsCommand(Path csvPath) {
+        super(csvPath);
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected RowImporter createImporter(Model model) {
+        return new StudentRowImporter(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportStudentsCommand // instanceof handles nulls
+                && csvPath.equals(((ImportStudentsCommand) other).csvPath)); // state check
+    }
+
+    /**
+     * Checks each student against the students and lessons in the model, and against the students before it in the
+     * file, so that the students can all be added without conflicts.
+     */
+    private static class StudentRowImporter implements RowImporter {
+        private final Model model;
+        private final List<Student> students = new ArrayList<>();
+        private final Set<StudentName> studentNames = new HashSet<>();
+        // the lessons that each student attends, in the same order as the students
+        private final Map<Student, Set<Lesson>> lessonsOfStudents = new LinkedHashMap<>();
+        // the number of students in the file that attend each lesson
+        private final Map<Lesson, Integer> enrolmentCounts = new IdentityHashMap<>();
+
+        StudentRowImporter(Model model) {
+            this.model = model;
+        }
+
+        @Override
+        public void readRow(List<String> row) throws ParseException {
+            StudentName studentName = ParserUtil.parseStudentName(getField(row, 0));
+            Phone studentPhone = ParserUtil.parsePhone(getField(row, 1));
+            ParentName parentName = ParserUtil.parseParentName(getField(row, 2));
+            Phone parentPhone = ParserUtil.parsePhone(getField(row, 3));
+            Set<Lesson> lessons = parseLessons(getField(row, 4));
+            Student student = new Student(studentName, studentPhone, parentName, parentPhone, new ProgressList(),
+                    new Lessons());
+            if (studentNames.contains(studentName) || model.hasStudent(student)) {
+                throw new ParseException(AddStudentCommand.MESSAGE_DUPLICATE_STUDENT);
+            }
+            for (Lesson lesson : lessons) {
+                long enrolledCount = lesson.getStudents().numberOfStudents() + enrolmentCounts.getOrDefault(lesson, 0);
+                if (enrolledCount + 1 > lesson.getCapacityValue()) {
+                    throw new ParseException(String.format(AddStudentToLessonCommand.MESSAGE_FAILURE_FULL,
+                            lesson.toNameString()));
+                }
+            }
+
+            students.add(student);
+            studentNames.add(studentName);
+            lessonsOfStudents.put(student, lessons);
+            lessons.forEach(lesson -> enrolmentCounts.merge(lesson, 1, Integer::sum));
+        }
+
+        @Override
+        public String importRows() {
+            model.addStudents(students);
+            model.addEnrolments(lessonsOfStudents);
+            return String.format(MESSAGE_SUCCESS, students.size());
+        }
+
+        private Set<Lesson> parseLessons(String lessonNames) throws ParseException {
+            Set<Lesson> lessons = new LinkedIdentitySet<>();
+            for (String name : lessonNames.split(LESSON_SEPARATOR)) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                LessonName lessonName = ParserUtil.parseLessonName(name);
+                Lesson lesson = model.getLessonBook().getLesson(lessonName).orElseThrow(() ->
+                        new ParseException(String.format(MESSAGE_UNKNOWN_LESSON, lessonName)));
+                lessons.add(lesson);
+            }
+            return lessons;
+        }
+    }
+}
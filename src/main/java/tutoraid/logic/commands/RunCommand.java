@@ -0,0 +1,72 @@
+package tutoraid.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.logic.parser.TutorAidParser;
+import tutoraid.logic.parser.exceptions.ParseException;
+import tutoraid.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single batch.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with '" + TutorAidParser.COMMENT_MARKER + "' are skipped. "
+            + "If any command fails, none of the commands take effect."
+            + "\nParameters:"
+            + "\nFILE"
+            + "\nExample:"
+            + "\n" + COMMAND_WORD + " data/new_students.txt";
+
+    public static final String MESSAGE_READ_FAILED = "Could not read script %1$s: %2$s";
+
+    private final Path scriptPath;
+    private final TutorAidParser parser;
+
+    /**
+     * Creates a {@code RunCommand} that runs the script at {@code scriptPath}, whose lines are parsed by
+     * {@code parser}, so that they show up in the same latency statistics as commands entered by the user.
+     */
+    public RunCommand(Path scriptPath, TutorAidParser parser) {
+        requireNonNull(scriptPath);
+        requireNonNull(parser);
+        this.scriptPath = scriptPath;
+        this.parser = parser;
+    }
+
+    /**
+     * Parses every line of the script before executing any of them, so that a typo in the script changes nothing.
+     * The lines are read as they are parsed, so the script itself is never held in memory.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        BatchCommand batch;
+        try (Stream<String> lines = Files.lines(scriptPath)) {
+            batch = parser.parseBatch(lines.iterator());
+        } catch (IOException | UncheckedIOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, scriptPath, e.getMessage()), e);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        }
+        return batch.execute(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath)
+                && parser == ((RunCommand) other).parser);
+    }
+}
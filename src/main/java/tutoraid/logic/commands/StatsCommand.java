@@ -0,0 +1,72 @@
+package tutoraid.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tutoraid.commons.util.LatencyHistogram;
+import tutoraid.logic.LatencyRecorder;
+import tutoraid.logic.LatencyRecorder.Phase;
+import tutoraid.model.Model;
+
+/**
+ * Shows how long each type of command has taken to parse, execute and save since the app started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the 50th, 95th and 99th percentile and the "
+            + "longest time taken by each type of command since TutorAid started.\n"
+            + "\nExample: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet.";
+    public static final String MESSAGE_HEADER = "Time taken by commands (p50 / p95 / p99 / max):";
+    public static final String MESSAGE_COMMAND_TYPE = "%1$s, %2$d run(s)";
+    public static final String MESSAGE_PHASE = "  %1$s: %2$s / %3$s / %4$s / %5$s";
+
+    private final LatencyRecorder latencyRecorder;
+
+    /**
+     * Creates a StatsCommand to show the latencies in {@code latencyRecorder}.
+     */
+    public StatsCommand(LatencyRecorder latencyRecorder) {
+        requireNonNull(latencyRecorder);
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        if (latencyRecorder.getCommandTypes().isEmpty()) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+
+        StringBuilder stats = new StringBuilder(MESSAGE_HEADER);
+        for (String commandType : latencyRecorder.getCommandTypes()) {
+            long runs = latencyRecorder.getHistogram(commandType, Phase.PARSE).map(LatencyHistogram::getCount)
+                    .orElse(0L);
+            stats.append('\n').append(String.format(MESSAGE_COMMAND_TYPE, commandType, runs));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = latencyRecorder.getHistogram(commandType, phase).get();
+                if (histogram.getCount() > 0) {
+                    stats.append('\n').append(String.format(MESSAGE_PHASE, phase,
+                            formatMillis(histogram.getPercentile(50)), formatMillis(histogram.getPercentile(95)),
+                            formatMillis(histogram.getPercentile(99)), formatMillis(histogram.getMax())));
+                }
+            }
+        }
+        return new CommandResult(stats.toString());
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, to two decimal places.
+     */
+    public static String formatMillis(long nanos) {
+        return String.format("%.2f ms", nanos / 1e6);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && latencyRecorder == ((StatsCommand) other).latencyRecorder); // state check
+    }
+}
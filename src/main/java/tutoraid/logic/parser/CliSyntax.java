@@ -1,5 +1,7 @@
 package tutoraid.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -17,4 +19,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_LIST_ALL = new Prefix("-a");
     public static final Prefix PREFIX_STUDENT = new Prefix("s/");
     public static final Prefix PREFIX_LESSON = new Prefix("l/");
+    public static final Prefix PREFIX_MAX_DISTANCE = new Prefix("d/");
+
+    /* All the prefixes above */
+    public static final List<Prefix> PREFIXES = List.of(PREFIX_STUDENT_NAME, PREFIX_STUDENT_PHONE, PREFIX_PARENT_NAME,
+            PREFIX_PARENT_PHONE, PREFIX_LESSON_NAME, PREFIX_LESSON_PRICE, PREFIX_LESSON_TIMING, PREFIX_LESSON_CAPACITY,
+            PREFIX_LIST_ALL, PREFIX_STUDENT, PREFIX_LESSON, PREFIX_MAX_DISTANCE);
 }
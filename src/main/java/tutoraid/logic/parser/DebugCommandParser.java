@@ -0,0 +1,45 @@
+package tutoraid.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.logic.commands.DebugCommand;
+import tutoraid.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DebugCommand object that dumps the records kept by the LogsCenter.
+ */
+public class DebugCommandParser implements Parser<DebugCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path is invalid: %1$s";
+
+    private static final Pattern DUMP_FORMAT =
+            Pattern.compile(Pattern.quote(DebugCommand.SUBCOMMAND_DUMP) + "\\s+(?<path>.+)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DebugCommand
+     * and returns a DebugCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public DebugCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Matcher matcher = DUMP_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DebugCommand.MESSAGE_USAGE));
+        }
+        String path = matcher.group("path");
+        try {
+            return new DebugCommand(Paths.get(path), LogsCenter.getDiagnosticBuffer());
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, path), ipe);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package tutoraid.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tutoraid.commons.core.Messages;
+import tutoraid.logic.commands.ExportCommand;
+import tutoraid.logic.commands.ExportLessonsCommand;
+import tutoraid.logic.commands.ExportProgressCommand;
+import tutoraid.logic.commands.ExportRostersCommand;
+import tutoraid.logic.commands.ExportStudentsCommand;
+import tutoraid.logic.parser.exceptions.ParseException;
+
+/**
+ * Checks if a given export command is to export students, lessons, rosters or progress, and parses the path of the
+ * file to export to.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path is invalid: %1$s";
+
+    /**
+     * Used for initial separation of command flag ('-s', '-l', '-sl' or '-p') and args.
+     */
+    private static final Pattern BASIC_COMMAND_FORMAT =
+            Pattern.compile("(?<commandFlag>\\S+)(?<arguments>.*)");
+
+    /**
+     * Parses user input into a specific export command for execution.
+     *
+     * @param userInput user input string after the 'export' keyword has been removed
+     * @return the export command for students, lessons, rosters or progress based on the user input
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ExportCommand parse(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(Messages.MESSAGE_INVALID_EXPORT_COMMAND);
+        }
+        String commandFlag = matcher.group("commandFlag");
+        String arguments = matcher.group("arguments").trim();
+
+        switch (commandFlag) {
+
+        case ExportStudentsCommand.COMMAND_FLAG:
+            return new ExportStudentsCommand(parsePath(arguments, ExportStudentsCommand.MESSAGE_USAGE));
+
+        case ExportLessonsCommand.COMMAND_FLAG:
+            return new ExportLessonsCommand(parsePath(arguments, ExportLessonsCommand.MESSAGE_USAGE));
+
+        case ExportRostersCommand.COMMAND_FLAG:
+            return new ExportRostersCommand(parsePath(arguments, ExportRostersCommand.MESSAGE_USAGE));
+
+        case ExportProgressCommand.COMMAND_FLAG:
+            return new ExportProgressCommand(parsePath(arguments, ExportProgressCommand.MESSAGE_USAGE));
+
+        default:
+            throw new ParseException(Messages.MESSAGE_INVALID_EXPORT_COMMAND);
+        }
+    }
+
+    private static Path parsePath(String path, String usage) throws ParseException {
+        if (path.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, path), ipe);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package tutoraid.logic.parser;
 
 import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutoraid.commons.core.Messages.MESSAGE_INVALID_FIND_COMMAND;
+import static tutoraid.logic.parser.CliSyntax.PREFIX_MAX_DISTANCE;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -11,14 +13,21 @@ import tutoraid.commons.core.Messages;
 import tutoraid.logic.commands.FindCommand;
 import tutoraid.logic.commands.FindLessonCommand;
 import tutoraid.logic.commands.FindStudentCommand;
+import tutoraid.logic.commands.FuzzyFindLessonCommand;
+import tutoraid.logic.commands.FuzzyFindStudentCommand;
 import tutoraid.logic.parser.exceptions.ParseException;
 import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
 import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
 
 /**
  * Checks if a given find command is to find a student or to find a lesson in TutorAid.
  */
 public class FindCommandParser implements Parser<FindCommand> {
+    /** Maximum number of edits between a keyword and a name in a fuzzy search, unless given with 'd/'. */
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+
     /**
      * Used for initial separation of command flag ('-s' or '-p') and args.
      */
@@ -43,6 +52,11 @@ public class FindCommandParser implements Parser<FindCommand> {
         commandFlag = matcher.group("commandFlag");
         arguments = matcher.group("arguments");
 
+        if (commandFlag.equals(FuzzyFindStudentCommand.COMMAND_FLAG)
+                || commandFlag.equals(FuzzyFindLessonCommand.COMMAND_FLAG)) {
+            return parseFuzzyFind(commandFlag, arguments);
+        }
+
         String trimmedArgs = arguments.trim();
         if (trimmedArgs.isEmpty()) {
             if (commandFlag.equals(FindStudentCommand.COMMAND_FLAG)) {
@@ -71,4 +85,29 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
     }
 
+    /**
+     * Parses the arguments of a fuzzy find command, which are the keywords followed by an optional maximum number of
+     * edits.
+     */
+    private FindCommand parseFuzzyFind(String commandFlag, String arguments) throws ParseException {
+        boolean isStudentSearch = commandFlag.equals(FuzzyFindStudentCommand.COMMAND_FLAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(arguments, PREFIX_MAX_DISTANCE);
+        String trimmedKeywords = argMultimap.getPreamble().trim();
+        if (trimmedKeywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, isStudentSearch
+                    ? FuzzyFindStudentCommand.MESSAGE_USAGE
+                    : FuzzyFindLessonCommand.MESSAGE_USAGE));
+        }
+
+        List<String> keywords = Arrays.asList(trimmedKeywords.split("\\s+"));
+        int maxDistance = DEFAULT_MAX_DISTANCE;
+        if (argMultimap.getValue(PREFIX_MAX_DISTANCE).isPresent()) {
+            maxDistance = ParserUtil.parseMaxDistance(argMultimap.getValue(PREFIX_MAX_DISTANCE).get());
+        }
+
+        return isStudentSearch
+                ? new FuzzyFindStudentCommand(new NameWithinDistancePredicate(keywords, maxDistance))
+                : new FuzzyFindLessonCommand(new LessonNameWithinDistancePredicate(keywords, maxDistance));
+    }
+
 }
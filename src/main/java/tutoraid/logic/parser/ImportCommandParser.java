@@ -0,0 +1,71 @@
+package tutoraid.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tutoraid.commons.core.Messages;
+import tutoraid.logic.commands.ImportCommand;
+import tutoraid.logic.commands.ImportLessonsCommand;
+import tutoraid.logic.commands.ImportStudentsCommand;
+import tutoraid.logic.parser.exceptions.ParseException;
+
+/**
+ * Checks if a given import command is to import students or lessons, and parses the path of the file to import.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path is invalid: %1$s";
+
+    /**
+     * Used for initial separation of command flag ('-s' or '-l') and args.
+     */
+    private static final Pattern BASIC_COMMAND_FORMAT =
+            Pattern.compile("(?<commandFlag>\\S+)(?<arguments>.*)");
+
+    /**
+     * Parses user input into a specific import command for execution.
+     *
+     * @param userInput user input string after the 'import' keyword has been removed
+     * @return the import command for students or lessons based on the user input
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ImportCommand parse(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(Messages.MESSAGE_INVALID_IMPORT_COMMAND);
+        }
+        String commandFlag = matcher.group("commandFlag");
+        String arguments = matcher.group("arguments").trim();
+
+        switch (commandFlag) {
+
+        case ImportStudentsCommand.COMMAND_FLAG:
+            return new ImportStudentsCommand(parsePath(arguments, ImportStudentsCommand.MESSAGE_USAGE));
+
+        case ImportLessonsCommand.COMMAND_FLAG:
+            return new ImportLessonsCommand(parsePath(arguments, ImportLessonsCommand.MESSAGE_USAGE));
+
+        default:
+            throw new ParseException(Messages.MESSAGE_INVALID_IMPORT_COMMAND);
+        }
+    }
+
+    private static Path parsePath(String path, String usage) throws ParseException {
+        if (path.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, path), ipe);
+        }
+    }
+}
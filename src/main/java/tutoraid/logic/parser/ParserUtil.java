@@ -23,6 +23,9 @@ import tutoraid.model.student.StudentName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final int MAX_EDIT_DISTANCE = 3;
+    public static final String MESSAGE_INVALID_MAX_DISTANCE = String.format(
+            "Maximum number of edits should be a whole number from 0 to %d.", MAX_EDIT_DISTANCE);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -151,6 +154,22 @@ public class ParserUtil {
         return new LessonName(trimmedName);
     }
 
+    /**
+     * Parses {@code maxDistance} into the maximum number of edits of a fuzzy search and returns it. Leading and
+     * trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code maxDistance} is not a whole number from 0 to
+     *     {@code MAX_EDIT_DISTANCE}.
+     */
+    public static int parseMaxDistance(String maxDistance) throws ParseException {
+        requireNonNull(maxDistance);
+        String trimmedMaxDistance = maxDistance.trim();
+        if (!trimmedMaxDistance.matches("\\d") || Integer.parseInt(trimmedMaxDistance) > MAX_EDIT_DISTANCE) {
+            throw new ParseException(MESSAGE_INVALID_MAX_DISTANCE);
+        }
+        return Integer.parseInt(trimmedMaxDistance);
+    }
+
     /**
      * Parses a {@code String capacity} into a {@code Capacity}.
      * Leading and trailing whitespaces will be trimmed.
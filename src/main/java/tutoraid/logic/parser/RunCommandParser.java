@@ -0,0 +1,47 @@
+package tutoraid.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import tutoraid.logic.commands.RunCommand;
+import tutoraid.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The script path is invalid: %1$s";
+
+    private final TutorAidParser tutorAidParser;
+
+    /**
+     * Creates a {@code RunCommandParser} whose commands parse their scripts with {@code tutorAidParser}.
+     */
+    public RunCommandParser(TutorAidParser tutorAidParser) {
+        requireNonNull(tutorAidParser);
+        this.tutorAidParser = tutorAidParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new RunCommand(Paths.get(trimmedArgs), tutorAidParser);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs), ipe);
+        }
+    }
+}
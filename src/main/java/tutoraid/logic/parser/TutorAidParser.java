@@ -1,18 +1,31 @@
 package tutoraid.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import tutoraid.commons.core.Messages;
+import tutoraid.logic.LatencyRecorder;
 import tutoraid.logic.commands.AddCommand;
+import tutoraid.logic.commands.BatchCommand;
 import tutoraid.logic.commands.ClearCommand;
 import tutoraid.logic.commands.Command;
+import tutoraid.logic.commands.DebugCommand;
 import tutoraid.logic.commands.DeleteCommand;
 import tutoraid.logic.commands.EditCommand;
 import tutoraid.logic.commands.ExitCommand;
+import tutoraid.logic.commands.ExportCommand;
 import tutoraid.logic.commands.FindCommand;
 import tutoraid.logic.commands.HelpCommand;
+import tutoraid.logic.commands.ImportCommand;
 import tutoraid.logic.commands.ListCommand;
+import tutoraid.logic.commands.RunCommand;
+import tutoraid.logic.commands.StatsCommand;
 import tutoraid.logic.commands.ViewCommand;
 import tutoraid.logic.parser.exceptions.ParseException;
 
@@ -21,12 +34,46 @@ import tutoraid.logic.parser.exceptions.ParseException;
  */
 public class TutorAidParser {
 
+    /**
+     * The command words that the parser recognises.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+            EditCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, RunCommand.COMMAND_WORD,
+            ImportCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD,
+            DebugCommand.COMMAND_WORD);
+
+    /**
+     * Marks a line of a batch as a comment.
+     */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_INVALID_BATCH_LINE = "Line %1$d is invalid, so no changes were made: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A batch of commands cannot run another script.";
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT =
             Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final LatencyRecorder latencyRecorder;
+
+    /**
+     * Creates a {@code TutorAidParser} whose {@code stats} commands show the latencies in a new recorder.
+     */
+    public TutorAidParser() {
+        this(new LatencyRecorder());
+    }
+
+    /**
+     * Creates a {@code TutorAidParser} whose {@code stats} commands show the latencies in {@code latencyRecorder}.
+     */
+    public TutorAidParser(LatencyRecorder latencyRecorder) {
+        requireNonNull(latencyRecorder);
+        this.latencyRecorder = latencyRecorder;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -75,9 +122,51 @@ public class TutorAidParser {
 
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(this).parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(latencyRecorder);
+
+        case DebugCommand.COMMAND_WORD:
+            return new DebugCommandParser().parse(arguments);
+
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Parses every line of {@code lines} into a command, and returns a batch that executes them as one unit of work.
+     * Blank lines and lines starting with {@code COMMENT_MARKER} are skipped. Lines are numbered from 1.
+     *
+     * @throws ParseException naming the first line that does not conform the expected format, or that runs a script
+     */
+    public BatchCommand parseBatch(Iterator<String> lines) throws ParseException {
+        SortedMap<Integer, Command> commandsByLine = new TreeMap<>();
+        for (int line = 1; lines.hasNext(); line++) {
+            String commandText = lines.next().trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                Command command = parseCommand(commandText);
+                if (command instanceof RunCommand) {
+                    throw new ParseException(MESSAGE_NESTED_RUN);
+                }
+                commandsByLine.put(line, command);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_LINE, line, pe.getMessage()), pe);
+            }
+        }
+        return new BatchCommand(commandsByLine);
+    }
+
 }
@@ -0,0 +1,27 @@
+package tutoraid.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for removing every link of a student or lesson, as done by {@link ModelManager}.
+ */
+@Name("tutoraid.Cascade")
+@Label("Cascade")
+@Category({"TutorAid", "Model"})
+@Description("Removing a student from all of their lessons, or every student from a lesson")
+class CascadeEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Target")
+    @Description("The name of the student or lesson whose links were removed")
+    String target;
+
+    @Label("Links Removed")
+    int links;
+}
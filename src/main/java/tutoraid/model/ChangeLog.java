@@ -0,0 +1,104 @@
+package tutoraid.model;
+
+import static tutoraid.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Records the IDs of the entities of a book that were added, edited or deleted at each version of the book, so that
+ * storage can write only the entities that changed since it last saved the book.
+ * Only the latest {@code capacity} changes are kept. Older changes, and changes made before all the entities of the
+ * book were replaced, are no longer known.
+ */
+public class ChangeLog {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int INITIAL_LENGTH = 16;
+
+    private final int capacity;
+    // the versions and IDs of the changes kept, oldest first
+    private long[] versions;
+    private long[] ids;
+    private int size;
+    // every change made after this version is kept
+    private long knownSinceVersion;
+
+    /**
+     * Creates a {@code ChangeLog} that keeps the latest {@link #DEFAULT_CAPACITY} changes.
+     */
+    public ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code ChangeLog} that keeps the latest {@code capacity} changes.
+     */
+    public ChangeLog(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive.");
+        this.capacity = capacity;
+        versions = new long[Math.min(capacity, INITIAL_LENGTH)];
+        ids = new long[versions.length];
+    }
+
+    /**
+     * Records that the entity with the given {@code id} was added, edited or deleted at {@code version}.
+     * Versions must be recorded in increasing order.
+     */
+    public void recordChange(long version, long id) {
+        if (size == capacity) {
+            // forget the older half, so that a full log is not shifted on every change
+            int forgotten = capacity - capacity / 2;
+            knownSinceVersion = versions[forgotten - 1];
+            System.arraycopy(versions, forgotten, versions, 0, size - forgotten);
+            System.arraycopy(ids, forgotten, ids, 0, size - forgotten);
+            size -= forgotten;
+        } else if (size == versions.length) {
+            int length = Math.min(capacity, versions.length * 2);
+            versions = Arrays.copyOf(versions, length);
+            ids = Arrays.copyOf(ids, length);
+        }
+        versions[size] = version;
+        ids[size] = id;
+        size++;
+    }
+
+    /**
+     * Records that every entity of the book may have been replaced at {@code version}, such as when a new list of
+     * entities was set, which forgets all earlier changes.
+     */
+    public void recordReplacement(long version) {
+        size = 0;
+        knownSinceVersion = version;
+    }
+
+    /**
+     * Returns the IDs of the entities that were added, edited or deleted after {@code version}, or an empty
+     * {@code Optional} if those changes are no longer known.
+     */
+    public Optional<Set<Long>> getIdsChangedSince(long version) {
+        if (version < knownSinceVersion) {
+            return Optional.empty();
+        }
+        Set<Long> changedIds = new HashSet<>();
+        for (int i = size - 1; i >= 0 && versions[i] > version; i--) {
+            changedIds.add(ids[i]);
+        }
+        return Optional.of(changedIds);
+    }
+
+    /**
+     * Returns a copy of this log, which is not affected by later changes.
+     */
+    public ChangeLog copy() {
+        ChangeLog copy = new ChangeLog(capacity);
+        copy.versions = Arrays.copyOf(versions, Math.max(size, 1));
+        copy.ids = Arrays.copyOf(ids, copy.versions.length);
+        copy.size = size;
+        copy.knownSinceVersion = knownSinceVersion;
+        return copy;
+    }
+}
@@ -0,0 +1,17 @@
+package tutoraid.model;
+
+import tutoraid.ui.DetailLevel;
+
+/**
+ * Is told how much detail of the students and lessons to show whenever the model views a student, a lesson or the
+ * whole list.
+ * Called on the thread that changes the model.
+ */
+@FunctionalInterface
+public interface DetailLevelListener {
+
+    /** A listener that shows nothing, for when there is no UI. */
+    DetailLevelListener NONE = unused -> { };
+
+    void showDetails(DetailLevel detailLevel);
+}
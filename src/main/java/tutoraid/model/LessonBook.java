@@ -2,10 +2,17 @@ package tutoraid.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
+import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
 import tutoraid.model.lesson.UniqueLessonList;
 
 /**
@@ -15,6 +22,8 @@ import tutoraid.model.lesson.UniqueLessonList;
 public class LessonBook implements ReadOnlyLessonBook {
 
     private final UniqueLessonList lessons;
+    private long version;
+    private final ChangeLog changes = new ChangeLog();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +54,8 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        version++;
+        changes.recordReplacement(version);
     }
 
     /**
@@ -65,12 +76,41 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.contains(lesson);
     }
 
+    /**
+     * Returns the lessons in the lesson book that match {@code predicate}.
+     */
+    public Set<Lesson> getMatchingLessons(LessonNameContainsSubstringsPredicate predicate) {
+        return lessons.getMatchingLessons(predicate);
+    }
+
+    /**
+     * Returns the lessons in the lesson book that match {@code predicate}, each mapped to its edit distance from the
+     * closest keyword.
+     */
+    public Map<Lesson, Integer> getLessonsWithinDistance(LessonNameWithinDistancePredicate predicate) {
+        return lessons.getLessonsWithinDistance(predicate);
+    }
+
     /**
      * Adds a lesson to the lesson book.
      * The lesson must not already exist in the lesson book.
      */
     public void addLesson(Lesson lesson) {
         lessons.add(lesson);
+        version++;
+        changes.recordChange(version, lesson.getId());
+    }
+
+    /**
+     * Adds all of {@code lessons} to the lesson book.
+     * None of the lessons may already exist in the lesson book or appear twice in {@code lessons}.
+     */
+    public void addLessons(List<Lesson> lessons) {
+        this.lessons.addAll(lessons);
+        version++;
+        for (Lesson lesson : lessons) {
+            changes.recordChange(version, lesson.getId());
+        }
     }
 
     /**
@@ -82,6 +122,26 @@ public class LessonBook implements ReadOnlyLessonBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(target, editedLesson);
+        version++;
+        if (target.getId() == editedLesson.getId()) {
+            changes.recordChange(version, target.getId());
+        } else {
+            // the edited lesson takes the place of a different lesson, which a change of one ID cannot describe
+            changes.recordReplacement(version);
+        }
+    }
+
+    /**
+     * Replaces the fields of the given lesson {@code target} with those of {@code editedLesson} in place.
+     * {@code target} must exist in the lesson book.
+     * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the lesson book.
+     */
+    public void replaceLesson(Lesson target, Lesson editedLesson) {
+        requireNonNull(editedLesson);
+
+        lessons.replaceLesson(target, editedLesson);
+        version++;
+        changes.recordChange(version, target.getId());
     }
 
     /**
@@ -90,6 +150,46 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void removeLesson(Lesson key) {
         lessons.remove(key);
+        version++;
+        changes.recordChange(version, key.getId());
+    }
+
+    /**
+     * Adds {@code lesson} back at {@code index} of the lesson list, where it was removed from, to undo its removal.
+     */
+    void restoreLesson(int index, Lesson lesson) {
+        lessons.add(index, lesson);
+        version++;
+        changes.recordChange(version, lesson.getId());
+    }
+
+    /**
+     * Removes all of {@code lessons} from this {@code LessonBook} in one change, to undo their addition.
+     */
+    void removeLessons(List<Lesson> lessons) {
+        this.lessons.removeAll(lessons);
+        version++;
+        for (Lesson lesson : lessons) {
+            changes.recordChange(version, lesson.getId());
+        }
+    }
+
+    /**
+     * Records that {@code lesson} in this {@code LessonBook} was modified in place, such as by changing its links.
+     */
+    void markModified(Lesson lesson) {
+        version++;
+        changes.recordChange(version, lesson.getId());
+    }
+
+    /**
+     * Records that all of {@code lessons} in this {@code LessonBook} were modified in place in one change.
+     */
+    void markModified(Collection<Lesson> lessons) {
+        version++;
+        for (Lesson lesson : lessons) {
+            changes.recordChange(version, lesson.getId());
+        }
     }
 
     //// util methods
@@ -105,6 +205,26 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changes.copy();
+    }
+
+    @Override
+    public Optional<Lesson> getLesson(LessonName lessonName) {
+        return lessons.get(lessonName);
+    }
+
+    @Override
+    public Optional<Lesson> getLesson(long id) {
+        return lessons.get(id);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,11 +1,20 @@
 package tutoraid.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
+import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
+import tutoraid.model.student.Progress;
 import tutoraid.model.student.Student;
 import tutoraid.ui.DetailLevel;
 
@@ -74,6 +83,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds all of the given students at once, and shows every student.
+     * None of {@code students} may already exist in the student book or appear twice in {@code students}.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the student book.
@@ -82,6 +97,27 @@ public interface Model {
      */
     void setStudent(Student target, Student editedStudent);
 
+    /**
+     * Replaces the fields of the given student {@code target} with those of {@code editedStudent}, keeping
+     * {@code target} as the same object in the student book.
+     * {@code target} must exist in the student book.
+     * The student identity of {@code editedStudent} must not be the same as another existing student in the
+     * student book.
+     */
+    void replaceStudent(Student target, Student editedStudent);
+
+    /**
+     * Adds {@code progress} to the given student {@code target}.
+     * {@code target} must exist in the student book.
+     */
+    void addProgress(Student target, Progress progress);
+
+    /**
+     * Deletes and returns the latest progress of the given student {@code target}.
+     * {@code target} must exist in the student book and have at least one progress.
+     */
+    Progress deleteLatestProgress(Student target);
+
     /**
      * Views the given student.
      * {@code student} must exist in the student book.
@@ -123,6 +159,12 @@ public interface Model {
      */
     void addLesson(Lesson lesson);
 
+    /**
+     * Adds all of the given lessons at once, and shows every lesson.
+     * None of {@code lessons} may already exist in the lesson book or appear twice in {@code lessons}.
+     */
+    void addLessons(List<Lesson> lessons);
+
     /**
      * Deletes lesson from student(s).
      */
@@ -133,6 +175,24 @@ public interface Model {
      */
     void deleteStudentFromLessons(Student student);
 
+    /**
+     * Enrols {@code student} in {@code lesson}, updating both sides of the link.
+     * {@code student} must not already attend {@code lesson}.
+     */
+    void addStudentToLesson(Student student, Lesson lesson);
+
+    /**
+     * Enrols each student in {@code enrolments} in the lessons it is mapped to, updating both sides of every link, in
+     * one change to each book. No student may already attend a lesson it is mapped to.
+     */
+    void addEnrolments(Map<Student, ? extends Collection<Lesson>> enrolments);
+
+    /**
+     * Removes {@code student} from {@code lesson}, updating both sides of the link.
+     * {@code student} must attend {@code lesson}.
+     */
+    void deleteStudentFromLesson(Student student, Lesson lesson);
+
     /*
      * Replaces the given lesson {@code target} with {@code editedLesson}.
      * {@code target} must exist in the lesson book.
@@ -141,12 +201,26 @@ public interface Model {
      */
     void setLesson(Lesson target, Lesson editedLesson);
 
+    /**
+     * Replaces the fields of the given lesson {@code target} with those of {@code editedLesson}, keeping
+     * {@code target} as the same object in the lesson book.
+     * {@code target} must exist in the lesson book.
+     * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the
+     * lesson book.
+     */
+    void replaceLesson(Lesson target, Lesson editedLesson);
+
     /**
      * Views the given lesson.
      * {@code lesson} must exist in the lesson book.
      */
     void viewLesson(Lesson lesson);
 
+    /**
+     * Sets the listener that is told the level of detail to show after each view, replacing any listener set before.
+     */
+    void setDetailLevelListener(DetailLevelListener listener);
+
     /**
      * Views the list of students in the database. The viewAll flag determines whether student details should be shown.
      */
@@ -161,6 +235,26 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to show the students matching {@code predicate}.
+     * Unlike {@link #updateFilteredStudentList(Predicate)}, only the students found in the name index are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findStudents(NameContainsSubstringsPredicate predicate);
+
+    /**
+     * Returns the students matching {@code predicate}, testing only the students found in the name index.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Set<Student> getMatchingStudents(NameContainsSubstringsPredicate predicate);
+
+    /**
+     * Updates the filtered student list to show the students matching {@code predicate}, ranked by the edit distance
+     * between their names and the closest keyword. Only the students found in the name index are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void fuzzyFindStudents(NameWithinDistancePredicate predicate);
+
     /** Returns an unmodifiable view of the filtered lesson list */
     ObservableList<Lesson> getFilteredLessonList();
 
@@ -170,4 +264,42 @@ public interface Model {
      */
     void updateFilteredLessonList(Predicate<Lesson> predicate);
 
+    /**
+     * Updates the filter of the filtered lesson list to show the lessons matching {@code predicate}.
+     * Unlike {@link #updateFilteredLessonList(Predicate)}, only the lessons found in the name index are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findLessons(LessonNameContainsSubstringsPredicate predicate);
+
+    /**
+     * Returns the lessons matching {@code predicate}, testing only the lessons found in the name index.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Set<Lesson> getMatchingLessons(LessonNameContainsSubstringsPredicate predicate);
+
+    /**
+     * Updates the filtered lesson list to show the lessons matching {@code predicate}, ranked by the edit distance
+     * between their names and the closest keyword. Only the lessons found in the name index are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void fuzzyFindLessons(LessonNameWithinDistancePredicate predicate);
+
+    /**
+     * Starts recording how to undo the changes made to the student and lesson books, so that
+     * {@link #rollBackToCheckpoint()} can restore them as they are now, replacing any checkpoint saved before.
+     */
+    void saveCheckpoint();
+
+    /**
+     * Undoes the changes made to the student and lesson books since the last {@link #saveCheckpoint()}, latest first,
+     * shows every student and lesson, and discards the checkpoint.
+     * @throws IllegalStateException if there is no checkpoint.
+     */
+    void rollBackToCheckpoint();
+
+    /**
+     * Discards the checkpoint saved by the last {@link #saveCheckpoint()}, if any.
+     */
+    void discardCheckpoint();
+
 }
@@ -5,20 +5,32 @@ import static tutoraid.ui.DetailLevel.HIGH;
 import static tutoraid.ui.DetailLevel.MED;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.commons.core.LogsCenter;
 import tutoraid.commons.util.CollectionUtil;
+import tutoraid.commons.util.LinkedIdentitySet;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
+import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
+import tutoraid.model.student.Progress;
 import tutoraid.model.student.Student;
 import tutoraid.ui.DetailLevel;
-import tutoraid.ui.UiManager;
 
 /**
  * Represents the in-memory model of the student book data.
@@ -31,6 +43,12 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<Lesson> filteredLessons;
+    // ranks the filtered lists after a fuzzy find, and keeps their order otherwise
+    private final SortedList<Student> sortedStudents;
+    private final SortedList<Lesson> sortedLessons;
+    // undoes the changes made since the checkpoint, latest first, if a checkpoint has been saved
+    private Deque<Runnable> undoLog;
+    private DetailLevelListener detailLevelListener = DetailLevelListener.NONE;
 
     /**
      * Initializes a ModelManager with the given studentBook, lessonBook and userPrefs.
@@ -47,6 +65,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.studentBook.getStudentList());
         filteredLessons = new FilteredList<>(this.lessonBook.getLessonList());
+        sortedStudents = new SortedList<>(filteredStudents);
+        sortedLessons = new SortedList<>(filteredLessons);
         allStudents.addAll(studentBook.getStudentList());
     }
 
@@ -108,6 +128,14 @@ public class ModelManager implements Model {
 
     @Override
     public void setStudentBook(ReadOnlyStudentBook studentBook) {
+        if (undoLog != null) {
+            List<Student> students = new ArrayList<>(this.studentBook.getStudentList());
+            undoLog.push(() -> {
+                this.studentBook.setStudents(students);
+                allStudents.clear();
+                allStudents.addAll(students);
+            });
+        }
         this.studentBook.resetData(studentBook);
         allStudents.clear();
         allStudents.addAll(studentBook.getStudentList());
@@ -126,7 +154,12 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteStudent(Student target) {
+        int index = undoLog == null ? -1 : studentBook.getStudentList().indexOf(target);
         studentBook.removeStudent(target);
+        recordUndo(() -> {
+            studentBook.restoreStudent(index, target);
+            allStudents.add(target);
+        });
         allStudents.remove(target);
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
@@ -134,45 +167,119 @@ public class ModelManager implements Model {
     @Override
     public void addStudent(Student student) {
         studentBook.addStudent(student);
+        recordUndo(() -> {
+            studentBook.removeStudent(student);
+            allStudents.remove(student);
+        });
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         allStudents.add(student);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        studentBook.addStudents(students);
+        recordUndo(() -> {
+            studentBook.removeStudents(students);
+            allStudents.removeAll(new LinkedIdentitySet<>(students));
+        });
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        allStudents.addAll(students);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         CollectionUtil.requireAllNonNull(target, editedStudent);
 
         studentBook.setStudent(target, editedStudent);
+        recordUndo(() -> studentBook.setStudent(editedStudent, target));
+    }
+
+    @Override
+    public void replaceStudent(Student target, Student editedStudent) {
+        CollectionUtil.requireAllNonNull(target, editedStudent);
+
+        Student original = undoLog == null ? null : target.copy();
+        studentBook.replaceStudent(target, editedStudent);
+        recordUndo(() -> studentBook.replaceStudent(target, original));
+    }
+
+    @Override
+    public void addProgress(Student target, Progress progress) {
+        CollectionUtil.requireAllNonNull(target, progress);
+
+        recordProgressUndo(target);
+        target.addProgress(progress);
+        studentBook.markModified(target);
+    }
+
+    @Override
+    public Progress deleteLatestProgress(Student target) {
+        requireNonNull(target);
+
+        recordProgressUndo(target);
+        Progress deletedProgress = target.deleteLatestProgress();
+        studentBook.markModified(target);
+        return deletedProgress;
     }
 
     @Override
     public void viewStudent(Student targetStudent) {
         requireNonNull(targetStudent);
+        sortedStudents.setComparator(null);
+        sortedLessons.setComparator(null);
         filteredStudents.setPredicate(student -> student.equals(targetStudent));
-        filteredLessons.setPredicate(lesson ->
-                targetStudent.getLessons().getAllLessonNamesAsStringArrayList().contains(lesson.nameAsString()));
-        UiManager.showDetails(HIGH);
+        filteredLessons.setPredicate(targetStudent::hasLesson);
+        detailLevelListener.showDetails(HIGH);
+    }
+
+    @Override
+    public void setDetailLevelListener(DetailLevelListener listener) {
+        requireNonNull(listener);
+        detailLevelListener = listener;
     }
 
     @Override
     public void viewList(DetailLevel detailLevel) {
-        UiManager.showDetails(detailLevel);
+        detailLevelListener.showDetails(detailLevel);
     }
 
     @Override
     public void deleteLessonFromStudents(Lesson lesson) {
-        for (Student student : studentBook.getStudentList()) {
-            if (student.hasLesson(lesson)) {
-                student.getLessons().deleteLesson(lesson);
+        requireNonNull(lesson);
+        CascadeEvent event = new CascadeEvent();
+        event.begin();
+        List<Student> students = new ArrayList<>(lesson.getStudents().students);
+        if (undoLog != null) {
+            // the links of the lesson are all removed, so one copy of them restores their order
+            List<Runnable> lessonRestorers = new ArrayList<>(students.size());
+            for (Student student : students) {
+                lessonRestorers.add(restorerOf(student.getLessons().lessons, lesson));
             }
+            undoLog.push(() -> {
+                replaceAll(lesson.getStudents().students, students);
+                lessonRestorers.forEach(Runnable::run);
+                studentBook.markModified(students);
+                lessonBook.markModified(lesson);
+            });
+        }
+        for (Student student : students) {
+            lesson.removeStudent(student);
+            student.removeLesson(lesson);
         }
+        studentBook.markModified(students);
+        lessonBook.markModified(lesson);
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        commitCascade(event, "deleteLessonFromStudents", lesson.getLessonName().lessonName, students.size());
     }
 
     //=========== LessonBook ================================================================================
 
     @Override
     public void setLessonBook(ReadOnlyLessonBook lessonBook) {
+        if (undoLog != null) {
+            List<Lesson> lessons = new ArrayList<>(this.lessonBook.getLessonList());
+            undoLog.push(() -> this.lessonBook.setLessons(lessons));
+        }
         this.lessonBook.resetData(lessonBook);
     }
 
@@ -189,12 +296,22 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteLesson(Lesson target) {
+        int index = undoLog == null ? -1 : lessonBook.getLessonList().indexOf(target);
         lessonBook.removeLesson(target);
+        recordUndo(() -> lessonBook.restoreLesson(index, target));
     }
 
     @Override
     public void addLesson(Lesson lesson) {
         lessonBook.addLesson(lesson);
+        recordUndo(() -> lessonBook.removeLesson(lesson));
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+    }
+
+    @Override
+    public void addLessons(List<Lesson> lessons) {
+        lessonBook.addLessons(lessons);
+        recordUndo(() -> lessonBook.removeLessons(lessons));
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
@@ -202,25 +319,119 @@ public class ModelManager implements Model {
     public void setLesson(Lesson target, Lesson editedLesson) {
         CollectionUtil.requireAllNonNull(target, editedLesson);
         lessonBook.setLesson(target, editedLesson);
+        recordUndo(() -> lessonBook.setLesson(editedLesson, target));
+    }
+
+    @Override
+    public void replaceLesson(Lesson target, Lesson editedLesson) {
+        CollectionUtil.requireAllNonNull(target, editedLesson);
+        Lesson original = undoLog == null ? null : target.copy();
+        lessonBook.replaceLesson(target, editedLesson);
+        recordUndo(() -> lessonBook.replaceLesson(target, original));
     }
 
     @Override
     public void viewLesson(Lesson targetLesson) {
         requireNonNull(targetLesson);
+        sortedStudents.setComparator(null);
+        sortedLessons.setComparator(null);
         filteredLessons.setPredicate(lesson -> lesson.equals(targetLesson));
         filteredStudents.setPredicate(student ->
                 targetLesson.getStudents().hasStudent(student));
-        UiManager.showDetails(MED);
+        detailLevelListener.showDetails(MED);
     }
 
     @Override
     public void deleteStudentFromLessons(Student student) {
-        for (Lesson lesson : lessonBook.getLessonList()) {
-            if (lesson.hasStudent(student)) {
-                lesson.removeStudent(student);
+        requireNonNull(student);
+        CascadeEvent event = new CascadeEvent();
+        event.begin();
+        List<Lesson> lessons = new ArrayList<>(student.getLessons().lessons);
+        if (undoLog != null) {
+            // the links of the student are all removed, so one copy of them restores their order
+            List<Runnable> studentRestorers = new ArrayList<>(lessons.size());
+            for (Lesson lesson : lessons) {
+                studentRestorers.add(restorerOf(lesson.getStudents().students, student));
             }
+            undoLog.push(() -> {
+                replaceAll(student.getLessons().lessons, lessons);
+                studentRestorers.forEach(Runnable::run);
+                studentBook.markModified(student);
+                lessonBook.markModified(lessons);
+            });
         }
+        for (Lesson lesson : lessons) {
+            lesson.removeStudent(student);
+            student.removeLesson(lesson);
+        }
+        studentBook.markModified(student);
+        lessonBook.markModified(lessons);
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        commitCascade(event, "deleteStudentFromLessons", student.getStudentName().fullName, lessons.size());
+    }
+
+    @Override
+    public void addStudentToLesson(Student student, Lesson lesson) {
+        CollectionUtil.requireAllNonNull(student, lesson);
+        lesson.addStudent(student);
+        student.addLesson(lesson);
+        studentBook.markModified(student);
+        lessonBook.markModified(lesson);
+        recordUndo(() -> {
+            lesson.removeStudent(student);
+            student.removeLesson(lesson);
+            studentBook.markModified(student);
+            lessonBook.markModified(lesson);
+        });
+    }
+
+    @Override
+    public void addEnrolments(Map<Student, ? extends Collection<Lesson>> enrolments) {
+        requireNonNull(enrolments);
+        List<Student> enrolledStudents = new ArrayList<>();
+        Set<Lesson> enrolledLessons = new LinkedIdentitySet<>();
+        enrolments.forEach((student, lessons) -> {
+            for (Lesson lesson : lessons) {
+                lesson.addStudent(student);
+                student.addLesson(lesson);
+                enrolledLessons.add(lesson);
+            }
+            if (!lessons.isEmpty()) {
+                enrolledStudents.add(student);
+            }
+        });
+        studentBook.markModified(enrolledStudents);
+        lessonBook.markModified(enrolledLessons);
+        recordUndo(() -> {
+            // the links were added last, so removing them leaves the others in order
+            enrolments.forEach((student, lessons) -> {
+                for (Lesson lesson : lessons) {
+                    lesson.removeStudent(student);
+                    student.removeLesson(lesson);
+                }
+            });
+            studentBook.markModified(enrolledStudents);
+            lessonBook.markModified(enrolledLessons);
+        });
+    }
+
+    @Override
+    public void deleteStudentFromLesson(Student student, Lesson lesson) {
+        CollectionUtil.requireAllNonNull(student, lesson);
+        if (undoLog != null) {
+            Runnable lessonRestorer = restorerOf(student.getLessons().lessons, lesson);
+            Runnable studentRestorer = restorerOf(lesson.getStudents().students, student);
+            undoLog.push(() -> {
+                lessonRestorer.run();
+                studentRestorer.run();
+                studentBook.markModified(student);
+                lessonBook.markModified(lesson);
+            });
+        }
+        lesson.removeStudent(student);
+        student.removeLesson(lesson);
+        studentBook.markModified(student);
+        lessonBook.markModified(lesson);
     }
 
     //=========== Filtered Student List Accessors =============================================================
@@ -231,16 +442,38 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        sortedStudents.setComparator(null);
         filteredStudents.setPredicate(student -> false);
         filteredStudents.setPredicate(predicate);
     }
 
+    @Override
+    public void findStudents(NameContainsSubstringsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Student> matches = studentBook.getMatchingStudents(predicate);
+        updateFilteredStudentList(matches::contains);
+    }
+
+    @Override
+    public Set<Student> getMatchingStudents(NameContainsSubstringsPredicate predicate) {
+        requireNonNull(predicate);
+        return studentBook.getMatchingStudents(predicate);
+    }
+
+    @Override
+    public void fuzzyFindStudents(NameWithinDistancePredicate predicate) {
+        requireNonNull(predicate);
+        Map<Student, Integer> distances = studentBook.getStudentsWithinDistance(predicate);
+        updateFilteredStudentList(distances::containsKey);
+        sortedStudents.setComparator(Comparator.comparingInt(distances::get));
+    }
+
     //=========== Filtered Lesson List Accessors =============================================================
 
     /**
@@ -249,16 +482,112 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
-        return filteredLessons;
+        return sortedLessons;
     }
 
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
+        sortedLessons.setComparator(null);
         filteredLessons.setPredicate(lesson -> false);
         filteredLessons.setPredicate(predicate);
     }
 
+    @Override
+    public void findLessons(LessonNameContainsSubstringsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Lesson> matches = lessonBook.getMatchingLessons(predicate);
+        updateFilteredLessonList(matches::contains);
+    }
+
+    @Override
+    public Set<Lesson> getMatchingLessons(LessonNameContainsSubstringsPredicate predicate) {
+        requireNonNull(predicate);
+        return lessonBook.getMatchingLessons(predicate);
+    }
+
+    @Override
+    public void fuzzyFindLessons(LessonNameWithinDistancePredicate predicate) {
+        requireNonNull(predicate);
+        Map<Lesson, Integer> distances = lessonBook.getLessonsWithinDistance(predicate);
+        updateFilteredLessonList(distances::containsKey);
+        sortedLessons.setComparator(Comparator.comparingInt(distances::get));
+    }
+
+    //=========== Checkpoints ================================================================================
+
+    @Override
+    public void saveCheckpoint() {
+        undoLog = new ArrayDeque<>();
+    }
+
+    @Override
+    public void rollBackToCheckpoint() {
+        if (undoLog == null) {
+            throw new IllegalStateException("No checkpoint has been saved.");
+        }
+        Deque<Runnable> undos = undoLog;
+        // the undos change the books directly, so they are not recorded themselves
+        undoLog = null;
+        while (!undos.isEmpty()) {
+            undos.pop().run();
+        }
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+    }
+
+    @Override
+    public void discardCheckpoint() {
+        undoLog = null;
+    }
+
+    /**
+     * Records {@code undo} as the way to undo the change just made, if a checkpoint has been saved.
+     */
+    private void recordUndo(Runnable undo) {
+        if (undoLog != null) {
+            undoLog.push(undo);
+        }
+    }
+
+    /**
+     * Records how to restore the progress entries that {@code student} has now, if a checkpoint has been saved.
+     */
+    private void recordProgressUndo(Student student) {
+        if (undoLog != null) {
+            List<Progress> progress = new ArrayList<>(student.getProgressList().progressList);
+            undoLog.push(() -> {
+                replaceAll(student.getProgressList().progressList, progress);
+                studentBook.markModified(student);
+            });
+        }
+    }
+
+    private static <T> void replaceAll(Collection<T> collection, List<T> elements) {
+        collection.clear();
+        collection.addAll(elements);
+    }
+
+    /**
+     * Returns how to put {@code element} back in its place in {@code links}, which it is about to be removed from.
+     * Only its position is kept, as adding it back would put it last.
+     */
+    private static <T> Runnable restorerOf(Collection<T> links, T element) {
+        int index = 0;
+        for (T link : links) {
+            if (link == element) {
+                break;
+            }
+            index++;
+        }
+        int position = index;
+        return () -> {
+            List<T> elements = new ArrayList<>(links);
+            elements.add(Math.min(position, elements.size()), element);
+            replaceAll(links, elements);
+        };
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -280,4 +609,13 @@ public class ModelManager implements Model {
                 && filteredLessons.equals(other.filteredLessons);
     }
 
+    private static void commitCascade(CascadeEvent event, String operation, String target, int links) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.target = target;
+            event.links = links;
+            event.commit();
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package tutoraid.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
 
 /**
  * Unmodifiable view of a lesson book
@@ -13,4 +16,24 @@ public interface ReadOnlyLessonBook {
      * This list will not contain any duplicate lessons.
      */
     ObservableList<Lesson> getLessonList();
+
+    /**
+     * Returns the version of this lesson book, which changes every time its lessons are modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns a copy of the log of the lessons that were added, edited or deleted at each version of this lesson book.
+     */
+    ChangeLog getChangeLog();
+
+    /**
+     * Returns the lesson with the given {@code lessonName}, or an empty {@code Optional} if there is no such lesson.
+     */
+    Optional<Lesson> getLesson(LessonName lessonName);
+
+    /**
+     * Returns the lesson with the given {@code id}, or an empty {@code Optional} if there is no such lesson.
+     */
+    Optional<Lesson> getLesson(long id);
 }
@@ -1,5 +1,7 @@
 package tutoraid.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import tutoraid.model.student.Student;
 
@@ -13,4 +15,20 @@ public interface ReadOnlyStudentBook {
      * This list will not contain any duplicate students.
      */
     ObservableList<Student> getStudentList();
+
+    /**
+     * Returns the student with the given {@code id}, or an empty {@code Optional} if there is no such student.
+     */
+    Optional<Student> getStudent(long id);
+
+    /**
+     * Returns the version of this student book, which changes every time its students are modified.
+     */
+    long getVersion();
+
+    /**
+     * Returns a copy of the log of the students that were added, edited or deleted at each version of this student
+     * book.
+     */
+    ChangeLog getChangeLog();
 }
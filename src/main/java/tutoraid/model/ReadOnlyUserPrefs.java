@@ -15,4 +15,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getLessonBookFilePath();
 
+    /**
+     * Returns true if the student and lesson books are stored in the binary snapshot format instead of json.
+     */
+    boolean isBinaryStorageEnabled();
+
 }
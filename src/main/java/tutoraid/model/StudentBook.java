@@ -2,9 +2,15 @@ package tutoraid.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
 import tutoraid.model.student.Student;
 import tutoraid.model.student.UniqueStudentList;
 
@@ -15,6 +21,8 @@ import tutoraid.model.student.UniqueStudentList;
 public class StudentBook implements ReadOnlyStudentBook {
 
     private final UniqueStudentList students;
+    private long version;
+    private final ChangeLog changes = new ChangeLog();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +53,8 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        version++;
+        changes.recordReplacement(version);
     }
 
     /**
@@ -65,12 +75,46 @@ public class StudentBook implements ReadOnlyStudentBook {
         return students.contains(student);
     }
 
+    @Override
+    public Optional<Student> getStudent(long id) {
+        return students.get(id);
+    }
+
+    /**
+     * Returns the students in the student book that match {@code predicate}.
+     */
+    public Set<Student> getMatchingStudents(NameContainsSubstringsPredicate predicate) {
+        return students.getMatchingStudents(predicate);
+    }
+
+    /**
+     * Returns the students in the student book that match {@code predicate}, each mapped to its edit distance from
+     * the closest keyword.
+     */
+    public Map<Student, Integer> getStudentsWithinDistance(NameWithinDistancePredicate predicate) {
+        return students.getStudentsWithinDistance(predicate);
+    }
+
     /**
      * Adds a student to the student book.
      * The student must not already exist in the student book.
      */
     public void addStudent(Student student) {
         students.add(student);
+        version++;
+        changes.recordChange(version, student.getId());
+    }
+
+    /**
+     * Adds all of {@code students} to the student book.
+     * None of the students may already exist in the student book or appear twice in {@code students}.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+        version++;
+        for (Student student : students) {
+            changes.recordChange(version, student.getId());
+        }
     }
 
     /**
@@ -83,6 +127,27 @@ public class StudentBook implements ReadOnlyStudentBook {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        version++;
+        if (target.getId() == editedStudent.getId()) {
+            changes.recordChange(version, target.getId());
+        } else {
+            // the edited student takes the place of a different student, which a change of one ID cannot describe
+            changes.recordReplacement(version);
+        }
+    }
+
+    /**
+     * Replaces the fields of the given student {@code target} with those of {@code editedStudent} in place.
+     * {@code target} must exist in the student book.
+     * The student identity of {@code editedStudent} must not be the same as another existing student in the
+     * student book.
+     */
+    public void replaceStudent(Student target, Student editedStudent) {
+        requireNonNull(editedStudent);
+
+        students.replaceStudent(target, editedStudent);
+        version++;
+        changes.recordChange(version, target.getId());
     }
 
     /**
@@ -91,6 +156,46 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        version++;
+        changes.recordChange(version, key.getId());
+    }
+
+    /**
+     * Adds {@code student} back at {@code index} of the student list, where it was removed from, to undo its removal.
+     */
+    void restoreStudent(int index, Student student) {
+        students.add(index, student);
+        version++;
+        changes.recordChange(version, student.getId());
+    }
+
+    /**
+     * Removes all of {@code students} from this {@code StudentBook} in one change, to undo their addition.
+     */
+    void removeStudents(List<Student> students) {
+        this.students.removeAll(students);
+        version++;
+        for (Student student : students) {
+            changes.recordChange(version, student.getId());
+        }
+    }
+
+    /**
+     * Records that {@code student} in this {@code StudentBook} was modified in place, such as by changing its links.
+     */
+    void markModified(Student student) {
+        version++;
+        changes.recordChange(version, student.getId());
+    }
+
+    /**
+     * Records that all of {@code students} in this {@code StudentBook} were modified in place in one change.
+     */
+    void markModified(Collection<Student> students) {
+        version++;
+        for (Student student : students) {
+            changes.recordChange(version, student.getId());
+        }
     }
 
     //// util methods
@@ -106,6 +211,16 @@ public class StudentBook implements ReadOnlyStudentBook {
         return students.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changes.copy();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
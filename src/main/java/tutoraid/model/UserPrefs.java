@@ -16,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path studentBookFilePath = Paths.get("data" , "tutorAidStudents.json");
     private Path lessonBookFilePath = Paths.get("data", "tutorAidLessons.json");
+    private boolean binaryStorageEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudentBookFilePath(newUserPrefs.getStudentBookFilePath());
         setLessonBookFilePath(newUserPrefs.getLessonBookFilePath());
+        setBinaryStorageEnabled(newUserPrefs.isBinaryStorageEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +69,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.lessonBookFilePath = lessonBookFilePath;
     }
 
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +90,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && studentBookFilePath.equals(o.studentBookFilePath)
-                && lessonBookFilePath.equals(o.lessonBookFilePath);
+                && lessonBookFilePath.equals(o.lessonBookFilePath)
+                && binaryStorageEnabled == o.binaryStorageEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, studentBookFilePath, lessonBookFilePath);
+        return Objects.hash(guiSettings, studentBookFilePath, lessonBookFilePath, binaryStorageEnabled);
     }
 
     @Override
@@ -94,6 +105,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal student data file location : " + studentBookFilePath);
         sb.append("\nLocal lesson data file location : " + lessonBookFilePath);
+        sb.append("\nBinary data files enabled : " + binaryStorageEnabled);
         return sb.toString();
     }
 
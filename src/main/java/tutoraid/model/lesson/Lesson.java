@@ -2,10 +2,9 @@ package tutoraid.model.lesson;
 
 import static tutoraid.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
 import tutoraid.model.lesson.exceptions.LessonExceedCapacityException;
 import tutoraid.model.student.Student;
+import tutoraid.model.util.IdGenerator;
 
 /**
  * Represents a Lesson in the TutorAid.
@@ -14,6 +13,7 @@ import tutoraid.model.student.Student;
 public class Lesson {
 
     // Identity Fields
+    private final long id;
     private LessonName lessonName;
 
     // Data Fields
@@ -26,19 +26,24 @@ public class Lesson {
      * Constructor for a Lesson when the Students are not yet initialised
      */
     public Lesson(LessonName lessonName, Capacity capacity, Price price, Timing timing) {
-        requireAllNonNull(lessonName, capacity, price, timing);
-        this.lessonName = lessonName;
-        this.capacity = capacity;
-        this.price = price;
-        this.students = new Students();
-        this.timing = timing;
+        this(lessonName, capacity, price, new Students(), timing);
     }
 
     /**
-     * Every field must be present and not null.
+     * Constructor for a new Lesson, which is given a freshly generated ID.
      */
     public Lesson(LessonName lessonName, Capacity capacity, Price price, Students students, Timing timing) {
+        this(IdGenerator.nextId(), lessonName, capacity, price, students, timing);
+    }
+
+    /**
+     * Constructor for an existing Lesson with a known ID, such as one read from storage.
+     * Every field must be present and not null.
+     */
+    public Lesson(long id, LessonName lessonName, Capacity capacity, Price price, Students students, Timing timing) {
         requireAllNonNull(lessonName, capacity, price, timing);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.lessonName = lessonName;
         this.capacity = capacity;
         this.price = price;
@@ -46,6 +51,10 @@ public class Lesson {
         this.timing = timing;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public LessonName getLessonName() {
         return lessonName;
     }
@@ -106,7 +115,8 @@ public class Lesson {
     }
 
     /**
-     * Replaces the fields of this lesson with those of a different lesson to edit it
+     * Replaces the fields of this lesson with those of a different lesson to edit it.
+     * The ID of this lesson is kept, so references to it remain valid.
      *
      * @param lesson The lesson whose fields should replace this lesson
      */
@@ -152,7 +162,22 @@ public class Lesson {
     }
 
     /**
-     * Returns true if both lessons have the same identity and data fields.
+     * Returns true if both lessons have the same data fields, regardless of their IDs.
+     */
+    public boolean hasSameDetails(Lesson otherLesson) {
+        if (otherLesson == this) {
+            return true;
+        }
+
+        return otherLesson != null
+                && otherLesson.getLessonName().equals(getLessonName())
+                && otherLesson.getCapacity().equals(getCapacity())
+                && otherLesson.getPrice().equals(getPrice())
+                && otherLesson.getTiming().equals(getTiming());
+    }
+
+    /**
+     * Returns true if both lessons have the same ID and data fields.
      * This defines a stronger notion of equality between two lessons.
      */
     @Override
@@ -166,16 +191,14 @@ public class Lesson {
         }
 
         Lesson otherLesson = (Lesson) other;
-        return otherLesson.getLessonName().equals(getLessonName())
-                && otherLesson.getCapacity().equals(getCapacity())
-                && otherLesson.getPrice().equals(getPrice())
-                && otherLesson.getTiming().equals(getTiming());
+        return otherLesson.getId() == getId()
+                && hasSameDetails(otherLesson);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(lessonName, timing, capacity, price, students);
+        // hashing the ID alone avoids walking the students, whose lessons refer back to this lesson
+        return Long.hashCode(id);
     }
 
     @Override
@@ -204,16 +227,12 @@ public class Lesson {
     }
 
     /**
-     * Returns a copy of the current lesson object by creating a new object with the same fields.
+     * Returns a copy of the current lesson object by creating a new object with the same ID and fields, and no
+     * students. The fields are immutable, so they are shared instead of being validated again.
      *
      * @return Copy of this lesson object
      */
     public Lesson copy() {
-        return new Lesson(
-                new LessonName(getLessonName().toString()),
-                new Capacity(getCapacity().toString()),
-                new Price(getPrice().toString()),
-                new Timing(getTiming().toString())
-        );
+        return new Lesson(id, lessonName, capacity, price, new Students(), timing);
     }
 }
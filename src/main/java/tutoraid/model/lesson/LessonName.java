@@ -49,6 +49,7 @@ public class LessonName {
 
     @Override
     public int hashCode() {
-        return lessonName.hashCode();
+        // must agree with the case-insensitive equals, as lesson names are used as hash keys
+        return lessonName.toLowerCase().hashCode();
     }
 }
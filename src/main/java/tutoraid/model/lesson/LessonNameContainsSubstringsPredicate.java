@@ -16,6 +16,10 @@ public class LessonNameContainsSubstringsPredicate implements Predicate<Lesson>
     }
 
 
+    public List<String> getSubstrings() {
+        return substrings;
+    }
+
     @Override
     public boolean test(Lesson lesson) {
         return substrings.stream()
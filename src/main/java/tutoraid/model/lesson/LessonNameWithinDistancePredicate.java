@@ -0,0 +1,53 @@
+package tutoraid.model.lesson;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutoraid.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Lesson}'s {@code LessonName} has a word within a number of edits of any of the keywords given.
+ */
+public class LessonNameWithinDistancePredicate implements Predicate<Lesson> {
+    private final List<String> keywords;
+    private final int maxDistance;
+
+    /**
+     * Creates a predicate that accepts names with a word within {@code maxDistance} edits of any of {@code keywords}.
+     */
+    public LessonNameWithinDistancePredicate(List<String> keywords, int maxDistance) {
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean test(Lesson lesson) {
+        return keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordWithinDistanceIgnoreCase(
+                        lesson.getLessonName().lessonName, keyword, maxDistance));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LessonNameWithinDistancePredicate)) {
+            return false;
+        }
+
+        LessonNameWithinDistancePredicate otherPredicate = (LessonNameWithinDistancePredicate) other;
+        return keywords.equals(otherPredicate.keywords)
+                && maxDistance == otherPredicate.maxDistance;
+    }
+
+}
@@ -3,37 +3,42 @@ package tutoraid.model.lesson;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
 
+import tutoraid.commons.util.LinkedIdentitySet;
 import tutoraid.model.lesson.exceptions.DuplicateStudentInLessonException;
 import tutoraid.model.lesson.exceptions.StudentNotFoundInLessonException;
 import tutoraid.model.student.Student;
 
 /**
  * Represents a Lesson's list of students in TutorAid.
+ * Students are kept in enrolment order and are matched by reference, so membership checks, additions and removals
+ * take constant time regardless of the size of the lesson.
  * Guarantees: details are present and not null, field values are validated.
  */
 public class Students {
 
-    public final ArrayList<Student> students;
+    public final Set<Student> students;
 
     /**
      * Constructs a {@code Students} object that is empty
      */
     public Students() {
-        this.students = new ArrayList<Student>();
+        this.students = new LinkedIdentitySet<>();
     }
 
     /**
      * Constructs an instance of {@code Students}.
      *
-     * @param students Valid arraylist of Student objects.
+     * @param students Valid collection of Student objects.
      */
-    public Students(ArrayList<Student> students) {
-        this.students = students;
+    public Students(Collection<Student> students) {
+        this.students = new LinkedIdentitySet<>(students);
     }
 
     /**
-     * Checks if this arraylist of students contains a student.
+     * Checks if this list of students contains a student.
      *
      * @param student a Student object to be checked
      */
@@ -43,25 +48,24 @@ public class Students {
     }
 
     /**
-     * Adds a student into this arraylist of students.
+     * Adds a student into this list of students.
      *
      * @param student a Student object to be added
-     * @throws DuplicateStudentInLessonException if this arraylist of students already contains the student
+     * @throws DuplicateStudentInLessonException if this list of students already contains the student
      */
     public Students addStudent(Student student) {
         requireNonNull(student);
-        if (students.contains(student)) {
+        if (!students.add(student)) {
             throw new DuplicateStudentInLessonException();
         }
-        students.add(student);
         return this;
     }
 
     /**
-     * Removes a student from this arraylist of students.
+     * Removes a student from this list of students.
      *
      * @param student a Student object to be removed
-     * @throws StudentNotFoundInLessonException if this arraylist of students does not have the student
+     * @throws StudentNotFoundInLessonException if this list of students does not have the student
      */
     public Students removeStudent(Student student) {
         requireNonNull(student);
@@ -99,11 +103,11 @@ public class Students {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Students // instanceof handles nulls
-                && students.equals(((Students) other).students)); // state check
+                && new ArrayList<>(students).equals(new ArrayList<>(((Students) other).students))); // state check
     }
 
     @Override
     public int hashCode() {
-        return students.hashCode();
+        return new ArrayList<>(students).hashCode();
     }
 }
@@ -3,13 +3,22 @@ package tutoraid.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static tutoraid.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutoraid.commons.util.LinkedIdentitySet;
 import tutoraid.model.lesson.exceptions.DuplicateLessonException;
 import tutoraid.model.lesson.exceptions.LessonNotFoundException;
+import tutoraid.model.util.BkTree;
+import tutoraid.model.util.TrigramIndex;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +27,10 @@ import tutoraid.model.lesson.exceptions.LessonNotFoundException;
  * unique in terms of identity in the UniqueLessonList. However, the removal of a lesson uses Lesson#equals(Object) so
  * as to ensure that the lesson with exactly the same fields will be removed.
  *
+ * Lessons are additionally indexed by {@code LessonName}, by ID and by the trigrams and words in their names, so
+ * identity checks, lookups, and substring and misspelled name searches do not need to scan the list. The indexes are
+ * kept in sync with the backing list by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Lesson#isSameLesson(Lesson)
@@ -27,13 +40,32 @@ public class UniqueLessonList implements Iterable<Lesson> {
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<LessonName, Lesson> lessonsByName = new HashMap<>();
+    private final Map<Long, Lesson> lessonsById = new HashMap<>();
+    private final TrigramIndex<Lesson> nameIndex = new TrigramIndex<>();
+    private final BkTree<Lesson> nameTree = new BkTree<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        return lessonsByName.containsKey(toCheck.getLessonName());
+    }
+
+    /**
+     * Returns the lesson in the list with the given {@code lessonName}, if any.
+     */
+    public Optional<Lesson> get(LessonName lessonName) {
+        requireNonNull(lessonName);
+        return Optional.ofNullable(lessonsByName.get(lessonName));
+    }
+
+    /**
+     * Returns the lesson in the list with the given {@code id}, if any.
+     */
+    public Optional<Lesson> get(long id) {
+        return Optional.ofNullable(lessonsById.get(id));
     }
 
     /**
@@ -41,11 +73,74 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * The lesson must not already exist in the list.
      */
     public void add(Lesson toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a lesson to the list at {@code index}, such as to restore a lesson that was removed from there.
+     * The lesson must not already exist in the list.
+     */
+    public void add(int index, Lesson toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        lessonsByName.put(toAdd.getLessonName(), toAdd);
+        lessonsById.put(toAdd.getId(), toAdd);
+        indexName(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list in one change, so that listeners are notified once rather than once per
+     * lesson. None of the lessons may already exist in the list or appear twice in {@code toAdd}.
+     * Their names are indexed together, so a word shared by several of the names is only indexed once.
+     */
+    public void addAll(List<Lesson> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<LessonName> namesToAdd = new HashSet<>();
+        for (Lesson lesson : toAdd) {
+            if (contains(lesson) || !namesToAdd.add(lesson.getLessonName())) {
+                throw new DuplicateLessonException();
+            }
+        }
+        internalList.addAll(toAdd);
+        for (Lesson lesson : toAdd) {
+            lessonsByName.put(lesson.getLessonName(), lesson);
+            lessonsById.put(lesson.getId(), lesson);
+        }
+        indexNames(toAdd);
+    }
+
+    /**
+     * Returns the lessons in the list that match {@code predicate}.
+     * Only the lessons whose names share every trigram of one of the substrings are tested.
+     */
+    public Set<Lesson> getMatchingLessons(LessonNameContainsSubstringsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Lesson> matches = new LinkedIdentitySet<>();
+        for (String substring : predicate.getSubstrings()) {
+            for (Lesson candidate : nameIndex.getCandidates(substring)) {
+                if (!matches.contains(candidate) && predicate.test(candidate)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the lessons in the list that match {@code predicate}, each mapped to the edit distance between its
+     * name and the closest keyword.
+     */
+    public Map<Lesson, Integer> getLessonsWithinDistance(LessonNameWithinDistancePredicate predicate) {
+        requireNonNull(predicate);
+        Map<Lesson, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : predicate.getKeywords()) {
+            nameTree.search(keyword, predicate.getMaxDistance())
+                    .forEach((lesson, distance) -> distances.merge(lesson, distance, Math::min));
+        }
+        return distances;
     }
 
     /**
@@ -65,7 +160,37 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.set(index, editedLesson);
+        Lesson replaced = internalList.set(index, editedLesson);
+        lessonsByName.remove(target.getLessonName());
+        lessonsByName.put(editedLesson.getLessonName(), editedLesson);
+        lessonsById.remove(target.getId());
+        lessonsById.put(editedLesson.getId(), editedLesson);
+        unindexName(replaced);
+        indexName(editedLesson);
+    }
+
+    /**
+     * Replaces the fields of the lesson {@code target} with those of {@code editedLesson} in place, so that
+     * references to {@code target} held by its students remain valid.
+     * {@code target} must exist in the list.
+     * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the list.
+     */
+    public void replaceLesson(Lesson target, Lesson editedLesson) {
+        requireAllNonNull(target, editedLesson);
+
+        if (lessonsByName.get(target.getLessonName()) != target) {
+            throw new LessonNotFoundException();
+        }
+
+        if (!target.isSameLesson(editedLesson) && contains(editedLesson)) {
+            throw new DuplicateLessonException();
+        }
+
+        lessonsByName.remove(target.getLessonName());
+        unindexName(target);
+        target.replace(editedLesson);
+        lessonsByName.put(target.getLessonName(), target);
+        indexName(target);
     }
 
     /**
@@ -77,11 +202,38 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (!internalList.remove(toRemove)) {
             throw new LessonNotFoundException();
         }
+        Lesson removed = lessonsByName.remove(toRemove.getLessonName());
+        lessonsById.remove(toRemove.getId());
+        unindexName(removed);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * Every lesson must exist in the list.
+     */
+    public void removeAll(List<Lesson> toRemove) {
+        requireAllNonNull(toRemove);
+        for (Lesson lesson : toRemove) {
+            if (lessonsByName.get(lesson.getLessonName()) != lesson) {
+                throw new LessonNotFoundException();
+            }
+        }
+        internalList.removeAll(new LinkedIdentitySet<>(toRemove));
+        for (Lesson lesson : toRemove) {
+            lessonsByName.remove(lesson.getLessonName());
+            lessonsById.remove(lesson.getId());
+            unindexName(lesson);
+        }
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        lessonsByName.clear();
+        lessonsByName.putAll(replacement.lessonsByName);
+        lessonsById.clear();
+        lessonsById.putAll(replacement.lessonsById);
+        rebuildNameIndex();
     }
 
     /**
@@ -95,6 +247,13 @@ public class UniqueLessonList implements Iterable<Lesson> {
         }
 
         internalList.setAll(lessons);
+        lessonsByName.clear();
+        lessonsById.clear();
+        for (Lesson lesson : lessons) {
+            lessonsByName.put(lesson.getLessonName(), lesson);
+            lessonsById.put(lesson.getId(), lesson);
+        }
+        rebuildNameIndex();
     }
 
     /**
@@ -125,13 +284,33 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * Returns true if {@code lessons} contains only unique lessons.
      */
     private boolean areLessonsUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
+        Set<LessonName> seenNames = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            if (!seenNames.add(lesson.getLessonName())) {
+                return false;
             }
         }
         return true;
     }
+
+    private void rebuildNameIndex() {
+        nameIndex.clear();
+        nameTree.clear();
+        indexNames(internalList);
+    }
+
+    private void indexNames(List<Lesson> lessons) {
+        nameIndex.addAll(lessons, lesson -> lesson.getLessonName().lessonName);
+        nameTree.addAll(lessons, lesson -> lesson.getLessonName().lessonName);
+    }
+
+    private void indexName(Lesson lesson) {
+        nameIndex.add(lesson, lesson.getLessonName().lessonName);
+        nameTree.add(lesson, lesson.getLessonName().lessonName);
+    }
+
+    private void unindexName(Lesson lesson) {
+        nameIndex.remove(lesson, lesson.getLessonName().lessonName);
+        nameTree.remove(lesson, lesson.getLessonName().lessonName);
+    }
 }
@@ -3,9 +3,13 @@ package tutoraid.model.student;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import tutoraid.commons.util.CollectionUtil;
+import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
+import tutoraid.model.util.IdGenerator;
 
 /**
  * Represents a Student in the TutorAid.
@@ -14,6 +18,7 @@ import tutoraid.model.lesson.Lesson;
 public class InitialStudent {
 
     // Identity fields
+    private final long id;
     private final StudentName studentName;
     private final Phone studentPhone;
     private final ParentName parentName;
@@ -21,19 +26,36 @@ public class InitialStudent {
 
     // Data fields
     private final ProgressList progressList;
-    private final ArrayList<String> lessonNames;
+    private final List<Long> lessonIds;
+    private final List<String> lessonNames;
 
     /**
-     * Every field must be present and not null.
+     * Constructor for a new student whose lessons are referred to by name.
+     * The student is given a freshly generated ID.
      */
     public InitialStudent(StudentName studentName, Phone studentPhone, ParentName parentName, Phone parentPhone,
                           ProgressList progressList, ArrayList<String> lessonNames) {
-        CollectionUtil.requireAllNonNull(studentName, studentPhone, parentName, parentPhone, progressList);
+        this(IdGenerator.nextId(), studentName, studentPhone, parentName, parentPhone, progressList,
+                new ArrayList<>(), lessonNames);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Lessons are referred to by ID in {@code lessonIds}, or by name in {@code lessonNames} for data saved
+     * before lessons had IDs.
+     */
+    public InitialStudent(long id, StudentName studentName, Phone studentPhone, ParentName parentName,
+                          Phone parentPhone, ProgressList progressList, List<Long> lessonIds,
+                          List<String> lessonNames) {
+        CollectionUtil.requireAllNonNull(studentName, studentPhone, parentName, parentPhone, progressList,
+                lessonIds, lessonNames);
+        this.id = id;
         this.studentName = studentName;
         this.studentPhone = studentPhone;
         this.parentName = parentName;
         this.parentPhone = parentPhone;
         this.progressList = progressList;
+        this.lessonIds = lessonIds;
         this.lessonNames = lessonNames;
     }
 
@@ -42,44 +64,81 @@ public class InitialStudent {
      * Convert an InitialStudent to a Student by creating the dependencies to Lesson objects.
      * At the same time, Student objects are added to the respective Lesson objects.
      *
-     * @param fullLessonList A list of available lessons in TutorAid
+     * @param lessonBook The lesson book containing the available lessons in TutorAid
      * @return The resulting Student object
      */
-    public Student toStudent(List<Lesson> fullLessonList) throws IOException {
+    public Student toStudent(ReadOnlyLessonBook lessonBook) throws IOException {
         Lessons lessons = new Lessons();
-        Student student = new Student(studentName, studentPhone, parentName, parentPhone, progressList, lessons);
+        Student student = new Student(id, studentName, studentPhone, parentName, parentPhone, progressList, lessons);
+        for (long lessonId : lessonIds) {
+            addStudentLessonLink(lessonBook.getLesson(lessonId), lessonBook, lessons, student);
+        }
         for (String lessonName : lessonNames) {
-            addStudentLessonLink(lessonName, fullLessonList, lessons, student);
+            if (LessonName.isValidLessonName(lessonName)) {
+                addStudentLessonLink(lessonBook.getLesson(new LessonName(lessonName)), lessonBook, lessons, student);
+            }
         }
         return student;
     }
 
     /**
-     * Finds lessons by a lesson name and creates the dependency between the Lesson object and the Student object.
+     * Creates the dependency between a Lesson object that was looked up in the lesson book and the Student object.
+     * References that did not match any lesson in the lesson book are ignored.
      *
-     * @param lessonName The name of the lesson
-     * @param fullLessonList The list of all lessons
+     * @param optionalLesson The lesson that was looked up, if it was found
+     * @param lessonBook The lesson book the lesson was looked up in
      * @param lessons The lessons object of the Student
      * @param student The Student object involved in the dependency
      * @throws IOException if there are too many students in a lesson (over-capacity)
      */
-    public void addStudentLessonLink(String lessonName, List<Lesson> fullLessonList, Lessons lessons, Student student)
-            throws IOException {
-        for (Lesson lesson : fullLessonList) {
-            if (lesson.toNameString().equals(lessonName) && lesson.isFull()) {
-                fullLessonList.forEach(Lesson::removeAllStudents);
-                throw new IOException();
-            } else if (lesson.toNameString().equals(lessonName) && !student.hasLesson(lesson)) {
-                lessons.addLesson(lesson);
-                lesson.addStudent(student);
-            }
+    public void addStudentLessonLink(Optional<Lesson> optionalLesson, ReadOnlyLessonBook lessonBook, Lessons lessons,
+                                     Student student) throws IOException {
+        if (optionalLesson.isEmpty()) {
+            return;
+        }
+
+        Lesson lesson = optionalLesson.get();
+        if (lesson.isFull()) {
+            lessonBook.getLessonList().forEach(Lesson::removeAllStudents);
+            throw new IOException();
+        } else if (!student.hasLesson(lesson)) {
+            lessons.addLesson(lesson);
+            lesson.addStudent(student);
         }
     }
 
+    public long getId() {
+        return id;
+    }
+
     public StudentName getStudentName() {
         return studentName;
     }
 
+    public Phone getStudentPhone() {
+        return studentPhone;
+    }
+
+    public ParentName getParentName() {
+        return parentName;
+    }
+
+    public Phone getParentPhone() {
+        return parentPhone;
+    }
+
+    public ProgressList getProgressList() {
+        return progressList;
+    }
+
+    public List<Long> getLessonIds() {
+        return lessonIds;
+    }
+
+    public List<String> getLessonNames() {
+        return lessonNames;
+    }
+
     /**
      * Returns true if both initial students have the same identity and data fields.
      * This defines a stronger notion of equality between two initial students.
@@ -95,11 +154,13 @@ public class InitialStudent {
         }
 
         InitialStudent otherStudent = (InitialStudent) other;
-        return otherStudent.studentName.equals(studentName)
+        return otherStudent.id == id
+                && otherStudent.studentName.equals(studentName)
                 && otherStudent.studentPhone.equals(studentPhone)
                 && otherStudent.parentName.equals(parentName)
                 && otherStudent.parentPhone.equals(parentPhone)
                 && otherStudent.progressList.equals(progressList)
+                && otherStudent.lessonIds.equals(lessonIds)
                 && otherStudent.lessonNames.equals(lessonNames);
     }
 }
@@ -3,13 +3,18 @@ package tutoraid.model.student;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
 
+import tutoraid.commons.util.LinkedIdentitySet;
 import tutoraid.model.lesson.Lesson;
 import tutoraid.model.student.exceptions.DuplicateStudentLessonsException;
 import tutoraid.model.student.exceptions.LessonNotFoundInStudentException;
 
 /**
  * Represents a student's list of lessons in TutorAid.
+ * Lessons are kept in the order they were added and are matched by reference, so membership checks, additions and
+ * removals take constant time regardless of how many lessons the student has.
  */
 public class Lessons {
 
@@ -17,13 +22,21 @@ public class Lessons {
             "Lessons constructor either takes in no argument "
                     + "or takes in a String ArrayList";
 
-    public final ArrayList<Lesson> lessons;
+    public final Set<Lesson> lessons;
 
     /**
      * Constructs a {@code Lessons}.
      */
     public Lessons() {
-        lessons = new ArrayList<>();
+        lessons = new LinkedIdentitySet<>();
+    }
+
+    /**
+     * Constructs a {@code Lessons} containing {@code lessons}, in iteration order.
+     */
+    public Lessons(Collection<Lesson> lessons) {
+        requireNonNull(lessons);
+        this.lessons = new LinkedIdentitySet<>(lessons);
     }
 
     /**
@@ -34,10 +47,9 @@ public class Lessons {
      */
     public void addLesson(Lesson lesson) {
         requireNonNull(lesson);
-        if (lessons.contains(lesson)) {
+        if (!lessons.add(lesson)) {
             throw new DuplicateStudentLessonsException();
         }
-        lessons.add(lesson);
     }
 
     /**
@@ -48,10 +60,9 @@ public class Lessons {
      */
     public void deleteLesson(Lesson lesson) {
         requireNonNull(lesson);
-        if (!lessons.contains(lesson)) {
+        if (!lessons.remove(lesson)) {
             throw new LessonNotFoundInStudentException();
         }
-        lessons.remove(lesson);
     }
 
     /**
@@ -94,11 +105,11 @@ public class Lessons {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Lessons // instanceof handles nulls
-                && this.lessons.equals(((Lessons) other).lessons)); // state check
+                && new ArrayList<>(lessons).equals(new ArrayList<>(((Lessons) other).lessons))); // state check
     }
 
     @Override
     public int hashCode() {
-        return lessons.hashCode();
+        return new ArrayList<>(lessons).hashCode();
     }
 }
@@ -54,7 +54,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // must agree with the case-insensitive equals, as names are used as hash keys
+        return fullName.toLowerCase().hashCode();
     }
 
 }
@@ -16,6 +16,10 @@ public class NameContainsSubstringsPredicate implements Predicate<Student> {
     }
 
 
+    public List<String> getSubstrings() {
+        return substrings;
+    }
+
     @Override
     public boolean test(Student student) {
         return substrings.stream()
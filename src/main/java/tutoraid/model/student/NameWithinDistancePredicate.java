@@ -0,0 +1,53 @@
+package tutoraid.model.student;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutoraid.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Student}'s {@code Name} has a word within a number of edits of any of the keywords given.
+ */
+public class NameWithinDistancePredicate implements Predicate<Student> {
+    private final List<String> keywords;
+    private final int maxDistance;
+
+    /**
+     * Creates a predicate that accepts names with a word within {@code maxDistance} edits of any of {@code keywords}.
+     */
+    public NameWithinDistancePredicate(List<String> keywords, int maxDistance) {
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordWithinDistanceIgnoreCase(
+                        student.getStudentName().fullName, keyword, maxDistance));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NameWithinDistancePredicate)) {
+            return false;
+        }
+
+        NameWithinDistancePredicate otherPredicate = (NameWithinDistancePredicate) other;
+        return keywords.equals(otherPredicate.keywords)
+                && maxDistance == otherPredicate.maxDistance;
+    }
+
+}
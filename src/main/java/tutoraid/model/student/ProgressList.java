@@ -44,6 +44,16 @@ public class ProgressList {
         }
     }
 
+    /**
+     * Returns a copy of this list, which shares the immutable progress entries of this list without validating them
+     * again.
+     */
+    public ProgressList copy() {
+        ProgressList copy = new ProgressList();
+        copy.progressList.addAll(progressList);
+        return copy;
+    }
+
     /**
      * Checks if a given string ArrayList is a valid list of progress descriptions.
      *
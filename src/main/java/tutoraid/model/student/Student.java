@@ -1,9 +1,8 @@
 package tutoraid.model.student;
 
-import java.util.Objects;
-
 import tutoraid.commons.util.CollectionUtil;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.util.IdGenerator;
 
 /**
  * Represents a Student in the TutorAid.
@@ -12,6 +11,7 @@ import tutoraid.model.lesson.Lesson;
 public class Student {
 
     // Identity fields
+    private final long id;
     private StudentName studentName;
     private Phone studentPhone;
     private ParentName parentName;
@@ -26,21 +26,26 @@ public class Student {
      */
     public Student(StudentName studentName, Phone studentPhone, ParentName parentName, Phone parentPhone,
                    ProgressList progressList) {
-        CollectionUtil.requireAllNonNull(studentName, studentPhone, parentName, parentPhone, progressList);
-        this.studentName = studentName;
-        this.studentPhone = studentPhone;
-        this.parentName = parentName;
-        this.parentPhone = parentPhone;
-        this.progressList = progressList;
-        this.lessons = new Lessons();
+        this(studentName, studentPhone, parentName, parentPhone, progressList, new Lessons());
     }
 
     /**
-     * Every field must be present and not null.
+     * Constructor for a new Student, which is given a freshly generated ID.
      */
     public Student(StudentName studentName, Phone studentPhone, ParentName parentName, Phone parentPhone,
                    ProgressList progressList, Lessons lessons) {
+        this(IdGenerator.nextId(), studentName, studentPhone, parentName, parentPhone, progressList, lessons);
+    }
+
+    /**
+     * Constructor for an existing Student with a known ID, such as one read from storage.
+     * Every field must be present and not null.
+     */
+    public Student(long id, StudentName studentName, Phone studentPhone, ParentName parentName, Phone parentPhone,
+                   ProgressList progressList, Lessons lessons) {
         CollectionUtil.requireAllNonNull(studentName, studentPhone, parentName, parentPhone, progressList);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.studentName = studentName;
         this.studentPhone = studentPhone;
         this.parentName = parentName;
@@ -49,6 +54,10 @@ public class Student {
         this.lessons = lessons;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public StudentName getStudentName() {
         return studentName;
     }
@@ -102,7 +111,8 @@ public class Student {
     }
 
     /**
-     * Replaces the fields of this student with those of a different student to edit it
+     * Replaces the fields of this student with those of a different student to edit it.
+     * The ID of this student is kept, so references to it remain valid.
      *
      * @param student The student whose fields should replace this student
      */
@@ -128,7 +138,24 @@ public class Student {
     }
 
     /**
-     * Returns true if both students have the same identity and data fields.
+     * Returns true if both students have the same data fields, regardless of their IDs.
+     */
+    public boolean hasSameDetails(Student otherStudent) {
+        if (otherStudent == this) {
+            return true;
+        }
+
+        return otherStudent != null
+                && otherStudent.getStudentName().equals(getStudentName())
+                && otherStudent.getStudentPhone().equals(getStudentPhone())
+                && otherStudent.getParentName().equals(getParentName())
+                && otherStudent.getParentPhone().equals(getParentPhone())
+                && otherStudent.getProgressList().equals(getProgressList())
+                && otherStudent.getLessons().equals(getLessons());
+    }
+
+    /**
+     * Returns true if both students have the same ID and data fields.
      * This defines a stronger notion of equality between two students.
      */
     @Override
@@ -142,18 +169,14 @@ public class Student {
         }
 
         Student otherStudent = (Student) other;
-        return otherStudent.getStudentName().equals(getStudentName())
-                && otherStudent.getStudentPhone().equals(getStudentPhone())
-                && otherStudent.getParentName().equals(getParentName())
-                && otherStudent.getParentPhone().equals(getParentPhone())
-                && otherStudent.getProgressList().equals(getProgressList())
-                && otherStudent.getLessons().equals(getLessons());
+        return otherStudent.getId() == getId()
+                && hasSameDetails(otherStudent);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(studentName, studentPhone, parentName, parentPhone, progressList, lessons);
+        // hashing the ID alone avoids walking the lessons, whose students refer back to this student
+        return Long.hashCode(id);
     }
 
     /**
@@ -184,18 +207,14 @@ public class Student {
     }
 
     /**
-     * Returns a copy of the current student object by creating a new object with the same fields.
+     * Returns a copy of the current student object by creating a new object with the same ID and fields.
+     * The copy has its own progress and lesson lists, so later changes to this student do not affect it. The other
+     * fields are immutable, so they are shared instead of being validated again.
      *
      * @return Copy of this student object
      */
     public Student copy() {
-        return new Student(
-                new StudentName(getStudentName().toString()),
-                new Phone(getStudentPhone().toString()),
-                new ParentName(getParentName().toString()),
-                new Phone(getParentPhone().toString()),
-                this.progressList,
-                this.lessons
-        );
+        return new Student(id, studentName, studentPhone, parentName, parentPhone, progressList.copy(),
+                new Lessons(lessons.lessons));
     }
 }
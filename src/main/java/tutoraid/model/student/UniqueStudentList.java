@@ -2,14 +2,23 @@ package tutoraid.model.student;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tutoraid.commons.util.CollectionUtil;
+import tutoraid.commons.util.LinkedIdentitySet;
 import tutoraid.model.student.exceptions.DuplicateStudentException;
 import tutoraid.model.student.exceptions.StudentNotFoundException;
+import tutoraid.model.util.BkTree;
+import tutoraid.model.util.TrigramIndex;
 
 /**
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +27,10 @@ import tutoraid.model.student.exceptions.StudentNotFoundException;
  * updated is unique in terms of identity in the UniqueStudentList. However, the removal of a student uses
  * Student#equals(Object) to ensure that the student with exactly the same fields will be removed.
  * <p>
+ * Students are additionally indexed by {@code StudentName} and by ID so that lookups do not need to scan the list, and
+ * by the trigrams and words in their names so that substring and misspelled name searches do not either.
+ * The indexes are kept in sync with the backing list by every mutating operation.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
@@ -27,13 +40,24 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentName, Student> studentsByName = new HashMap<>();
+    private final Map<Long, Student> studentsById = new HashMap<>();
+    private final TrigramIndex<Student> nameIndex = new TrigramIndex<>();
+    private final BkTree<Student> nameTree = new BkTree<>();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByName.containsKey(toCheck.getStudentName());
+    }
+
+    /**
+     * Returns the student in the list with the given {@code id}, if any.
+     */
+    public Optional<Student> get(long id) {
+        return Optional.ofNullable(studentsById.get(id));
     }
 
     /**
@@ -41,11 +65,74 @@ public class UniqueStudentList implements Iterable<Student> {
      * The student must not already exist in the list.
      */
     public void add(Student toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a student to the list at {@code index}, such as to restore a student that was removed from there.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        studentsByName.put(toAdd.getStudentName(), toAdd);
+        studentsById.put(toAdd.getId(), toAdd);
+        indexName(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list in one change, so that listeners are notified once rather than once per
+     * student. None of the students may already exist in the list or appear twice in {@code toAdd}.
+     * Their names are indexed together, so a word shared by several of the names is only indexed once.
+     */
+    public void addAll(List<Student> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        Set<StudentName> namesToAdd = new HashSet<>();
+        for (Student student : toAdd) {
+            if (contains(student) || !namesToAdd.add(student.getStudentName())) {
+                throw new DuplicateStudentException();
+            }
+        }
+        internalList.addAll(toAdd);
+        for (Student student : toAdd) {
+            studentsByName.put(student.getStudentName(), student);
+            studentsById.put(student.getId(), student);
+        }
+        indexNames(toAdd);
+    }
+
+    /**
+     * Returns the students in the list that match {@code predicate}.
+     * Only the students whose names share every trigram of one of the substrings are tested.
+     */
+    public Set<Student> getMatchingStudents(NameContainsSubstringsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Student> matches = new LinkedIdentitySet<>();
+        for (String substring : predicate.getSubstrings()) {
+            for (Student candidate : nameIndex.getCandidates(substring)) {
+                if (!matches.contains(candidate) && predicate.test(candidate)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students in the list that match {@code predicate}, each mapped to the edit distance between its
+     * name and the closest keyword.
+     */
+    public Map<Student, Integer> getStudentsWithinDistance(NameWithinDistancePredicate predicate) {
+        requireNonNull(predicate);
+        Map<Student, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : predicate.getKeywords()) {
+            nameTree.search(keyword, predicate.getMaxDistance())
+                    .forEach((student, distance) -> distances.merge(student, distance, Math::min));
+        }
+        return distances;
     }
 
     /**
@@ -65,7 +152,37 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
+        Student replaced = internalList.set(index, editedStudent);
+        studentsByName.remove(target.getStudentName());
+        studentsByName.put(editedStudent.getStudentName(), editedStudent);
+        studentsById.remove(replaced.getId());
+        studentsById.put(editedStudent.getId(), editedStudent);
+        unindexName(replaced);
+        indexName(editedStudent);
+    }
+
+    /**
+     * Replaces the fields of the student {@code target} with those of {@code editedStudent} in place, so that
+     * references to {@code target} held by its lessons remain valid.
+     * {@code target} must exist in the list.
+     * The student identity of {@code editedStudent} must not be the same as another existing student in the list.
+     */
+    public void replaceStudent(Student target, Student editedStudent) {
+        CollectionUtil.requireAllNonNull(target, editedStudent);
+
+        if (studentsByName.get(target.getStudentName()) != target) {
+            throw new StudentNotFoundException();
+        }
+
+        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+            throw new DuplicateStudentException();
+        }
+
+        studentsByName.remove(target.getStudentName());
+        unindexName(target);
+        target.replace(editedStudent);
+        studentsByName.put(target.getStudentName(), target);
+        indexName(target);
     }
 
     /**
@@ -77,11 +194,38 @@ public class UniqueStudentList implements Iterable<Student> {
         if (!internalList.remove(toRemove)) {
             throw new StudentNotFoundException();
         }
+        Student removed = studentsByName.remove(toRemove.getStudentName());
+        studentsById.remove(removed.getId());
+        unindexName(removed);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * Every student must exist in the list.
+     */
+    public void removeAll(List<Student> toRemove) {
+        CollectionUtil.requireAllNonNull(toRemove);
+        for (Student student : toRemove) {
+            if (studentsByName.get(student.getStudentName()) != student) {
+                throw new StudentNotFoundException();
+            }
+        }
+        internalList.removeAll(new LinkedIdentitySet<>(toRemove));
+        for (Student student : toRemove) {
+            studentsByName.remove(student.getStudentName());
+            studentsById.remove(student.getId());
+            unindexName(student);
+        }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        studentsByName.clear();
+        studentsByName.putAll(replacement.studentsByName);
+        studentsById.clear();
+        studentsById.putAll(replacement.studentsById);
+        rebuildNameIndex();
     }
 
     /**
@@ -95,6 +239,13 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.setAll(students);
+        studentsByName.clear();
+        studentsById.clear();
+        for (Student student : students) {
+            studentsByName.put(student.getStudentName(), student);
+            studentsById.put(student.getId(), student);
+        }
+        rebuildNameIndex();
     }
 
     /**
@@ -125,13 +276,33 @@ public class UniqueStudentList implements Iterable<Student> {
      * Returns true if {@code students} contains only unique students.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Set<StudentName> seenNames = new HashSet<>();
+        for (Student student : students) {
+            if (!seenNames.add(student.getStudentName())) {
+                return false;
             }
         }
         return true;
     }
+
+    private void rebuildNameIndex() {
+        nameIndex.clear();
+        nameTree.clear();
+        indexNames(internalList);
+    }
+
+    private void indexNames(List<Student> students) {
+        nameIndex.addAll(students, student -> student.getStudentName().fullName);
+        nameTree.addAll(students, student -> student.getStudentName().fullName);
+    }
+
+    private void indexName(Student student) {
+        nameIndex.add(student, student.getStudentName().fullName);
+        nameTree.add(student, student.getStudentName().fullName);
+    }
+
+    private void unindexName(Student student) {
+        nameIndex.remove(student, student.getStudentName().fullName);
+        nameTree.remove(student, student.getStudentName().fullName);
+    }
 }
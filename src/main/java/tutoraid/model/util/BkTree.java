@@ -0,0 +1,199 @@
+package tutoraid.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import tutoraid.commons.util.LinkedIdentitySet;
+import tutoraid.commons.util.StringUtil;
+
+/**
+ * A BK-tree over the words in item names, so that the items with a word close to a misspelled keyword can be found
+ * without measuring the edit distance to every word.
+ * Names are indexed in lower case. Items are compared by reference, as the indexed items are mutable, and must be
+ * removed with the name they were added with. Words left without items stay in the tree to guide searches until
+ * they make up half of it, when the tree is rebuilt.
+ */
+public class BkTree<T> {
+
+    private Node<T> root;
+    private int wordCount;
+    private int emptyWordCount;
+
+    /**
+     * Adds {@code item} to the tree under each word of {@code name}.
+     */
+    public void add(T item, String name) {
+        requireNonNull(item);
+        for (String word : getWords(name)) {
+            addWord(word, List.of(item));
+        }
+    }
+
+    /**
+     * Adds each of {@code items} to the tree under each word of the name that {@code getName} returns for it.
+     * The tree is only walked once for each distinct word, however many of the names share the word.
+     */
+    public void addAll(Collection<T> items, Function<T, String> getName) {
+        Map<String, List<T>> itemsByWord = new LinkedHashMap<>();
+        for (T item : items) {
+            requireNonNull(item);
+            for (String word : getWords(getName.apply(item))) {
+                itemsByWord.computeIfAbsent(word, unused -> new ArrayList<>()).add(item);
+            }
+        }
+        itemsByWord.forEach(this::addWord);
+    }
+
+    /**
+     * Removes {@code item}, which was added under {@code name}, from the tree.
+     */
+    public void remove(T item, String name) {
+        requireNonNull(item);
+        for (String word : getWords(name)) {
+            Node<T> node = find(word);
+            if (node != null && node.items.remove(item) && node.items.isEmpty()) {
+                emptyWordCount++;
+            }
+        }
+        if (emptyWordCount * 2 > wordCount) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every item from the tree.
+     */
+    public void clear() {
+        root = null;
+        wordCount = 0;
+        emptyWordCount = 0;
+    }
+
+    /**
+     * Returns the items with a word within {@code maxDistance} edits of {@code keyword}, ignoring case, each mapped to
+     * the edit distance of its closest word.
+     */
+    public Map<T, Integer> search(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        String word = keyword.trim().toLowerCase();
+        Map<T, Integer> distances = new IdentityHashMap<>();
+        if (root == null) {
+            return distances;
+        }
+
+        Deque<Node<T>> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node<T> node = nodesToVisit.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance) {
+                for (T item : node.items) {
+                    distances.merge(item, distance, Math::min);
+                }
+            }
+            // by the triangle inequality, only these children can hold words within maxDistance
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node<T> child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private void addWord(String word, Collection<T> items) {
+        if (root == null) {
+            root = new Node<>(word);
+            root.items.addAll(items);
+            wordCount++;
+            return;
+        }
+        Node<T> node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (node.items.isEmpty()) {
+                    emptyWordCount--;
+                }
+                node.items.addAll(items);
+                return;
+            }
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(word);
+                child.items.addAll(items);
+                node.children.put(distance, child);
+                wordCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private Node<T> find(String word) {
+        Node<T> node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    private void rebuild() {
+        List<Node<T>> nodes = new ArrayList<>();
+        Deque<Node<T>> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+        while (!nodesToVisit.isEmpty()) {
+            Node<T> node = nodesToVisit.pop();
+            nodes.add(node);
+            node.children.values().forEach(nodesToVisit::push);
+        }
+
+        clear();
+        for (Node<T> node : nodes) {
+            if (!node.items.isEmpty()) {
+                addWord(node.word, node.items);
+            }
+        }
+    }
+
+    private static Set<String> getWords(String name) {
+        requireNonNull(name);
+        Set<String> words = new HashSet<>();
+        for (String word : name.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static class Node<T> {
+        private final String word;
+        private final Set<T> items = new LinkedIdentitySet<>();
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package tutoraid.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the unique IDs given to students and lessons when they are created.
+ * IDs that are read back from storage are reserved, so that newly generated IDs never clash with them.
+ */
+public class IdGenerator {
+
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Returns an ID that has not been generated or reserved before.
+     */
+    public static long nextId() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Ensures that {@code id} will not be returned by any later call to {@link #nextId()}.
+     */
+    public static void reserve(long id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+}
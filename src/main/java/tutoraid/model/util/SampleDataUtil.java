@@ -56,7 +56,7 @@ public class SampleDataUtil {
         StudentBook sampleSb = new StudentBook();
         try {
             for (InitialStudent sampleStudent : getSampleStudents(lessonBook)) {
-                sampleSb.addStudent(sampleStudent.toStudent(lessonBook.getLessonList()));
+                sampleSb.addStudent(sampleStudent.toStudent(lessonBook));
             }
             return sampleSb;
         } catch (IOException e) {
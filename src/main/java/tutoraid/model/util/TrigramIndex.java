@@ -0,0 +1,128 @@
+package tutoraid.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import tutoraid.commons.util.LinkedIdentitySet;
+
+/**
+ * An inverted index from the trigrams in the words of item names to the items, so that the items whose names contain
+ * a substring can be found without testing every item.
+ * Names are indexed in lower case. Items are compared by reference, as the indexed items are mutable, and must be
+ * removed with the name they were added with.
+ */
+public class TrigramIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<T>> itemsByTrigram = new HashMap<>();
+    private final Set<T> allItems = new LinkedIdentitySet<>();
+
+    /**
+     * Adds {@code item} to the index under {@code name}.
+     */
+    public void add(T item, String name) {
+        requireNonNull(item);
+        for (String trigram : getTrigrams(name)) {
+            itemsByTrigram.computeIfAbsent(trigram, unused -> new LinkedIdentitySet<>()).add(item);
+        }
+        allItems.add(item);
+    }
+
+    /**
+     * Adds each of {@code items} to the index under the name that {@code getName} returns for it.
+     * The trigrams of each distinct word are only found once, however many of the names share the word.
+     */
+    public void addAll(Collection<T> items, Function<T, String> getName) {
+        Map<String, Set<String>> trigramsByWord = new HashMap<>();
+        for (T item : items) {
+            requireNonNull(item);
+            for (String word : getName.apply(item).toLowerCase().split("\\s+")) {
+                for (String trigram : trigramsByWord.computeIfAbsent(word, TrigramIndex::getWordTrigrams)) {
+                    itemsByTrigram.computeIfAbsent(trigram, unused -> new LinkedIdentitySet<>()).add(item);
+                }
+            }
+            allItems.add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item}, which was added under {@code name}, from the index.
+     */
+    public void remove(T item, String name) {
+        requireNonNull(item);
+        for (String trigram : getTrigrams(name)) {
+            Set<T> items = itemsByTrigram.get(trigram);
+            if (items != null && items.remove(item) && items.isEmpty()) {
+                itemsByTrigram.remove(trigram);
+            }
+        }
+        allItems.remove(item);
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        itemsByTrigram.clear();
+        allItems.clear();
+    }
+
+    /**
+     * Returns the items that may have a word in their name that contains {@code substring}, ignoring case.
+     * Every such item is returned, but so may other items, so callers must still check each one. Substrings that are
+     * too short to have a trigram, or that are not a single word, match every item.
+     */
+    public Collection<T> getCandidates(String substring) {
+        requireNonNull(substring);
+        String word = substring.trim().toLowerCase();
+        if (word.length() < GRAM_LENGTH || word.chars().anyMatch(Character::isWhitespace)) {
+            return Collections.unmodifiableSet(allItems);
+        }
+
+        List<Set<T>> postings = new ArrayList<>();
+        for (String trigram : getWordTrigrams(word)) {
+            Set<T> items = itemsByTrigram.get(trigram);
+            if (items == null) {
+                return Collections.emptyList();
+            }
+            postings.add(items);
+        }
+        // walk the rarest trigram and check the others against it
+        postings.sort(Comparator.comparingInt(Set::size));
+        List<T> candidates = new ArrayList<>();
+        for (T item : postings.get(0)) {
+            if (postings.stream().allMatch(items -> items.contains(item))) {
+                candidates.add(item);
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> getTrigrams(String name) {
+        requireNonNull(name);
+        Set<String> trigrams = new HashSet<>();
+        for (String word : name.toLowerCase().split("\\s+")) {
+            trigrams.addAll(getWordTrigrams(word));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> getWordTrigrams(String word) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            trigrams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,150 @@
+package tutoraid.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import tutoraid.commons.exceptions.DataConversionException;
+
+/**
+ * Reads a book written by {@link BinaryBookWriter}.
+ * The whole file is read into memory with a single read, and then decoded from there.
+ */
+class BinaryBookReader {
+
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+    private final ByteBuffer buffer;
+    private final String[] strings;
+    private final int recordCount;
+
+    private BinaryBookReader(ByteBuffer buffer, String[] strings, int recordCount) {
+        this.buffer = buffer;
+        this.strings = strings;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Reads the header and string table of the book in {@code filePath}.
+     *
+     * @throws DataConversionException if the file is not a book of the given type in the binary snapshot format.
+     */
+    static BinaryBookReader open(Path filePath, int bookType) throws DataConversionException {
+        try {
+            byte[] bytes = Files.readAllBytes(filePath);
+            if (bytes.length < CHECKSUM_LENGTH) {
+                throw new IOException("File is too short");
+            }
+            int contentLength = bytes.length - CHECKSUM_LENGTH;
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, contentLength);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getLong(contentLength) != checksum.getValue()) {
+                throw new IOException("Checksum does not match");
+            }
+            buffer.limit(contentLength);
+
+            if (buffer.getInt() != BinaryBookWriter.MAGIC_NUMBER) {
+                throw new IOException("Not a binary book file");
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != BinaryBookWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported format version " + formatVersion);
+            }
+            if (buffer.getInt() != bookType) {
+                throw new IOException("File holds a different type of book");
+            }
+
+            String[] strings = new String[readCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readCount(buffer);
+                strings[i] = new String(bytes, buffer.position(), length, UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+            return new BinaryBookReader(buffer, strings, readCount(buffer));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException("Invalid length " + count);
+        }
+        return count;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    int getStringCount() {
+        return strings.length;
+    }
+
+    String getString(int index) {
+        return strings[index];
+    }
+
+    int readInt() throws DataConversionException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            throw new DataConversionException(new IOException("Unexpected end of file", e));
+        }
+    }
+
+    long readLong() throws DataConversionException {
+        try {
+            return buffer.getLong();
+        } catch (BufferUnderflowException e) {
+            throw new DataConversionException(new IOException("Unexpected end of file", e));
+        }
+    }
+
+    /**
+     * Reads a reference to a string in the string table and returns its index.
+     */
+    int readStringIndex() throws DataConversionException {
+        int index = readInt();
+        if (index < 0 || index >= strings.length) {
+            throw new DataConversionException(new IOException("Invalid string index " + index));
+        }
+        return index;
+    }
+
+    String readString() throws DataConversionException {
+        return strings[readStringIndex()];
+    }
+
+    /**
+     * Reads a reference to a string in the string table and returns the value {@code factory} makes from it.
+     * Values are cached in {@code cache}, which must have room for every string in the table, so that each distinct
+     * string is only converted and validated once.
+     */
+    <T> T readValue(T[] cache, Function<String, T> factory) throws DataConversionException {
+        int index = readStringIndex();
+        if (cache[index] == null) {
+            cache[index] = factory.apply(strings[index]);
+        }
+        return cache[index];
+    }
+
+    /**
+     * Reads the number of items in a list that follows.
+     */
+    int readLength() throws DataConversionException {
+        int length = readInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new DataConversionException(new IOException("Invalid length " + length));
+        }
+        return length;
+    }
+}
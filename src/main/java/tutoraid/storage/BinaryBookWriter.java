@@ -0,0 +1,115 @@
+package tutoraid.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import tutoraid.commons.util.FileUtil;
+
+/**
+ * Writes a book in the binary snapshot format read by {@link BinaryBookReader}.
+ * <p>
+ * A file holds a header, a table of the distinct strings in the book as length-prefixed UTF-8, the number of
+ * records followed by the records themselves, and a CRC32 checksum of everything before it. Records refer to strings
+ * by their index in the table, so a string that appears in many records, such as a lesson timing, is stored once.
+ */
+class BinaryBookWriter {
+
+    public static final int MAGIC_NUMBER = 0x54414944; // "TAID"
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    private final int bookType;
+    private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream records = new DataOutputStream(recordBytes);
+    private int recordCount = 0;
+
+    /**
+     * Returns the path of the binary file kept next to the json file at {@code jsonFilePath}.
+     */
+    static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Creates a {@code BinaryBookWriter} for a book of the given type, which is checked when the book is read back.
+     */
+    BinaryBookWriter(int bookType) {
+        this.bookType = bookType;
+    }
+
+    /**
+     * Marks the start of a new record. Every record must write the same fields in the same order.
+     */
+    void startRecord() {
+        recordCount++;
+    }
+
+    void writeInt(int value) throws IOException {
+        records.writeInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        records.writeLong(value);
+    }
+
+    /**
+     * Writes {@code value} as its index in the string table, adding it to the table if it is new.
+     */
+    void writeString(String value) throws IOException {
+        Integer index = stringIndices.get(value);
+        if (index == null) {
+            index = stringIndices.size();
+            stringIndices.put(value, index);
+        }
+        records.writeInt(index);
+    }
+
+    /**
+     * Writes the book to {@code filePath}, replacing the file only once the whole book has been written.
+     *
+     * @return the number of bytes written.
+     */
+    long writeTo(Path filePath) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(recordBytes.size() * 2 + 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(bookType);
+        out.writeInt(stringIndices.size());
+        for (String value : stringIndices.keySet()) {
+            byte[] encoded = value.getBytes(UTF_8);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+        }
+        out.writeInt(recordCount);
+        recordBytes.writeTo(out);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray(), 0, bytes.size());
+        out.writeLong(checksum.getValue());
+        out.flush();
+
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(tempFile);
+        Files.write(tempFile, bytes.toByteArray());
+        try {
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return bytes.size();
+    }
+}
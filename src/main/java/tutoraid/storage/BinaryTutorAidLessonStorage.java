@@ -0,0 +1,157 @@
+package tutoraid.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.model.LessonBook;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.lesson.Capacity;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
+import tutoraid.model.lesson.Price;
+import tutoraid.model.lesson.Students;
+import tutoraid.model.lesson.Timing;
+
+/**
+ * A class to access LessonBook data stored in the binary snapshot format on the hard disk.
+ * The binary file is kept next to the json file of {@code jsonStorage}. If the binary file does not exist yet, the
+ * lesson book is read from the json file instead and converted to the binary format.
+ */
+public class BinaryTutorAidLessonStorage implements TutorAidLessonStorage {
+
+    static final int BOOK_TYPE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTutorAidLessonStorage.class);
+
+    private Path filePath;
+    private TutorAidLessonStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinaryTutorAidLessonStorage} whose binary file is kept next to the json file of
+     * {@code jsonStorage}.
+     */
+    public BinaryTutorAidLessonStorage(TutorAidLessonStorage jsonStorage) {
+        this.filePath = BinaryBookWriter.getBinaryFilePath(jsonStorage.getLessonBookFilePath());
+        this.jsonStorage = jsonStorage;
+    }
+
+    public Path getLessonBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException {
+        return readLessonBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return filePath.equals(this.filePath) ? convertJsonLessonBook() : Optional.empty();
+        }
+
+        BinaryBookReader reader = BinaryBookReader.open(filePath, BOOK_TYPE);
+        // values that are shared by many lessons are only validated once
+        Capacity[] capacities = new Capacity[reader.getStringCount()];
+        Price[] prices = new Price[reader.getStringCount()];
+        Timing[] timings = new Timing[reader.getStringCount()];
+        LessonBook lessonBook = new LessonBook();
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                long id = reader.readLong();
+                LessonName lessonName = new LessonName(reader.readString());
+                Capacity capacity = reader.readValue(capacities, Capacity::new);
+                Price price = reader.readValue(prices, Price::new);
+                Timing timing = reader.readValue(timings, Timing::new);
+                JsonSerializableLessonBook.makeLesson(
+                        new Lesson(id, lessonName, capacity, price, new Students(), timing), lessonBook);
+            }
+        } catch (IllegalArgumentException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return Optional.of(lessonBook);
+    }
+
+    /**
+     * Reads the lesson book from the json file and saves it in the binary format.
+     */
+    private Optional<ReadOnlyLessonBook> convertJsonLessonBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyLessonBook> lessonBook = jsonStorage.readLessonBook();
+        if (lessonBook.isPresent()) {
+            logger.info("Converting " + jsonStorage.getLessonBookFilePath() + " to " + filePath);
+            saveLessonBook(lessonBook.get());
+        }
+        return lessonBook;
+    }
+
+    /**
+     * Saves the lesson book in the binary file to the json file, which brings the json file up to date again after
+     * the binary format is switched off. The binary file is kept until {@link #deleteBinaryFile()} is called, so
+     * that it can be converted again if converting the student book fails.
+     *
+     * @return the lesson book that was converted, or {@code Optional.empty()} if there is no binary file.
+     */
+    public Optional<ReadOnlyLessonBook> convertToJson() throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyLessonBook> lessonBook = readLessonBook(filePath);
+        logger.info("Converting " + filePath + " to " + jsonStorage.getLessonBookFilePath());
+        jsonStorage.saveLessonBook(lessonBook.get());
+        return lessonBook;
+    }
+
+    /**
+     * Deletes the binary file, once it has been converted to json.
+     */
+    public void deleteBinaryFile() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        saveLessonBook(lessonBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public long saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(filePath);
+
+        BinaryBookWriter writer = new BinaryBookWriter(BOOK_TYPE);
+        for (Lesson lesson : lessonBook.getLessonList()) {
+            writer.startRecord();
+            writer.writeLong(lesson.getId());
+            writer.writeString(lesson.getLessonName().lessonName);
+            writer.writeString(lesson.getCapacity().capacity);
+            writer.writeString(lesson.getPrice().price);
+            writer.writeString(lesson.getTiming().timing);
+        }
+        return writer.writeTo(filePath);
+    }
+
+    @Override
+    public void markLessonBookSaved(ReadOnlyLessonBook lessonBook) {
+        // every save writes the whole file
+    }
+}
@@ -0,0 +1,230 @@
+package tutoraid.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.InitialStudent;
+import tutoraid.model.student.ParentName;
+import tutoraid.model.student.Phone;
+import tutoraid.model.student.ProgressList;
+import tutoraid.model.student.Student;
+import tutoraid.model.student.StudentName;
+
+/**
+ * A class to access StudentBook data stored in the binary snapshot format on the hard disk.
+ * The binary file is kept next to the json file of {@code jsonStorage}. If the binary file does not exist yet, the
+ * student book is read from the json file instead and converted to the binary format.
+ * Students refer to their lessons by ID.
+ */
+public class BinaryTutorAidStudentStorage implements TutorAidStudentStorage {
+
+    static final int BOOK_TYPE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTutorAidStudentStorage.class);
+
+    private Path filePath;
+    private TutorAidStudentStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinaryTutorAidStudentStorage} whose binary file is kept next to the json file of
+     * {@code jsonStorage}.
+     */
+    public BinaryTutorAidStudentStorage(TutorAidStudentStorage jsonStorage) {
+        this.filePath = BinaryBookWriter.getBinaryFilePath(jsonStorage.getStudentBookFilePath());
+        this.jsonStorage = jsonStorage;
+    }
+
+    public Path getStudentBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook(ReadOnlyLessonBook lessonBook)
+            throws DataConversionException, IOException {
+        return readStudentBook(filePath, lessonBook);
+    }
+
+    /**
+     * Similar to {@link #readStudentBook(ReadOnlyLessonBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath, ReadOnlyLessonBook lessonBook)
+            throws DataConversionException, IOException {
+        Optional<List<InitialStudent>> initialStudents = readInitialStudents(filePath);
+        if (initialStudents.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonSerializableStudentBook.linkStudents(initialStudents.get(), lessonBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<List<InitialStudent>> readInitialStudents() throws DataConversionException, IOException {
+        return readInitialStudents(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInitialStudents()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<List<InitialStudent>> readInitialStudents(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return filePath.equals(this.filePath) ? convertJsonStudents() : Optional.empty();
+        }
+
+        BinaryBookReader reader = BinaryBookReader.open(filePath, BOOK_TYPE);
+        // values that are shared by many students are only validated once
+        Phone[] phones = new Phone[reader.getStringCount()];
+        ParentName[] parentNames = new ParentName[reader.getStringCount()];
+        List<InitialStudent> initialStudents = new ArrayList<>(reader.getRecordCount());
+        try {
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                long id = reader.readLong();
+                StudentName studentName = new StudentName(reader.readString());
+                Phone studentPhone = reader.readValue(phones, Phone::new);
+                ParentName parentName = reader.readValue(parentNames, ParentName::new);
+                Phone parentPhone = reader.readValue(phones, Phone::new);
+
+                int progressCount = reader.readLength();
+                ArrayList<String> progressList = new ArrayList<>(progressCount);
+                for (int j = 0; j < progressCount; j++) {
+                    progressList.add(reader.readString());
+                }
+                int lessonCount = reader.readLength();
+                List<Long> lessonIds = new ArrayList<>(lessonCount);
+                for (int j = 0; j < lessonCount; j++) {
+                    lessonIds.add(reader.readLong());
+                }
+
+                initialStudents.add(new InitialStudent(id, studentName, studentPhone, parentName, parentPhone,
+                        new ProgressList(progressList), lessonIds, new ArrayList<>()));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        return Optional.of(initialStudents);
+    }
+
+    /**
+     * Reads the students from the json file and saves them in the binary format.
+     * Students saved before lessons had IDs refer to their lessons by name, which the binary format cannot hold, so
+     * such files are only converted when the student book is next saved.
+     */
+    private Optional<List<InitialStudent>> convertJsonStudents() throws DataConversionException, IOException {
+        Optional<List<InitialStudent>> initialStudents = jsonStorage.readInitialStudents();
+        if (initialStudents.isPresent()
+                && initialStudents.get().stream().allMatch(student -> student.getLessonNames().isEmpty())) {
+            logger.info("Converting " + jsonStorage.getStudentBookFilePath() + " to " + filePath);
+            BinaryBookWriter writer = new BinaryBookWriter(BOOK_TYPE);
+            for (InitialStudent student : initialStudents.get()) {
+                writeStudent(writer, student.getId(), student.getStudentName(), student.getStudentPhone(),
+                        student.getParentName(), student.getParentPhone(), student.getProgressList(),
+                        student.getLessonIds());
+            }
+            writer.writeTo(filePath);
+        }
+        return initialStudents;
+    }
+
+    /**
+     * Saves the student book in the binary file to the json file, which brings the json file up to date again after
+     * the binary format is switched off. The binary file is kept until {@link #deleteBinaryFile()} is called.
+     *
+     * @param lessonBook the lesson book to link the students to.
+     * @return the student book that was converted, or {@code Optional.empty()} if there is no binary file.
+     */
+    public Optional<ReadOnlyStudentBook> convertToJson(ReadOnlyLessonBook lessonBook)
+            throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyStudentBook> studentBook = readStudentBook(filePath, lessonBook);
+        logger.info("Converting " + filePath + " to " + jsonStorage.getStudentBookFilePath());
+        jsonStorage.saveStudentBook(studentBook.get());
+        return studentBook;
+    }
+
+    /**
+     * Deletes the binary file, once it has been converted to json.
+     */
+    public void deleteBinaryFile() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        saveStudentBook(studentBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentBook(ReadOnlyStudentBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+
+        BinaryBookWriter writer = new BinaryBookWriter(BOOK_TYPE);
+        for (Student student : studentBook.getStudentList()) {
+            List<Long> lessonIds = new ArrayList<>();
+            for (Lesson lesson : student.getLessons().lessons) {
+                lessonIds.add(lesson.getId());
+            }
+            writeStudent(writer, student.getId(), student.getStudentName(), student.getStudentPhone(),
+                    student.getParentName(), student.getParentPhone(), student.getProgressList(), lessonIds);
+        }
+        return writer.writeTo(filePath);
+    }
+
+    private static void writeStudent(BinaryBookWriter writer, long id, StudentName studentName, Phone studentPhone,
+                                     ParentName parentName, Phone parentPhone, ProgressList progressList,
+                                     List<Long> lessonIds) throws IOException {
+        writer.startRecord();
+        writer.writeLong(id);
+        writer.writeString(studentName.fullName);
+        writer.writeString(studentPhone.value);
+        writer.writeString(parentName.fullName);
+        writer.writeString(parentPhone.value);
+
+        List<String> progresses = progressList.getAllProgressAsStringArrayList();
+        writer.writeInt(progresses.size());
+        for (String progress : progresses) {
+            writer.writeString(progress);
+        }
+        writer.writeInt(lessonIds.size());
+        for (long lessonId : lessonIds) {
+            writer.writeLong(lessonId);
+        }
+    }
+
+    @Override
+    public void markStudentBookSaved(ReadOnlyStudentBook studentBook) {
+        // every save writes the whole file
+    }
+}
@@ -0,0 +1,415 @@
+package tutoraid.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.commons.util.FileUtil;
+import tutoraid.commons.util.JsonUtil;
+import tutoraid.model.ChangeLog;
+
+/**
+ * Stores a list of entities that are identified by their {@code "id"} field as a snapshot file plus a journal.
+ * The snapshot has the same format as the json data files. The journal sits next to it and holds one line for every
+ * entity that was added, edited or deleted after the snapshot was written, so a save only writes what changed.
+ * Once the journal grows past a threshold, it is folded into a new snapshot in the background.
+ *
+ * @param <E> the type of the entities stored.
+ */
+class BookJournal<E> {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String ID_FIELD = "id";
+    private static final String PUT_FIELD = "put";
+    private static final String DELETE_FIELD = "delete";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long UNKNOWN_VERSION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BookJournal.class);
+    private static final Executor backgroundCompactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final String entitiesField;
+    private final ToLongFunction<E> idGetter;
+    private final Function<E, ?> jsonAdapter;
+    private final long compactionThreshold;
+    private final Executor compactor;
+
+    // Whether the files hold exactly the entities last read or written through this journal, so that records of the
+    // entities that changed since then can be appended to the journal.
+    private boolean canAppend;
+    // The version of the book whose entities the files hold, or UNKNOWN_VERSION if it is not known.
+    private long storedVersion = UNKNOWN_VERSION;
+    private long journalSize;
+    private long snapshotCount; // lets a compaction notice that a newer snapshot was written while it ran
+    private boolean isCompactionScheduled;
+
+    /**
+     * Creates a {@code BookJournal} for the snapshot at {@code snapshotPath}, which holds its entities in an array
+     * under {@code entitiesField}. Each entity is identified by {@code idGetter} and written as the json of the
+     * object returned by {@code jsonAdapter}.
+     */
+    BookJournal(Path snapshotPath, String entitiesField, ToLongFunction<E> idGetter, Function<E, ?> jsonAdapter) {
+        this(snapshotPath, entitiesField, idGetter, jsonAdapter, DEFAULT_COMPACTION_THRESHOLD, backgroundCompactor);
+    }
+
+    /**
+     * Creates a {@code BookJournal} that compacts on {@code compactor} once the journal is larger than
+     * {@code compactionThreshold} bytes.
+     */
+    BookJournal(Path snapshotPath, String entitiesField, ToLongFunction<E> idGetter, Function<E, ?> jsonAdapter,
+                long compactionThreshold, Executor compactor) {
+        requireNonNull(snapshotPath);
+        requireNonNull(entitiesField);
+        requireNonNull(idGetter);
+        requireNonNull(jsonAdapter);
+        requireNonNull(compactor);
+        this.snapshotPath = snapshotPath;
+        this.journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.entitiesField = entitiesField;
+        this.idGetter = idGetter;
+        this.jsonAdapter = jsonAdapter;
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = compactor;
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Passes each stored entity to {@code reader} in list order, with the journal applied to the snapshot.
+     * The snapshot is streamed, so only the entity being read and the journal's records are held in memory.
+     *
+     * @return false if neither the snapshot nor the journal exists.
+     * @throws DataConversionException if either file is not in the expected format.
+     * @throws IllegalValueException if {@code reader} rejects an entity.
+     */
+    synchronized boolean read(JsonUtil.ElementConsumer<JsonNode> reader)
+            throws DataConversionException, IllegalValueException {
+        if (!Files.exists(snapshotPath) && !Files.exists(journalPath)) {
+            logger.info("Json file " + snapshotPath + " not found");
+            return false;
+        }
+
+        try {
+            Map<Long, JsonNode> puts = new LinkedHashMap<>();
+            Set<Long> deletedIds = new HashSet<>();
+            boolean isJournalIntact = true;
+            if (Files.exists(journalPath)) {
+                try (BufferedReader journal = Files.newBufferedReader(journalPath, UTF_8)) {
+                    isJournalIntact = readJournal(journal, puts, deletedIds);
+                }
+            }
+            boolean hasAllIds = replay(puts, deletedIds, reader);
+
+            canAppend = isJournalIntact && hasAllIds;
+            storedVersion = UNKNOWN_VERSION;
+            journalSize = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+            return true;
+        } catch (IOException e) {
+            logger.warning("Error reading from " + snapshotPath + " and its journal: " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Passes each entity of the snapshot to {@code consumer} with the journal's {@code puts} and {@code deletedIds}
+     * applied, followed by the entities that the journal added. The puts that are applied are removed from
+     * {@code puts}.
+     *
+     * @return false if some entities of the snapshot have no IDs, so the journal cannot refer to them.
+     */
+    private boolean replay(Map<Long, JsonNode> puts, Set<Long> deletedIds,
+                           JsonUtil.ElementConsumer<JsonNode> consumer)
+            throws DataConversionException, IllegalValueException, IOException {
+        boolean[] hasAllIds = {true};
+        // Entities that are already in the snapshot are read in their place there, as IDs are never reused
+        JsonUtil.readJsonArray(snapshotPath, entitiesField, JsonNode.class, entity -> {
+            JsonNode id = entity.get(ID_FIELD);
+            if (id == null || !id.isIntegralNumber()) {
+                // files saved before entities had IDs have no journal, and are rewritten on the next save
+                hasAllIds[0] = false;
+                consumer.accept(entity);
+            } else if (!deletedIds.contains(id.asLong())) {
+                consumer.accept(puts.containsKey(id.asLong()) ? puts.remove(id.asLong()) : entity);
+            }
+        });
+        for (JsonNode put : puts.values()) {
+            consumer.accept(put);
+        }
+        puts.clear();
+        return hasAllIds[0];
+    }
+
+    /**
+     * Collects the final state of every entity that the records read from {@code journal} put or delete.
+     * Returns false if the last record was cut short, which happens when the application stops while writing it.
+     */
+    private boolean readJournal(BufferedReader journal, Map<Long, JsonNode> puts, Set<Long> deletedIds)
+            throws IOException {
+        String line = journal.readLine();
+        while (line != null) {
+            String nextLine = journal.readLine();
+            if (!line.isBlank()) {
+                JsonNode record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonNode.class);
+                } catch (JsonProcessingException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last record of " + journalPath);
+                    return false;
+                }
+                applyRecord(record, puts, deletedIds);
+            }
+            line = nextLine;
+        }
+        return true;
+    }
+
+    private void applyRecord(JsonNode record, Map<Long, JsonNode> puts, Set<Long> deletedIds) throws IOException {
+        JsonNode put = record.get(PUT_FIELD);
+        JsonNode delete = record.get(DELETE_FIELD);
+        if (put != null && put.has(ID_FIELD) && put.get(ID_FIELD).isIntegralNumber()) {
+            puts.put(put.get(ID_FIELD).asLong(), put);
+        } else if (delete != null && delete.isIntegralNumber()) {
+            puts.remove(delete.asLong());
+            deletedIds.add(delete.asLong());
+        } else {
+            throw new IOException("Invalid record in " + journalPath + ": " + record);
+        }
+    }
+
+    /**
+     * Records that the files hold the entities of the book at {@code version}, such as when the book was just read
+     * from them, so that the next save only appends the entities that changed after {@code version}.
+     * Does nothing if the files cannot be appended to.
+     */
+    synchronized void markStored(long version) {
+        if (canAppend) {
+            storedVersion = version;
+        }
+    }
+
+    /**
+     * Stores {@code entities}, which are those of the book at {@code version} in list order.
+     * Only the entities that {@code changes} records as added, edited or deleted since the last save are appended to
+     * the journal, looking them up with {@code entityById}. A whole snapshot is written instead if the version of the
+     * stored entities is not known, or if {@code changes} no longer knows what changed since then.
+     *
+     * @return the number of bytes written, which is the size of the snapshot or of the records appended.
+     * @throws IOException if there was an error writing to the files.
+     */
+    synchronized long save(List<? extends E> entities, LongFunction<Optional<E>> entityById, long version,
+                           ChangeLog changes) throws IOException {
+        requireNonNull(entities);
+        requireNonNull(entityById);
+        requireNonNull(changes);
+        Optional<Set<Long>> changedIds = storedVersion == UNKNOWN_VERSION || !canAppend
+                ? Optional.empty()
+                : changes.getIdsChangedSince(storedVersion);
+        if (changedIds.isEmpty()) {
+            return writeSnapshot(entities, version);
+        }
+        if (changedIds.get().isEmpty()) {
+            storedVersion = version;
+            return 0;
+        }
+
+        // the journal adds new entities at the end of the list in the order they are put, which is the order of their
+        // IDs as the book adds entities at the end of its list
+        StringBuilder records = new StringBuilder();
+        List<Long> deletedIds = new ArrayList<>();
+        for (long id : new TreeSet<>(changedIds.get())) {
+            Optional<E> entity = entityById.apply(id);
+            if (entity.isPresent()) {
+                records.append("{\"" + PUT_FIELD + "\":")
+                        .append(JsonUtil.toCompactJsonString(jsonAdapter.apply(entity.get()))).append("}\n");
+            } else {
+                deletedIds.add(id);
+            }
+        }
+        for (long id : deletedIds) {
+            records.append("{\"" + DELETE_FIELD + "\":").append(id).append("}\n");
+        }
+
+        byte[] bytes = records.toString().getBytes(UTF_8);
+        FileUtil.createParentDirsOfFile(journalPath);
+        try {
+            Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // the journal may end with part of a record, so the next save writes a whole snapshot
+            canAppend = false;
+            throw e;
+        }
+        journalSize += bytes.length;
+        storedVersion = version;
+
+        if (journalSize > compactionThreshold && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compact);
+        }
+        return bytes.length;
+    }
+
+    private long writeSnapshot(List<? extends E> entities, long version) throws IOException {
+        Path tempSnapshot = createTempFile(snapshotPath);
+        try (JsonUtil.JsonArrayWriter writer = JsonUtil.writeJsonArray(tempSnapshot, entitiesField)) {
+            for (E entity : entities) {
+                writer.write(jsonAdapter.apply(entity));
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempSnapshot);
+            throw e;
+        }
+        long snapshotSize = Files.size(tempSnapshot);
+
+        canAppend = false;
+        replaceFile(tempSnapshot, snapshotPath);
+        Files.deleteIfExists(journalPath);
+        canAppend = true;
+        storedVersion = version;
+        journalSize = 0;
+        snapshotCount++;
+        return snapshotSize;
+    }
+
+    /**
+     * Folds the journal into a new snapshot, streaming the current snapshot into it.
+     * Records that are appended while the snapshot is being written are kept in the journal.
+     */
+    private void compact() {
+        long compactedJournalSize;
+        long startSnapshotCount;
+        synchronized (this) {
+            compactedJournalSize = journalSize;
+            startSnapshotCount = snapshotCount;
+        }
+
+        try {
+            Path tempSnapshot = writeCompactedSnapshot(compactedJournalSize);
+            synchronized (this) {
+                if (snapshotCount != startSnapshotCount) {
+                    Files.deleteIfExists(tempSnapshot);
+                    return;
+                }
+                // if the application stops before the journal is trimmed, replaying the compacted records again
+                // leaves the snapshot unchanged, as each record holds a whole entity and IDs are never reused
+                replaceFile(tempSnapshot, snapshotPath);
+                trimJournal(compactedJournalSize);
+                snapshotCount++;
+            }
+            logger.fine("Compacted " + journalPath + " into " + snapshotPath);
+        } catch (IOException | DataConversionException | IllegalValueException e) {
+            logger.warning("Failed to compact " + journalPath + ": " + e);
+        } finally {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot with the first {@code journalLength} bytes of the journal applied to a new temp file.
+     * Only the records that are appended to the journal while this runs are written under the lock, so the files
+     * can be read here without it.
+     */
+    private Path writeCompactedSnapshot(long journalLength)
+            throws IOException, DataConversionException, IllegalValueException {
+        // the compacted records are not much more than the compaction threshold
+        String compactedRecords;
+        try (InputStream journal = Files.newInputStream(journalPath)) {
+            compactedRecords = new String(journal.readNBytes((int) journalLength), UTF_8);
+        }
+        Map<Long, JsonNode> puts = new LinkedHashMap<>();
+        Set<Long> deletedIds = new HashSet<>();
+        readJournal(new BufferedReader(new StringReader(compactedRecords)), puts, deletedIds);
+
+        Path tempSnapshot = createTempFile(snapshotPath);
+        try (JsonUtil.JsonArrayWriter writer = JsonUtil.writeJsonArray(tempSnapshot, entitiesField)) {
+            replay(puts, deletedIds, writer::write);
+        } catch (IOException | DataConversionException | IllegalValueException e) {
+            Files.deleteIfExists(tempSnapshot);
+            throw e;
+        }
+        return tempSnapshot;
+    }
+
+    /**
+     * Removes the first {@code length} bytes of the journal, copying the records after them to a new journal.
+     */
+    private void trimJournal(long length) throws IOException {
+        if (length == journalSize) {
+            Files.delete(journalPath);
+        } else {
+            Path tempJournal = createTempFile(journalPath);
+            try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                journal.position(length);
+                Files.copy(Channels.newInputStream(journal), tempJournal, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                Files.deleteIfExists(tempJournal);
+                throw e;
+            }
+            replaceFile(tempJournal, journalPath);
+        }
+        journalSize -= length;
+    }
+
+    /**
+     * Creates a new temporary file next to {@code target}, to be moved over it once written.
+     * Every write gets its own file, so a save and a compaction that write at the same time never mix their contents.
+     */
+    private static Path createTempFile(Path target) throws IOException {
+        FileUtil.createParentDirsOfFile(target);
+        return Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+    }
+
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package tutoraid.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for reading a book, as done by {@link StorageManager}.
+ */
+@Name("tutoraid.BookLoad")
+@Label("Book Load")
+@Category({"TutorAid", "Storage"})
+@Description("Reading a student or lesson book from its data file")
+class BookLoadEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("File Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Records")
+    @Description("The number of students or lessons")
+    int records;
+}
@@ -0,0 +1,30 @@
+package tutoraid.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for writing a book, as done by {@link StorageManager}.
+ */
+@Name("tutoraid.BookSave")
+@Label("Book Save")
+@Category({"TutorAid", "Storage"})
+@Description("Writing a student or lesson book to its data file")
+class BookSaveEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes Written")
+    @Description("The size of the data file, or of the records appended to its journal")
+    @DataAmount
+    long bytes;
+
+    @Label("Records")
+    @Description("The number of students or lessons")
+    int records;
+}
@@ -0,0 +1,167 @@
+package tutoraid.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+import tutoraid.model.ChangeLog;
+
+/**
+ * The entities of a book at one version, taken on the model thread to be written on a background thread.
+ * A snapshot only copies the entities that changed since the snapshot taken before it, and shares the copies of the
+ * others with that snapshot. The whole list, and its index by ID, are only put together when the snapshot is first
+ * read, which is on the background thread.
+ *
+ * @param <E> the type of the entities.
+ */
+class EntitySnapshot<E> {
+
+    // the version of the snapshot that no entities were taken for yet
+    private static final long NO_VERSION = -1;
+
+    private final ToLongFunction<E> idGetter;
+    private final UnaryOperator<E> copier;
+    private final long version;
+    // guards the fields below in every snapshot that follows the same first snapshot
+    private final Object lock;
+
+    // the snapshot this one was taken after, and the copies of the entities that changed since then by ID, with null
+    // for the entities that were deleted; both are null once the list below is put together
+    private EntitySnapshot<E> previous;
+    private Map<Long, E> changedEntities;
+    // null until the entities are put together
+    private List<E> entities;
+    private Map<Long, E> entitiesById;
+
+    /**
+     * Creates the first snapshot of a book, which holds no entities, so that the next snapshot copies every entity.
+     * Each entity is identified by {@code idGetter} and copied by {@code copier}.
+     */
+    EntitySnapshot(ToLongFunction<E> idGetter, UnaryOperator<E> copier) {
+        this(idGetter, copier, NO_VERSION, new Object());
+        entities = Collections.emptyList();
+    }
+
+    private EntitySnapshot(ToLongFunction<E> idGetter, UnaryOperator<E> copier, long version, Object lock) {
+        this.idGetter = requireNonNull(idGetter);
+        this.copier = requireNonNull(copier);
+        this.version = version;
+        this.lock = lock;
+    }
+
+    /**
+     * Takes the snapshot of {@code entities}, which are those of the book at {@code version} in list order, that
+     * follows this one. Only the entities that {@code changes} records as added, edited or deleted since this
+     * snapshot are copied, looking them up with {@code entityById}. Every entity is copied if this snapshot holds no
+     * entities, or if {@code changes} no longer knows what changed since it.
+     */
+    EntitySnapshot<E> next(List<? extends E> entities, LongFunction<Optional<E>> entityById, long version,
+                           ChangeLog changes) {
+        requireNonNull(entities);
+        requireNonNull(entityById);
+        requireNonNull(changes);
+        EntitySnapshot<E> next = new EntitySnapshot<>(idGetter, copier, version, lock);
+        Optional<Set<Long>> changedIds = this.version == NO_VERSION
+                ? Optional.empty()
+                : changes.getIdsChangedSince(this.version);
+        if (changedIds.isEmpty()) {
+            List<E> copies = new ArrayList<>(entities.size());
+            for (E entity : entities) {
+                copies.add(copier.apply(entity));
+            }
+            next.entities = copies;
+            return next;
+        }
+
+        Map<Long, E> changedEntities = new HashMap<>();
+        for (long id : changedIds.get()) {
+            changedEntities.put(id, entityById.apply(id).map(copier).orElse(null));
+        }
+        next.previous = this;
+        next.changedEntities = changedEntities;
+        return next;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the entities of this snapshot in list order.
+     */
+    List<E> getEntities() {
+        synchronized (lock) {
+            putTogether();
+            return entities;
+        }
+    }
+
+    /**
+     * Returns the entity of this snapshot with the given {@code id}, or an empty {@code Optional} if there is none.
+     */
+    Optional<E> getEntity(long id) {
+        synchronized (lock) {
+            putTogether();
+            if (entitiesById == null) {
+                entitiesById = new HashMap<>();
+                for (E entity : entities) {
+                    entitiesById.put(idGetter.applyAsLong(entity), entity);
+                }
+            }
+            return Optional.ofNullable(entitiesById.get(id));
+        }
+    }
+
+    /**
+     * Puts the list of entities together from the latest snapshot before this one whose list is put together, and
+     * the entities that changed in each snapshot since.
+     * Entities that were edited keep their place in the list, and entities that were added follow the others in
+     * order of their IDs, which is the order they were created and so added in.
+     */
+    private void putTogether() {
+        if (entities != null) {
+            return;
+        }
+        Deque<EntitySnapshot<E>> pending = new ArrayDeque<>();
+        EntitySnapshot<E> base = this;
+        while (base.entities == null) {
+            pending.push(base);
+            base = base.previous;
+        }
+        Map<Long, E> changes = new HashMap<>();
+        for (EntitySnapshot<E> snapshot : pending) {
+            changes.putAll(snapshot.changedEntities);
+        }
+
+        List<E> merged = new ArrayList<>(base.entities.size() + changes.size());
+        for (E entity : base.entities) {
+            long id = idGetter.applyAsLong(entity);
+            if (!changes.containsKey(id)) {
+                merged.add(entity);
+            } else if (changes.get(id) != null) {
+                merged.add(changes.remove(id));
+            } else {
+                changes.remove(id);
+            }
+        }
+        Map<Long, E> added = new TreeMap<>(changes);
+        added.values().removeIf(entity -> entity == null);
+        merged.addAll(added.values());
+
+        entities = merged;
+        previous = null;
+        changedEntities = null;
+    }
+}
@@ -0,0 +1,98 @@
+package tutoraid.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.commons.util.JsonUtil;
+import tutoraid.model.LessonBook;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.lesson.Lesson;
+
+/**
+ * A class to access LessonBook data stored as a json file, plus a journal of the changes made since the file was
+ * written, on the hard disk. Saving only appends the lessons that changed to the journal.
+ */
+public class JournaledTutorAidLessonStorage implements TutorAidLessonStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTutorAidLessonStorage.class);
+
+    private Path filePath;
+    private final BookJournal<Lesson> journal;
+
+    /**
+     * Creates a {@code JournaledTutorAidLessonStorage} for the lesson book at {@code filePath}.
+     */
+    public JournaledTutorAidLessonStorage(Path filePath) {
+        this.filePath = filePath;
+        this.journal = newJournal(filePath);
+    }
+
+    public Path getLessonBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException {
+        return readLessonBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        LessonBook lessonBook = new LessonBook();
+        try {
+            boolean isFileFound = getJournal(filePath).read(lesson -> JsonSerializableLessonBook.makeLesson(
+                    JsonUtil.fromJsonNode(lesson, JsonAdaptedLesson.class).toModelType(), lessonBook));
+            return isFileFound ? Optional.of(lessonBook) : Optional.empty();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
+        saveLessonBook(lessonBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public long saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(filePath);
+
+        return getJournal(filePath).save(lessonBook.getLessonList(), lessonBook::getLesson, lessonBook.getVersion(),
+                lessonBook.getChangeLog());
+    }
+
+    @Override
+    public void markLessonBookSaved(ReadOnlyLessonBook lessonBook) {
+        requireNonNull(lessonBook);
+        journal.markStored(lessonBook.getVersion());
+    }
+
+    private BookJournal<Lesson> getJournal(Path filePath) {
+        return filePath.equals(this.filePath) ? journal : newJournal(filePath);
+    }
+
+    private static BookJournal<Lesson> newJournal(Path filePath) {
+        return new BookJournal<>(filePath, JsonSerializableLessonBook.LESSONS_FIELD, Lesson::getId,
+                JsonAdaptedLesson::new);
+    }
+}
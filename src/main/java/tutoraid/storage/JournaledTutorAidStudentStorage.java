@@ -0,0 +1,131 @@
+package tutoraid.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.commons.util.JsonUtil;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.student.InitialStudent;
+import tutoraid.model.student.Student;
+
+/**
+ * A class to access StudentBook data stored as a json file, plus a journal of the changes made since the file was
+ * written, on the hard disk. Saving only appends the students that changed to the journal.
+ */
+public class JournaledTutorAidStudentStorage implements TutorAidStudentStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTutorAidStudentStorage.class);
+
+    private Path filePath;
+    private ReadOnlyLessonBook lessonBook;
+    private final BookJournal<Student> journal;
+
+    /**
+     * Constructor for the student storage object.
+     *
+     * @param filePath   Path to the JSON file
+     * @param lessonBook Lesson book to create the Lesson-Student dependency
+     */
+    public JournaledTutorAidStudentStorage(Path filePath, ReadOnlyLessonBook lessonBook) {
+        this.filePath = filePath;
+        this.lessonBook = lessonBook;
+        this.journal = newJournal(filePath);
+    }
+
+    public Path getStudentBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook(ReadOnlyLessonBook lessonBook) throws DataConversionException {
+        return readStudentBook(filePath, lessonBook);
+    }
+
+    /**
+     * Similar to {@link #readStudentBook(ReadOnlyLessonBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath, ReadOnlyLessonBook lessonBook)
+            throws DataConversionException {
+        Optional<List<InitialStudent>> initialStudents = readInitialStudents(filePath);
+        if (initialStudents.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonSerializableStudentBook.linkStudents(initialStudents.get(), lessonBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<List<InitialStudent>> readInitialStudents() throws DataConversionException {
+        return readInitialStudents(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInitialStudents()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<List<InitialStudent>> readInitialStudents(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        List<InitialStudent> initialStudents = new ArrayList<>();
+        try {
+            boolean isFileFound = getJournal(filePath).read(student -> initialStudents.add(
+                    JsonUtil.fromJsonNode(student, JsonAdaptedStudent.class).toModelType()));
+            return isFileFound ? Optional.of(initialStudents) : Optional.empty();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        saveStudentBook(studentBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentBook(ReadOnlyStudentBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+
+        return getJournal(filePath).save(studentBook.getStudentList(), studentBook::getStudent,
+                studentBook.getVersion(), studentBook.getChangeLog());
+    }
+
+    @Override
+    public void markStudentBookSaved(ReadOnlyStudentBook studentBook) {
+        requireNonNull(studentBook);
+        journal.markStored(studentBook.getVersion());
+    }
+
+    private BookJournal<Student> getJournal(Path filePath) {
+        return filePath.equals(this.filePath) ? journal : newJournal(filePath);
+    }
+
+    private static BookJournal<Student> newJournal(Path filePath) {
+        return new BookJournal<>(filePath, JsonSerializableStudentBook.STUDENTS_FIELD, Student::getId,
+                JsonAdaptedStudent::new);
+    }
+}
@@ -11,7 +11,9 @@ import tutoraid.model.lesson.Capacity;
 import tutoraid.model.lesson.Lesson;
 import tutoraid.model.lesson.LessonName;
 import tutoraid.model.lesson.Price;
+import tutoraid.model.lesson.Students;
 import tutoraid.model.lesson.Timing;
+import tutoraid.model.util.IdGenerator;
 
 /**
  * Jackson-friendly version of {@link Lesson}.
@@ -20,6 +22,7 @@ public class JsonAdaptedLesson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "One or more fields of Lesson is missing!";
 
+    private final Long id;
     private final String lessonName;
     private final String capacity;
     private final String price;
@@ -27,11 +30,13 @@ public class JsonAdaptedLesson {
 
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * {@code id} is absent in files saved before lessons had IDs.
      */
     @JsonCreator
-    public JsonAdaptedLesson(
+    public JsonAdaptedLesson(@JsonProperty("id") Long id,
             @JsonProperty("lessonName") String lessonName, @JsonProperty("capacity") String capacity,
             @JsonProperty("price") String price, @JsonProperty("timing") String timing) {
+        this.id = id;
         this.lessonName = lessonName;
         this.capacity = capacity;
         this.price = price;
@@ -42,6 +47,7 @@ public class JsonAdaptedLesson {
      * Converts a given {@code Lesson} into this class for Jackson use.
      */
     public JsonAdaptedLesson(Lesson source) {
+        id = source.getId();
         lessonName = source.getLessonName().lessonName;
         capacity = source.getCapacity().capacity;
         price = source.getPrice().price;
@@ -78,7 +84,9 @@ public class JsonAdaptedLesson {
         }
         final Timing modelLessonTiming = new Timing(timing);
 
-        return new Lesson(modelLessonName, modelLessonCapacity, modelLessonPrice,
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+
+        return new Lesson(modelId, modelLessonName, modelLessonCapacity, modelLessonPrice, new Students(),
                 modelLessonTiming);
     }
 }
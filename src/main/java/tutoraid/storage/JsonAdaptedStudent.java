@@ -2,12 +2,16 @@ package tutoraid.storage;
 
 import java.util.ArrayList;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.model.lesson.Lesson;
 import tutoraid.model.student.InitialStudent;
 import tutoraid.model.student.Name;
 import tutoraid.model.student.ParentName;
@@ -16,6 +20,7 @@ import tutoraid.model.student.Progress;
 import tutoraid.model.student.ProgressList;
 import tutoraid.model.student.Student;
 import tutoraid.model.student.StudentName;
+import tutoraid.model.util.IdGenerator;
 
 /**
  * Jackson-friendly version of {@link Student}.
@@ -24,28 +29,39 @@ class JsonAdaptedStudent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "One or more fields of Student is missing!";
 
+    private final Long id;
     private final String studentName;
     private final String studentPhone;
     private final String parentName;
     private final String parentPhone;
     private final ArrayList<String> progressList;
+    private final ArrayList<Long> lessonIds;
+
+    // Lessons are only referred to by name in files saved before lessons had IDs
+    @JsonProperty("lessons")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final ArrayList<String> lessonNames;
 
     /**
      * Constructs a {@code JsonAdaptedStudent} with the given student details.
+     * {@code id} and {@code lessonIds} are absent in files saved before students and lessons had IDs, which refer
+     * to lessons through {@code lessonNames} instead.
      */
     @JsonCreator
-    public JsonAdaptedStudent(
+    public JsonAdaptedStudent(@JsonProperty("id") Long id,
             @JsonProperty("studentName") String studentName, @JsonProperty("studentPhone") String studentPhone,
             @JsonProperty("parentName") String parentName, @JsonProperty("parentPhone") String parentPhone,
             @JsonProperty("progressList") ArrayList<String> progressList,
-            @JsonProperty("lessons") ArrayList<String> lessonNames) {
+            @JsonProperty("lessonIds") ArrayList<Long> lessonIds,
+            @JsonProperty("lessons") @JsonAlias("lessonNames") ArrayList<String> lessonNames) {
 
+        this.id = id;
         this.studentName = studentName;
         this.studentPhone = studentPhone;
         this.parentName = parentName;
         this.parentPhone = parentPhone;
         this.progressList = progressList;
+        this.lessonIds = lessonIds;
         this.lessonNames = lessonNames;
     }
 
@@ -53,12 +69,15 @@ class JsonAdaptedStudent {
      * Converts a given {@code Student} into this class for Jackson use.
      */
     public JsonAdaptedStudent(Student source) {
+        id = source.getId();
         studentName = source.getStudentName().fullName;
         studentPhone = source.getStudentPhone().value;
         parentName = source.getParentName().fullName;
         parentPhone = source.getParentPhone().value;
         progressList = source.getProgressList().getAllProgressAsStringArrayList();
-        lessonNames = source.getLessons().getAllLessonNamesAsStringArrayList();
+        lessonIds = source.getLessons().lessons.stream().map(Lesson::getId)
+                .collect(Collectors.toCollection(ArrayList::new));
+        lessonNames = null;
     }
 
     /**
@@ -67,8 +86,8 @@ class JsonAdaptedStudent {
      * @throws IllegalValueException if there were any data constraints violated in the adapted student.
      */
     public InitialStudent toModelType() throws IllegalValueException {
-        if (Stream.of(studentName, studentPhone, parentName, parentPhone, progressList, lessonNames)
-                .anyMatch(Objects::isNull)) {
+        if (Stream.of(studentName, studentPhone, parentName, parentPhone, progressList).anyMatch(Objects::isNull)
+                || (lessonIds == null && lessonNames == null)) {
             throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT);
         }
 
@@ -97,8 +116,11 @@ class JsonAdaptedStudent {
         }
         final ProgressList modelProgress = new ProgressList(progressList);
 
-        return new InitialStudent(modelStudentName, modelStudentPhone, modelParentName, modelParentPhone,
-                modelProgress, lessonNames);
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+
+        return new InitialStudent(modelId, modelStudentName, modelStudentPhone, modelParentName, modelParentPhone,
+                modelProgress, lessonIds == null ? new ArrayList<>() : lessonIds,
+                lessonNames == null ? new ArrayList<>() : lessonNames);
     }
 
 }
@@ -20,6 +20,7 @@ import tutoraid.model.lesson.Lesson;
 public class JsonSerializableLessonBook {
 
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
+    public static final String LESSONS_FIELD = "lessons";
 
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
 
@@ -27,7 +28,7 @@ public class JsonSerializableLessonBook {
      * Constructs a {@code JsonSerializableLessonBook} with the given students.
      */
     @JsonCreator
-    public JsonSerializableLessonBook(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+    public JsonSerializableLessonBook(@JsonProperty(LESSONS_FIELD) List<JsonAdaptedLesson> lessons) {
         this.lessons.addAll(lessons);
     }
 
@@ -48,12 +49,22 @@ public class JsonSerializableLessonBook {
     public LessonBook toModelType() throws IllegalValueException {
         LessonBook lessonBook = new LessonBook();
         for (JsonAdaptedLesson jsonAdaptedLesson: lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
-            if (lessonBook.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
-            }
-            lessonBook.addLesson(lesson);
+            makeLesson(jsonAdaptedLesson.toModelType(), lessonBook);
         }
         return lessonBook;
     }
+
+    /**
+     * Adds a Lesson object that was read from a file to the given LessonBook.
+     *
+     * @param lesson The lesson read from the file
+     * @param lb     The LessonBook to be updated with the Lesson object
+     * @throws IllegalValueException if the lesson is already in the lesson book
+     */
+    public static void makeLesson(Lesson lesson, LessonBook lb) throws IllegalValueException {
+        if (lb.hasLesson(lesson) || lb.getLesson(lesson.getId()).isPresent()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+        }
+        lb.addLesson(lesson);
+    }
 }
@@ -16,7 +16,6 @@ import tutoraid.commons.exceptions.IllegalValueException;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.StudentBook;
-import tutoraid.model.lesson.Lesson;
 import tutoraid.model.lesson.exceptions.DuplicateStudentInLessonException;
 import tutoraid.model.student.InitialStudent;
 import tutoraid.model.student.Student;
@@ -28,6 +27,7 @@ import tutoraid.model.student.Student;
 class JsonSerializableStudentBook {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
+    public static final String STUDENTS_FIELD = "students";
 
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
 
@@ -35,7 +35,7 @@ class JsonSerializableStudentBook {
      * Constructs a {@code JsonSerializableStudentBook} with the given students.
      */
     @JsonCreator
-    public JsonSerializableStudentBook(@JsonProperty("students") List<JsonAdaptedStudent> students) {
+    public JsonSerializableStudentBook(@JsonProperty(STUDENTS_FIELD) List<JsonAdaptedStudent> students) {
         this.students.addAll(students);
     }
 
@@ -55,10 +55,24 @@ class JsonSerializableStudentBook {
      */
     public StudentBook toModelType(ReadOnlyLessonBook lessonBook) throws IllegalValueException {
         StudentBook studentBook = new StudentBook();
-        List<Lesson> lessons = lessonBook.getLessonList();
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
             InitialStudent initialStudent = jsonAdaptedStudent.toModelType();
-            makeStudent(initialStudent, lessons, studentBook);
+            makeStudent(initialStudent, lessonBook, studentBook);
+        }
+        return studentBook;
+    }
+
+    /**
+     * Converts {@code initialStudents} into a {@code StudentBook}, linking each student to its lessons in
+     * {@code lessonBook}.
+     *
+     * @throws IllegalValueException if the students are duplicated or do not fit in their lessons.
+     */
+    public static StudentBook linkStudents(List<InitialStudent> initialStudents, ReadOnlyLessonBook lessonBook)
+            throws IllegalValueException {
+        StudentBook studentBook = new StudentBook();
+        for (InitialStudent initialStudent : initialStudents) {
+            makeStudent(initialStudent, lessonBook, studentBook);
         }
         return studentBook;
     }
@@ -68,15 +82,15 @@ class JsonSerializableStudentBook {
      * references. The Student objects are then added to the given StudentBook.
      *
      * @param initialStudent The InitialStudent object to be converted after being populated with Lesson objects
-     * @param lessons        The list of lessons in TutorAid
+     * @param lessonBook     The lesson book containing the lessons in TutorAid
      * @param sb             The StudentBook to be updated with Student objects
      * @throws IllegalValueException if the JSON file is invalid
      */
-    public static void makeStudent(InitialStudent initialStudent, List<Lesson> lessons, StudentBook sb)
+    public static void makeStudent(InitialStudent initialStudent, ReadOnlyLessonBook lessonBook, StudentBook sb)
             throws IllegalValueException {
         try {
-            Student student = initialStudent.toStudent(lessons);
-            if (sb.hasStudent(student)) {
+            Student student = initialStudent.toStudent(lessonBook);
+            if (sb.hasStudent(student) || sb.getStudent(student.getId()).isPresent()) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
             }
             sb.addStudent(student);
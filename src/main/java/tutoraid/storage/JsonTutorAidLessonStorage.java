@@ -12,6 +12,7 @@ import tutoraid.commons.exceptions.DataConversionException;
 import tutoraid.commons.exceptions.IllegalValueException;
 import tutoraid.commons.util.FileUtil;
 import tutoraid.commons.util.JsonUtil;
+import tutoraid.model.LessonBook;
 import tutoraid.model.ReadOnlyLessonBook;
 
 /**
@@ -45,14 +46,13 @@ public class JsonTutorAidLessonStorage implements TutorAidLessonStorage {
     public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLessonBook.class);
-        if (jsonLessonBook.isEmpty()) {
-            return Optional.empty();
-        }
-
+        // each lesson is added to the book as soon as it is parsed, so the file is never held in memory as a whole
+        LessonBook lessonBook = new LessonBook();
         try {
-            return Optional.of(jsonLessonBook.get().toModelType());
+            boolean isFileFound = JsonUtil.readJsonArray(filePath, JsonSerializableLessonBook.LESSONS_FIELD,
+                    JsonAdaptedLesson.class, jsonAdaptedLesson -> JsonSerializableLessonBook.makeLesson(
+                            jsonAdaptedLesson.toModelType(), lessonBook));
+            return isFileFound ? Optional.of(lessonBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -69,11 +69,16 @@ public class JsonTutorAidLessonStorage implements TutorAidLessonStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+    public long saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
         requireNonNull(lessonBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath);
+        return JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath);
+    }
+
+    @Override
+    public void markLessonBookSaved(ReadOnlyLessonBook lessonBook) {
+        // every save writes the whole file
     }
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -14,6 +16,7 @@ import tutoraid.commons.util.FileUtil;
 import tutoraid.commons.util.JsonUtil;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.student.InitialStudent;
 
 /**
  * A class to access StudentBook data stored as a json file on the hard disk.
@@ -53,16 +56,39 @@ public class JsonTutorAidStudentStorage implements TutorAidStudentStorage {
      */
     public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath, ReadOnlyLessonBook lessonBook)
             throws DataConversionException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableStudentBook> jsonStudentBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableStudentBook.class);
-        if (jsonStudentBook.isEmpty()) {
+        Optional<List<InitialStudent>> initialStudents = readInitialStudents(filePath);
+        if (initialStudents.isEmpty()) {
             return Optional.empty();
         }
+        try {
+            return Optional.of(JsonSerializableStudentBook.linkStudents(initialStudents.get(), lessonBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<List<InitialStudent>> readInitialStudents() throws DataConversionException {
+        return readInitialStudents(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInitialStudents()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<List<InitialStudent>> readInitialStudents(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
 
+        // each student is converted as soon as it is parsed, so the file is never held in memory as a whole
+        List<InitialStudent> initialStudents = new ArrayList<>();
         try {
-            return Optional.of(jsonStudentBook.get().toModelType(lessonBook));
+            boolean isFileFound = JsonUtil.readJsonArray(filePath, JsonSerializableStudentBook.STUDENTS_FIELD,
+                    JsonAdaptedStudent.class, jsonAdaptedStudent -> initialStudents.add(
+                            jsonAdaptedStudent.toModelType()));
+            return isFileFound ? Optional.of(initialStudents) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -79,12 +105,16 @@ public class JsonTutorAidStudentStorage implements TutorAidStudentStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+    public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
         requireNonNull(studentBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath);
+        return JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath);
     }
 
+    @Override
+    public void markStudentBookSaved(ReadOnlyStudentBook studentBook) {
+        // every save writes the whole file
+    }
 }
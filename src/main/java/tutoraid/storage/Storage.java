@@ -2,6 +2,7 @@ package tutoraid.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import tutoraid.commons.exceptions.DataConversionException;
@@ -9,6 +10,7 @@ import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.ReadOnlyUserPrefs;
 import tutoraid.model.UserPrefs;
+import tutoraid.model.student.InitialStudent;
 
 /**
  * API of the Storage component
@@ -28,6 +30,17 @@ public interface Storage extends TutorAidStudentStorage, TutorAidLessonStorage,
     Optional<ReadOnlyStudentBook> readStudentBook(ReadOnlyLessonBook lessonBook)
             throws DataConversionException, IOException;
 
+    @Override
+    Optional<List<InitialStudent>> readInitialStudents() throws DataConversionException, IOException;
+
+    /**
+     * Returns a student book of {@code initialStudents}, each linked to its lessons in {@code lessonBook}.
+     *
+     * @throws DataConversionException if the students are duplicated or do not fit in their lessons.
+     */
+    ReadOnlyStudentBook linkStudents(List<InitialStudent> initialStudents, ReadOnlyLessonBook lessonBook)
+            throws DataConversionException;
+
     @Override
     void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException;
 
@@ -40,4 +53,21 @@ public interface Storage extends TutorAidStudentStorage, TutorAidLessonStorage,
     @Override
     void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException;
 
+    /**
+     * Blocks until every save of the student and lesson books requested so far has been written.
+     */
+    void flush();
+
+    /**
+     * Returns true if a save of the student book that was written in the background failed since this was last
+     * called, so that the student book can be saved again.
+     */
+    boolean checkStudentBookSaveFailed();
+
+    /**
+     * Returns true if a save of the lesson book that was written in the background failed since this was last
+     * called, so that the lesson book can be saved again.
+     */
+    boolean checkLessonBookSaveFailed();
+
 }
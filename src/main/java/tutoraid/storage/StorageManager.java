@@ -1,16 +1,31 @@
 package tutoraid.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import tutoraid.commons.core.LogsCenter;
 import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
+import tutoraid.model.ChangeLog;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.ReadOnlyUserPrefs;
 import tutoraid.model.UserPrefs;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
+import tutoraid.model.student.InitialStudent;
+import tutoraid.model.student.Student;
 
 /**
  * Manages storage of StudentBook and LessonBook data in local storage.
@@ -21,6 +36,13 @@ public class StorageManager implements Storage {
     private TutorAidStudentStorage tutorAidStudentStorage;
     private TutorAidLessonStorage tutorAidLessonStorage;
     private UserPrefsStorage userPrefsStorage;
+    private WriteBehindWriter writeBehindWriter; // null while books are saved synchronously
+    // the last snapshots of the books taken for the write-behind writer, which the next ones are taken after
+    private EntitySnapshot<Student> lastStudentSnapshot = new EntitySnapshot<>(Student::getId, Student::copy);
+    private EntitySnapshot<Lesson> lastLessonSnapshot = new EntitySnapshot<>(Lesson::getId, Lesson::copy);
+    // set by the write-behind writer when a save of a book fails, until the failure is checked
+    private final AtomicBoolean isStudentBookSaveFailed = new AtomicBoolean();
+    private final AtomicBoolean isLessonBookSaveFailed = new AtomicBoolean();
 
     /**
      * Creates a {@code StorageManager} with the given {@code TutorAidStudentStorage},
@@ -35,6 +57,35 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Makes later saves of the student and lesson books return as soon as a copy of the book has been taken, which
+     * only copies the students or lessons that changed since the last save.
+     * The copies are written to disk on a background thread, and only the latest copy of each file is written if
+     * several saves arrive while the writer is busy. Failed writes are passed to {@code failureHandler} on the
+     * background thread, and reported by {@link #checkStudentBookSaveFailed()} and
+     * {@link #checkLessonBookSaveFailed()}.
+     */
+    public void enableWriteBehind(Consumer<IOException> failureHandler) {
+        writeBehindWriter = new WriteBehindWriter(failureHandler);
+    }
+
+    @Override
+    public void flush() {
+        if (writeBehindWriter != null) {
+            writeBehindWriter.flush();
+        }
+    }
+
+    @Override
+    public boolean checkStudentBookSaveFailed() {
+        return isStudentBookSaveFailed.getAndSet(false);
+    }
+
+    @Override
+    public boolean checkLessonBookSaveFailed() {
+        return isLessonBookSaveFailed.getAndSet(false);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -69,8 +120,39 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath, ReadOnlyLessonBook lessonBook)
             throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return tutorAidStudentStorage.readStudentBook(filePath, lessonBook);
+        logger.log(Level.FINE, "Attempting to read data from file: {0}", filePath);
+        BookLoadEvent event = new BookLoadEvent();
+        event.begin();
+        Optional<ReadOnlyStudentBook> studentBook = tutorAidStudentStorage.readStudentBook(filePath, lessonBook);
+        commitLoad(event, filePath, studentBook.map(book -> book.getStudentList().size()).orElse(0));
+        return studentBook;
+    }
+
+    @Override
+    public Optional<List<InitialStudent>> readInitialStudents() throws DataConversionException, IOException {
+        return readInitialStudents(tutorAidStudentStorage.getStudentBookFilePath());
+    }
+
+    @Override
+    public Optional<List<InitialStudent>> readInitialStudents(Path filePath)
+            throws DataConversionException, IOException {
+        logger.log(Level.FINE, "Attempting to read data from file: {0}", filePath);
+        BookLoadEvent event = new BookLoadEvent();
+        event.begin();
+        Optional<List<InitialStudent>> initialStudents = tutorAidStudentStorage.readInitialStudents(filePath);
+        commitLoad(event, filePath, initialStudents.map(List::size).orElse(0));
+        return initialStudents;
+    }
+
+    @Override
+    public ReadOnlyStudentBook linkStudents(List<InitialStudent> initialStudents, ReadOnlyLessonBook lessonBook)
+            throws DataConversionException {
+        try {
+            return JsonSerializableStudentBook.linkStudents(initialStudents, lessonBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found while linking students to lessons: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
     }
 
     @Override
@@ -79,9 +161,27 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        tutorAidStudentStorage.saveStudentBook(studentBook, filePath);
+    public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        logger.log(Level.FINE, "Attempting to write to data file: {0}", filePath);
+        if (writeBehindWriter == null) {
+            return writeStudentBook(studentBook, filePath);
+        }
+        ReadOnlyStudentBook snapshot = takeSnapshot(studentBook, filePath);
+        writeBehindWriter.submit(filePath, () -> {
+            try {
+                writeStudentBook(snapshot, filePath);
+            } catch (IOException e) {
+                isStudentBookSaveFailed.set(true);
+                throw e;
+            }
+        });
+        // the book is written later, by the write-behind writer
+        return 0;
+    }
+
+    @Override
+    public void markStudentBookSaved(ReadOnlyStudentBook studentBook) {
+        tutorAidStudentStorage.markStudentBookSaved(studentBook);
     }
 
     // ================ LessonBook methods ==============================
@@ -98,8 +198,12 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return tutorAidLessonStorage.readLessonBook(filePath);
+        logger.log(Level.FINE, "Attempting to read data from file: {0}", filePath);
+        BookLoadEvent event = new BookLoadEvent();
+        event.begin();
+        Optional<ReadOnlyLessonBook> lessonBook = tutorAidLessonStorage.readLessonBook(filePath);
+        commitLoad(event, filePath, lessonBook.map(book -> book.getLessonList().size()).orElse(0));
+        return lessonBook;
     }
 
     @Override
@@ -108,9 +212,198 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        tutorAidLessonStorage.saveLessonBook(lessonBook, filePath);
+    public long saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        logger.log(Level.FINE, "Attempting to write to data file: {0}", filePath);
+        if (writeBehindWriter == null) {
+            return writeLessonBook(lessonBook, filePath);
+        }
+        ReadOnlyLessonBook snapshot = takeSnapshot(lessonBook, filePath);
+        writeBehindWriter.submit(filePath, () -> {
+            try {
+                writeLessonBook(snapshot, filePath);
+            } catch (IOException e) {
+                isLessonBookSaveFailed.set(true);
+                throw e;
+            }
+        });
+        // the book is written later, by the write-behind writer
+        return 0;
+    }
+
+    @Override
+    public void markLessonBookSaved(ReadOnlyLessonBook lessonBook) {
+        tutorAidLessonStorage.markLessonBookSaved(lessonBook);
+    }
+
+    /**
+     * Takes a snapshot of {@code studentBook} to be written to {@code filePath}, which only copies the students that
+     * changed since the last snapshot if {@code filePath} is that of the student book.
+     */
+    private ReadOnlyStudentBook takeSnapshot(ReadOnlyStudentBook studentBook, Path filePath) {
+        ChangeLog changes = studentBook.getChangeLog();
+        boolean isStudentBookFile = filePath.equals(getStudentBookFilePath());
+        EntitySnapshot<Student> previous = isStudentBookFile
+                ? lastStudentSnapshot
+                : new EntitySnapshot<>(Student::getId, Student::copy);
+        EntitySnapshot<Student> students = previous.next(studentBook.getStudentList(), studentBook::getStudent,
+                studentBook.getVersion(), changes);
+        if (isStudentBookFile) {
+            lastStudentSnapshot = students;
+        }
+        return new StudentBookSnapshot(students, changes);
     }
 
+    /**
+     * Takes a snapshot of {@code lessonBook} to be written to {@code filePath}, which only copies the lessons that
+     * changed since the last snapshot if {@code filePath} is that of the lesson book.
+     */
+    private ReadOnlyLessonBook takeSnapshot(ReadOnlyLessonBook lessonBook, Path filePath) {
+        ChangeLog changes = lessonBook.getChangeLog();
+        boolean isLessonBookFile = filePath.equals(getLessonBookFilePath());
+        EntitySnapshot<Lesson> previous = isLessonBookFile
+                ? lastLessonSnapshot
+                : new EntitySnapshot<>(Lesson::getId, Lesson::copy);
+        EntitySnapshot<Lesson> lessons = previous.next(lessonBook.getLessonList(), lessonBook::getLesson,
+                lessonBook.getVersion(), changes);
+        if (isLessonBookFile) {
+            lastLessonSnapshot = lessons;
+        }
+        return new LessonBookSnapshot(lessons, changes);
+    }
+
+    private long writeStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        BookSaveEvent event = new BookSaveEvent();
+        event.begin();
+        long bytes = tutorAidStudentStorage.saveStudentBook(studentBook, filePath);
+        commitSave(event, filePath, studentBook.getStudentList().size(), bytes);
+        return bytes;
+    }
+
+    private long writeLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        BookSaveEvent event = new BookSaveEvent();
+        event.begin();
+        long bytes = tutorAidLessonStorage.saveLessonBook(lessonBook, filePath);
+        commitSave(event, filePath, lessonBook.getLessonList().size(), bytes);
+        return bytes;
+    }
+
+    private static void commitLoad(BookLoadEvent event, Path filePath, int records) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = filePath.toString();
+            event.bytes = getFileSize(filePath);
+            event.records = records;
+            event.commit();
+        }
+    }
+
+    private static void commitSave(BookSaveEvent event, Path filePath, int records, long bytes) {
+        event.end();
+        logger.log(Level.FINE, "Saved {0} records, {1} bytes, to data file: {2}",
+                new Object[] {records, bytes, filePath});
+        if (event.shouldCommit()) {
+            event.file = filePath.toString();
+            event.bytes = bytes;
+            event.records = records;
+            event.commit();
+        }
+    }
+
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * The students of a student book at one version, taken on the model thread to be written by the write-behind
+     * writer. Only the students that changed since the previous snapshot are copied when it is taken.
+     */
+    private static class StudentBookSnapshot implements ReadOnlyStudentBook {
+        private final EntitySnapshot<Student> students;
+        private final ChangeLog changes;
+        private ObservableList<Student> studentList;
+
+        StudentBookSnapshot(EntitySnapshot<Student> students, ChangeLog changes) {
+            this.students = students;
+            this.changes = changes;
+        }
+
+        @Override
+        public synchronized ObservableList<Student> getStudentList() {
+            if (studentList == null) {
+                studentList = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableList(students.getEntities()));
+            }
+            return studentList;
+        }
+
+        @Override
+        public Optional<Student> getStudent(long id) {
+            return students.getEntity(id);
+        }
+
+        @Override
+        public long getVersion() {
+            return students.getVersion();
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return changes.copy();
+        }
+    }
+
+    /**
+     * The lessons of a lesson book at one version, taken on the model thread to be written by the write-behind
+     * writer. Only the lessons that changed since the previous snapshot are copied when it is taken.
+     */
+    private static class LessonBookSnapshot implements ReadOnlyLessonBook {
+        private final EntitySnapshot<Lesson> lessons;
+        private final ChangeLog changes;
+        private ObservableList<Lesson> lessonList;
+        private Map<LessonName, Lesson> lessonsByName;
+
+        LessonBookSnapshot(EntitySnapshot<Lesson> lessons, ChangeLog changes) {
+            this.lessons = lessons;
+            this.changes = changes;
+        }
+
+        @Override
+        public synchronized ObservableList<Lesson> getLessonList() {
+            if (lessonList == null) {
+                lessonList = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableList(lessons.getEntities()));
+            }
+            return lessonList;
+        }
+
+        @Override
+        public long getVersion() {
+            return lessons.getVersion();
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return changes.copy();
+        }
+
+        @Override
+        public synchronized Optional<Lesson> getLesson(LessonName lessonName) {
+            if (lessonsByName == null) {
+                lessonsByName = new HashMap<>();
+                for (Lesson lesson : lessons.getEntities()) {
+                    lessonsByName.put(lesson.getLessonName(), lesson);
+                }
+            }
+            return Optional.ofNullable(lessonsByName.get(lessonName));
+        }
+
+        @Override
+        public Optional<Lesson> getLesson(long id) {
+            return lessons.getEntity(id);
+        }
+    }
 }
@@ -39,7 +39,16 @@ public interface TutorAidLessonStorage {
     void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException;
 
     /**
+     * @return the number of bytes written to the storage.
      * @see #saveLessonBook(ReadOnlyLessonBook)
      */
-    void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException;
+    long saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException;
+
+    /**
+     * Records that {@code lessonBook} holds the same lessons as the storage, such as when it was just read from the
+     * storage, so that later saves of it may write only the lessons that changed.
+     *
+     * @param lessonBook cannot be null.
+     */
+    void markLessonBookSaved(ReadOnlyLessonBook lessonBook);
 }
@@ -2,12 +2,14 @@ package tutoraid.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import tutoraid.commons.exceptions.DataConversionException;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.StudentBook;
+import tutoraid.model.student.InitialStudent;
 
 /**
  * Represents a storage for {@link StudentBook}.
@@ -35,6 +37,20 @@ public interface TutorAidStudentStorage {
     Optional<ReadOnlyStudentBook> readStudentBook(Path filePath, ReadOnlyLessonBook lessonBook)
             throws DataConversionException, IOException;
 
+    /**
+     * Returns the students in the StudentBook data before they are linked to their lessons, so that they can be read
+     * without the lesson book. Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException             if there was any problem when reading from the storage.
+     */
+    Optional<List<InitialStudent>> readInitialStudents() throws DataConversionException, IOException;
+
+    /**
+     * @see #readInitialStudents()
+     */
+    Optional<List<InitialStudent>> readInitialStudents(Path filePath) throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyStudentBook} to the storage.
      *
@@ -44,8 +60,17 @@ public interface TutorAidStudentStorage {
     void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException;
 
     /**
+     * @return the number of bytes written to the storage.
      * @see #saveStudentBook(ReadOnlyStudentBook)
      */
-    void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException;
+    long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException;
+
+    /**
+     * Records that {@code studentBook} holds the same students as the storage, such as when it was just read from the
+     * storage, so that later saves of it may write only the students that changed.
+     *
+     * @param studentBook cannot be null.
+     */
+    void markStudentBookSaved(ReadOnlyStudentBook studentBook);
 
 }
@@ -0,0 +1,99 @@
+package tutoraid.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tutoraid.commons.core.LogsCenter;
+
+/**
+ * Writes files on a single background thread, so that callers do not wait for the disk.
+ * Writes submitted for a file that has not been written yet replace the earlier one, so a burst of saves to the
+ * same file results in only the latest one being written.
+ */
+public class WriteBehindWriter {
+
+    /**
+     * A write of a single file.
+     */
+    @FunctionalInterface
+    public interface FileWrite {
+        void write() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindWriter.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Consumer<IOException> failureHandler;
+
+    // guarded by this; ordered so that files are written in the order they were first submitted
+    private final Map<Path, FileWrite> pendingWrites = new LinkedHashMap<>();
+    private boolean isDrainScheduled = false;
+
+    /**
+     * Creates a {@code WriteBehindWriter} that passes any failed write to {@code failureHandler}.
+     * The handler is called on the writer thread.
+     */
+    public WriteBehindWriter(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code write} to write {@code filePath}, replacing any write to the same file that has not started.
+     * {@code write} must not read anything that may change after this call.
+     */
+    public synchronized void submit(Path filePath, FileWrite write) {
+        requireNonNull(filePath);
+        requireNonNull(write);
+        pendingWrites.put(filePath, write);
+        if (!isDrainScheduled) {
+            isDrainScheduled = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Blocks until every write submitted before this call has finished.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    private void drain() {
+        List<FileWrite> writes;
+        synchronized (this) {
+            writes = new ArrayList<>(pendingWrites.values());
+            pendingWrites.clear();
+            isDrainScheduled = false;
+        }
+        for (FileWrite write : writes) {
+            try {
+                write.write();
+            } catch (IOException e) {
+                logger.warning("Failed to write data file in the background: " + e);
+                failureHandler.accept(e);
+            }
+        }
+    }
+}
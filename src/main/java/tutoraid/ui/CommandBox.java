@@ -1,13 +1,28 @@
 package tutoraid.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import tutoraid.logic.LiveFilter;
 import tutoraid.logic.Logic;
 import tutoraid.logic.commands.CommandResult;
-import tutoraid.logic.commands.exceptions.CommandException;
-import tutoraid.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -15,38 +30,171 @@ import tutoraid.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String PENDING_STYLE_CLASS = "pending";
     private static final String FXML = "CommandBox.fxml";
+    private static final int MAX_SUGGESTIONS = 8;
+    private static final long LIVE_FILTER_DELAY_MILLIS = 150;
+
+    // completions are found off the FX thread, one request at a time
+    private static final ExecutorService suggestionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // live filters are evaluated off the FX thread once typing pauses
+    private static final ScheduledExecutorService liveFilterExecutor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "live-filter");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     private final CommandExecutor commandExecutor;
+    private final SuggestionProvider suggestionProvider;
+    private final LiveFilterProvider liveFilterProvider;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    // identifies the latest text typed, so that suggestions for older text are dropped
+    private final AtomicLong suggestionRequest = new AtomicLong();
+    // identifies the latest live filter, so that the results of older ones are dropped
+    private final AtomicLong liveFilterRequest = new AtomicLong();
+    private ScheduledFuture<?> pendingLiveFilter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code SuggestionProvider} and
+     * {@code LiveFilterProvider}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, SuggestionProvider suggestionProvider,
+            LiveFilterProvider liveFilterProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.suggestionProvider = suggestionProvider;
+        this.liveFilterProvider = liveFilterProvider;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> requestSuggestions(newText));
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> requestLiveFilter(newText));
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleTabPressed);
+    }
+
+    /**
+     * Finds the suggestions for {@code commandText} in the background, and shows them if the text has not changed
+     * by the time they are found.
+     */
+    private void requestSuggestions(String commandText) {
+        long request = suggestionRequest.incrementAndGet();
+        if (commandText.isBlank()) {
+            suggestionMenu.hide();
+            return;
+        }
+        suggestionExecutor.execute(() -> {
+            if (request != suggestionRequest.get()) {
+                return;
+            }
+            List<String> suggestions = suggestionProvider.getSuggestions(commandText, MAX_SUGGESTIONS);
+            Platform.runLater(() -> {
+                if (request == suggestionRequest.get()) {
+                    showSuggestions(suggestions);
+                }
+            });
+        });
+    }
+
+    /**
+     * Filters the lists by the find command being typed once typing pauses. The filter is evaluated in the background
+     * and its result is only applied if nothing was typed or executed in the meantime.
+     */
+    private void requestLiveFilter(String commandText) {
+        cancelLiveFilter();
+        Optional<LiveFilter<?>> liveFilter = liveFilterProvider.getLiveFilter(commandText);
+        if (liveFilter.isEmpty()) {
+            return;
+        }
+        long request = liveFilterRequest.get();
+        pendingLiveFilter = liveFilterExecutor.schedule(() -> {
+            if (liveFilter.get().evaluate() && request == liveFilterRequest.get()) {
+                liveFilter.get().apply();
+            }
+        }, LIVE_FILTER_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelLiveFilter() {
+        liveFilterRequest.incrementAndGet();
+        if (pendingLiveFilter != null) {
+            pendingLiveFilter.cancel(true);
+            pendingLiveFilter = null;
+        }
+    }
+
+    private void showSuggestions(List<String> suggestions) {
+        if (suggestions.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+        suggestionMenu.getItems().clear();
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> acceptSuggestion(suggestion));
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void acceptSuggestion(String suggestion) {
+        commandTextField.setText(suggestion);
+        commandTextField.positionCaret(suggestion.length());
+    }
+
+    /**
+     * Accepts the first suggestion shown when Tab is pressed.
+     */
+    private void handleTabPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.TAB && suggestionMenu.isShowing() && !suggestionMenu.getItems().isEmpty()) {
+            acceptSuggestion(suggestionMenu.getItems().get(0).getText());
+            event.consume();
+        }
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box cannot be edited while the command is pending, but the rest of the window stays responsive.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || !commandTextField.isEditable()) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        suggestionMenu.hide();
+        // the command itself decides what the lists show
+        cancelLiveFilter();
+        setStyleToIndicatePending(true);
+        commandExecutor.execute(commandText).whenCompleteAsync((commandResult, error) -> {
+            setStyleToIndicatePending(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        }, Platform::runLater);
+    }
+
+    /**
+     * Shows whether a command is pending, during which the command box cannot be edited.
+     */
+    private void setStyleToIndicatePending(boolean isPending) {
+        commandTextField.setEditable(!isPending);
+        if (isPending) {
+            commandTextField.getStyleClass().add(PENDING_STYLE_CLASS);
+        } else {
+            commandTextField.getStyleClass().remove(PENDING_STYLE_CLASS);
         }
     }
 
@@ -76,11 +224,38 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns a future of the result, which completes exceptionally if the command
+         * fails.
+         *
+         * @see Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that suggests completions of a partially typed command.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Returns up to {@code limit} completions of {@code commandText}. Called off the FX thread.
+         *
+         * @see Logic#getCompletions(String, int)
+         */
+        List<String> getSuggestions(String commandText, int limit);
+    }
+
+    /**
+     * Represents a function that filters the lists by a partially typed find command.
+     */
+    @FunctionalInterface
+    public interface LiveFilterProvider {
+        /**
+         * Returns a filter for {@code commandText}, if it is a find command.
          *
-         * @see Logic#execute(String)
+         * @see Logic#getLiveFilter(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        Optional<LiveFilter<?>> getLiveFilter(String commandText);
     }
 
 }
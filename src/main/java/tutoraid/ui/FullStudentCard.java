@@ -3,12 +3,11 @@ package tutoraid.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import tutoraid.model.student.Student;
 
 /**
  * A UI component that displays information of a {@code Student}. The full student card displays every progress entry.
  */
-public class FullStudentCard extends Card<Student> {
+public class FullStudentCard extends Card<StudentCardData> {
 
     private static final String FXML = "StudentListCard.fxml";
 
@@ -46,16 +45,16 @@ public class FullStudentCard extends Card<Student> {
 
 
     /**
-     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     * Creates a {@code StudentCard} with the given {@code StudentCardData} and index to display.
      */
-    public FullStudentCard(Student student, int displayedIndex) {
+    public FullStudentCard(StudentCardData student, int displayedIndex) {
         super(FXML, student, displayedIndex);
         id.setText(displayedIndex + ". ");
-        studentName.setText(formatCardLabel(LABEL_STUDENT_NAME, student.getStudentName().fullName));
-        studentPhone.setText(formatCardLabel(LABEL_STUDENT_PHONE, student.getStudentPhone().value));
-        parentName.setText(formatCardLabel(LABEL_PARENT_NAME, student.getParentName().fullName));
-        parentPhone.setText(formatCardLabel(LABEL_PARENT_PHONE, student.getParentPhone().value));
-        progress.setText(formatCardLabel(LABEL_PROGRESS, student.getProgressList().toString()));
-        lessons.setText(formatCardLabel(LABEL_LESSONS, student.getLessons().toString()));
+        studentName.setText(formatCardLabel(LABEL_STUDENT_NAME, student.studentName));
+        studentPhone.setText(formatCardLabel(LABEL_STUDENT_PHONE, student.studentPhone));
+        parentName.setText(formatCardLabel(LABEL_PARENT_NAME, student.parentName));
+        parentPhone.setText(formatCardLabel(LABEL_PARENT_PHONE, student.parentPhone));
+        progress.setText(formatCardLabel(LABEL_PROGRESS, student.progressList));
+        lessons.setText(formatCardLabel(LABEL_LESSONS, student.lessons));
     }
 }
@@ -0,0 +1,148 @@
+package tutoraid.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import tutoraid.commons.core.LogsCenter;
+
+/**
+ * A copy of an observable list that is only changed on the FX thread, so that lists changed by the model thread can
+ * be shown in the UI.
+ * Each change to the source list is recorded on the thread that makes it, as the range it replaced and the items it
+ * added, converted to immutable data for display there too, so the FX thread never reads the items themselves while
+ * they are changed. The changes recorded are replayed on the next pulse. If they add more items than the source list
+ * holds, they are coalesced into a single copy of the source list, so the UI catches up with the latest contents of
+ * the source list at most once per pulse however often it changes.
+ */
+class FxListMirror<E, V> {
+
+    private static final Logger logger = LogsCenter.getLogger(FxListMirror.class);
+
+    private final String name;
+    private final Function<E, V> toData;
+    private final ObservableList<V> mirror = FXCollections.observableArrayList();
+    private final ObservableList<V> unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+    // the changes to the source list that have not been shown yet, oldest first
+    private final List<Edit<V>> pendingEdits = new ArrayList<>();
+    private int pendingAddedCount;
+
+    /**
+     * Creates a mirror of {@code source}, which is called {@code name} in logs and flight recordings, holding the data
+     * that {@code toData} converts each item to.
+     * Must be called while {@code source} is not being changed.
+     */
+    FxListMirror(String name, ObservableList<E> source, Function<E, V> toData) {
+        this.name = name;
+        this.toData = toData;
+        mirror.setAll(convert(source));
+        source.addListener((ListChangeListener<E>) this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the mirror, which is only changed on the FX thread.
+     */
+    ObservableList<V> getList() {
+        return unmodifiableMirror;
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends E> change) {
+        List<Edit<V>> edits = new ArrayList<>();
+        int addedCount = 0;
+        while (change.next()) {
+            int from = change.getFrom();
+            List<? extends E> added = change.wasPermutated() || change.wasUpdated()
+                    ? change.getList().subList(from, change.getTo())
+                    : change.getAddedSubList();
+            int replacedCount = change.wasPermutated() || change.wasUpdated()
+                    ? added.size()
+                    : change.getRemovedSize();
+            edits.add(new Edit<>(from, replacedCount, convert(added)));
+            addedCount += added.size();
+        }
+
+        List<? extends E> source = change.getList();
+        boolean isShowScheduled;
+        synchronized (pendingEdits) {
+            isShowScheduled = !pendingEdits.isEmpty();
+            pendingAddedCount += addedCount;
+            if (pendingAddedCount > source.size()) {
+                // replaying the changes would take longer than copying the whole list
+                pendingEdits.clear();
+                pendingEdits.add(new Edit<>(0, Edit.ALL, convert(source)));
+                pendingAddedCount = source.size();
+            } else {
+                pendingEdits.addAll(edits);
+            }
+        }
+        if (!isShowScheduled) {
+            Platform.runLater(this::showPendingEdits);
+        }
+    }
+
+    private List<V> convert(List<? extends E> items) {
+        List<V> data = new ArrayList<>(items.size());
+        for (E item : items) {
+            data.add(toData.apply(item));
+        }
+        return data;
+    }
+
+    private void showPendingEdits() {
+        List<Edit<V>> edits;
+        synchronized (pendingEdits) {
+            edits = new ArrayList<>(pendingEdits);
+            pendingEdits.clear();
+            pendingAddedCount = 0;
+        }
+        if (edits.isEmpty()) {
+            return;
+        }
+        ListRefreshEvent event = new ListRefreshEvent();
+        event.begin();
+        for (Edit<V> edit : edits) {
+            edit.applyTo(mirror);
+        }
+        event.end();
+        logger.log(Level.FINE, "Replayed {0} changes to the {1} list, which has {2} items",
+                new Object[] {edits.size(), name, mirror.size()});
+        if (event.shouldCommit()) {
+            event.list = name;
+            event.size = mirror.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * A change to the source list, which replaced {@code replacedCount} items from {@code from} with {@code items}.
+     */
+    private static class Edit<V> {
+        // the replaced count of an edit that replaces every item
+        static final int ALL = -1;
+
+        private final int from;
+        private final int replacedCount;
+        private final List<V> items;
+
+        Edit(int from, int replacedCount, List<V> items) {
+            this.from = from;
+            this.replacedCount = replacedCount;
+            this.items = items;
+        }
+
+        void applyTo(ObservableList<V> list) {
+            if (replacedCount == ALL) {
+                list.setAll(items);
+                return;
+            }
+            list.remove(from, from + replacedCount);
+            list.addAll(from, items);
+        }
+    }
+}
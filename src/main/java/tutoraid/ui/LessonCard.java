@@ -3,12 +3,11 @@ package tutoraid.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import tutoraid.model.lesson.Lesson;
 
 /**
  * A UI component that displays information of a {@code Lesson}.
  */
-public class LessonCard extends Card<Lesson> {
+public class LessonCard extends Card<LessonCardData> {
 
     private static final String FXML = "LessonListCard.fxml";
 
@@ -42,15 +41,15 @@ public class LessonCard extends Card<Lesson> {
     private Label students;
 
     /**
-     * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
+     * Creates a {@code LessonCard} with the given {@code LessonCardData} and index to display.
      */
-    public LessonCard(Lesson lesson, int displayedIndex) {
+    public LessonCard(LessonCardData lesson, int displayedIndex) {
         super(FXML, lesson, displayedIndex);
         id.setText(displayedIndex + ". ");
-        lessonName.setText(formatCardLabel(LABEL_LESSON_NAME, lesson.getLessonName().toString()));
-        timing.setText(formatCardLabel(LABEL_TIMING, lesson.getTiming().toString()));
-        price.setText(formatCardLabel(LABEL_PRICE, lesson.getPrice().toString()));
-        capacity.setText(formatCardLabel(LABEL_CAPACITY, lesson.getCapacity().toString()));
-        students.setText(formatCardLabel(LABEL_STUDENTS, lesson.getStudents().toString()));
+        lessonName.setText(formatCardLabel(LABEL_LESSON_NAME, lesson.lessonName));
+        timing.setText(formatCardLabel(LABEL_TIMING, lesson.timing));
+        price.setText(formatCardLabel(LABEL_PRICE, lesson.price));
+        capacity.setText(formatCardLabel(LABEL_CAPACITY, lesson.capacity));
+        students.setText(formatCardLabel(LABEL_STUDENTS, lesson.students));
     }
 }
@@ -0,0 +1,63 @@
+package tutoraid.ui;
+
+import java.util.Objects;
+
+import tutoraid.model.lesson.Lesson;
+
+/**
+ * The text shown by the cards of a {@code Lesson}, captured on the thread that changes the lesson so that the cards
+ * never read a lesson that a command is changing.
+ * Guarantees: immutable
+ */
+public final class LessonCardData {
+
+    public final long id;
+    public final String lessonName;
+    public final String timing;
+    public final String price;
+    public final String capacity;
+    public final String students;
+
+    private LessonCardData(Lesson lesson) {
+        id = lesson.getId();
+        lessonName = lesson.toNameString();
+        timing = lesson.getTiming().toString();
+        price = lesson.getPrice().toString();
+        capacity = lesson.getCapacity().toString();
+        students = lesson.getStudents().toString();
+    }
+
+    /**
+     * Returns the text shown by the cards of {@code lesson}. Must be called on the thread that changes it.
+     */
+    public static LessonCardData of(Lesson lesson) {
+        return new LessonCardData(lesson);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonCardData)) {
+            return false;
+        }
+
+        // state check
+        LessonCardData otherData = (LessonCardData) other;
+        return id == otherData.id
+                && lessonName.equals(otherData.lessonName)
+                && timing.equals(otherData.timing)
+                && price.equals(otherData.price)
+                && capacity.equals(otherData.capacity)
+                && students.equals(otherData.students);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, lessonName, timing, price, capacity, students);
+    }
+}
@@ -11,7 +11,6 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import tutoraid.commons.core.LogsCenter;
-import tutoraid.model.lesson.Lesson;
 
 /**
  * Panel containing the list of lessons.
@@ -22,12 +21,12 @@ public class LessonListPanel extends UiPart<Region> {
     private final DetailLevel detailLevel;
 
     @FXML
-    private ListView<Lesson> lessonListView;
+    private ListView<LessonCardData> lessonListView;
 
     /**
      * Creates a {@code LessonListPanel} with the given {@code ObservableList}.
      */
-    public LessonListPanel(ObservableList<Lesson> lessonList, DetailLevel detailLevel) {
+    public LessonListPanel(ObservableList<LessonCardData> lessonList, DetailLevel detailLevel) {
         super(FXML);
         lessonListView.setItems(lessonList);
         lessonListView.setCellFactory(listView -> new LessonListViewCell());
@@ -37,9 +36,9 @@ public class LessonListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} using a {@code LessonCard}.
      */
-    class LessonListViewCell extends ListCell<Lesson> {
+    class LessonListViewCell extends ListCell<LessonCardData> {
         @Override
-        protected void updateItem(Lesson lesson, boolean empty) {
+        protected void updateItem(LessonCardData lesson, boolean empty) {
             super.updateItem(lesson, empty);
 
             if (empty || lesson == null) {
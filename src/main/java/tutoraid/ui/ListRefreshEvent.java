@@ -0,0 +1,23 @@
+package tutoraid.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for showing the latest contents of a list in the UI, as done by {@link FxListMirror}.
+ */
+@Name("tutoraid.ListRefresh")
+@Label("List Refresh")
+@Category({"TutorAid", "UI"})
+@Description("Copying the latest contents of a list changed by the model thread into the UI")
+class ListRefreshEvent extends Event {
+
+    @Label("List")
+    String list;
+
+    @Label("Size")
+    int size;
+}
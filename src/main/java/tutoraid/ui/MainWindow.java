@@ -6,8 +6,13 @@ import static tutoraid.ui.DetailLevel.MED;
 
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -18,6 +23,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.commons.core.LogsCenter;
+import tutoraid.commons.util.StringUtil;
 import tutoraid.logic.Logic;
 import tutoraid.logic.commands.CommandResult;
 import tutoraid.logic.commands.exceptions.CommandException;
@@ -47,6 +53,7 @@ public class MainWindow extends UiPart<Stage> {
     private StudentListPanel studentListPanel;
     private LessonListPanel lessonListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -77,11 +84,17 @@ public class MainWindow extends UiPart<Stage> {
         this.primaryStage = primaryStage;
         this.logic = logic;
 
-        fullStudentPanel = new StudentListPanel(logic.getFilteredStudentList(), HIGH);
-        mediumStudentPanel = new StudentListPanel(logic.getFilteredStudentList(), MED);
-        minimalStudentPanel = new StudentListPanel(logic.getFilteredStudentList(), LOW);
-        fullLessonPanel = new LessonListPanel(logic.getFilteredLessonList(), HIGH);
-        minimalLessonPanel = new LessonListPanel(logic.getFilteredLessonList(), LOW);
+        // commands change the filtered lists on the model thread, so the panels show copies kept on the FX thread
+        // and the cards only read data captured from the students and lessons on the model thread
+        ObservableList<StudentCardData> studentList =
+                new FxListMirror<>("students", logic.getFilteredStudentList(), StudentCardData::of).getList();
+        ObservableList<LessonCardData> lessonList =
+                new FxListMirror<>("lessons", logic.getFilteredLessonList(), LessonCardData::of).getList();
+        fullStudentPanel = new StudentListPanel(studentList, HIGH);
+        mediumStudentPanel = new StudentListPanel(studentList, MED);
+        minimalStudentPanel = new StudentListPanel(studentList, LOW);
+        fullLessonPanel = new LessonListPanel(lessonList, HIGH);
+        minimalLessonPanel = new LessonListPanel(lessonList, LOW);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -165,10 +178,10 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay.setFeedbackToUser(getMessageFromQueue());
 
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getStudentBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getStudentBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions, logic::getLiveFilter);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -244,14 +257,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the model thread, and shows its result on the FX thread once it completes.
      *
-     * @see Logic#execute(String)
+     * @see Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            statusBarFooter.showLatency(logic.getLatencyRecorder());
+            if (error != null) {
+                handleCommandFailure(commandText, error);
+                return;
+            }
+
+            logger.log(Level.INFO, "Result: {0}", commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -261,12 +279,17 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        }, Platform::runLater);
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    private void handleCommandFailure(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CommandException || cause instanceof ParseException) {
+            logger.log(Level.INFO, "Invalid command: {0}", commandText);
+        } else {
+            logger.log(Level.SEVERE, "Command failed unexpectedly: {0} {1}",
+                    new Object[] {commandText, LogsCenter.lazy(() -> StringUtil.getDetails(cause))});
         }
+        resultDisplay.setFeedbackToUser(cause.getMessage());
     }
 }
@@ -3,12 +3,11 @@ package tutoraid.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import tutoraid.model.lesson.Lesson;
 
 /**
  * An UI component that displays information of a {@code Lesson}.
  */
-public class MinimalLessonCard extends Card<Lesson> {
+public class MinimalLessonCard extends Card<LessonCardData> {
 
     private static final String FXML = "MinimalLessonListCard.fxml";
 
@@ -34,12 +33,12 @@ public class MinimalLessonCard extends Card<Lesson> {
 
 
     /**
-     * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
+     * Creates a {@code LessonCard} with the given {@code LessonCardData} and index to display.
      */
-    public MinimalLessonCard(Lesson lesson, int displayedIndex) {
+    public MinimalLessonCard(LessonCardData lesson, int displayedIndex) {
         super(FXML, lesson, displayedIndex);
         id.setText(displayedIndex + ". ");
-        lessonName.setText(lesson.toNameString());
-        timing.setText(formatCardLabel(LABEL_TIMING, lesson.getTiming().toString()));
+        lessonName.setText(lesson.lessonName);
+        timing.setText(formatCardLabel(LABEL_TIMING, lesson.timing));
     }
 }
@@ -3,12 +3,11 @@ package tutoraid.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import tutoraid.model.student.Student;
 
 /**
  * An UI component that displays information of a {@code Student}.
  */
-public class MinimalStudentCard extends Card<Student> {
+public class MinimalStudentCard extends Card<StudentCardData> {
 
     private static final String FXML = "MinimalStudentListCard.fxml";
 
@@ -28,11 +27,11 @@ public class MinimalStudentCard extends Card<Student> {
     private Label id;
 
     /**
-     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     * Creates a {@code StudentCard} with the given {@code StudentCardData} and index to display.
      */
-    public MinimalStudentCard(Student student, int displayedIndex) {
+    public MinimalStudentCard(StudentCardData student, int displayedIndex) {
         super(FXML, student, displayedIndex);
         id.setText(displayedIndex + ". ");
-        name.setText(student.getStudentName().fullName);
+        name.setText(student.studentName);
     }
 }
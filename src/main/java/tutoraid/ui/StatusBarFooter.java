@@ -6,6 +6,9 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import tutoraid.logic.LatencyRecorder;
+import tutoraid.logic.LatencyRecorder.Phase;
+import tutoraid.logic.commands.StatsCommand;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,10 +16,14 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String LATENCY_FORMAT = "%1$s took %2$s (p95 %3$s)";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label latencyStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +32,13 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows how long the last command in {@code latencyRecorder} took, and how long commands of its type usually take.
+     */
+    public void showLatency(LatencyRecorder latencyRecorder) {
+        latencyRecorder.getLastCommandType().ifPresent(commandType -> latencyStatus.setText(String.format(
+                LATENCY_FORMAT, commandType, StatsCommand.formatMillis(latencyRecorder.getLastCommandNanos()),
+                StatsCommand.formatMillis(latencyRecorder.getHistogram(commandType, Phase.TOTAL).get()
+                        .getPercentile(95)))));
+    }
 }
@@ -3,12 +3,11 @@ package tutoraid.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import tutoraid.model.student.Student;
 
 /**
  * A UI component that displays information of a {@code Student}. This variant displays only the latest progress entry.
  */
-public class StudentCard extends Card<Student> {
+public class StudentCard extends Card<StudentCardData> {
 
     private static final String FXML = "StudentListCard.fxml";
 
@@ -45,17 +44,16 @@ public class StudentCard extends Card<Student> {
     private Label lessons;
 
     /**
-     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     * Creates a {@code StudentCard} with the given {@code StudentCardData} and index to display.
      */
-    public StudentCard(Student student, int displayedIndex) {
+    public StudentCard(StudentCardData student, int displayedIndex) {
         super(FXML, student, displayedIndex);
         id.setText(displayedIndex + ". ");
-        studentName.setText(formatCardLabel(LABEL_STUDENT_NAME, student.getStudentName().fullName));
-        studentPhone.setText(formatCardLabel(LABEL_STUDENT_PHONE, student.getStudentPhone().value));
-        parentName.setText(formatCardLabel(LABEL_PARENT_NAME, student.getParentName().fullName));
-        parentPhone.setText(formatCardLabel(LABEL_PARENT_PHONE, student.getParentPhone().value));
-        progress.setText(formatCardLabel(LABEL_PROGRESS, student.getLatestProgress().toString()));
-        lessons.setText(formatCardLabel(LABEL_LESSONS, student.getLessons().toString()));
-        lessons.setText(formatCardLabel(LABEL_LESSONS, student.getLessons().toString()));
+        studentName.setText(formatCardLabel(LABEL_STUDENT_NAME, student.studentName));
+        studentPhone.setText(formatCardLabel(LABEL_STUDENT_PHONE, student.studentPhone));
+        parentName.setText(formatCardLabel(LABEL_PARENT_NAME, student.parentName));
+        parentPhone.setText(formatCardLabel(LABEL_PARENT_PHONE, student.parentPhone));
+        progress.setText(formatCardLabel(LABEL_PROGRESS, student.latestProgress));
+        lessons.setText(formatCardLabel(LABEL_LESSONS, student.lessons));
     }
 }
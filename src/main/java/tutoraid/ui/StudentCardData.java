@@ -0,0 +1,68 @@
+package tutoraid.ui;
+
+import java.util.Objects;
+
+import tutoraid.model.student.Student;
+
+/**
+ * The text shown by the cards of a {@code Student}, captured on the thread that changes the student so that the
+ * cards never read a student that a command is changing.
+ * Guarantees: immutable
+ */
+public final class StudentCardData {
+
+    public final long id;
+    public final String studentName;
+    public final String studentPhone;
+    public final String parentName;
+    public final String parentPhone;
+    public final String latestProgress;
+    public final String progressList;
+    public final String lessons;
+
+    private StudentCardData(Student student) {
+        id = student.getId();
+        studentName = student.getStudentName().fullName;
+        studentPhone = student.getStudentPhone().value;
+        parentName = student.getParentName().fullName;
+        parentPhone = student.getParentPhone().value;
+        latestProgress = student.getLatestProgress().toString();
+        progressList = student.getProgressList().toString();
+        lessons = student.getLessons().toString();
+    }
+
+    /**
+     * Returns the text shown by the cards of {@code student}. Must be called on the thread that changes it.
+     */
+    public static StudentCardData of(Student student) {
+        return new StudentCardData(student);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentCardData)) {
+            return false;
+        }
+
+        // state check
+        StudentCardData otherData = (StudentCardData) other;
+        return id == otherData.id
+                && studentName.equals(otherData.studentName)
+                && studentPhone.equals(otherData.studentPhone)
+                && parentName.equals(otherData.parentName)
+                && parentPhone.equals(otherData.parentPhone)
+                && progressList.equals(otherData.progressList)
+                && lessons.equals(otherData.lessons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, studentName, studentPhone, parentName, parentPhone, progressList, lessons);
+    }
+}
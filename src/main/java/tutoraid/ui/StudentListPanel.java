@@ -11,7 +11,6 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import tutoraid.commons.core.LogsCenter;
-import tutoraid.model.student.Student;
 
 /**
  * Panel containing the list of students.
@@ -22,12 +21,12 @@ public class StudentListPanel extends UiPart<Region> {
     private final DetailLevel detailLevel;
 
     @FXML
-    private ListView<Student> studentListView;
+    private ListView<StudentCardData> studentListView;
 
     /**
      * Creates a {@code StudentListPanel} with the given {@code ObservableList}.
      */
-    public StudentListPanel(ObservableList<Student> studentList, DetailLevel detailLevel) {
+    public StudentListPanel(ObservableList<StudentCardData> studentList, DetailLevel detailLevel) {
         super(FXML);
         studentListView.setItems(studentList);
         studentListView.setCellFactory(listView -> new StudentListViewCell());
@@ -37,9 +36,9 @@ public class StudentListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
      */
-    class StudentListViewCell extends ListCell<Student> {
+    class StudentListViewCell extends ListCell<StudentCardData> {
         @Override
-        protected void updateItem(Student student, boolean empty) {
+        protected void updateItem(StudentCardData student, boolean empty) {
             super.updateItem(student, empty);
 
             if (empty || student == null) {
@@ -87,12 +87,15 @@ public class UiManager implements Ui {
     }
 
     /**
-     * Shows a specified level of detail for students and lessons
+     * Shows a specified level of detail for students and lessons.
+     * May be called from the model thread, in which case the details are shown on the FX thread.
      *
      * @param detailLevel The level of detail to display
      */
     public static void showDetails(DetailLevel detailLevel) {
-        if (mainWindow != null) {
+        if (mainWindow != null && !Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> showDetails(detailLevel));
+        } else if (mainWindow != null) {
             mainWindow.fillLessonCard(detailLevel);
             mainWindow.fillStudentCard(detailLevel);
         }
@@ -100,11 +103,14 @@ public class UiManager implements Ui {
 
     /**
      * Sends a message to mainWindow for printing to its console.
+     * May be called from the model thread, in which case the message is printed on the FX thread.
      *
      * @param message The message to be printed
      */
     public static void printMessage(String message) {
-        if (mainWindow != null) {
+        if (mainWindow != null && !Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> printMessage(message));
+        } else if (mainWindow != null) {
             mainWindow.printMessage(message);
         }
     }
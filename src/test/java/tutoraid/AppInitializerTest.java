@@ -0,0 +1,89 @@
+package tutoraid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.model.LessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.StudentBook;
+import tutoraid.storage.BinaryTutorAidLessonStorage;
+import tutoraid.storage.BinaryTutorAidStudentStorage;
+import tutoraid.storage.JsonTutorAidLessonStorage;
+import tutoraid.storage.JsonTutorAidStudentStorage;
+import tutoraid.testutil.TypicalLessons;
+import tutoraid.testutil.TypicalStudents;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path testFolder;
+    private LessonBook lessonBook;
+    private JsonTutorAidLessonStorage jsonLessonStorage;
+    private JsonTutorAidStudentStorage jsonStudentStorage;
+    private BinaryTutorAidLessonStorage binaryLessonStorage;
+    private BinaryTutorAidStudentStorage binaryStudentStorage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        lessonBook = TypicalLessons.getTypicalLessonBook();
+        jsonLessonStorage = new JsonTutorAidLessonStorage(testFolder.resolve("lessons.json"));
+        jsonStudentStorage = new JsonTutorAidStudentStorage(testFolder.resolve("students.json"), lessonBook);
+        binaryLessonStorage = new BinaryTutorAidLessonStorage(jsonLessonStorage);
+        binaryStudentStorage = new BinaryTutorAidStudentStorage(jsonStudentStorage);
+        binaryLessonStorage.saveLessonBook(lessonBook);
+        binaryStudentStorage.saveStudentBook(TypicalStudents.getTypicalStudentBook());
+    }
+
+    @Test
+    public void convertBinaryFilesToJson_bothConverted_binaryFilesDeleted() throws Exception {
+        AppInitializer.convertBinaryFilesToJson(jsonLessonStorage, jsonStudentStorage);
+
+        assertFalse(Files.exists(binaryLessonStorage.getLessonBookFilePath()));
+        assertFalse(Files.exists(binaryStudentStorage.getStudentBookFilePath()));
+        assertEquals(lessonBook, new LessonBook(jsonLessonStorage.readLessonBook().get()));
+        assertEquals(TypicalStudents.getTypicalStudentBook(),
+                new StudentBook(jsonStudentStorage.readStudentBook(lessonBook).get()));
+    }
+
+    @Test
+    public void convertBinaryFilesToJson_studentBookFailsToSave_bothBinaryFilesKept() throws Exception {
+        JsonTutorAidStudentStorage failingStorage =
+                new JsonTutorAidStudentStorageIoExceptionThrowingStub(testFolder.resolve("students.json"), lessonBook);
+
+        AppInitializer.convertBinaryFilesToJson(jsonLessonStorage, failingStorage);
+
+        assertTrue(Files.exists(binaryLessonStorage.getLessonBookFilePath()));
+        assertTrue(Files.exists(binaryStudentStorage.getStudentBookFilePath()));
+
+        // the next start converts both books again
+        AppInitializer.convertBinaryFilesToJson(jsonLessonStorage, jsonStudentStorage);
+
+        assertFalse(Files.exists(binaryLessonStorage.getLessonBookFilePath()));
+        assertFalse(Files.exists(binaryStudentStorage.getStudentBookFilePath()));
+        assertEquals(TypicalStudents.getTypicalStudentBook(),
+                new StudentBook(jsonStudentStorage.readStudentBook(lessonBook).get()));
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonTutorAidStudentStorageIoExceptionThrowingStub extends JsonTutorAidStudentStorage {
+        JsonTutorAidStudentStorageIoExceptionThrowingStub(Path filePath, LessonBook lessonBook) {
+            super(filePath, lessonBook);
+        }
+
+        @Override
+        public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
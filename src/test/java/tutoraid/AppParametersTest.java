@@ -1,6 +1,7 @@
 package tutoraid;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +38,34 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("script.txt"));
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--config=config.json", AppParameters.HEADLESS_FLAG,
+                "--script=script.txt", "unnamed"));
+    }
+
+    @Test
+    public void parse_recordingPath_success() {
+        parametersStub.namedParameters.put("recording", "tutoraid.jfr");
+        expected.setRecordingPath(Paths.get("tutoraid.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse("--recording=tutoraid.jfr"));
+    }
+
+    @Test
+    public void parse_rawArgumentsWithoutHeadlessFlag_notHeadless() {
+        assertFalse(AppParameters.parse("--script=script.txt").isHeadless());
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(AppParameters.HEADLESS_FLAG, "--script=a\0"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
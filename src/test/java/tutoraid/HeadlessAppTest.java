@@ -0,0 +1,106 @@
+package tutoraid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutoraid.commons.core.Messages.MESSAGE_LIST_SUCCESS;
+import static tutoraid.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.logic.LogicManager;
+import tutoraid.logic.commands.BatchCommand;
+import tutoraid.logic.commands.ExitCommand;
+import tutoraid.logic.commands.ListCommand;
+import tutoraid.logic.parser.TutorAidParser;
+import tutoraid.model.LessonBook;
+import tutoraid.model.ModelManager;
+import tutoraid.storage.JsonTutorAidLessonStorage;
+import tutoraid.storage.JsonTutorAidStudentStorage;
+import tutoraid.storage.JsonUserPrefsStorage;
+import tutoraid.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JsonTutorAidLessonStorage lessonBookStorage =
+                new JsonTutorAidLessonStorage(temporaryFolder.resolve("tutorAidLessons.json"));
+        JsonTutorAidStudentStorage studentBookStorage =
+                new JsonTutorAidStudentStorage(temporaryFolder.resolve("tutorAidStudents.json"),
+                        new LessonBook());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(studentBookStorage, lessonBookStorage, userPrefsStorage);
+        app = new HeadlessApp(new LogicManager(new ModelManager(), storage), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    @Test
+    public void runCommands_validCommands_printsResults() {
+        String commands = ListCommand.COMMAND_WORD + "\n\n" + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, app.runCommands(new BufferedReader(new StringReader(commands))));
+        assertEquals(lines(MESSAGE_LIST_SUCCESS, MESSAGE_LIST_SUCCESS), output(out));
+        assertEquals("", output(err));
+    }
+
+    @Test
+    public void runCommands_invalidCommand_continuesAndFails() {
+        String commands = "unknownCommand\n" + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.runCommands(new BufferedReader(new StringReader(commands))));
+        assertEquals(lines(MESSAGE_LIST_SUCCESS), output(out));
+        assertEquals(lines(MESSAGE_UNKNOWN_COMMAND), output(err));
+    }
+
+    @Test
+    public void runCommands_exitCommand_stopsReading() {
+        String commands = ExitCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, app.runCommands(new BufferedReader(new StringReader(commands))));
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), output(out));
+    }
+
+    @Test
+    public void runScript_validScript_runsBatch() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(TutorAidParser.COMMENT_MARKER + " show everything", ListCommand.COMMAND_WORD));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, app.runScript(script));
+        assertEquals(lines(String.format(BatchCommand.MESSAGE_SUCCESS, 1)), output(out));
+    }
+
+    @Test
+    public void runScript_missingScript_fails() {
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.runScript(temporaryFolder.resolve("missing.txt")));
+        assertEquals("", output(out));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+}
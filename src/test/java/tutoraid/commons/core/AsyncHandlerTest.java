@@ -0,0 +1,245 @@
+package tutoraid.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.commons.core.AsyncHandler.OverflowPolicy;
+import tutoraid.testutil.Assert;
+
+public class AsyncHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new AsyncHandler(List.of(), 0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void publish_records_publishedInOrderOnAnotherThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(List.of(target), 16, OverflowPolicy.DROP);
+        handler.publish(record("first"));
+        handler.publish(record("second"));
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), target.getMessages());
+        assertFalse(target.getThreads().contains(Thread.currentThread()));
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_notPublished() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(List.of(target), 16, OverflowPolicy.DROP);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.flush();
+
+        assertTrue(target.getMessages().isEmpty());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_droppedAndReported() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncHandler handler = new AsyncHandler(List.of(target), 3, OverflowPolicy.DROP);
+        handler.publish(record("blocking"));
+        target.awaitBlocked();
+        handler.publish(record("queued 1"));
+        handler.publish(record("queued 2"));
+        handler.publish(record("dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        target.release();
+        handler.flush();
+        handler.close();
+        List<String> messages = target.getMessages();
+        assertEquals(List.of("blocking", "queued 1", "queued 2"), messages.subList(0, 3));
+        assertEquals(new SimpleFormatter().formatMessage(droppedReport(1)), messages.get(3));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_queueFullWithPublishInCallerPolicy_publishedInCaller() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncHandler handler = new AsyncHandler(List.of(target), 2, OverflowPolicy.PUBLISH_IN_CALLER);
+        handler.publish(record("blocking"));
+        target.awaitBlocked();
+        handler.publish(record("queued"));
+
+        // releases the target once the caller is waiting for the queue to be drained
+        Thread caller = Thread.currentThread();
+        Thread releaser = new Thread(() -> {
+            while (caller.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+            target.release();
+        });
+        releaser.start();
+        handler.publish(record("overflow"));
+        releaser.join(TimeUnit.SECONDS.toMillis(5));
+        handler.close();
+
+        assertEquals(List.of("blocking", "queued", "overflow"), target.getMessages());
+        assertEquals(caller, target.getThreads().get(2));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void close_queuedRecords_publishedAndTargetsClosed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(List.of(target), 1000, OverflowPolicy.DROP);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(record(Integer.toString(i)));
+        }
+        handler.close();
+
+        assertEquals(1000, target.getMessages().size());
+        assertTrue(target.isClosed());
+
+        // records after closing are still published
+        handler.publish(record("late"));
+        assertEquals("late", target.getMessages().get(1000));
+    }
+
+    @Test
+    public void publish_lazyParameter_builtOnlyWhenFormatted() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Object lazyParameter = LogsCenter.lazy(() -> "value " + evaluations.incrementAndGet());
+        RecordingHandler target = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(List.of(target), 16, OverflowPolicy.DROP);
+        handler.setLevel(Level.INFO);
+
+        LogRecord fineRecord = new LogRecord(Level.FINE, "Fine {0}");
+        fineRecord.setParameters(new Object[] {lazyParameter});
+        handler.publish(fineRecord);
+        handler.flush();
+        assertEquals(0, evaluations.get());
+
+        LogRecord infoRecord = new LogRecord(Level.INFO, "Info {0}");
+        infoRecord.setParameters(new Object[] {lazyParameter});
+        handler.publish(infoRecord);
+        handler.flush();
+        assertEquals(List.of("Info value 1"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_failingTarget_laterRecordsStillPublished() {
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().equals("failing")) {
+                    throw new IllegalStateException();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncHandler handler = new AsyncHandler(List.of(target), 16, OverflowPolicy.DROP);
+        AtomicInteger errors = new AtomicInteger();
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public synchronized void error(String msg, Exception ex, int code) {
+                errors.incrementAndGet();
+            }
+        });
+        handler.publish(record("failing"));
+        handler.publish(record("after"));
+        handler.flush();
+
+        assertEquals(List.of("after"), target.getMessages());
+        assertEquals(1, errors.get());
+        handler.close();
+    }
+
+    private static LogRecord record(String message) {
+        LogRecord record = new LogRecord(Level.INFO, message);
+        record.setLoggerName(AsyncHandlerTest.class.getSimpleName());
+        return record;
+    }
+
+    private static LogRecord droppedReport(long dropped) {
+        LogRecord report = new LogRecord(Level.WARNING, AsyncHandler.MESSAGE_DROPPED_RECORDS);
+        report.setParameters(new Object[] {dropped});
+        return report;
+    }
+
+    /**
+     * A handler that keeps the formatted message of each record it is given, and the thread that gave it.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            String message = new SimpleFormatter().formatMessage(record);
+            messages.add(message);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+
+        List<Thread> getThreads() {
+            return new ArrayList<>(threads);
+        }
+
+        boolean isClosed() {
+            return isClosed;
+        }
+    }
+
+    /**
+     * A handler that blocks on the first record it is given until it is released.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            super.publish(record);
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
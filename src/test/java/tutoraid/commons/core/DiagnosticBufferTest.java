@@ -0,0 +1,117 @@
+package tutoraid.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DiagnosticBufferTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DiagnosticBuffer(0));
+    }
+
+    @Test
+    public void publish_belowFine_notKept() {
+        DiagnosticBuffer buffer = new DiagnosticBuffer(4);
+        buffer.publish(record(Level.FINER, "finer"));
+        buffer.publish(record(Level.FINE, "fine"));
+        buffer.publish(record(Level.INFO, "info"));
+
+        assertEquals(List.of("fine", "info"), getMessages(buffer));
+    }
+
+    @Test
+    public void publish_moreThanCapacity_keepsNewestInOrder() {
+        DiagnosticBuffer buffer = new DiagnosticBuffer(3);
+        for (int i = 0; i < 7; i++) {
+            buffer.publish(record(Level.FINE, Integer.toString(i)));
+        }
+
+        assertEquals(List.of("4", "5", "6"), getMessages(buffer));
+    }
+
+    @Test
+    public void dump_records_writtenFormattedOldestFirst() throws Exception {
+        DiagnosticBuffer buffer = new DiagnosticBuffer(4);
+        LogRecord parameterized = record(Level.FINE, "Saved {0} records");
+        parameterized.setParameters(new Object[] {42});
+        buffer.publish(record(Level.INFO, "first"));
+        buffer.publish(parameterized);
+        Path dumpFile = testFolder.resolve("debug").resolve("dump.log");
+
+        assertEquals(2, buffer.dump(dumpFile));
+
+        String dump = Files.readString(dumpFile);
+        assertTrue(dump.indexOf("first") < dump.indexOf("Saved 42 records"));
+        assertTrue(dump.contains(DiagnosticBufferTest.class.getSimpleName()));
+    }
+
+    @Test
+    public void dump_parameterChangedAfterPublish_writesValueWhenPublished() throws Exception {
+        DiagnosticBuffer buffer = new DiagnosticBuffer(4);
+        StringBuilder name = new StringBuilder("Alice");
+        LogRecord parameterized = record(Level.FINE, "Added {0}");
+        parameterized.setParameters(new Object[] {name});
+        buffer.publish(parameterized);
+        name.replace(0, name.length(), "Bob");
+        Path dumpFile = testFolder.resolve("dump.log");
+
+        buffer.dump(dumpFile);
+
+        assertTrue(Files.readString(dumpFile).contains("Added Alice"));
+        assertEquals(name, parameterized.getParameters()[0]);
+    }
+
+    @Test
+    public void dump_emptyBuffer_writesEmptyFile() throws Exception {
+        Path dumpFile = testFolder.resolve("empty.log");
+
+        assertEquals(0, new DiagnosticBuffer(4).dump(dumpFile));
+        assertEquals("", Files.readString(dumpFile));
+    }
+
+    @Test
+    public void getLogger_diagnosticLevelFine_fineRecordKept() {
+        DiagnosticBuffer buffer = LogsCenter.getDiagnosticBuffer();
+        Level level = buffer.getLevel();
+        buffer.setLevel(Level.FINE);
+        try {
+            String message = "fine message " + System.nanoTime();
+            LogsCenter.getLogger(DiagnosticBufferTest.class).fine(message);
+
+            assertTrue(getMessages(buffer).contains(message));
+        } finally {
+            buffer.setLevel(level);
+        }
+    }
+
+    @Test
+    public void getLogger_defaultLevels_fineRecordNotCreated() {
+        assertFalse(LogsCenter.getLogger(DiagnosticBufferTest.class).isLoggable(Level.FINE));
+    }
+
+    private static LogRecord record(Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName(DiagnosticBufferTest.class.getSimpleName());
+        return record;
+    }
+
+    private static List<String> getMessages(DiagnosticBuffer buffer) {
+        return buffer.getRecords().stream().map(LogRecord::getMessage).collect(Collectors.toList());
+    }
+}
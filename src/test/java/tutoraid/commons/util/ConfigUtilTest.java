@@ -64,6 +64,7 @@ public class ConfigUtilTest {
     private Config getTypicalConfig() {
         Config config = new Config();
         config.setLogLevel(Level.INFO);
+        config.setDiagnosticLogLevel(Level.FINE);
         config.setUserPrefsFilePath(Paths.get("preferences.json"));
         return config;
     }
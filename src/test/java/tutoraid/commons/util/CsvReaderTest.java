@@ -0,0 +1,52 @@
+package tutoraid.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_nullReader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_unquotedFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\r\nd\n"));
+        assertEquals(Optional.of(List.of("a", "b", "", "c")), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Optional.of(List.of("d")), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertTrue(reader.readRecord().isEmpty());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext"));
+        assertEquals(Optional.of(List.of("a,b", "say \"hi\"", "two\nlines")), reader.readRecord());
+        assertEquals(Optional.of(List.of("next")), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+    }
+
+    @Test
+    public void readRecord_blankLines_skipped() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\n\r\na\n\n"));
+        assertEquals(Optional.of(List.of("a")), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertTrue(reader.readRecord().isEmpty());
+    }
+
+    @Test
+    public void readRecord_malformedQuotes_readLeniently() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\"b,\"open"));
+        assertEquals(Optional.of(List.of("a\"b", "open")), reader.readRecord());
+        assertTrue(reader.readRecord().isEmpty());
+    }
+}
@@ -0,0 +1,52 @@
+package tutoraid.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void constructor_nullWriter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvWriter(null));
+    }
+
+    @Test
+    public void writeRow_plainFields_writtenUnquoted() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeRow(List.of("a", "", "b c"));
+            writer.writeRow(List.of("d"));
+        }
+        assertEquals("a,,b c\r\nd\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_specialCharacters_quoted() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeRow(List.of("a,b", "say \"hi\"", "two\nlines"));
+        }
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\"\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_readBackByCsvReader_sameFields() throws Exception {
+        List<String> fields = List.of("a,b", "\"", "", "two\r\nlines", "plain");
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeRow(fields);
+        }
+
+        CsvReader reader = new CsvReader(new StringReader(output.toString()));
+        assertEquals(Optional.of(fields), reader.readRecord());
+        assertTrue(reader.readRecord().isEmpty());
+    }
+}
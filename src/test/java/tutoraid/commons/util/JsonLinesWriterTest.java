@@ -0,0 +1,32 @@
+package tutoraid.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonLinesWriterTest {
+
+    private static final List<String> COLUMNS = List.of("name", "note");
+
+    @Test
+    public void writeRow_validRows_oneObjectPerLine() throws Exception {
+        StringWriter output = new StringWriter();
+        try (JsonLinesWriter writer = new JsonLinesWriter(output, COLUMNS)) {
+            writer.writeRow(List.of("Amy Bee", "says \"hi\""));
+            writer.writeRow(List.of("Bob Choo", "two\nlines"));
+        }
+        assertEquals("{\"name\":\"Amy Bee\",\"note\":\"says \\\"hi\\\"\"}\n"
+                + "{\"name\":\"Bob Choo\",\"note\":\"two\\nlines\"}\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_wrongNumberOfValues_throwsIllegalArgumentException() throws Exception {
+        try (JsonLinesWriter writer = new JsonLinesWriter(new StringWriter(), COLUMNS)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.writeRow(List.of("Amy Bee")));
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package tutoraid.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.exceptions.IllegalValueException;
 import tutoraid.testutil.SerializableTestClass;
 import tutoraid.testutil.TestUtil;
 
@@ -39,6 +46,53 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArray_validFile_elementsReadInOrderAndOtherFieldsSkipped() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{\"before\": {\"names\": [\"x\"]}, \"names\": [\"a\", \"b\"], \"after\": [1, 2]}");
+        List<String> names = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArray(SERIALIZATION_FILE, "names", String.class, names::add));
+        assertEquals(List.of("a", "b"), names);
+    }
+
+    @Test
+    public void readJsonArray_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArray(missingFile, "names", String.class, name -> {
+            throw new AssertionError("There should be no names.");
+        }));
+    }
+
+    @Test
+    public void readJsonArray_invalidFile_throwsDataConversionException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"others\": []}");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArray(SERIALIZATION_FILE, "names", String.class, name -> { }));
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"names\": \"a\"}");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArray(SERIALIZATION_FILE, "names", String.class, name -> { }));
+
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"names\": [\"a\",");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArray(SERIALIZATION_FILE, "names", String.class, name -> { }));
+    }
+
+    @Test
+    public void readJsonArray_elementRejected_stopsReading() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"names\": [\"a\", \"b\", \"c\"]}");
+        List<String> names = new ArrayList<>();
+        assertThrows(IllegalValueException.class, () ->
+                JsonUtil.readJsonArray(SERIALIZATION_FILE, "names", String.class, name -> {
+                    if (name.equals("b")) {
+                        throw new IllegalValueException("Invalid name");
+                    }
+                    names.add(name);
+                }));
+        assertEquals(List.of("a"), names);
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,64 @@
+package tutoraid.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void record_negativeLatency_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().record(-1));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentile(100.1));
+    }
+
+    @Test
+    public void getPercentile_noLatencies_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 10; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(95));
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_largeLatencies_withinAnEighth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+        assertWithinAnEighth(50_000_000, histogram.getPercentile(50));
+        assertWithinAnEighth(99_000_000, histogram.getPercentile(99));
+        assertEquals(100_000_000, histogram.getPercentile(100));
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void record_longestLatency_success() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(50));
+    }
+
+    private static void assertWithinAnEighth(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, actual + " is not close to " + expected);
+    }
+}
@@ -0,0 +1,55 @@
+package tutoraid.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.testutil.Assert;
+
+public class LinkedIdentitySetTest {
+
+    private final LinkedIdentitySet<String> set = new LinkedIdentitySet<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> set.add(null));
+    }
+
+    @Test
+    public void add_sameElementTwice_returnsFalse() {
+        String element = "element";
+        assertTrue(set.add(element));
+        assertFalse(set.add(element));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void contains_equalButDifferentElement_returnsFalse() {
+        String element = "element";
+        set.add(element);
+        assertTrue(set.contains(element));
+        assertFalse(set.contains(new String(element)));
+    }
+
+    @Test
+    public void remove_equalButDifferentElement_keepsElement() {
+        String element = "element";
+        set.add(element);
+        assertFalse(set.remove(new String(element)));
+        assertTrue(set.remove(element));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void iterator_elementsAddedInOrder_iteratesInInsertionOrder() {
+        LinkedIdentitySet<String> orderedSet = new LinkedIdentitySet<>(Arrays.asList("c", "a", "b"));
+        orderedSet.remove("a");
+        orderedSet.add("a");
+        assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(orderedSet));
+    }
+}
@@ -0,0 +1,53 @@
+package tutoraid.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void getCompletions_prefixIgnoringCase_returnsTermsInAlphabeticalOrder() {
+        trie.add("Benson Meier");
+        trie.add("Alice Pauline");
+        trie.add("Alex Yeoh");
+        assertEquals(List.of("Alex Yeoh", "Alice Pauline"), trie.getCompletions("aL", 5));
+    }
+
+    @Test
+    public void getCompletions_moreTermsThanLimit_returnsLimit() {
+        trie.add("add");
+        trie.add("all");
+        trie.add("alpha");
+        assertEquals(List.of("add", "all"), trie.getCompletions("a", 2));
+    }
+
+    @Test
+    public void getCompletions_noMatch_returnsEmptyList() {
+        trie.add("add");
+        assertTrue(trie.getCompletions("b", 5).isEmpty());
+    }
+
+    @Test
+    public void remove_termAddedTwice_keptUntilRemovedTwice() {
+        trie.add("Maths 1");
+        trie.add("Maths 1");
+        trie.remove("Maths 1");
+        assertEquals(List.of("Maths 1"), trie.getCompletions("ma", 5));
+        trie.remove("Maths 1");
+        assertTrue(trie.getCompletions("ma", 5).isEmpty());
+    }
+
+    @Test
+    public void remove_termNotInTrie_nothingRemoved() {
+        trie.add("Maths 1");
+        trie.remove("Maths");
+        trie.remove("Science 1");
+        assertEquals(List.of("Maths 1"), trie.getCompletions("", 5));
+    }
+}
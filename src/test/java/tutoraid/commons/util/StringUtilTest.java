@@ -1,5 +1,6 @@
 package tutoraid.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -125,6 +126,25 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordWithinDistanceIgnoreCase / getEditDistance ------------------
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, StringUtil.getEditDistance("kurz", "kurz"));
+        assertEquals(1, StringUtil.getEditDistance("kurz", "kunz")); // substitution
+        assertEquals(1, StringUtil.getEditDistance("kurz", "kurtz")); // insertion
+        assertEquals(2, StringUtil.getEditDistance("alice", "alcie")); // transposition counts as two edits
+        assertEquals(4, StringUtil.getEditDistance("", "carl"));
+    }
+
+    @Test
+    public void containsWordWithinDistanceIgnoreCase_validInputs_correctResult() {
+        assertTrue(StringUtil.containsWordWithinDistanceIgnoreCase("Alice Pauline", "ALCIE", 2));
+        assertFalse(StringUtil.containsWordWithinDistanceIgnoreCase("Alice Pauline", "alcie", 1));
+        assertTrue(StringUtil.containsWordWithinDistanceIgnoreCase("Alice Pauline", "  paulin  ", 1));
+        assertFalse(StringUtil.containsWordWithinDistanceIgnoreCase("", "alice", 3));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,74 @@
+package tutoraid.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.model.LessonBook;
+import tutoraid.model.StudentBook;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.StudentBuilder;
+import tutoraid.testutil.TypicalStudents;
+
+public class AutocompleterTest {
+
+    private final StudentBook studentBook = new StudentBook();
+    private final LessonBook lessonBook = new LessonBook();
+
+    @Test
+    public void getCompletions_firstWord_completesCommandWords() {
+        Autocompleter autocompleter = new Autocompleter(studentBook, lessonBook);
+        assertEquals(List.of("edit", "exit", "export"), autocompleter.getCompletions("e", 5));
+    }
+
+    @Test
+    public void getCompletions_nameOverSeveralWords_completesWholeName() {
+        studentBook.addStudent(new StudentBuilder(TypicalStudents.ALICE).build());
+        Autocompleter autocompleter = new Autocompleter(studentBook, lessonBook);
+        assertEquals(List.of("find -s Alice Pauline"), autocompleter.getCompletions("find -s alice p", 5));
+    }
+
+    @Test
+    public void getCompletions_afterPrefix_completesName() {
+        studentBook.addStudent(new StudentBuilder(TypicalStudents.BENSON).build());
+        Autocompleter autocompleter = new Autocompleter(studentBook, lessonBook);
+        assertEquals(List.of("add -s sn/Benson Meier"), autocompleter.getCompletions("add -s sn/Ben", 5));
+    }
+
+    @Test
+    public void getCompletions_textEndsWithSpace_returnsEmptyList() {
+        Autocompleter autocompleter = new Autocompleter(studentBook, lessonBook);
+        assertTrue(autocompleter.getCompletions("find ", 5).isEmpty());
+    }
+
+    @Test
+    public void update_studentsEditedAndDeleted_namesUpdated() {
+        Student alice = new StudentBuilder(TypicalStudents.ALICE).build();
+        Student benson = new StudentBuilder(TypicalStudents.BENSON).build();
+        studentBook.addStudent(alice);
+        studentBook.addStudent(benson);
+        Autocompleter autocompleter = new Autocompleter(studentBook, lessonBook);
+
+        studentBook.replaceStudent(alice, new StudentBuilder(alice).withStudentName("Alicia Tan").build());
+        studentBook.removeStudent(benson);
+        autocompleter.update(studentBook, lessonBook);
+
+        assertEquals(List.of("find -s Alicia Tan"), autocompleter.getCompletions("find -s ali", 5));
+        assertTrue(autocompleter.getCompletions("find -s ben", 5).isEmpty());
+    }
+
+    @Test
+    public void update_studentsReplaced_namesReplaced() {
+        studentBook.addStudent(new StudentBuilder(TypicalStudents.ALICE).build());
+        Autocompleter autocompleter = new Autocompleter(studentBook, lessonBook);
+
+        studentBook.setStudents(List.of(new StudentBuilder(TypicalStudents.BENSON).build()));
+        autocompleter.update(studentBook, lessonBook);
+
+        assertTrue(autocompleter.getCompletions("find -s ali", 5).isEmpty());
+        assertEquals(List.of("find -s Benson Meier"), autocompleter.getCompletions("find -s ben", 5));
+    }
+}
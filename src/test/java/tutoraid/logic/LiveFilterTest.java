@@ -0,0 +1,82 @@
+package tutoraid.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.TypicalLessons.getTypicalLessonBook;
+import static tutoraid.testutil.TypicalStudents.BENSON;
+import static tutoraid.testutil.TypicalStudents.DANIEL;
+import static tutoraid.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.UserPrefs;
+import tutoraid.testutil.Assert;
+
+public class LiveFilterTest {
+
+    private final Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+    private final AtomicLong generations = new AtomicLong();
+
+    @Test
+    public void of_notFindCommand_returnsEmpty() {
+        assertTrue(LiveFilter.of("del -s 1", model, Runnable::run, generations).isEmpty());
+        assertTrue(LiveFilter.of("find -fs meier", model, Runnable::run, generations).isEmpty());
+        assertTrue(LiveFilter.of("find", model, Runnable::run, generations).isEmpty());
+    }
+
+    @Test
+    public void apply_findStudentKeywords_filtersStudents() {
+        int lessonCount = model.getFilteredLessonList().size();
+        LiveFilter<?> liveFilter = LiveFilter.of("find -s meier", model, Runnable::run, generations).get();
+        assertTrue(liveFilter.evaluate());
+        liveFilter.apply();
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredStudentList());
+        assertEquals(lessonCount, model.getFilteredLessonList().size());
+    }
+
+    @Test
+    public void apply_findWithoutKeywords_showsAllLessons() {
+        model.updateFilteredLessonList(unused -> false);
+        LiveFilter<?> liveFilter = LiveFilter.of("find -l ", model, Runnable::run, generations).get();
+        assertTrue(liveFilter.evaluate());
+        liveFilter.apply();
+        assertEquals(model.getLessonBook().getLessonList(), model.getFilteredLessonList());
+    }
+
+    @Test
+    public void evaluate_studentDeletedBeforeEvaluation_notMatched() {
+        LiveFilter<?> liveFilter = LiveFilter.of("find -s meier", model, Runnable::run, generations).get();
+        model.deleteStudent(BENSON);
+        assertTrue(liveFilter.evaluate());
+        liveFilter.apply();
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void evaluate_interruptedWhileWaiting_returnsFalse() {
+        // the model thread never gets to the lookup
+        LiveFilter<?> liveFilter = LiveFilter.of("find -s meier", model, unused -> { }, generations).get();
+        Thread.currentThread().interrupt();
+        try {
+            assertFalse(liveFilter.evaluate());
+        } finally {
+            Thread.interrupted();
+        }
+        Assert.assertThrows(IllegalStateException.class, liveFilter::apply);
+    }
+
+    @Test
+    public void apply_newerFilterRequested_notApplied() {
+        LiveFilter<?> liveFilter = LiveFilter.of("find -s meier", model, Runnable::run, generations).get();
+        assertTrue(liveFilter.evaluate());
+        LiveFilter.of("find -s alice", model, Runnable::run, generations);
+        liveFilter.apply();
+        assertEquals(model.getStudentBook().getStudentList(), model.getFilteredStudentList());
+    }
+}
@@ -1,7 +1,10 @@
 package tutoraid.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static tutoraid.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static tutoraid.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutoraid.logic.commands.CommandTestUtil.CAPACITY_DESC_MATH;
 import static tutoraid.logic.commands.CommandTestUtil.LESSON_NAME_DESC_MATH;
@@ -18,14 +21,27 @@ import static tutoraid.testutil.TypicalLessons.MATHS_TWO;
 import static tutoraid.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import tutoraid.commons.core.Messages;
 import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.logic.LatencyRecorder.Phase;
 import tutoraid.logic.commands.CommandResult;
 import tutoraid.logic.commands.ListCommand;
 import tutoraid.logic.commands.exceptions.CommandException;
@@ -85,6 +101,136 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, Messages.MESSAGE_LIST_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_latencyRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute("del -s 9"));
+
+        LatencyRecorder latencyRecorder = logic.getLatencyRecorder();
+        assertEquals(List.of("DeleteStudentCommand", "ListCommand"), latencyRecorder.getCommandTypes());
+        assertEquals(1, latencyRecorder.getHistogram("ListCommand", Phase.TOTAL).get().getCount());
+        assertEquals(1, latencyRecorder.getHistogram("DeleteStudentCommand", Phase.EXECUTE).get().getCount());
+        // failed commands are not counted in the total
+        assertEquals(0, latencyRecorder.getHistogram("DeleteStudentCommand", Phase.TOTAL).get().getCount());
+        assertEquals(Optional.of("ListCommand"), latencyRecorder.getLastCommandType());
+    }
+
+    @Test
+    public void execute_flightRecording_phaseEventsRecorded() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertEquals(List.of("parse", "execute", "save"),
+                events.stream().map(event -> event.getString("phase")).collect(Collectors.toList()));
+        for (RecordedEvent event : events) {
+            assertEquals("ListCommand", event.getString("commandType"));
+            assertTrue(event.getBoolean("isSuccessful"));
+        }
+    }
+
+    @Test
+    public void executeAsync_commandsRunInOrder_success() throws Exception {
+        String addCommand = VALID_ADD_STUDENT_COMMAND + STUDENT_NAME_DESC_AMY + STUDENT_PHONE_DESC_AMY
+                + PARENT_NAME_DESC_AMY + PARENT_PHONE_DESC_AMY;
+        CompletableFuture<CommandResult> addResult = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> findResult = logic.executeAsync("find -s amy");
+
+        assertEquals(String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1),
+                findResult.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        assertTrue(addResult.isDone());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync("del -s 9");
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Throwable error = result.handle((unused, throwable) -> throwable).get();
+        assertTrue(error instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        AssertionError assertionError = new AssertionError("dummy error");
+        model = new ModelManager() {
+            @Override
+            public void updateFilteredStudentList(Predicate<Student> predicate) {
+                throw assertionError;
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(
+                new JsonTutorAidStudentStorage(temporaryFolder.resolve("errorStudentBook.json"),
+                        SampleDataUtil.getSampleLessonBook()),
+                new JsonTutorAidLessonStorage(temporaryFolder.resolve("errorLessonBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        CompletableFuture<CommandResult> result = logic.executeAsync(ListCommand.COMMAND_WORD);
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals(assertionError, result.handle((unused, throwable) -> throwable).get());
+    }
+
+    @Test
+    public void execute_readOnlyCommandOnUnsavedModel_savesBothBooks() throws Exception {
+        Path studentBookFilePath = temporaryFolder.resolve("unsavedStudentBook.json");
+        Path lessonBookFilePath = temporaryFolder.resolve("unsavedLessonBook.json");
+        JsonTutorAidLessonStorage lessonBookStorage = new JsonTutorAidLessonStorage(lessonBookFilePath);
+        JsonTutorAidStudentStorage studentBookStorage =
+                new JsonTutorAidStudentStorage(studentBookFilePath, SampleDataUtil.getSampleLessonBook());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(studentBookStorage, lessonBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, false);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, Messages.MESSAGE_LIST_SUCCESS, model);
+        assertTrue(Files.exists(studentBookFilePath));
+        assertTrue(Files.exists(lessonBookFilePath));
+    }
+
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_doesNotSave() throws Exception {
+        JsonTutorAidStudentStorage studentBookStorage =
+                new JsonTutorAidStudentIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudentBook.json"));
+        JsonTutorAidLessonStorage lessonBookStorage =
+                new JsonTutorAidLessonIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionLessonBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(studentBookStorage, lessonBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // no book is modified, so the failing storage is never called
+        assertCommandSuccess(ListCommand.COMMAND_WORD, Messages.MESSAGE_LIST_SUCCESS, model);
+    }
+
+    @Test
+    public void flush_backgroundSaveFailed_savesBookAgain() throws Exception {
+        Path studentBookFilePath = temporaryFolder.resolve("failOnceStudentBook.json");
+        JsonTutorAidStudentFailOnceStub studentBookStorage = new JsonTutorAidStudentFailOnceStub(studentBookFilePath);
+        JsonTutorAidLessonStorage lessonBookStorage =
+                new JsonTutorAidLessonStorage(temporaryFolder.resolve("failOnceLessonBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(studentBookStorage, lessonBookStorage, userPrefsStorage);
+        List<IOException> failures = new ArrayList<>();
+        storage.enableWriteBehind(failures::add);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(VALID_ADD_STUDENT_COMMAND + STUDENT_NAME_DESC_AMY + STUDENT_PHONE_DESC_AMY
+                + PARENT_NAME_DESC_AMY + PARENT_PHONE_DESC_AMY);
+        storage.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+        assertFalse(Files.exists(studentBookFilePath));
+
+        logic.flush();
+        assertEquals(2, studentBookStorage.saveCount);
+        assertEquals(model.getStudentBook().getStudentList(),
+                storage.readStudentBook(model.getLessonBook()).get().getStudentList());
+    }
+
     @Test
     public void execute_studentsStorageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonTutorAidIoExceptionThrowingStub
@@ -100,11 +246,15 @@ public class LogicManagerTest {
         // Execute add student command
         String addCommand = VALID_ADD_STUDENT_COMMAND + STUDENT_NAME_DESC_AMY + STUDENT_PHONE_DESC_AMY
                 + PARENT_NAME_DESC_AMY + PARENT_PHONE_DESC_AMY;
-        Student expectedStudent = new StudentBuilder(AMY).build();
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addCommand));
+
+        // the added student is given a fresh ID, so the expected student takes on the same ID
+        long addedStudentId = model.getStudentBook().getStudentList().get(0).getId();
+        Student expectedStudent = new StudentBuilder(AMY).withId(addedStudentId).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedStudent);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertEquals(expectedModel, model);
     }
 
     @Test
@@ -122,11 +272,15 @@ public class LogicManagerTest {
         // Execute add lesson command
         String addLessonCommand = VALID_ADD_LESSON_COMMAND + LESSON_NAME_DESC_MATH + CAPACITY_DESC_MATH
                 + PRICE_DESC_MATH + TIMING_DESC_MATH;
-        Lesson expectedLesson = new LessonBuilder(MATHS_TWO).build();
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addLessonCommand));
+
+        // the added lesson is given a fresh ID, so the expected lesson takes on the same ID
+        long addedLessonId = model.getLessonBook().getLessonList().get(0).getId();
+        Lesson expectedLesson = new LessonBuilder(MATHS_TWO).withId(addedLessonId).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addLesson(expectedLesson);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addLessonCommand, CommandException.class, expectedMessage, expectedModel);
+        assertEquals(expectedModel, model);
 
     }
 
@@ -202,11 +356,31 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
 
+    /**
+     * A stub class to throw an {@code IOException} the first time the save method is called on a student book.
+     */
+    private static class JsonTutorAidStudentFailOnceStub extends JsonTutorAidStudentStorage {
+        private int saveCount;
+
+        private JsonTutorAidStudentFailOnceStub(Path filePath) {
+            super(filePath, new LessonBook());
+        }
+
+        @Override
+        public long saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+            saveCount++;
+            if (saveCount == 1) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            return super.saveStudentBook(studentBook, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called on a lesson book.
      */
@@ -216,7 +390,7 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+        public long saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
@@ -8,6 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,12 +19,18 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.DetailLevelListener;
 import tutoraid.model.LessonBook;
 import tutoraid.model.Model;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.ReadOnlyUserPrefs;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
+import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
+import tutoraid.model.student.Progress;
 import tutoraid.model.student.Student;
 import tutoraid.testutil.Assert;
 import tutoraid.testutil.LessonBuilder;
@@ -132,6 +142,11 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudents(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudentBook(ReadOnlyStudentBook studentBook) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +162,11 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceLesson(Lesson target, Lesson editedLesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStudent(Student student) {
             throw new AssertionError("This method should not be called.");
@@ -162,6 +182,21 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceStudent(Student target, Student editedStudent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addProgress(Student target, Progress progress) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Progress deleteLatestProgress(Student target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void viewStudent(Student student) {
             throw new AssertionError("This method should not be called.");
@@ -197,6 +232,11 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLessons(List<Lesson> lessons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -217,6 +257,21 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudentToLesson(Student student, Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addEnrolments(Map<Student, ? extends Collection<Lesson>> enrolments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteStudentFromLesson(Student student, Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Lesson> getFilteredLessonList() {
             throw new AssertionError("This method should not be called.");
@@ -227,6 +282,56 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findStudents(NameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> getMatchingStudents(NameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findLessons(LessonNameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Lesson> getMatchingLessons(LessonNameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void fuzzyFindStudents(NameWithinDistancePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void fuzzyFindLessons(LessonNameWithinDistancePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackToCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setDetailLevelListener(DetailLevelListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void viewList(DetailLevel detailLevel) {
             throw new AssertionError("This method should not be called.");
@@ -8,6 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,12 +19,18 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.DetailLevelListener;
 import tutoraid.model.Model;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.ReadOnlyUserPrefs;
 import tutoraid.model.StudentBook;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
+import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
+import tutoraid.model.student.Progress;
 import tutoraid.model.student.Student;
 import tutoraid.testutil.Assert;
 import tutoraid.testutil.StudentBuilder;
@@ -128,6 +138,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudents(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setStudentBook(ReadOnlyStudentBook studentBook) {
             throw new AssertionError("This method should not be called.");
@@ -153,16 +168,41 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceStudent(Student target, Student editedStudent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addProgress(Student target, Progress progress) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Progress deleteLatestProgress(Student target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setLesson(Lesson target, Lesson editedLesson) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replaceLesson(Lesson target, Lesson editedLesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void viewStudent(Student student) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setDetailLevelListener(DetailLevelListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void viewList(DetailLevel detailLevel) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +213,21 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudentToLesson(Student student, Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addEnrolments(Map<Student, ? extends Collection<Lesson>> enrolments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteStudentFromLesson(Student student, Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteLessonFromStudents(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -203,6 +258,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLessons(List<Lesson> lessons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -227,6 +287,51 @@ public class AddStudentCommandTest {
         public void updateFilteredLessonList(Predicate<Lesson> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void findStudents(NameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Student> getMatchingStudents(NameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findLessons(LessonNameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Lesson> getMatchingLessons(LessonNameContainsSubstringsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void fuzzyFindStudents(NameWithinDistancePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void fuzzyFindLessons(LessonNameWithinDistancePredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackToCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,85 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static tutoraid.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutoraid.testutil.TypicalLessons.getTypicalLessonBook;
+import static tutoraid.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.commons.core.index.Index;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.UserPrefs;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.Assert;
+import tutoraid.testutil.StudentBuilder;
+
+public class BatchCommandTest {
+
+    private final Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_success() throws Exception {
+        Student amy = new StudentBuilder().withStudentName("Amy Bee").build();
+        Student bob = new StudentBuilder().withStudentName("Bob Choo").build();
+        int studentCount = model.getStudentBook().getStudentList().size();
+        SortedMap<Integer, Command> commandsByLine = new TreeMap<>();
+        commandsByLine.put(1, new AddStudentCommand(amy));
+        commandsByLine.put(3, new AddStudentCommand(bob));
+
+        CommandResult result = new BatchCommand(commandsByLine).execute(model);
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(studentCount + 2, model.getStudentBook().getStudentList().size());
+        assertTrue(model.hasStudent(amy));
+        assertTrue(model.hasStudent(bob));
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackEarlierCommands() {
+        Student amy = new StudentBuilder().withStudentName("Amy Bee").build();
+        Index outOfBoundIndex = Index.fromOneBased(model.getStudentBook().getStudentList().size() + 2);
+        SortedMap<Integer, Command> commandsByLine = new TreeMap<>();
+        commandsByLine.put(1, new AddStudentCommand(amy));
+        commandsByLine.put(2, new AddStudentToLessonCommand(indexes(INDEX_FIRST_ITEM), indexes(INDEX_FIRST_ITEM)));
+        commandsByLine.put(4, new DeleteStudentCommand(outOfBoundIndex));
+
+        Assert.assertThrows(CommandException.class,
+                String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 4, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX), () ->
+                new BatchCommand(commandsByLine).execute(model));
+
+        Model expectedModel = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+        assertEquals(expectedModel, model);
+        assertFalse(model.hasStudent(amy));
+        Student firstStudent = model.getStudentBook().getStudentList().get(0);
+        Lesson firstLesson = model.getLessonBook().getLessonList().get(0);
+        assertFalse(firstStudent.hasLesson(firstLesson));
+        assertFalse(firstLesson.hasStudent(firstStudent));
+    }
+
+    @Test
+    public void equals() {
+        SortedMap<Integer, Command> commandsByLine = new TreeMap<>();
+        commandsByLine.put(1, new DeleteStudentCommand(INDEX_FIRST_ITEM));
+        BatchCommand batch = new BatchCommand(commandsByLine);
+
+        assertTrue(batch.equals(new BatchCommand(commandsByLine)));
+        assertFalse(batch.equals(new BatchCommand(new TreeMap<>())));
+        assertFalse(batch.equals(null));
+    }
+
+    private static ArrayList<Index> indexes(Index... indexes) {
+        return new ArrayList<>(List.of(indexes));
+    }
+}
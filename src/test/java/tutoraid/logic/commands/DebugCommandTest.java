@@ -0,0 +1,67 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.commons.core.DiagnosticBuffer;
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.ModelManager;
+
+public class DebugCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final DiagnosticBuffer diagnosticBuffer = new DiagnosticBuffer(8);
+
+    @Test
+    public void execute_records_dumpedToFile() throws Exception {
+        diagnosticBuffer.publish(new LogRecord(Level.FINE, "AddStudentCommand save took 1200 ns"));
+        diagnosticBuffer.publish(new LogRecord(Level.INFO, "Result: New student added"));
+        Path dumpFile = testFolder.resolve("debug.log");
+
+        CommandResult result = new DebugCommand(dumpFile, diagnosticBuffer).execute(new ModelManager());
+
+        assertEquals(String.format(DebugCommand.MESSAGE_SUCCESS, 2, dumpFile), result.getFeedbackToUser());
+        assertTrue(Files.readString(dumpFile).contains("AddStudentCommand save took 1200 ns"));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path directory = Files.createDirectory(testFolder.resolve("directory"));
+
+        assertThrows(CommandException.class, () ->
+                new DebugCommand(directory, diagnosticBuffer).execute(new ModelManager()));
+    }
+
+    @Test
+    public void equals() {
+        Path path = Path.of("debug.log");
+        DebugCommand debugCommand = new DebugCommand(path, diagnosticBuffer);
+
+        // same object -> returns true
+        assertTrue(debugCommand.equals(debugCommand));
+
+        // same values -> returns true
+        assertTrue(debugCommand.equals(new DebugCommand(Path.of("debug.log"), diagnosticBuffer)));
+
+        // null -> returns false
+        assertFalse(debugCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(debugCommand.equals(new DebugCommand(Path.of("other.log"), diagnosticBuffer)));
+
+        // different buffer -> returns false
+        assertFalse(debugCommand.equals(new DebugCommand(path, new DiagnosticBuffer(8))));
+    }
+}
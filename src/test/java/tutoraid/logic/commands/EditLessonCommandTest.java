@@ -39,6 +39,7 @@ public class EditLessonCommandTest {
     public void execute_allFieldsSpecifiedUnfilteredList_success() throws CommandException {
         Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
         Lesson editedLesson = new LessonBuilder()
+                .withId(model.getFilteredLessonList().get(0).getId())
                 .withLessonName(VALID_LESSON_NAME_MATHS_TWO)
                 .withPrice(VALID_PRICE_MATHS_TWO)
                 .withCapacity(VALID_CAPACITY_MATHS_TWO)
@@ -59,6 +60,7 @@ public class EditLessonCommandTest {
     public void execute_someFieldsSpecifiedUnfilteredList_success() throws CommandException {
         Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
         Lesson editedLesson = new LessonBuilder()
+                .withId(model.getFilteredLessonList().get(0).getId())
                 .withLessonName(VALID_LESSON_NAME_MATHS_TWO)
                 .withPrice(VALID_PRICE_SCIENCE_TWO)
                 .build();
@@ -85,6 +87,7 @@ public class EditLessonCommandTest {
         Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
         showLessonAtIndex(model, INDEX_FIRST_ITEM);
         Lesson editedLesson = new LessonBuilder()
+                .withId(model.getFilteredLessonList().get(0).getId())
                 .withLessonName(VALID_LESSON_NAME_MATHS_TWO)
                 .build();
         EditLessonCommand editCommand = new EditLessonCommand(INDEX_FIRST_ITEM,
@@ -37,6 +37,7 @@ public class EditStudentCommandTest {
     public void execute_allFieldsSpecifiedUnfilteredList_success() throws CommandException {
         Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
         Student editedStudent = new StudentBuilder()
+                .withId(model.getFilteredStudentList().get(0).getId())
                 .withStudentName(VALID_STUDENT_NAME_BOB)
                 .withStudentPhone(VALID_STUDENT_PHONE_AMY)
                 .withParentName(VALID_PARENT_NAME_BOB)
@@ -0,0 +1,34 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.testutil.StudentBuilder;
+
+public class ExportProgressCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_progressEntries_numberedFromOldest() throws Exception {
+        Model model = new ModelManager();
+        model.addStudent(new StudentBuilder().withStudentName("Amy Bee")
+                .withProgressList(new ArrayList<>(List.of("Did chapter 1", "Did chapters 2, 3"))).build());
+        Path csvFile = testFolder.resolve("progress.csv");
+
+        new ExportProgressCommand(csvFile).execute(model);
+
+        assertEquals(List.of("student,entry,progress", "Amy Bee,1,Did chapter 1", "Amy Bee,2,\"Did chapters 2, 3\""),
+                Files.readAllLines(csvFile));
+    }
+}
@@ -0,0 +1,44 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
+
+public class ExportRostersCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_lessonsWithStudents_oneRowPerStudentInLesson() throws Exception {
+        Model model = new ModelManager();
+        Lesson maths = new LessonBuilder().withLessonName("Maths 1").build();
+        model.addLesson(maths);
+        model.addLesson(new LessonBuilder().withLessonName("Science 1").build());
+        for (String name : List.of("Amy Bee", "Bob Choo")) {
+            Student student = new StudentBuilder().withStudentName(name).build();
+            model.addStudent(student);
+            student.addLesson(maths);
+            maths.addStudent(student);
+        }
+        Path csvFile = testFolder.resolve("rosters.csv");
+
+        CommandResult result = new ExportRostersCommand(csvFile).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, csvFile), result.getFeedbackToUser());
+        assertEquals(List.of("lesson,student", "Maths 1,Amy Bee", "Maths 1,Bob Choo"), Files.readAllLines(csvFile));
+    }
+
+}
@@ -0,0 +1,121 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
+
+public class ExportStudentsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final Lesson maths = new LessonBuilder().withLessonName("Maths 1").build();
+    private final Lesson science = new LessonBuilder().withLessonName("Science 1").build();
+
+    @BeforeEach
+    public void setUp() {
+        model.addLesson(maths);
+        model.addLesson(science);
+        Student amy = new StudentBuilder().withStudentName("Amy Bee").withParentName("Mrs Bee").build();
+        model.addStudent(amy);
+        model.addStudent(new StudentBuilder().withStudentName("Bob Choo").build());
+        for (Lesson lesson : List.of(maths, science)) {
+            amy.addLesson(lesson);
+            lesson.addStudent(amy);
+        }
+    }
+
+    @Test
+    public void execute_csvFile_readBackByImport() throws Exception {
+        Path csvFile = testFolder.resolve("export").resolve("students.csv");
+
+        CommandResult result = new ExportStudentsCommand(csvFile).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, csvFile), result.getFeedbackToUser());
+        assertEquals(String.join(",", ImportStudentsCommand.COLUMNS), Files.readAllLines(csvFile).get(0));
+        Model importedModel = new ModelManager();
+        importedModel.addLesson(new LessonBuilder().withLessonName("Maths 1").build());
+        importedModel.addLesson(new LessonBuilder().withLessonName("Science 1").build());
+        new ImportStudentsCommand(csvFile).execute(importedModel);
+        List<Student> importedStudents = importedModel.getStudentBook().getStudentList();
+        assertEquals(2, importedStudents.size());
+        for (int i = 0; i < importedStudents.size(); i++) {
+            assertTrue(importedStudents.get(i).isSameStudent(model.getStudentBook().getStudentList().get(i)));
+        }
+        assertEquals(2, importedStudents.get(0).getLessons().lessons.size());
+    }
+
+    @Test
+    public void execute_jsonLinesFile_oneObjectPerStudent() throws Exception {
+        Path jsonLinesFile = testFolder.resolve("students" + ExportCommand.JSON_LINES_EXTENSION);
+
+        new ExportStudentsCommand(jsonLinesFile).execute(model);
+
+        List<String> lines = Files.readAllLines(jsonLinesFile);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"name\":\"Amy Bee\","));
+        assertTrue(lines.get(0).endsWith("\"lessons\":\"Maths 1;Science 1\"}"));
+        assertTrue(lines.get(1).endsWith("\"lessons\":\"\"}"));
+    }
+
+    @Test
+    public void execute_existingFile_replaced() throws Exception {
+        Path csvFile = testFolder.resolve("students.csv");
+        Files.write(csvFile, List.of("old", "contents", "that", "are", "longer"));
+
+        new ExportStudentsCommand(csvFile).execute(model);
+
+        assertEquals(3, Files.readAllLines(csvFile).size());
+        assertFalse(Files.exists(testFolder.resolve("students.csv.tmp")));
+    }
+
+    @Test
+    public void execute_unwritablePath_throwsCommandException() throws Exception {
+        Path blockingFile = testFolder.resolve("file");
+        Files.write(blockingFile, new ArrayList<String>());
+        Path csvFile = blockingFile.resolve("students.csv");
+
+        assertThrows(CommandException.class, () -> new ExportStudentsCommand(csvFile).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path path = Path.of("students.csv");
+        ExportStudentsCommand exportCommand = new ExportStudentsCommand(path);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportStudentsCommand(Path.of("students.csv"))));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+        assertFalse(exportCommand.equals(new ExportLessonsCommand(path)));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(exportCommand.equals(new ExportStudentsCommand(Path.of("other.csv"))));
+    }
+}
@@ -0,0 +1,74 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static tutoraid.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutoraid.testutil.TypicalLessons.getTypicalLessonBook;
+import static tutoraid.testutil.TypicalStudents.BENSON;
+import static tutoraid.testutil.TypicalStudents.CARL;
+import static tutoraid.testutil.TypicalStudents.DANIEL;
+import static tutoraid.testutil.TypicalStudents.ELLE;
+import static tutoraid.testutil.TypicalStudents.FIONA;
+import static tutoraid.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.UserPrefs;
+import tutoraid.model.student.NameWithinDistancePredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindStudentCommand}.
+ */
+public class FuzzyFindStudentCommandTest {
+    private Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NameWithinDistancePredicate firstPredicate =
+                new NameWithinDistancePredicate(Collections.singletonList("first"), 1);
+        NameWithinDistancePredicate secondPredicate =
+                new NameWithinDistancePredicate(Collections.singletonList("first"), 2);
+
+        FuzzyFindStudentCommand firstCommand = new FuzzyFindStudentCommand(firstPredicate);
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FuzzyFindStudentCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different maximum distance -> returns false
+        assertFalse(firstCommand.equals(new FuzzyFindStudentCommand(secondPredicate)));
+    }
+
+    @Test
+    public void execute_noMatchWithinDistance_noStudentFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
+        NameWithinDistancePredicate predicate = new NameWithinDistancePredicate(Arrays.asList("kunst"), 1);
+        FuzzyFindStudentCommand command = new FuzzyFindStudentCommand(predicate);
+        expectedModel.fuzzyFindStudents(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_misspeltName_studentsRankedByDistance() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 5);
+        NameWithinDistancePredicate predicate = new NameWithinDistancePredicate(Arrays.asList("meyer", "kurz"), 1);
+        FuzzyFindStudentCommand command = new FuzzyFindStudentCommand(predicate);
+        expectedModel.fuzzyFindStudents(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, BENSON, DANIEL, FIONA), model.getFilteredStudentList());
+    }
+}
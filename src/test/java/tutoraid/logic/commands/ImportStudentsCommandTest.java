@@ -0,0 +1,128 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Phone;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
+
+public class ImportStudentsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final Lesson maths = new LessonBuilder().withLessonName("Maths 1").withCapacity("2").build();
+    private final Lesson science = new LessonBuilder().withLessonName("Science 1").withCapacity("").build();
+    private Path csvFile;
+
+    @BeforeEach
+    public void setUp() {
+        model.addLesson(maths);
+        model.addLesson(science);
+        model.addStudent(new StudentBuilder().withStudentName("Existing Student").build());
+        csvFile = testFolder.resolve("students.csv");
+    }
+
+    @Test
+    public void execute_validRows_studentsAddedAndLinked() throws Exception {
+        Files.write(csvFile, List.of(String.join(",", ImportStudentsCommand.COLUMNS),
+                "Amy Bee,81234567,Mrs Bee,91234567,Maths 1;Science 1",
+                "\"Bob Choo\",,,,",
+                "Carl Kurz"));
+
+        CommandResult result = new ImportStudentsCommand(csvFile).execute(model);
+
+        assertEquals(String.format(ImportStudentsCommand.MESSAGE_SUCCESS, 3), result.getFeedbackToUser());
+        assertEquals(4, model.getStudentBook().getStudentList().size());
+        Student amy = model.getStudentBook().getStudentList().get(1);
+        assertEquals("Amy Bee", amy.getStudentName().fullName);
+        assertTrue(amy.hasLesson(maths));
+        assertTrue(science.hasStudent(amy));
+        assertEquals(1, maths.getStudents().numberOfStudents());
+    }
+
+    @Test
+    public void execute_invalidRows_nothingImported() throws Exception {
+        Files.write(csvFile, List.of("Amy Bee",
+                "Existing Student",
+                "Bob Choo,not a phone",
+                "Carl Kurz,,,,History 1",
+                "Amy Bee",
+                "Dan Lee,,,,,extra"));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_INVALID_ROWS, 5)
+                + invalidRow(2, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT)
+                + invalidRow(3, Phone.MESSAGE_CONSTRAINTS)
+                + invalidRow(4, String.format(ImportStudentsCommand.MESSAGE_UNKNOWN_LESSON, "History 1"))
+                + invalidRow(5, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT)
+                + invalidRow(6, String.format(ImportCommand.MESSAGE_TOO_MANY_COLUMNS, 5, 6));
+
+        assertThrows(CommandException.class, expectedMessage, () -> new ImportStudentsCommand(csvFile).execute(model));
+        assertEquals(1, model.getStudentBook().getStudentList().size());
+    }
+
+    @Test
+    public void execute_lessonOverCapacity_nothingImported() throws Exception {
+        Files.write(csvFile, List.of("Amy Bee,,,,Maths 1", "Bob Choo,,,,Maths 1", "Carl Kurz,,,,Maths 1"));
+
+        assertThrows(CommandException.class, () -> new ImportStudentsCommand(csvFile).execute(model));
+        assertFalse(model.hasStudent(new StudentBuilder().withStudentName("Amy Bee").build()));
+        assertEquals(0, maths.getStudents().numberOfStudents());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportsFirstRows() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 3; i++) {
+            rows.add("Existing Student");
+        }
+        Files.write(csvFile, rows);
+        StringBuilder expectedMessage = new StringBuilder(String.format(ImportCommand.MESSAGE_INVALID_ROWS,
+                rows.size()));
+        for (int row = 1; row <= ImportCommand.MAX_REPORTED_ERRORS; row++) {
+            expectedMessage.append(invalidRow(row, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT));
+        }
+        expectedMessage.append("\n").append(String.format(ImportCommand.MESSAGE_MORE_INVALID_ROWS, 3));
+
+        assertThrows(CommandException.class, expectedMessage.toString(), () ->
+                new ImportStudentsCommand(csvFile).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () ->
+                new ImportStudentsCommand(testFolder.resolve("missing.csv")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportStudentsCommand importCommand = new ImportStudentsCommand(Path.of("students.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportStudentsCommand(Path.of("students.csv"))));
+        assertFalse(importCommand.equals(new ImportStudentsCommand(Path.of("other.csv"))));
+        assertFalse(importCommand.equals(new ImportLessonsCommand(Path.of("students.csv"))));
+        assertFalse(importCommand.equals(null));
+    }
+
+    private static String invalidRow(int row, String message) {
+        return "\n" + String.format(ImportCommand.MESSAGE_INVALID_ROW, row, message);
+    }
+}
@@ -0,0 +1,75 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutoraid.testutil.Assert.assertThrows;
+import static tutoraid.testutil.TypicalLessons.getTypicalLessonBook;
+import static tutoraid.testutil.TypicalStudents.getTypicalStudentBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.logic.commands.exceptions.CommandException;
+import tutoraid.logic.parser.TutorAidParser;
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+import tutoraid.model.UserPrefs;
+
+public class RunCommandTest {
+
+    private static final String DELETE_FIRST_STUDENT = DeleteCommand.COMMAND_WORD + " "
+            + DeleteStudentCommand.COMMAND_FLAG + " 1";
+
+    @TempDir
+    public Path testFolder;
+
+    private final TutorAidParser parser = new TutorAidParser();
+    private final Model model = new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_success() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(TutorAidParser.COMMENT_MARKER + " remove two students", DELETE_FIRST_STUDENT,
+                "", DELETE_FIRST_STUDENT));
+        int studentCount = model.getStudentBook().getStudentList().size();
+
+        CommandResult result = new RunCommand(script, parser).execute(model);
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(studentCount - 2, model.getStudentBook().getStudentList().size());
+    }
+
+    @Test
+    public void execute_invalidLine_nothingExecuted() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(DELETE_FIRST_STUDENT, "unknownCommand"));
+
+        assertThrows(CommandException.class,
+                String.format(TutorAidParser.MESSAGE_INVALID_BATCH_LINE, 2, MESSAGE_UNKNOWN_COMMAND), () ->
+                new RunCommand(script, parser).execute(model));
+        assertEquals(new ModelManager(getTypicalStudentBook(), getTypicalLessonBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunCommand(script, parser).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("script.txt"), parser);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(Path.of("script.txt"), parser)));
+        assertFalse(runCommand.equals(new RunCommand(Path.of("other.txt"), parser)));
+        assertFalse(runCommand.equals(new RunCommand(Path.of("script.txt"), new TutorAidParser())));
+        assertFalse(runCommand.equals(null));
+    }
+}
@@ -0,0 +1,67 @@
+package tutoraid.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutoraid.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.logic.LatencyRecorder;
+import tutoraid.logic.LatencyRecorder.Phase;
+import tutoraid.model.Model;
+import tutoraid.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+    @Test
+    public void execute_noCommandsTimed_showsNoCommands() {
+        assertCommandSuccess(new StatsCommand(latencyRecorder), model, StatsCommand.MESSAGE_NO_COMMANDS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_commandsTimed_showsPercentilesOfEachPhase() {
+        latencyRecorder.record("ListCommand", Phase.PARSE, 1_000_000);
+        latencyRecorder.record("ListCommand", Phase.EXECUTE, 2_000_000);
+        latencyRecorder.record("AddStudentCommand", Phase.PARSE, 3_000_000);
+        String expectedMessage = StatsCommand.MESSAGE_HEADER
+                + "\n" + String.format(StatsCommand.MESSAGE_COMMAND_TYPE, "AddStudentCommand", 1)
+                + "\n" + phase("parse", "3.00 ms")
+                + "\n" + String.format(StatsCommand.MESSAGE_COMMAND_TYPE, "ListCommand", 1)
+                + "\n" + phase("parse", "1.00 ms")
+                + "\n" + phase("execute", "2.00 ms");
+
+        assertCommandSuccess(new StatsCommand(latencyRecorder), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void formatMillis() {
+        assertEquals("0.00 ms", StatsCommand.formatMillis(0));
+        assertEquals("1.50 ms", StatsCommand.formatMillis(1_500_000));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(latencyRecorder);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same recorder -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(latencyRecorder)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different recorder -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new LatencyRecorder())));
+    }
+
+    private static String phase(String phase, String latency) {
+        return String.format(StatsCommand.MESSAGE_PHASE, phase, latency, latency, latency, latency);
+    }
+}
@@ -0,0 +1,31 @@
+package tutoraid.logic.parser;
+
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.logic.commands.DebugCommand;
+
+public class DebugCommandParserTest {
+
+    private final DebugCommandParser parser = new DebugCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDebugCommand() {
+        assertParseSuccess(parser, " " + DebugCommand.SUBCOMMAND_DUMP + "  data/my debug.log ",
+                new DebugCommand(Path.of("data/my debug.log"), LogsCenter.getDiagnosticBuffer()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DebugCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, DebugCommand.SUBCOMMAND_DUMP, expectedMessage);
+        assertParseFailure(parser, "show debug.log", expectedMessage);
+    }
+}
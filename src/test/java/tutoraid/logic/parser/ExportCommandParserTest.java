@@ -0,0 +1,44 @@
+package tutoraid.logic.parser;
+
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_EXPORT_COMMAND;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.logic.commands.ExportLessonsCommand;
+import tutoraid.logic.commands.ExportProgressCommand;
+import tutoraid.logic.commands.ExportRostersCommand;
+import tutoraid.logic.commands.ExportStudentsCommand;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, ExportStudentsCommand.COMMAND_FLAG + " data/my students.csv ",
+                new ExportStudentsCommand(Path.of("data/my students.csv")));
+        assertParseSuccess(parser, ExportLessonsCommand.COMMAND_FLAG + " lessons.jsonl",
+                new ExportLessonsCommand(Path.of("lessons.jsonl")));
+        assertParseSuccess(parser, ExportRostersCommand.COMMAND_FLAG + " rosters.csv",
+                new ExportRostersCommand(Path.of("rosters.csv")));
+        assertParseSuccess(parser, ExportProgressCommand.COMMAND_FLAG + " progress.csv",
+                new ExportProgressCommand(Path.of("progress.csv")));
+    }
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        assertParseFailure(parser, ExportRostersCommand.COMMAND_FLAG + "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportRostersCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFlag_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_EXPORT_COMMAND);
+        assertParseFailure(parser, "-x students.csv", MESSAGE_INVALID_EXPORT_COMMAND);
+    }
+}
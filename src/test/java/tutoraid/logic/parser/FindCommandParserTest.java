@@ -1,15 +1,22 @@
 package tutoraid.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseFailure;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import tutoraid.logic.commands.FindLessonCommand;
 import tutoraid.logic.commands.FindStudentCommand;
+import tutoraid.logic.commands.FuzzyFindLessonCommand;
+import tutoraid.logic.commands.FuzzyFindStudentCommand;
 import tutoraid.model.lesson.LessonNameContainsSubstringsPredicate;
+import tutoraid.model.lesson.LessonNameWithinDistancePredicate;
 import tutoraid.model.student.NameContainsSubstringsPredicate;
+import tutoraid.model.student.NameWithinDistancePredicate;
 
 public class FindCommandParserTest {
     private FindCommandParser parser = new FindCommandParser();
@@ -38,4 +45,26 @@ public class FindCommandParserTest {
         FindLessonCommand command = (FindLessonCommand) parser.parse(" -l 1");
         assertEquals(new FindLessonCommand(prepareFindLessonPredicate("1")), command);
     }
+
+    @Test
+    public void parseCommand_fuzzyFindStudent_defaultMaxDistance() throws Exception {
+        FuzzyFindStudentCommand command = (FuzzyFindStudentCommand) parser.parse(" -fs alise  bobb");
+        assertEquals(new FuzzyFindStudentCommand(new NameWithinDistancePredicate(List.of("alise", "bobb"),
+                FindCommandParser.DEFAULT_MAX_DISTANCE)), command);
+    }
+
+    @Test
+    public void parseCommand_fuzzyFindLesson_withMaxDistance() throws Exception {
+        FuzzyFindLessonCommand command = (FuzzyFindLessonCommand) parser.parse(" -fl mathh d/1");
+        assertEquals(new FuzzyFindLessonCommand(new LessonNameWithinDistancePredicate(List.of("mathh"), 1)),
+                command);
+    }
+
+    @Test
+    public void parseCommand_fuzzyFind_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " -fs d/1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindStudentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " -fl math d/4", ParserUtil.MESSAGE_INVALID_MAX_DISTANCE);
+        assertParseFailure(parser, " -fs alise d/-1", ParserUtil.MESSAGE_INVALID_MAX_DISTANCE);
+    }
 }
@@ -0,0 +1,38 @@
+package tutoraid.logic.parser;
+
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutoraid.commons.core.Messages.MESSAGE_INVALID_IMPORT_COMMAND;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutoraid.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import tutoraid.logic.commands.ImportLessonsCommand;
+import tutoraid.logic.commands.ImportStudentsCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, ImportStudentsCommand.COMMAND_FLAG + " data/my students.csv ",
+                new ImportStudentsCommand(Path.of("data/my students.csv")));
+        assertParseSuccess(parser, ImportLessonsCommand.COMMAND_FLAG + " lessons.csv",
+                new ImportLessonsCommand(Path.of("lessons.csv")));
+    }
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        assertParseFailure(parser, ImportStudentsCommand.COMMAND_FLAG + "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportStudentsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFlag_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_IMPORT_COMMAND);
+        assertParseFailure(parser, "-p students.csv", MESSAGE_INVALID_IMPORT_COMMAND);
+    }
+}
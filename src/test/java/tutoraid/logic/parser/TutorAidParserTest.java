@@ -1,16 +1,32 @@
 package tutoraid.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutoraid.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutoraid.testutil.Assert.assertThrows;
+import static tutoraid.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 
+import tutoraid.commons.core.LogsCenter;
+import tutoraid.logic.LatencyRecorder;
+import tutoraid.logic.commands.BatchCommand;
 import tutoraid.logic.commands.ClearCommand;
+import tutoraid.logic.commands.Command;
+import tutoraid.logic.commands.DebugCommand;
+import tutoraid.logic.commands.DeleteCommand;
+import tutoraid.logic.commands.DeleteStudentCommand;
 import tutoraid.logic.commands.ExitCommand;
 import tutoraid.logic.commands.HelpCommand;
 import tutoraid.logic.commands.ListCommand;
+import tutoraid.logic.commands.RunCommand;
+import tutoraid.logic.commands.StatsCommand;
 import tutoraid.logic.parser.exceptions.ParseException;
 
 public class TutorAidParserTest {
@@ -52,4 +68,52 @@ public class TutorAidParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Path.of("script.txt"), parser),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        LatencyRecorder latencyRecorder = new LatencyRecorder();
+        assertEquals(new StatsCommand(latencyRecorder),
+                new TutorAidParser(latencyRecorder).parseCommand(StatsCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_debug() throws Exception {
+        assertEquals(new DebugCommand(Path.of("debug.log"), LogsCenter.getDiagnosticBuffer()),
+                parser.parseCommand(DebugCommand.COMMAND_WORD + " " + DebugCommand.SUBCOMMAND_DUMP + " debug.log"));
+    }
+
+    @Test
+    public void parseBatch_skipsBlankAndCommentLines() throws Exception {
+        String deleteFirstStudent = DeleteCommand.COMMAND_WORD + " " + DeleteStudentCommand.COMMAND_FLAG + " "
+                + INDEX_FIRST_ITEM.getOneBased();
+        List<String> lines = List.of(TutorAidParser.COMMENT_MARKER + " set up", "", deleteFirstStudent, "  ",
+                deleteFirstStudent);
+        SortedMap<Integer, Command> expectedCommandsByLine = new TreeMap<>();
+        expectedCommandsByLine.put(3, new DeleteStudentCommand(INDEX_FIRST_ITEM));
+        expectedCommandsByLine.put(5, new DeleteStudentCommand(INDEX_FIRST_ITEM));
+
+        assertEquals(new BatchCommand(expectedCommandsByLine), parser.parseBatch(lines.iterator()));
+    }
+
+    @Test
+    public void parseBatch_invalidLine_throwsParseException() {
+        List<String> lines = List.of(ListCommand.COMMAND_WORD, "unknownCommand");
+        assertThrows(ParseException.class,
+                String.format(TutorAidParser.MESSAGE_INVALID_BATCH_LINE, 2, MESSAGE_UNKNOWN_COMMAND), () ->
+                parser.parseBatch(lines.iterator()));
+    }
+
+    @Test
+    public void parseBatch_nestedRun_throwsParseException() {
+        List<String> lines = List.of(RunCommand.COMMAND_WORD + " script.txt");
+        assertThrows(ParseException.class,
+                String.format(TutorAidParser.MESSAGE_INVALID_BATCH_LINE, 1, TutorAidParser.MESSAGE_NESTED_RUN), () ->
+                parser.parseBatch(lines.iterator()));
+    }
 }
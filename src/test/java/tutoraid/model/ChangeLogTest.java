@@ -0,0 +1,64 @@
+package tutoraid.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutoraid.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ChangeLogTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeLog(0));
+    }
+
+    @Test
+    public void getIdsChangedSince_changesRecorded_returnsIdsChangedAfterVersion() {
+        ChangeLog changes = new ChangeLog();
+        changes.recordChange(1, 10);
+        changes.recordChange(2, 20);
+        changes.recordChange(2, 21);
+        changes.recordChange(3, 10);
+
+        assertEquals(Optional.of(Set.of(10L, 20L, 21L)), changes.getIdsChangedSince(0));
+        assertEquals(Optional.of(Set.of(10L)), changes.getIdsChangedSince(2));
+        assertEquals(Optional.of(Set.of()), changes.getIdsChangedSince(3));
+    }
+
+    @Test
+    public void getIdsChangedSince_beforeReplacement_returnsEmpty() {
+        ChangeLog changes = new ChangeLog();
+        changes.recordChange(1, 10);
+        changes.recordReplacement(2);
+        changes.recordChange(3, 20);
+
+        assertEquals(Optional.empty(), changes.getIdsChangedSince(1));
+        assertEquals(Optional.of(Set.of(20L)), changes.getIdsChangedSince(2));
+    }
+
+    @Test
+    public void getIdsChangedSince_pastCapacity_olderChangesForgotten() {
+        ChangeLog changes = new ChangeLog(4);
+        for (long version = 1; version <= 5; version++) {
+            changes.recordChange(version, version * 10);
+        }
+
+        assertEquals(Optional.empty(), changes.getIdsChangedSince(1));
+        assertEquals(Optional.of(Set.of(30L, 40L, 50L)), changes.getIdsChangedSince(2));
+    }
+
+    @Test
+    public void copy_changesRecordedAfterCopy_copyUnchanged() {
+        ChangeLog changes = new ChangeLog();
+        changes.recordChange(1, 10);
+        ChangeLog copy = changes.copy();
+        changes.recordChange(2, 20);
+        copy.recordChange(2, 30);
+
+        assertEquals(Optional.of(Set.of(10L, 30L)), copy.getIdsChangedSince(0));
+        assertEquals(Optional.of(Set.of(10L, 20L)), changes.getIdsChangedSince(0));
+    }
+}
@@ -2,6 +2,7 @@ package tutoraid.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_PRICE_SCIENCE_TWO;
 
@@ -9,12 +10,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tutoraid.model.lesson.Lesson;
+import tutoraid.model.lesson.LessonName;
 import tutoraid.model.lesson.exceptions.DuplicateLessonException;
 import tutoraid.testutil.Assert;
 import tutoraid.testutil.LessonBuilder;
@@ -74,11 +77,32 @@ public class LessonBookTest {
         assertTrue(lessonBook.hasLesson(editedMathsOne));
     }
 
+    @Test
+    public void getLesson_lessonNotInLessonBook_returnsEmpty() {
+        assertEquals(Optional.empty(), lessonBook.getLesson(TypicalLessons.MATHS_ONE.getLessonName()));
+    }
+
+    @Test
+    public void getLesson_lessonInLessonBook_returnsLesson() {
+        lessonBook.addLesson(TypicalLessons.MATHS_ONE);
+        LessonName upperCaseName = new LessonName(TypicalLessons.MATHS_ONE.toNameString().toUpperCase());
+        assertEquals(Optional.of(TypicalLessons.MATHS_ONE), lessonBook.getLesson(upperCaseName));
+    }
+
     @Test
     public void getLessonList_modifyList_throwsUnsupportedOperationException() {
         Assert.assertThrows(UnsupportedOperationException.class, () -> lessonBook.getLessonList().remove(0));
     }
 
+    @Test
+    public void getVersion_lessonReplaced_versionChanges() {
+        Lesson mathsOne = TypicalLessons.MATHS_ONE.copy();
+        lessonBook.addLesson(mathsOne);
+        long version = lessonBook.getVersion();
+        lessonBook.replaceLesson(mathsOne, new LessonBuilder(mathsOne).withPrice("1").build());
+        assertNotEquals(version, lessonBook.getVersion());
+    }
+
     /**
      * A stub ReadOnlyLessonBook whose lessons list can violate interface constraints.
      */
@@ -93,6 +117,26 @@ public class LessonBookTest {
         public ObservableList<Lesson> getLessonList() {
             return lessons;
         }
+
+        @Override
+        public Optional<Lesson> getLesson(LessonName lessonName) {
+            return lessons.stream().filter(lesson -> lesson.getLessonName().equals(lessonName)).findFirst();
+        }
+
+        @Override
+        public Optional<Lesson> getLesson(long id) {
+            return lessons.stream().filter(lesson -> lesson.getId() == id).findFirst();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return new ChangeLog();
+        }
     }
 
 }
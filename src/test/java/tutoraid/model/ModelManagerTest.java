@@ -2,22 +2,35 @@ package tutoraid.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import tutoraid.commons.core.GuiSettings;
+import tutoraid.model.lesson.Lesson;
 import tutoraid.model.student.NameContainsKeywordsPredicate;
+import tutoraid.model.student.Progress;
+import tutoraid.model.student.Student;
 import tutoraid.testutil.Assert;
 import tutoraid.testutil.LessonBookBuilder;
+import tutoraid.testutil.LessonBuilder;
 import tutoraid.testutil.StudentBookBuilder;
+import tutoraid.testutil.StudentBuilder;
 import tutoraid.testutil.TypicalLessons;
 import tutoraid.testutil.TypicalStudents;
+import tutoraid.ui.DetailLevel;
 
 public class ModelManagerTest {
 
@@ -129,6 +142,186 @@ public class ModelManagerTest {
                 .remove(0));
     }
 
+    @Test
+    public void addStudentToLesson_validStudentAndLesson_linksBothSides() {
+        Student student = new StudentBuilder().build();
+        Lesson lesson = new LessonBuilder().build();
+        modelManager.addStudentToLesson(student, lesson);
+        assertTrue(student.hasLesson(lesson));
+        assertTrue(lesson.hasStudent(student));
+    }
+
+    @Test
+    public void deleteStudentFromLesson_enrolledStudent_unlinksBothSides() {
+        Student student = new StudentBuilder().build();
+        Lesson lesson = new LessonBuilder().build();
+        modelManager.addStudentToLesson(student, lesson);
+        modelManager.deleteStudentFromLesson(student, lesson);
+        assertFalse(student.hasLesson(lesson));
+        assertFalse(lesson.hasStudent(student));
+    }
+
+    @Test
+    public void deleteStudentFromLessons_studentInTwoLessons_removesStudentFromOnlyThoseLessons() {
+        Student student = new StudentBuilder().build();
+        Student otherStudent = new StudentBuilder().withStudentName("Other Student").build();
+        Lesson lesson = new LessonBuilder().build();
+        Lesson otherLesson = new LessonBuilder().withLessonName("Other Lesson").build();
+        modelManager.addStudentToLesson(student, lesson);
+        modelManager.addStudentToLesson(student, otherLesson);
+        modelManager.addStudentToLesson(otherStudent, lesson);
+
+        modelManager.deleteStudentFromLessons(student);
+        assertFalse(lesson.hasStudent(student));
+        assertFalse(otherLesson.hasStudent(student));
+        assertTrue(lesson.hasStudent(otherStudent));
+        assertTrue(otherStudent.hasLesson(lesson));
+    }
+
+    @Test
+    public void deleteLessonFromStudents_lessonWithTwoStudents_removesLessonFromOnlyThoseStudents() {
+        Student student = new StudentBuilder().build();
+        Student otherStudent = new StudentBuilder().withStudentName("Other Student").build();
+        Lesson lesson = new LessonBuilder().build();
+        Lesson otherLesson = new LessonBuilder().withLessonName("Other Lesson").build();
+        modelManager.addStudentToLesson(student, lesson);
+        modelManager.addStudentToLesson(otherStudent, lesson);
+        modelManager.addStudentToLesson(student, otherLesson);
+
+        modelManager.deleteLessonFromStudents(lesson);
+        assertFalse(student.hasLesson(lesson));
+        assertFalse(otherStudent.hasLesson(lesson));
+        assertTrue(student.hasLesson(otherLesson));
+        assertTrue(otherLesson.hasStudent(student));
+    }
+
+    @Test
+    public void addProgress_studentInStudentBook_updatesStudentBookVersion() {
+        Student student = new StudentBuilder().build();
+        modelManager.addStudent(student);
+        long version = modelManager.getStudentBook().getVersion();
+        modelManager.addProgress(student, new Progress("Did homework"));
+        assertNotEquals(version, modelManager.getStudentBook().getVersion());
+        assertEquals(new Progress("Did homework"), student.getLatestProgress());
+    }
+
+    @Test
+    public void addStudentToLesson_validStudentAndLesson_updatesBothVersions() {
+        long studentBookVersion = modelManager.getStudentBook().getVersion();
+        long lessonBookVersion = modelManager.getLessonBook().getVersion();
+        modelManager.addStudentToLesson(new StudentBuilder().build(), new LessonBuilder().build());
+        assertNotEquals(studentBookVersion, modelManager.getStudentBook().getVersion());
+        assertNotEquals(lessonBookVersion, modelManager.getLessonBook().getVersion());
+    }
+
+    @Test
+    public void addEnrolments_studentsAndLessons_linksBothSidesInOneChange() {
+        Student alice = new StudentBuilder().withStudentName("Alice Tan").build();
+        Student benson = new StudentBuilder().withStudentName("Benson Lee").build();
+        Lesson lesson = new LessonBuilder().build();
+        modelManager.addStudents(List.of(alice, benson));
+        modelManager.addLesson(lesson);
+        long studentBookVersion = modelManager.getStudentBook().getVersion();
+        long lessonBookVersion = modelManager.getLessonBook().getVersion();
+
+        Map<Student, Set<Lesson>> enrolments = new LinkedHashMap<>();
+        enrolments.put(alice, Set.of(lesson));
+        enrolments.put(benson, Set.of(lesson));
+        modelManager.addEnrolments(enrolments);
+
+        assertEquals(List.of(alice, benson), new ArrayList<>(lesson.getStudents().students));
+        assertTrue(alice.hasLesson(lesson));
+        assertTrue(benson.hasLesson(lesson));
+        assertEquals(studentBookVersion + 1, modelManager.getStudentBook().getVersion());
+        assertEquals(lessonBookVersion + 1, modelManager.getLessonBook().getVersion());
+    }
+
+    @Test
+    public void viewStudent_detailLevelListenerSet_notifiesListener() {
+        List<DetailLevel> detailLevels = new ArrayList<>();
+        modelManager.setDetailLevelListener(detailLevels::add);
+        Student student = new StudentBuilder().build();
+        modelManager.addStudent(student);
+
+        modelManager.viewStudent(student);
+        modelManager.viewList(DetailLevel.LOW);
+        assertEquals(List.of(DetailLevel.HIGH, DetailLevel.LOW), detailLevels);
+    }
+
+    @Test
+    public void rollBackToCheckpoint_noCheckpoint_throwsIllegalStateException() {
+        Assert.assertThrows(IllegalStateException.class, () -> modelManager.rollBackToCheckpoint());
+    }
+
+    @Test
+    public void rollBackToCheckpoint_changesSinceCheckpoint_restoresBooksAndLinks() {
+        Student student = new StudentBuilder().build();
+        Lesson lesson = new LessonBuilder().build();
+        modelManager.addStudent(student);
+        modelManager.addLesson(lesson);
+        modelManager.addStudentToLesson(student, lesson);
+        modelManager.saveCheckpoint();
+
+        modelManager.deleteStudentFromLesson(student, lesson);
+        modelManager.addStudent(new StudentBuilder().withStudentName("Other Student").build());
+        modelManager.rollBackToCheckpoint();
+
+        assertEquals(1, modelManager.getStudentBook().getStudentList().size());
+        Student restoredStudent = modelManager.getStudentBook().getStudentList().get(0);
+        Lesson restoredLesson = modelManager.getLessonBook().getLessonList().get(0);
+        assertTrue(restoredStudent.hasLesson(restoredLesson));
+        assertTrue(restoredLesson.hasStudent(restoredStudent));
+        Assert.assertThrows(IllegalStateException.class, () -> modelManager.rollBackToCheckpoint());
+    }
+
+    @Test
+    public void rollBackToCheckpoint_linksDeletedInCascades_restoresLinksInOrder() {
+        Student alice = new StudentBuilder().withStudentName("Alice Tan").build();
+        Student benson = new StudentBuilder().withStudentName("Benson Lee").build();
+        Lesson maths = new LessonBuilder().withLessonName("Maths").build();
+        Lesson science = new LessonBuilder().withLessonName("Science").build();
+        Lesson history = new LessonBuilder().withLessonName("History").build();
+        for (Lesson lesson : List.of(maths, science, history)) {
+            modelManager.addStudentToLesson(alice, lesson);
+            modelManager.addStudentToLesson(benson, lesson);
+        }
+        modelManager.saveCheckpoint();
+
+        modelManager.deleteStudentFromLesson(benson, history);
+        modelManager.deleteStudentFromLessons(alice);
+        modelManager.deleteLessonFromStudents(science);
+        modelManager.rollBackToCheckpoint();
+
+        assertEquals(List.of(maths, science, history), new ArrayList<>(alice.getLessons().lessons));
+        assertEquals(List.of(maths, science, history), new ArrayList<>(benson.getLessons().lessons));
+        for (Lesson lesson : List.of(maths, science, history)) {
+            assertEquals(List.of(alice, benson), new ArrayList<>(lesson.getStudents().students));
+        }
+    }
+
+    @Test
+    public void rollBackToCheckpoint_studentsDeletedAndEdited_restoresStudentsInPlace() {
+        Student alice = new StudentBuilder().withStudentName("Alice Tan").withProgressList(new ArrayList<>()).build();
+        Student benson = new StudentBuilder().withStudentName("Benson Lee").withProgressList(new ArrayList<>()).build();
+        Student carl = new StudentBuilder().withStudentName("Carl Ong").withProgressList(new ArrayList<>()).build();
+        modelManager.addStudents(List.of(alice, benson, carl));
+        modelManager.addProgress(benson, new Progress("Did homework"));
+        long version = modelManager.getStudentBook().getVersion();
+        modelManager.saveCheckpoint();
+
+        modelManager.deleteStudent(alice);
+        modelManager.replaceStudent(benson, new StudentBuilder(benson).withStudentName("Ben Lee").build());
+        modelManager.addProgress(benson, new Progress("Skipped homework"));
+        modelManager.rollBackToCheckpoint();
+
+        assertEquals(List.of(alice, benson, carl), modelManager.getStudentBook().getStudentList());
+        assertEquals("Benson Lee", benson.getStudentName().fullName);
+        assertEquals(new Progress("Did homework"), benson.getLatestProgress());
+        // the undone changes are recorded, so only the students they touched need to be saved again
+        assertEquals(Optional.of(Set.of(alice.getId(), benson.getId())),
+                modelManager.getStudentBook().getChangeLog().getIdsChangedSince(version));
+    }
+
     @Test
     public void equals() {
         StudentBook studentBook = new StudentBookBuilder().withStudent(TypicalStudents.ALICE)
@@ -2,6 +2,7 @@ package tutoraid.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_PARENT_PHONE_BOB;
 
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -79,6 +81,25 @@ public class StudentBookTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> studentBook.getStudentList().remove(0));
     }
 
+    @Test
+    public void getVersion_studentAddedAndRemoved_versionChangesEachTime() {
+        long initialVersion = studentBook.getVersion();
+        studentBook.addStudent(TypicalStudents.ALICE);
+        long versionAfterAdd = studentBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+        studentBook.removeStudent(TypicalStudents.ALICE);
+        assertNotEquals(versionAfterAdd, studentBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_onlyReadFrom_versionUnchanged() {
+        studentBook.addStudent(TypicalStudents.ALICE);
+        long version = studentBook.getVersion();
+        studentBook.hasStudent(TypicalStudents.ALICE);
+        studentBook.getStudentList();
+        assertEquals(version, studentBook.getVersion());
+    }
+
     /**
      * A stub ReadOnlyStudentBook whose students list can violate interface constraints.
      */
@@ -93,6 +114,21 @@ public class StudentBookTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public Optional<Student> getStudent(long id) {
+            return students.stream().filter(student -> student.getId() == id).findFirst();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return new ChangeLog();
+        }
     }
 
 }
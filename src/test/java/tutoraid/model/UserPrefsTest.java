@@ -1,5 +1,9 @@
 package tutoraid.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
 
 import tutoraid.testutil.Assert;
@@ -18,4 +22,14 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setStudentBookFilePath(null));
     }
 
+    @Test
+    public void resetData_binaryStorageEnabled_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setBinaryStorageEnabled(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isBinaryStorageEnabled());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
@@ -1,5 +1,6 @@
 package tutoraid.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -38,4 +39,12 @@ public class LessonNameTest {
         assertTrue(LessonName.isValidLessonName("ENGLISH LANGUAGE")); // with capital letters
         assertTrue(LessonName.isValidLessonName("NUS CS2103T Team Project")); // long LessonNames
     }
+
+    @Test
+    public void hashCode_lessonNamesDifferingOnlyInCase_sameHashCode() {
+        LessonName lessonName = new LessonName("Maths 1");
+        LessonName upperCaseLessonName = new LessonName("MATHS 1");
+        assertTrue(lessonName.equals(upperCaseLessonName));
+        assertEquals(lessonName.hashCode(), upperCaseLessonName.hashCode());
+    }
 }
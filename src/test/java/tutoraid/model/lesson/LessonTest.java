@@ -1,5 +1,6 @@
 package tutoraid.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_CAPACITY_MATHS_TWO;
@@ -10,6 +11,7 @@ import static tutoraid.logic.commands.CommandTestUtil.VALID_TIMING_SCIENCE_TWO;
 import org.junit.jupiter.api.Test;
 
 import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
 import tutoraid.testutil.TypicalLessons;
 
 public class LessonTest {
@@ -79,5 +81,33 @@ public class LessonTest {
         // different timing -> returns false
         editedMathsOne = new LessonBuilder(TypicalLessons.MATHS_ONE).withTiming(VALID_TIMING_SCIENCE_TWO).build();
         assertFalse(TypicalLessons.MATHS_ONE.equals(editedMathsOne));
+
+        // different id -> returns false
+        editedMathsOne = new LessonBuilder(TypicalLessons.MATHS_ONE).withId(TypicalLessons.SCIENCE_ONE.getId()).build();
+        assertFalse(TypicalLessons.MATHS_ONE.equals(editedMathsOne));
+    }
+
+    @Test
+    public void hasSameDetails() {
+        // same values with different id -> returns true
+        Lesson mathsOneWithDifferentId =
+                new LessonBuilder(TypicalLessons.MATHS_ONE).withId(TypicalLessons.SCIENCE_ONE.getId()).build();
+        assertTrue(TypicalLessons.MATHS_ONE.hasSameDetails(mathsOneWithDifferentId));
+
+        // null -> returns false
+        assertFalse(TypicalLessons.MATHS_ONE.hasSameDetails(null));
+
+        // different lesson name -> returns false
+        Lesson editedMathsOne =
+                new LessonBuilder(TypicalLessons.MATHS_ONE).withLessonName(VALID_LESSON_NAME_MATHS_TWO).build();
+        assertFalse(TypicalLessons.MATHS_ONE.hasSameDetails(editedMathsOne));
+    }
+
+    @Test
+    public void hashCode_studentsAdded_unchanged() {
+        Lesson lesson = new LessonBuilder().build();
+        int hashCode = lesson.hashCode();
+        lesson.addStudent(new StudentBuilder().build());
+        assertEquals(hashCode, lesson.hashCode());
     }
 }
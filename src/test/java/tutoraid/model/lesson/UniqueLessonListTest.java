@@ -2,12 +2,14 @@ package tutoraid.model.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_PRICE_MATHS_TWO;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -110,6 +112,56 @@ public class UniqueLessonListTest {
                 TypicalLessons.MATHS_ONE, TypicalLessons.MATHS_TWO));
     }
 
+    @Test
+    public void get_lessonInList_returnsLesson() {
+        uniqueLessonList.add(TypicalLessons.MATHS_ONE);
+        assertEquals(Optional.of(TypicalLessons.MATHS_ONE),
+                uniqueLessonList.get(TypicalLessons.MATHS_ONE.getLessonName()));
+        assertEquals(Optional.empty(), uniqueLessonList.get(TypicalLessons.MATHS_TWO.getLessonName()));
+    }
+
+    @Test
+    public void get_lessonIdInList_returnsLesson() {
+        uniqueLessonList.add(TypicalLessons.MATHS_ONE);
+        assertEquals(Optional.of(TypicalLessons.MATHS_ONE), uniqueLessonList.get(TypicalLessons.MATHS_ONE.getId()));
+        assertEquals(Optional.empty(), uniqueLessonList.get(TypicalLessons.MATHS_TWO.getId()));
+    }
+
+    @Test
+    public void setLesson_editedLessonHasDifferentIdentity_updatesNameLookup() {
+        uniqueLessonList.add(TypicalLessons.MATHS_ONE);
+        uniqueLessonList.setLesson(TypicalLessons.MATHS_ONE, TypicalLessons.MATHS_TWO);
+        assertEquals(Optional.empty(), uniqueLessonList.get(TypicalLessons.MATHS_ONE.getLessonName()));
+        assertEquals(Optional.of(TypicalLessons.MATHS_TWO),
+                uniqueLessonList.get(TypicalLessons.MATHS_TWO.getLessonName()));
+    }
+
+    @Test
+    public void replaceLesson_targetLessonNotInList_throwsLessonNotFoundException() {
+        Lesson mathsOne = TypicalLessons.MATHS_ONE.copy();
+        Assert.assertThrows(LessonNotFoundException.class, () -> uniqueLessonList.replaceLesson(
+                mathsOne, TypicalLessons.MATHS_TWO));
+    }
+
+    @Test
+    public void replaceLesson_editedLessonHasDifferentIdentity_replacesFieldsInPlace() {
+        Lesson mathsOne = TypicalLessons.MATHS_ONE.copy();
+        uniqueLessonList.add(mathsOne);
+        uniqueLessonList.replaceLesson(mathsOne, TypicalLessons.MATHS_TWO);
+        assertSame(mathsOne, uniqueLessonList.asUnmodifiableObservableList().get(0));
+        assertSame(mathsOne, uniqueLessonList.get(TypicalLessons.MATHS_TWO.getLessonName()).get());
+        assertFalse(uniqueLessonList.contains(TypicalLessons.MATHS_ONE));
+    }
+
+    @Test
+    public void replaceLesson_editedLessonHasNonUniqueIdentity_throwsDuplicateLessonException() {
+        Lesson mathsOne = TypicalLessons.MATHS_ONE.copy();
+        uniqueLessonList.add(mathsOne);
+        uniqueLessonList.add(TypicalLessons.MATHS_TWO);
+        Assert.assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.replaceLesson(
+                mathsOne, TypicalLessons.MATHS_TWO));
+    }
+
     @Test
     public void remove_nullLesson_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueLessonList.remove(null));
@@ -1,5 +1,6 @@
 package tutoraid.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -38,4 +39,12 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void hashCode_namesDifferingOnlyInCase_sameHashCode() {
+        Name name = new Name("Alice Pauline");
+        Name upperCaseName = new Name("ALICE PAULINE");
+        assertTrue(name.equals(upperCaseName));
+        assertEquals(name.hashCode(), upperCaseName.hashCode());
+    }
 }
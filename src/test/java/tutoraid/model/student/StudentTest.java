@@ -8,6 +8,8 @@ import static tutoraid.logic.commands.CommandTestUtil.VALID_PARENT_PHONE_BOB;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_STUDENT_NAME_BOB;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_STUDENT_PHONE_BOB;
 
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.Test;
 
 import tutoraid.testutil.StudentBuilder;
@@ -75,6 +77,35 @@ public class StudentTest {
         // different parent phone -> returns false
         editedAlice = new StudentBuilder(TypicalStudents.ALICE).withParentPhone(VALID_PARENT_PHONE_BOB).build();
         assertFalse(TypicalStudents.ALICE.equals(editedAlice));
+
+        // different id -> returns false
+        editedAlice = new StudentBuilder(TypicalStudents.ALICE).withId(TypicalStudents.BOB.getId()).build();
+        assertFalse(TypicalStudents.ALICE.equals(editedAlice));
+    }
+
+    @Test
+    public void hasSameDetails() {
+        // same values with different id -> returns true
+        Student aliceWithDifferentId =
+                new StudentBuilder(TypicalStudents.ALICE).withId(TypicalStudents.BOB.getId()).build();
+        assertTrue(TypicalStudents.ALICE.hasSameDetails(aliceWithDifferentId));
+
+        // null -> returns false
+        assertFalse(TypicalStudents.ALICE.hasSameDetails(null));
+
+        // different student name -> returns false
+        Student editedAlice = new StudentBuilder(TypicalStudents.ALICE).withStudentName(VALID_STUDENT_NAME_BOB).build();
+        assertFalse(TypicalStudents.ALICE.hasSameDetails(editedAlice));
+    }
+
+    @Test
+    public void copy_progressAddedToOriginal_copyUnchanged() {
+        Student original = new StudentBuilder(TypicalStudents.ALICE).withProgressList(new ArrayList<>()).build();
+        Student copy = original.copy();
+        assertTrue(copy.hasSameDetails(original));
+
+        original.addProgress(new Progress("Finished homework"));
+        assertTrue(copy.isProgressListEmpty());
     }
 
     @Test
@@ -2,15 +2,20 @@ package tutoraid.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutoraid.logic.commands.CommandTestUtil.VALID_PARENT_PHONE_BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import tutoraid.model.student.exceptions.DuplicateStudentException;
 import tutoraid.model.student.exceptions.StudentNotFoundException;
 import tutoraid.testutil.Assert;
@@ -37,6 +42,16 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(TypicalStudents.ALICE));
     }
 
+    @Test
+    public void get_id_returnsStudentWhileInList() {
+        Student alice = new StudentBuilder(TypicalStudents.ALICE).build();
+        uniqueStudentList.add(alice);
+        assertSame(alice, uniqueStudentList.get(alice.getId()).get());
+
+        uniqueStudentList.remove(alice);
+        assertTrue(uniqueStudentList.get(alice.getId()).isEmpty());
+    }
+
     @Test
     public void contains_studentWithSameIdentityFieldsInList_returnsTrue() {
         uniqueStudentList.add(TypicalStudents.ALICE);
@@ -44,6 +59,21 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_studentWithDifferentCaseNameInList_returnsTrue() {
+        uniqueStudentList.add(TypicalStudents.ALICE);
+        Student upperCaseAlice = new StudentBuilder(TypicalStudents.ALICE)
+                .withStudentName(TypicalStudents.ALICE.toNameString().toUpperCase()).build();
+        assertTrue(uniqueStudentList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedStudent_returnsFalse() {
+        uniqueStudentList.add(TypicalStudents.ALICE);
+        uniqueStudentList.remove(TypicalStudents.ALICE);
+        assertFalse(uniqueStudentList.contains(TypicalStudents.ALICE));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -55,6 +85,30 @@ public class UniqueStudentListTest {
         Assert.assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(TypicalStudents.ALICE));
     }
 
+    @Test
+    public void addAll_newStudents_addedInOneChange() {
+        uniqueStudentList.add(TypicalStudents.ALICE);
+        int[] changeCount = {0};
+        uniqueStudentList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Student>) unused -> changeCount[0]++);
+
+        uniqueStudentList.addAll(List.of(TypicalStudents.BENSON, TypicalStudents.CARL));
+        assertEquals(List.of(TypicalStudents.ALICE, TypicalStudents.BENSON, TypicalStudents.CARL),
+                uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniqueStudentList.contains(TypicalStudents.CARL));
+    }
+
+    @Test
+    public void addAll_duplicateStudents_throwsDuplicateStudentException() {
+        uniqueStudentList.add(TypicalStudents.ALICE);
+        Assert.assertThrows(DuplicateStudentException.class, () ->
+                uniqueStudentList.addAll(List.of(TypicalStudents.BENSON, TypicalStudents.ALICE)));
+        Assert.assertThrows(DuplicateStudentException.class, () ->
+                uniqueStudentList.addAll(List.of(TypicalStudents.BENSON, TypicalStudents.BENSON)));
+        assertEquals(List.of(TypicalStudents.ALICE), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setStudent_nullTargetStudent_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(
@@ -109,6 +163,40 @@ public class UniqueStudentListTest {
                 TypicalStudents.ALICE, TypicalStudents.BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_updatesIdentityLookup() {
+        uniqueStudentList.add(TypicalStudents.ALICE);
+        uniqueStudentList.setStudent(TypicalStudents.ALICE, TypicalStudents.BOB);
+        assertFalse(uniqueStudentList.contains(TypicalStudents.ALICE));
+        assertTrue(uniqueStudentList.contains(TypicalStudents.BOB));
+    }
+
+    @Test
+    public void replaceStudent_targetStudentNotInList_throwsStudentNotFoundException() {
+        Student alice = TypicalStudents.ALICE.copy();
+        Assert.assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.replaceStudent(
+                alice, TypicalStudents.BOB));
+    }
+
+    @Test
+    public void replaceStudent_editedStudentHasDifferentIdentity_replacesFieldsInPlace() {
+        Student alice = TypicalStudents.ALICE.copy();
+        uniqueStudentList.add(alice);
+        uniqueStudentList.replaceStudent(alice, TypicalStudents.BOB);
+        assertSame(alice, uniqueStudentList.asUnmodifiableObservableList().get(0));
+        assertFalse(uniqueStudentList.contains(TypicalStudents.ALICE));
+        assertTrue(uniqueStudentList.contains(TypicalStudents.BOB));
+    }
+
+    @Test
+    public void replaceStudent_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
+        Student alice = TypicalStudents.ALICE.copy();
+        uniqueStudentList.add(alice);
+        uniqueStudentList.add(TypicalStudents.BOB);
+        Assert.assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.replaceStudent(
+                alice, TypicalStudents.BOB));
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -168,4 +256,51 @@ public class UniqueStudentListTest {
         Assert.assertThrows(UnsupportedOperationException.class, ()
             -> uniqueStudentList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getMatchingStudents_substringInSomeNames_returnsThoseStudents() {
+        uniqueStudentList.setStudents(Arrays.asList(TypicalStudents.ALICE, TypicalStudents.BENSON,
+                TypicalStudents.DANIEL));
+        assertEquals(Set.of(TypicalStudents.BENSON, TypicalStudents.DANIEL),
+                uniqueStudentList.getMatchingStudents(new NameContainsSubstringsPredicate(List.of("eie", "xyz"))));
+    }
+
+    @Test
+    public void getMatchingStudents_afterRemove_removedStudentNotReturned() {
+        uniqueStudentList.add(TypicalStudents.BENSON);
+        uniqueStudentList.add(TypicalStudents.DANIEL);
+        uniqueStudentList.remove(TypicalStudents.BENSON);
+        assertEquals(Set.of(TypicalStudents.DANIEL),
+                uniqueStudentList.getMatchingStudents(new NameContainsSubstringsPredicate(List.of("meier"))));
+    }
+
+    @Test
+    public void getMatchingStudents_afterReplaceStudent_matchesNewName() {
+        Student student = new StudentBuilder(TypicalStudents.ALICE).build();
+        uniqueStudentList.add(student);
+        uniqueStudentList.replaceStudent(student, new StudentBuilder(TypicalStudents.ALICE)
+                .withStudentName("Bob Choo").build());
+        assertTrue(uniqueStudentList.getMatchingStudents(new NameContainsSubstringsPredicate(List.of("alice")))
+                .isEmpty());
+        assertEquals(Set.of(student),
+                uniqueStudentList.getMatchingStudents(new NameContainsSubstringsPredicate(List.of("choo"))));
+    }
+
+    @Test
+    public void getStudentsWithinDistance_misspeltName_returnsStudentsWithDistances() {
+        uniqueStudentList.setStudents(Arrays.asList(TypicalStudents.ALICE, TypicalStudents.BENSON,
+                TypicalStudents.DANIEL));
+        Map<Student, Integer> distances = uniqueStudentList.getStudentsWithinDistance(
+                new NameWithinDistancePredicate(List.of("meir", "benzon"), 2));
+        assertEquals(Map.of(TypicalStudents.BENSON, 1, TypicalStudents.DANIEL, 1), distances);
+    }
+
+    @Test
+    public void getStudentsWithinDistance_afterRemove_removedStudentNotReturned() {
+        uniqueStudentList.add(TypicalStudents.BENSON);
+        uniqueStudentList.add(TypicalStudents.DANIEL);
+        uniqueStudentList.remove(TypicalStudents.DANIEL);
+        assertEquals(Map.of(TypicalStudents.BENSON, 1), uniqueStudentList.getStudentsWithinDistance(
+                new NameWithinDistancePredicate(List.of("maier"), 2)));
+    }
 }
@@ -0,0 +1,74 @@
+package tutoraid.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree<String> tree = new BkTree<>();
+
+    @Test
+    public void search_misspeltWord_returnsItemsWithinDistance() {
+        tree.add("benson", "Benson Meier");
+        tree.add("carl", "Carl Kurz");
+        tree.add("daniel", "Daniel Meier");
+        assertEquals(Map.of("benson", 1, "daniel", 1), tree.search("MEIR", 1));
+        assertEquals(Map.of("carl", 1), tree.search("kunz", 2));
+        assertTrue(tree.search("kunz", 0).isEmpty());
+    }
+
+    @Test
+    public void search_severalWordsWithinDistance_returnsClosestDistance() {
+        tree.add("alice", "Alice Alise");
+        assertEquals(Map.of("alice", 0), tree.search("alice", 2));
+    }
+
+    @Test
+    public void search_afterRemove_itemNotReturned() {
+        tree.add("benson", "Benson Meier");
+        tree.add("daniel", "Daniel Meier");
+        tree.remove("benson", "Benson Meier");
+        assertEquals(Map.of("daniel", 1), tree.search("meir", 1));
+        assertTrue(tree.search("benson", 2).isEmpty());
+    }
+
+    @Test
+    public void search_afterRemovingMostWords_stillFindsRemainingItems() {
+        String[] names = {"Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer"};
+        for (String name : names) {
+            tree.add(name, name);
+        }
+        for (int i = 0; i < names.length - 1; i++) {
+            tree.remove(names[i], names[i]);
+        }
+        assertEquals(Map.of("Elle Meyer", 1), tree.search("meier", 1));
+        tree.add("Carl Kurz", "Carl Kurz");
+        assertEquals(Map.of("Carl Kurz", 0), tree.search("kurz", 0));
+    }
+
+    @Test
+    public void search_itemsComparedByReference() {
+        String first = new String("same");
+        String second = new String("same");
+        tree.add(first, "Alice Pauline");
+        tree.add(second, "Alice Pauline");
+        tree.remove(first, "Alice Pauline");
+        Map<String, Integer> distances = tree.search("alice", 0);
+        assertEquals(1, distances.size());
+        assertSame(second, distances.keySet().iterator().next());
+    }
+
+    @Test
+    public void search_afterAddAll_returnsItemsWithinDistance() {
+        Map<String, String> names = Map.of("benson", "Benson Meier", "daniel", "Daniel Meier");
+        tree.addAll(List.of("benson", "daniel"), names::get);
+        tree.add("elle", "Elle Meyer");
+        assertEquals(Map.of("benson", 1, "daniel", 1, "elle", 0), tree.search("meyer", 1));
+    }
+}
@@ -0,0 +1,21 @@
+package tutoraid.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class IdGeneratorTest {
+
+    @Test
+    public void nextId_calledTwice_returnsDifferentIds() {
+        assertNotEquals(IdGenerator.nextId(), IdGenerator.nextId());
+    }
+
+    @Test
+    public void nextId_afterReserve_returnsLargerId() {
+        long reservedId = IdGenerator.nextId() + 1000;
+        IdGenerator.reserve(reservedId);
+        assertTrue(IdGenerator.nextId() > reservedId);
+    }
+}
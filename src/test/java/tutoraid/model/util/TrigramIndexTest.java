@@ -0,0 +1,64 @@
+package tutoraid.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>();
+
+    @Test
+    public void getCandidates_substringInOneName_returnsThatItem() {
+        index.add("benson", "Benson Meier");
+        index.add("carl", "Carl Kurz");
+        assertEquals(List.of("carl"), new ArrayList<>(index.getCandidates("KUR")));
+    }
+
+    @Test
+    public void getCandidates_substringAcrossWords_returnsNothing() {
+        index.add("benson", "Benson Meier");
+        assertTrue(index.getCandidates("sonme").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_shortSubstring_returnsAllItems() {
+        index.add("benson", "Benson Meier");
+        index.add("carl", "Carl Kurz");
+        assertEquals(List.of("benson", "carl"), new ArrayList<>(index.getCandidates("ar")));
+    }
+
+    @Test
+    public void getCandidates_afterRemove_itemNotReturned() {
+        index.add("benson", "Benson Meier");
+        index.add("daniel", "Daniel Meier");
+        index.remove("benson", "Benson Meier");
+        assertEquals(List.of("daniel"), new ArrayList<>(index.getCandidates("meier")));
+        assertEquals(List.of("daniel"), new ArrayList<>(index.getCandidates("me")));
+    }
+
+    @Test
+    public void getCandidates_itemsComparedByReference() {
+        String first = new String("same");
+        String second = new String("same");
+        index.add(first, "Alice Pauline");
+        index.add(second, "Alice Pauline");
+        index.remove(first, "Alice Pauline");
+        List<String> candidates = new ArrayList<>(index.getCandidates("alice"));
+        assertEquals(1, candidates.size());
+        assertSame(second, candidates.get(0));
+    }
+
+    @Test
+    public void getCandidates_afterAddAll_returnsMatchingItems() {
+        Map<String, String> names = Map.of("benson", "Benson Meier", "daniel", "Daniel Meier", "carl", "Carl Kurz");
+        index.addAll(List.of("benson", "daniel", "carl"), names::get);
+        assertEquals(List.of("benson", "daniel"), new ArrayList<>(index.getCandidates("eie")));
+    }
+}
@@ -0,0 +1,113 @@
+package tutoraid.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.model.LessonBook;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.StudentBook;
+import tutoraid.testutil.Assert;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.TypicalLessons;
+
+public class BinaryTutorAidLessonStorageTest {
+
+    @TempDir
+    public Path testFolder;
+    private JsonTutorAidLessonStorage jsonStorage;
+    private BinaryTutorAidLessonStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonStorage = new JsonTutorAidLessonStorage(testFolder.resolve("lessons.json"));
+        binaryStorage = new BinaryTutorAidLessonStorage(jsonStorage);
+    }
+
+    @Test
+    public void getLessonBookFilePath_nextToJsonFile() {
+        assertEquals(testFolder.resolve("lessons.bin"), binaryStorage.getLessonBookFilePath());
+    }
+
+    @Test
+    public void readLessonBook_noFiles_emptyResult() throws Exception {
+        assertFalse(binaryStorage.readLessonBook().isPresent());
+        assertFalse(Files.exists(binaryStorage.getLessonBookFilePath()));
+    }
+
+    @Test
+    public void readAndSaveLessonBook_allInOrder_success() throws Exception {
+        LessonBook original = TypicalLessons.getTypicalLessonBook();
+        binaryStorage.saveLessonBook(original);
+        ReadOnlyLessonBook readBack = binaryStorage.readLessonBook().get();
+        assertEquals(original, new LessonBook(readBack));
+
+        original.removeLesson(original.getLessonList().get(0));
+        original.addLesson(new LessonBuilder().withLessonName("History 1").build());
+        binaryStorage.saveLessonBook(original);
+        readBack = binaryStorage.readLessonBook().get();
+        assertEquals(original, new LessonBook(readBack));
+        assertFalse(Files.exists(jsonStorage.getLessonBookFilePath()));
+    }
+
+    @Test
+    public void readLessonBook_onlyJsonFile_convertedToBinary() throws Exception {
+        LessonBook original = TypicalLessons.getTypicalLessonBook();
+        jsonStorage.saveLessonBook(original);
+
+        ReadOnlyLessonBook readBack = binaryStorage.readLessonBook().get();
+
+        assertEquals(original, new LessonBook(readBack));
+        assertTrue(Files.exists(binaryStorage.getLessonBookFilePath()));
+        Files.delete(jsonStorage.getLessonBookFilePath());
+        assertEquals(original, new LessonBook(binaryStorage.readLessonBook().get()));
+    }
+
+    @Test
+    public void convertToJson_binaryFile_savedAsJsonAndBinaryFileKept() throws Exception {
+        LessonBook original = TypicalLessons.getTypicalLessonBook();
+        binaryStorage.saveLessonBook(original);
+
+        assertEquals(original, new LessonBook(binaryStorage.convertToJson().get()));
+        assertTrue(Files.exists(binaryStorage.getLessonBookFilePath()));
+        assertEquals(original, new LessonBook(jsonStorage.readLessonBook().get()));
+
+        binaryStorage.deleteBinaryFile();
+        assertFalse(Files.exists(binaryStorage.getLessonBookFilePath()));
+        assertFalse(binaryStorage.convertToJson().isPresent());
+    }
+
+    @Test
+    public void readLessonBook_corruptedFile_throwsDataConversionException() throws Exception {
+        binaryStorage.saveLessonBook(TypicalLessons.getTypicalLessonBook());
+        Path filePath = binaryStorage.getLessonBookFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        Assert.assertThrows(DataConversionException.class, () -> binaryStorage.readLessonBook());
+
+        Files.write(filePath, new byte[] {1, 2, 3});
+        Assert.assertThrows(DataConversionException.class, () -> binaryStorage.readLessonBook());
+    }
+
+    @Test
+    public void readLessonBook_studentBookFile_throwsDataConversionException() throws Exception {
+        Path filePath = binaryStorage.getLessonBookFilePath();
+        new BinaryTutorAidStudentStorage(new JsonTutorAidStudentStorage(testFolder.resolve("lessons.json"),
+                new LessonBook())).saveStudentBook(new StudentBook(), filePath);
+        Assert.assertThrows(DataConversionException.class, () -> binaryStorage.readLessonBook());
+    }
+
+    @Test
+    public void saveLessonBook_nullLessonBook_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> binaryStorage.saveLessonBook(null));
+    }
+}
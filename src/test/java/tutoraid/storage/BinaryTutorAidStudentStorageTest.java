@@ -0,0 +1,158 @@
+package tutoraid.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.model.LessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.StudentBook;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.Assert;
+import tutoraid.testutil.StudentBuilder;
+import tutoraid.testutil.TypicalLessons;
+import tutoraid.testutil.TypicalStudents;
+
+public class BinaryTutorAidStudentStorageTest {
+
+    @TempDir
+    public Path testFolder;
+    private LessonBook lessonBook;
+    private JsonTutorAidStudentStorage jsonStorage;
+    private BinaryTutorAidStudentStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        lessonBook = TypicalLessons.getTypicalLessonBook();
+        jsonStorage = new JsonTutorAidStudentStorage(testFolder.resolve("students.json"), lessonBook);
+        binaryStorage = new BinaryTutorAidStudentStorage(jsonStorage);
+    }
+
+    /**
+     * Returns the typical student book with its first student enrolled in every typical lesson.
+     */
+    private StudentBook getStudentBookWithLessons() {
+        StudentBook studentBook = TypicalStudents.getTypicalStudentBook();
+        Student student = studentBook.getStudentList().get(0);
+        for (Lesson lesson : lessonBook.getLessonList()) {
+            student.addLesson(lesson);
+            lesson.addStudent(student);
+        }
+        return studentBook;
+    }
+
+    @Test
+    public void readStudentBook_noFiles_emptyResult() throws Exception {
+        assertFalse(binaryStorage.readStudentBook(lessonBook).isPresent());
+    }
+
+    @Test
+    public void readAndSaveStudentBook_allInOrder_success() throws Exception {
+        StudentBook original = getStudentBookWithLessons();
+        binaryStorage.saveStudentBook(original);
+
+        LessonBook readLessonBook = TypicalLessons.getTypicalLessonBook();
+        ReadOnlyStudentBook readBack = binaryStorage.readStudentBook(readLessonBook).get();
+        assertEquals(original, new StudentBook(readBack));
+        Student readStudent = readBack.getStudentList().get(0);
+        for (Lesson lesson : readLessonBook.getLessonList()) {
+            assertTrue(readStudent.hasLesson(lesson));
+            assertTrue(lesson.hasStudent(readStudent));
+        }
+
+        original.addStudent(TypicalStudents.HOON);
+        original.removeStudent(original.getStudentList().get(1));
+        binaryStorage.saveStudentBook(original);
+        readBack = binaryStorage.readStudentBook(TypicalLessons.getTypicalLessonBook()).get();
+        assertEquals(original, new StudentBook(readBack));
+    }
+
+    @Test
+    public void saveStudentBook_repeatedValues_storedOnce() throws Exception {
+        StudentBook studentBook = new StudentBook();
+        studentBook.setStudents(List.of(TypicalStudents.ALICE.copy()));
+        binaryStorage.saveStudentBook(studentBook);
+        long oneStudentSize = Files.size(binaryStorage.getStudentBookFilePath());
+
+        // students with the same parent differ only in their IDs and names
+        StudentBook siblings = new StudentBook();
+        siblings.setStudents(List.of(TypicalStudents.ALICE.copy(), new StudentBuilder(
+                TypicalStudents.ALICE).withId(99).withStudentName("A").build()));
+        binaryStorage.saveStudentBook(siblings);
+        long twoStudentsSize = Files.size(binaryStorage.getStudentBookFilePath());
+
+        long recordSize = Long.BYTES + 4 * Integer.BYTES + 2 * Integer.BYTES; // ID, four strings, two list lengths
+        long progressSize = TypicalStudents.ALICE.getProgressList().progressList.size() * Integer.BYTES;
+        long lessonsSize = TypicalStudents.ALICE.getLessons().lessons.size() * Long.BYTES;
+        long newNameSize = Integer.BYTES + 1;
+        assertEquals(oneStudentSize + recordSize + progressSize + lessonsSize + newNameSize, twoStudentsSize);
+    }
+
+    @Test
+    public void readStudentBook_onlyJsonFile_convertedToBinary() throws Exception {
+        StudentBook original = getStudentBookWithLessons();
+        jsonStorage.saveStudentBook(original);
+
+        ReadOnlyStudentBook readBack = binaryStorage.readStudentBook(TypicalLessons.getTypicalLessonBook()).get();
+
+        assertEquals(original, new StudentBook(readBack));
+        assertTrue(Files.exists(binaryStorage.getStudentBookFilePath()));
+    }
+
+    @Test
+    public void convertToJson_binaryFile_savedAsJsonAndBinaryFileKept() throws Exception {
+        StudentBook original = getStudentBookWithLessons();
+        binaryStorage.saveStudentBook(original);
+
+        binaryStorage.convertToJson(TypicalLessons.getTypicalLessonBook());
+
+        assertTrue(Files.exists(binaryStorage.getStudentBookFilePath()));
+        ReadOnlyStudentBook readBack = jsonStorage.readStudentBook(TypicalLessons.getTypicalLessonBook()).get();
+        assertEquals(original, new StudentBook(readBack));
+
+        binaryStorage.deleteBinaryFile();
+        assertFalse(Files.exists(binaryStorage.getStudentBookFilePath()));
+    }
+
+    @Test
+    public void readStudentBook_invalidValue_throwsDataConversionException() throws Exception {
+        StudentBook studentBook = new StudentBook();
+        studentBook.addStudent(TypicalStudents.ALICE.copy());
+        binaryStorage.saveStudentBook(studentBook);
+        Path filePath = binaryStorage.getStudentBookFilePath();
+        // replace the digits of the student's phone number, which are stored as plain UTF-8, with letters
+        String phone = TypicalStudents.ALICE.getStudentPhone().value;
+        byte[] bytes = Files.readAllBytes(filePath);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+        int phoneStart = content.indexOf(phone);
+        for (int i = 0; i < phone.length(); i++) {
+            bytes[phoneStart + i] = 'x';
+        }
+        // keep the checksum valid, so that the value itself is rejected
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Long.BYTES);
+        ByteBuffer.wrap(bytes).putLong(bytes.length - Long.BYTES, checksum.getValue());
+        Files.write(filePath, bytes);
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                binaryStorage.readStudentBook(TypicalLessons.getTypicalLessonBook()));
+    }
+
+    @Test
+    public void saveStudentBook_nullStudentBook_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> binaryStorage.saveStudentBook(null));
+    }
+}
@@ -0,0 +1,307 @@
+package tutoraid.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.commons.util.JsonUtil;
+import tutoraid.model.ChangeLog;
+import tutoraid.testutil.Assert;
+
+public class BookJournalTest {
+
+    private static final String ENTITIES_FIELD = "items";
+
+    @TempDir
+    public Path testFolder;
+    private Path snapshotPath;
+    private BookJournal<Item> journal;
+    private ItemBook book;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotPath = testFolder.resolve("items.json");
+        journal = newJournal(Long.MAX_VALUE);
+        book = new ItemBook();
+    }
+
+    private BookJournal<Item> newJournal(long compactionThreshold) {
+        return newJournal(compactionThreshold, Runnable::run);
+    }
+
+    private BookJournal<Item> newJournal(long compactionThreshold, Executor compactor) {
+        return new BookJournal<>(snapshotPath, ENTITIES_FIELD, item -> item.id, item -> item, compactionThreshold,
+                compactor);
+    }
+
+    private static String item(long id, String name) {
+        return "{\"id\":" + id + ",\"name\":\"" + name + "\"}";
+    }
+
+    /**
+     * Returns the items read back by a new journal on the same files, as compact json.
+     */
+    private List<String> readBack() throws Exception {
+        List<String> readItems = new ArrayList<>();
+        assertTrue(newJournal(Long.MAX_VALUE).read(item -> readItems.add(JsonUtil.toCompactJsonString(item))));
+        return readItems;
+    }
+
+    private List<String> journalRecords() throws Exception {
+        return Files.exists(journal.getJournalPath())
+                ? Files.readAllLines(journal.getJournalPath(), UTF_8)
+                : List.of();
+    }
+
+    @Test
+    public void read_noFiles_returnsEmpty() throws Exception {
+        assertFalse(journal.read(item -> {
+            throw new AssertionError("There should be no items.");
+        }));
+    }
+
+    @Test
+    public void save_firstSave_writesSnapshotWithoutJournal() throws Exception {
+        book.put(1, "a").put(2, "b").saveTo(journal);
+        assertTrue(Files.exists(snapshotPath));
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(1, "a"), item(2, "b")), readBack());
+    }
+
+    @Test
+    public void save_changedItems_appendsOnlyChangedItems() throws Exception {
+        book.put(1, "a").put(2, "b").put(3, "c").saveTo(journal);
+        String snapshot = Files.readString(snapshotPath);
+
+        book.delete(2).put(3, "edited").put(4, "d").saveTo(journal);
+
+        assertEquals(snapshot, Files.readString(snapshotPath));
+        assertEquals(List.of("{\"put\":" + item(3, "edited") + "}", "{\"put\":" + item(4, "d") + "}",
+                "{\"delete\":2}"), journalRecords());
+        assertEquals(List.of(item(1, "a"), item(3, "edited"), item(4, "d")), readBack());
+    }
+
+    @Test
+    public void save_noChanges_writesNothing() throws Exception {
+        book.put(1, "a").saveTo(journal);
+        assertEquals(0, book.saveTo(journal));
+        assertEquals(List.of(), journalRecords());
+    }
+
+    @Test
+    public void save_snapshotThenJournal_returnsBytesWritten() throws Exception {
+        long written = book.put(1, "a").put(2, "b").saveTo(journal);
+        assertEquals(Files.size(snapshotPath), written);
+
+        long appended = book.put(2, "edited").saveTo(journal);
+
+        assertEquals(Files.size(journal.getJournalPath()), appended);
+    }
+
+    @Test
+    public void save_afterReadAndMarkStored_appendsToExistingJournal() throws Exception {
+        book.put(1, "a").saveTo(journal);
+        book.put(2, "b").saveTo(journal);
+
+        BookJournal<Item> reopened = newJournal(Long.MAX_VALUE);
+        reopened.read(item -> { });
+        reopened.markStored(book.version);
+        book.put(3, "c").saveTo(reopened);
+
+        assertEquals(2, journalRecords().size());
+        assertEquals(List.of(item(1, "a"), item(2, "b"), item(3, "c")), readBack());
+    }
+
+    @Test
+    public void save_afterReadWithoutMarkStored_writesSnapshot() throws Exception {
+        book.put(1, "a").saveTo(journal);
+        book.put(2, "b").saveTo(journal);
+
+        BookJournal<Item> reopened = newJournal(Long.MAX_VALUE);
+        reopened.read(item -> { });
+        book.put(3, "c").saveTo(reopened);
+
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(1, "a"), item(2, "b"), item(3, "c")), readBack());
+    }
+
+    @Test
+    public void save_allItemsReplaced_writesSnapshot() throws Exception {
+        book.put(1, "a").put(2, "b").saveTo(journal);
+        book.put(3, "c").saveTo(journal);
+        book.reverse().saveTo(journal);
+
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(3, "c"), item(2, "b"), item(1, "a")), readBack());
+    }
+
+    @Test
+    public void save_changesNoLongerKnown_writesSnapshot() throws Exception {
+        book = new ItemBook(new ChangeLog(2));
+        book.put(1, "a").saveTo(journal);
+        book.put(2, "b").put(3, "c").put(1, "edited").saveTo(journal);
+
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(1, "edited"), item(2, "b"), item(3, "c")), readBack());
+    }
+
+    @Test
+    public void save_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        journal = newJournal(0);
+        book.put(1, "a").saveTo(journal);
+        book.put(1, "edited").put(2, "b").saveTo(journal);
+
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(1, "edited"), item(2, "b")), readBack());
+    }
+
+    @Test
+    public void save_compactionRunsAfterLaterSaves_compactsAllRecords() throws Exception {
+        List<Runnable> compactions = new ArrayList<>();
+        journal = newJournal(0, compactions::add);
+        book.put(1, "a").put(2, "b").saveTo(journal);
+        book.delete(1).saveTo(journal);
+        book.put(3, "c").saveTo(journal);
+
+        assertEquals(1, compactions.size());
+        compactions.get(0).run();
+
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(2, "b"), item(3, "c")), readBack());
+        book.put(4, "d").saveTo(journal);
+        assertEquals(1, journalRecords().size());
+        assertEquals(List.of(item(2, "b"), item(3, "c"), item(4, "d")), readBack());
+    }
+
+    @Test
+    public void save_snapshotWrittenBeforeCompactionRuns_compactionDiscarded() throws Exception {
+        List<Runnable> compactions = new ArrayList<>();
+        journal = newJournal(0, compactions::add);
+        book.put(1, "a").saveTo(journal);
+        book.put(2, "b").saveTo(journal);
+        book.reverse().saveTo(journal);
+
+        assertEquals(1, compactions.size());
+        compactions.get(0).run();
+
+        assertEquals(List.of(item(2, "b"), item(1, "a")), readBack());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(snapshotPath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void read_incompleteLastRecord_recordIgnoredAndSnapshotRewrittenOnNextSave() throws Exception {
+        book.put(1, "a").saveTo(journal);
+        book.put(2, "b").saveTo(journal);
+        Files.writeString(journal.getJournalPath(), "{\"put\":{\"id\":3", UTF_8, StandardOpenOption.APPEND);
+
+        BookJournal<Item> reopened = newJournal(Long.MAX_VALUE);
+        assertEquals(List.of(item(1, "a"), item(2, "b")), readBack());
+        reopened.read(item -> { });
+        reopened.markStored(book.version);
+        book.put(4, "d").saveTo(reopened);
+
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(1, "a"), item(2, "b"), item(4, "d")), readBack());
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataConversionException() throws Exception {
+        book.put(1, "a").saveTo(journal);
+        Files.writeString(journal.getJournalPath(), "{\"replace\":1}\n{\"delete\":1}\n", UTF_8);
+        Assert.assertThrows(DataConversionException.class, () -> newJournal(Long.MAX_VALUE).read(item -> { }));
+    }
+
+    @Test
+    public void read_snapshotWithoutIds_returnsSnapshotAndRewritesItOnNextSave() throws Exception {
+        Files.writeString(snapshotPath, "{\"items\":[{\"name\":\"a\"}]}", UTF_8);
+        List<String> names = new ArrayList<>();
+        journal.read(item -> names.add(item.get("name").asText()));
+        assertEquals(List.of("a"), names);
+
+        journal.markStored(book.version);
+        book.put(1, "a").saveTo(journal);
+        assertEquals(List.of(), journalRecords());
+        assertEquals(List.of(item(1, "a")), readBack());
+    }
+
+    /**
+     * An entity with an ID, which is written as json by its fields.
+     */
+    private static class Item {
+        private final long id;
+        private final String name;
+
+        Item(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    /**
+     * A list of items that records its changes in a {@code ChangeLog}, as the books of the model do.
+     */
+    private static class ItemBook {
+        private final List<Item> items = new ArrayList<>();
+        private final ChangeLog changes;
+        private long version;
+
+        ItemBook() {
+            this(new ChangeLog());
+        }
+
+        ItemBook(ChangeLog changes) {
+            this.changes = changes;
+        }
+
+        /**
+         * Adds an item with the given {@code id} at the end, or edits it in place if there is one.
+         */
+        ItemBook put(long id, String name) {
+            version++;
+            Item item = new Item(id, name);
+            items.replaceAll(existing -> existing.id == id ? item : existing);
+            if (!items.contains(item)) {
+                items.add(item);
+            }
+            changes.recordChange(version, id);
+            return this;
+        }
+
+        ItemBook delete(long id) {
+            version++;
+            items.removeIf(item -> item.id == id);
+            changes.recordChange(version, id);
+            return this;
+        }
+
+        ItemBook reverse() {
+            version++;
+            Collections.reverse(items);
+            changes.recordReplacement(version);
+            return this;
+        }
+
+        long saveTo(BookJournal<Item> journal) throws Exception {
+            return journal.save(items, id -> items.stream().filter(item -> item.id == id).findFirst(), version,
+                    changes.copy());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package tutoraid.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutoraid.model.ChangeLog;
+
+public class EntitySnapshotTest {
+
+    private final List<Item> items = new ArrayList<>();
+    private final ChangeLog changes = new ChangeLog();
+    private long version;
+    private int copyCount;
+    private EntitySnapshot<Item> first;
+
+    @BeforeEach
+    public void setUp() {
+        first = new EntitySnapshot<>(item -> item.id, item -> {
+            copyCount++;
+            return new Item(item.id, item.name);
+        });
+    }
+
+    @Test
+    public void next_firstSnapshot_copiesEveryItem() {
+        put(1, "a");
+        put(2, "b");
+
+        EntitySnapshot<Item> snapshot = takeAfter(first);
+
+        assertEquals(2, copyCount);
+        assertEquals(List.of("1a", "2b"), describe(snapshot));
+        assertNotSame(items.get(0), snapshot.getEntities().get(0));
+        assertEquals(version, snapshot.getVersion());
+    }
+
+    @Test
+    public void next_itemsChanged_copiesOnlyChangedItems() {
+        put(1, "a");
+        put(2, "b");
+        put(3, "c");
+        EntitySnapshot<Item> previous = takeAfter(first);
+        copyCount = 0;
+
+        put(2, "edited");
+        delete(1);
+        put(5, "e");
+        put(4, "d");
+        EntitySnapshot<Item> snapshot = takeAfter(previous);
+
+        assertEquals(3, copyCount);
+        assertEquals(List.of("2edited", "3c", "4d", "5e"), describe(snapshot));
+        assertSame(previous.getEntities().get(2), snapshot.getEntities().get(1));
+        assertEquals("4d", snapshot.getEntity(4).map(Item::toString).orElse(""));
+        assertEquals(Optional.empty(), snapshot.getEntity(1));
+    }
+
+    @Test
+    public void next_snapshotsNotRead_laterSnapshotHasAllChanges() {
+        put(1, "a");
+        put(2, "b");
+        EntitySnapshot<Item> snapshot = takeAfter(first);
+        snapshot.getEntities();
+
+        delete(2);
+        snapshot = takeAfter(snapshot);
+        put(2, "restored");
+        put(3, "c");
+        snapshot = takeAfter(snapshot);
+        put(1, "edited");
+        snapshot = takeAfter(snapshot);
+
+        assertEquals(List.of("1edited", "2restored", "3c"), describe(snapshot));
+    }
+
+    @Test
+    public void next_changesNoLongerKnown_copiesEveryItem() {
+        put(1, "a");
+        put(2, "b");
+        EntitySnapshot<Item> previous = takeAfter(first);
+        copyCount = 0;
+
+        version++;
+        changes.recordReplacement(version);
+        EntitySnapshot<Item> snapshot = takeAfter(previous);
+
+        assertEquals(2, copyCount);
+        assertEquals(List.of("1a", "2b"), describe(snapshot));
+    }
+
+    private EntitySnapshot<Item> takeAfter(EntitySnapshot<Item> previous) {
+        return previous.next(items, id -> items.stream().filter(item -> item.id == id).findFirst(), version,
+                changes.copy());
+    }
+
+    private void put(long id, String name) {
+        version++;
+        Item item = new Item(id, name);
+        items.replaceAll(existing -> existing.id == id ? item : existing);
+        if (!items.contains(item)) {
+            items.add(item);
+        }
+        changes.recordChange(version, id);
+    }
+
+    private void delete(long id) {
+        version++;
+        items.removeIf(item -> item.id == id);
+        changes.recordChange(version, id);
+    }
+
+    private static List<String> describe(EntitySnapshot<Item> snapshot) {
+        return snapshot.getEntities().stream().map(Item::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * An entity with an ID.
+     */
+    private static class Item {
+        private final long id;
+        private final String name;
+
+        Item(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return id + name;
+        }
+    }
+}
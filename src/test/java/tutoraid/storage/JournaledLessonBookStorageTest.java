@@ -0,0 +1,64 @@
+package tutoraid.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.model.LessonBook;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.testutil.Assert;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.TypicalLessons;
+
+public class JournaledLessonBookStorageTest {
+    private static final Path TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonLessonBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readLessonBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentLessonBook.json");
+        assertFalse(new JournaledTutorAidLessonStorage(filePath).readLessonBook().isPresent());
+    }
+
+    @Test
+    public void readLessonBook_invalidLessonLessonBook_throwDataConversionException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidLessonLessonBook.json");
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JournaledTutorAidLessonStorage(filePath).readLessonBook());
+    }
+
+    @Test
+    public void readAndSaveLessonBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempLessonBook.json");
+        LessonBook original = TypicalLessons.getTypicalLessonBook();
+        JournaledTutorAidLessonStorage storage = new JournaledTutorAidLessonStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveLessonBook(original);
+        ReadOnlyLessonBook readBack = new JournaledTutorAidLessonStorage(filePath).readLessonBook().get();
+        assertEquals(original, new LessonBook(readBack));
+
+        // Modify data, save the changes to the journal, and read back
+        original.removeLesson(original.getLessonList().get(0));
+        original.addLesson(new LessonBuilder().withLessonName("History 1").build());
+        storage.saveLessonBook(original);
+        readBack = new JournaledTutorAidLessonStorage(filePath).readLessonBook().get();
+        assertEquals(original, new LessonBook(readBack));
+    }
+
+    @Test
+    public void saveLessonBook_nullLessonBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempLessonBook.json");
+        Assert.assertThrows(NullPointerException.class, () ->
+                new JournaledTutorAidLessonStorage(filePath).saveLessonBook(null));
+    }
+}
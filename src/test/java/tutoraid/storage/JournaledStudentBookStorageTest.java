@@ -0,0 +1,138 @@
+package tutoraid.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutoraid.commons.exceptions.DataConversionException;
+import tutoraid.model.ReadOnlyLessonBook;
+import tutoraid.model.ReadOnlyStudentBook;
+import tutoraid.model.StudentBook;
+import tutoraid.model.student.Student;
+import tutoraid.testutil.Assert;
+import tutoraid.testutil.StudentBuilder;
+import tutoraid.testutil.TypicalLessons;
+import tutoraid.testutil.TypicalStudents;
+
+public class JournaledStudentBookStorageTest {
+    private static final Path TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonStudentBookStorageTest");
+    private static final ReadOnlyLessonBook lb = TypicalLessons.getTypicalLessonBook();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readStudentBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempStudentBook.json");
+        Assert.assertThrows(NullPointerException.class, () ->
+                new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(null, lb));
+    }
+
+    @Test
+    public void readStudentBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentStudentBook.json");
+        assertFalse(new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb).isPresent());
+    }
+
+    @Test
+    public void readStudentBook_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatStudentBook.json");
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb));
+    }
+
+    @Test
+    public void readStudentBook_invalidPersonStudentBook_throwDataConversionException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonStudentBook.json");
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb));
+    }
+
+    @Test
+    public void readStudentBook_fileSavedAsJson_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentBook.json");
+        StudentBook original = TypicalStudents.getTypicalStudentBook();
+        new JsonTutorAidStudentStorage(filePath, lb).saveStudentBook(original);
+
+        ReadOnlyStudentBook readBack = new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb).get();
+        assertEquals(original, new StudentBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveStudentBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentBook.json");
+        StudentBook original = TypicalStudents.getTypicalStudentBook();
+        JournaledTutorAidStudentStorage storage = new JournaledTutorAidStudentStorage(filePath, lb);
+
+        // Save in new file and read back
+        storage.saveStudentBook(original, filePath);
+        ReadOnlyStudentBook readBack = storage.readStudentBook(filePath, lb).get();
+        assertEquals(original, new StudentBook(readBack));
+
+        // Modify data, save the changes to the journal, and read back
+        original.addStudent(TypicalStudents.HOON);
+        original.removeStudent(TypicalStudents.ALICE);
+        storage.saveStudentBook(original, filePath);
+        readBack = new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(filePath, lb).get();
+        assertEquals(original, new StudentBook(readBack));
+
+        // Save and read without specifying file path
+        original.addStudent(TypicalStudents.IDA);
+        storage.saveStudentBook(original); // file path not specified
+        readBack = new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb).get();
+        assertEquals(original, new StudentBook(readBack));
+    }
+
+    @Test
+    public void saveStudentBook_oneStudentEdited_onlyThatStudentJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentBook.json");
+        StudentBook original = TypicalStudents.getTypicalStudentBook();
+        JournaledTutorAidStudentStorage storage = new JournaledTutorAidStudentStorage(filePath, lb);
+        storage.saveStudentBook(original);
+        String snapshot = Files.readString(filePath);
+
+        Student benson = original.getStudentList().get(1);
+        original.replaceStudent(benson, new StudentBuilder(benson).withParentPhone("98765432").build());
+        storage.saveStudentBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        Path journalPath = filePath.resolveSibling(filePath.getFileName() + BookJournal.JOURNAL_FILE_SUFFIX);
+        assertEquals(1, Files.readAllLines(journalPath, UTF_8).size());
+        ReadOnlyStudentBook readBack = new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb).get();
+        assertEquals(original, new StudentBook(readBack));
+    }
+
+    @Test
+    public void saveStudentBook_markedSavedAfterRead_onlyChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentBook.json");
+        new JsonTutorAidStudentStorage(filePath, lb).saveStudentBook(TypicalStudents.getTypicalStudentBook());
+        String snapshot = Files.readString(filePath);
+
+        JournaledTutorAidStudentStorage storage = new JournaledTutorAidStudentStorage(filePath, lb);
+        StudentBook readBack = new StudentBook(storage.readStudentBook(lb).get());
+        storage.markStudentBookSaved(readBack);
+        readBack.addStudent(TypicalStudents.HOON);
+        storage.saveStudentBook(readBack);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        Path journalPath = filePath.resolveSibling(filePath.getFileName() + BookJournal.JOURNAL_FILE_SUFFIX);
+        assertEquals(1, Files.readAllLines(journalPath, UTF_8).size());
+        ReadOnlyStudentBook readAgain = new JournaledTutorAidStudentStorage(filePath, lb).readStudentBook(lb).get();
+        assertEquals(readBack, new StudentBook(readAgain));
+    }
+
+    @Test
+    public void saveStudentBook_nullStudentBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempStudentBook.json");
+        Assert.assertThrows(NullPointerException.class, () ->
+                new JournaledTutorAidStudentStorage(filePath, lb).saveStudentBook(null));
+    }
+}
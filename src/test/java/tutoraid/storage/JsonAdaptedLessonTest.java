@@ -1,6 +1,8 @@
 package tutoraid.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import tutoraid.commons.exceptions.IllegalValueException;
 import tutoraid.model.lesson.Capacity;
+import tutoraid.model.lesson.Lesson;
 import tutoraid.model.lesson.LessonName;
 import tutoraid.model.lesson.Price;
 import tutoraid.model.lesson.Timing;
@@ -22,6 +25,7 @@ public class JsonAdaptedLessonTest {
     private static final String INVALID_LESSON_PRICE = "one hundred";
     private static final String INVALID_LESSON_TIMING = " ";
 
+    private static final Long VALID_ID = TypicalLessons.SCIENCE_ONE.getId();
     private static final String VALID_LESSON_NAME = TypicalLessons.SCIENCE_ONE.getLessonName().toString();
     private static final String VALID_LESSON_CAPACITY = TypicalLessons.SCIENCE_ONE.getCapacity().toString();
     private static final String VALID_LESSON_PRICE = TypicalLessons.SCIENCE_ONE.getPrice().toString();
@@ -36,9 +40,18 @@ public class JsonAdaptedLessonTest {
         assertEquals(TypicalLessons.SCIENCE_ONE, lesson.toModelType());
     }
 
+    @Test
+    public void toModelType_missingId_generatesNewId() throws Exception {
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(null, VALID_LESSON_NAME, VALID_LESSON_CAPACITY,
+                VALID_LESSON_PRICE, VALID_LESSON_TIMING);
+        Lesson modelLesson = lesson.toModelType();
+        assertTrue(TypicalLessons.SCIENCE_ONE.hasSameDetails(modelLesson));
+        assertNotEquals(TypicalLessons.SCIENCE_ONE.getId(), modelLesson.getId());
+    }
+
     @Test
     public void toModelType_invalidLessonName_throwsIllegalValueException() {
-        JsonAdaptedLesson lesson = new JsonAdaptedLesson(INVALID_LESSON_NAME, VALID_LESSON_CAPACITY,
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_ID, INVALID_LESSON_NAME, VALID_LESSON_CAPACITY,
                 VALID_LESSON_PRICE, VALID_LESSON_TIMING);
 
         String expectedMessage = LessonName.MESSAGE_CONSTRAINTS;
@@ -47,7 +60,7 @@ public class JsonAdaptedLessonTest {
 
     @Test
     public void toModelType_nullLessonName_throwsIllegalValueException() {
-        JsonAdaptedLesson lesson = new JsonAdaptedLesson(null, VALID_LESSON_CAPACITY,
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_ID, null, VALID_LESSON_CAPACITY,
                 VALID_LESSON_PRICE, VALID_LESSON_TIMING);
 
         String expectedMessage = String.format(
@@ -57,7 +70,7 @@ public class JsonAdaptedLessonTest {
 
     @Test
     public void toModelType_invalidCapacity_throwsIllegalValueException() {
-        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_LESSON_NAME, INVALID_LESSON_CAPACITY,
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_ID, VALID_LESSON_NAME, INVALID_LESSON_CAPACITY,
                 VALID_LESSON_PRICE, VALID_LESSON_TIMING);
 
         String expectedMessage = Capacity.MESSAGE_CONSTRAINTS;
@@ -66,7 +79,7 @@ public class JsonAdaptedLessonTest {
 
     @Test
     public void toModelType_invalidPrice_throwsIllegalValueException() {
-        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_LESSON_NAME, VALID_LESSON_CAPACITY,
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_ID, VALID_LESSON_NAME, VALID_LESSON_CAPACITY,
                 INVALID_LESSON_PRICE, VALID_LESSON_TIMING);
 
         String expectedMessage = Price.MESSAGE_CONSTRAINTS;
@@ -75,7 +88,7 @@ public class JsonAdaptedLessonTest {
 
     @Test
     public void toModelType_invalidTiming_throwsIllegalValueException() {
-        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_LESSON_NAME, VALID_LESSON_CAPACITY,
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(VALID_ID, VALID_LESSON_NAME, VALID_LESSON_CAPACITY,
                 VALID_LESSON_PRICE, INVALID_LESSON_TIMING);
 
         String expectedMessage = Timing.MESSAGE_CONSTRAINTS;
@@ -1,6 +1,8 @@
 package tutoraid.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,8 +11,13 @@ import org.junit.jupiter.api.Test;
 
 import tutoraid.commons.exceptions.IllegalValueException;
 import tutoraid.commons.util.JsonUtil;
+import tutoraid.model.LessonBook;
 import tutoraid.model.StudentBook;
+import tutoraid.model.lesson.Lesson;
+import tutoraid.model.student.Student;
 import tutoraid.testutil.Assert;
+import tutoraid.testutil.LessonBuilder;
+import tutoraid.testutil.StudentBuilder;
 import tutoraid.testutil.TypicalLessons;
 import tutoraid.testutil.TypicalStudents;
 
@@ -20,6 +27,8 @@ public class JsonSerializableStudentBookTest {
     private static final Path TYPICAL_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsStudentBook.json");
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidPersonStudentBook.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonStudentBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdStudentBook.json");
+    private static final Path LEGACY_STUDENT_FILE = TEST_DATA_FOLDER.resolve("legacyPersonStudentBook.json");
 
     @Test
     public void toModelType_typicalStudentsFile_success() throws Exception {
@@ -48,4 +57,51 @@ public class JsonSerializableStudentBookTest {
                         TypicalLessons.getTypicalLessonBook()));
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableStudentBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableStudentBook.class).get();
+        Assert.assertThrows(
+                IllegalValueException.class,
+                JsonSerializableStudentBook.MESSAGE_DUPLICATE_STUDENT, () -> dataFromFile.toModelType(
+                        TypicalLessons.getTypicalLessonBook()));
+    }
+
+    @Test
+    public void toModelType_legacyStudentFile_linksLessonsByName() throws Exception {
+        JsonSerializableStudentBook dataFromFile = JsonUtil.readJsonFile(LEGACY_STUDENT_FILE,
+                JsonSerializableStudentBook.class).get();
+        LessonBook lessonBook = TypicalLessons.getTypicalLessonBook();
+        Lesson mathsOne = lessonBook.getLessonList().get(0);
+        Lesson scienceOne = lessonBook.getLessonList().get(1);
+
+        Student student = dataFromFile.toModelType(lessonBook).getStudentList().get(0);
+        assertTrue(TypicalStudents.ALICE.isSameStudent(student));
+        assertTrue(student.hasLesson(mathsOne));
+        assertTrue(mathsOne.hasStudent(student));
+        assertFalse(student.hasLesson(scienceOne));
+    }
+
+    @Test
+    public void toModelType_lessonRenamedAfterSaving_keepsLink() throws Exception {
+        LessonBook lessonBook = TypicalLessons.getTypicalLessonBook();
+        Lesson mathsOne = lessonBook.getLessonList().get(0);
+        Student student = new StudentBuilder(TypicalStudents.ALICE).build();
+        student.addLesson(mathsOne);
+        mathsOne.addStudent(student);
+        StudentBook studentBook = new StudentBook();
+        studentBook.addStudent(student);
+        String json = JsonUtil.toJsonString(new JsonSerializableStudentBook(studentBook));
+
+        lessonBook.replaceLesson(mathsOne, new LessonBuilder(mathsOne).withLessonName("Maths 9").build());
+        mathsOne.removeAllStudents();
+        StudentBook studentBookFromJson = JsonUtil.fromJsonString(json, JsonSerializableStudentBook.class)
+                .toModelType(lessonBook);
+
+        Student studentFromJson = studentBookFromJson.getStudentList().get(0);
+        assertEquals(student, studentFromJson);
+        assertTrue(studentFromJson.hasLesson(mathsOne));
+        assertTrue(mathsOne.hasStudent(studentFromJson));
+    }
+
 }
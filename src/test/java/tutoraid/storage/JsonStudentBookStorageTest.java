@@ -1,6 +1,7 @@
 package tutoraid.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -58,6 +59,19 @@ public class JsonStudentBookStorageTest {
                 DataConversionException.class, () -> readStudentBook("invalidAndValidPersonStudentBook.json"));
     }
 
+    @Test
+    public void readInitialStudents_missingFile_emptyResult() throws Exception {
+        JsonTutorAidStudentStorage storage = new JsonTutorAidStudentStorage(testFolder.resolve("missing.json"), lb);
+        assertTrue(storage.readInitialStudents().isEmpty());
+    }
+
+    @Test
+    public void readInitialStudents_invalidPersonStudentBook_throwDataConversionException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonStudentBook.json");
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JsonTutorAidStudentStorage(filePath, lb).readInitialStudents());
+    }
+
     @Test
     public void readAndSaveStudentBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempStudentBook.json");
@@ -2,19 +2,27 @@ package tutoraid.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import tutoraid.commons.core.GuiSettings;
 import tutoraid.model.LessonBook;
 import tutoraid.model.ReadOnlyLessonBook;
 import tutoraid.model.ReadOnlyStudentBook;
 import tutoraid.model.StudentBook;
 import tutoraid.model.UserPrefs;
+import tutoraid.model.student.InitialStudent;
+import tutoraid.model.student.Progress;
 import tutoraid.testutil.TypicalLessons;
 import tutoraid.testutil.TypicalStudents;
 
@@ -66,6 +74,29 @@ public class StorageManagerTest {
         assertEquals(original, new StudentBook(retrieved));
     }
 
+    @Test
+    public void saveLessonBook_flightRecording_loadAndSaveEventsRecorded() throws Exception {
+        Path recordingFile = testFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BookLoadEvent.class);
+            recording.enable(BookSaveEvent.class);
+            recording.start();
+            storageManager.saveLessonBook(lb);
+            storageManager.readLessonBook();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertEquals(2, events.size());
+        long fileSize = Files.size(storageManager.getLessonBookFilePath());
+        for (RecordedEvent event : events) {
+            assertEquals(storageManager.getLessonBookFilePath().toString(), event.getString("file"));
+            assertEquals(fileSize, event.getLong("bytes"));
+            assertEquals(lb.getLessonList().size(), event.getInt("records"));
+        }
+    }
+
     @Test
     public void getStudentBookFilePath() {
         assertNotNull(storageManager.getStudentBookFilePath());
@@ -89,4 +120,50 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getLessonBookFilePath());
     }
 
+    @Test
+    public void readInitialStudents_missingFile_emptyResult() throws Exception {
+        assertTrue(storageManager.readInitialStudents().isEmpty());
+    }
+
+    @Test
+    public void readInitialStudentsThenLinkStudents_savedBook_sameAsReadStudentBook() throws Exception {
+        StudentBook original = TypicalStudents.getTypicalStudentBook();
+        storageManager.saveStudentBook(original);
+
+        List<InitialStudent> initialStudents = storageManager.readInitialStudents().get();
+        ReadOnlyStudentBook linked =
+                storageManager.linkStudents(initialStudents, TypicalLessons.getTypicalLessonBook());
+
+        assertEquals(original.getStudentList().size(), initialStudents.size());
+        assertEquals(original, new StudentBook(linked));
+    }
+
+    @Test
+    public void writeBehind_saveThenFlush_writesBooks() throws Exception {
+        storageManager.enableWriteBehind(e -> {
+            throw new AssertionError("Saving should not fail.", e);
+        });
+        StudentBook studentBook = TypicalStudents.getTypicalStudentBook();
+        LessonBook lessonBook = TypicalLessons.getTypicalLessonBook();
+        storageManager.saveStudentBook(studentBook);
+        storageManager.saveLessonBook(lessonBook);
+        storageManager.flush();
+        assertEquals(studentBook, new StudentBook(storageManager.readStudentBook(lb).get()));
+        assertEquals(lessonBook, new LessonBook(storageManager.readLessonBook().get()));
+    }
+
+    @Test
+    public void writeBehind_bookModifiedAfterSave_writesBookAsSaved() throws Exception {
+        storageManager.enableWriteBehind(e -> {
+            throw new AssertionError("Saving should not fail.", e);
+        });
+        StudentBook studentBook = TypicalStudents.getTypicalStudentBook();
+        storageManager.saveStudentBook(studentBook);
+        StudentBook expected = TypicalStudents.getTypicalStudentBook();
+        studentBook.removeStudent(studentBook.getStudentList().get(0));
+        studentBook.getStudentList().get(0).addProgress(new Progress("Finished homework"));
+        storageManager.flush();
+        assertEquals(expected, new StudentBook(storageManager.readStudentBook(lb).get()));
+    }
+
 }
@@ -0,0 +1,90 @@
+package tutoraid.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindWriterTest {
+
+    private static final Path FIRST_FILE = Paths.get("first.json");
+    private static final Path SECOND_FILE = Paths.get("second.json");
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void constructor_nullFailureHandler_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindWriter(null));
+    }
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        WriteBehindWriter writer = new WriteBehindWriter(e -> { });
+        assertThrows(NullPointerException.class, () -> writer.submit(null, () -> { }));
+        assertThrows(NullPointerException.class, () -> writer.submit(FIRST_FILE, null));
+    }
+
+    @Test
+    public void flush_afterSubmit_allWritesFinished() {
+        WriteBehindWriter writer = new WriteBehindWriter(e -> { });
+        writer.submit(FIRST_FILE, () -> written.add("first"));
+        writer.submit(SECOND_FILE, () -> written.add("second"));
+        writer.flush();
+        assertEquals(List.of("first", "second"), written);
+    }
+
+    @Test
+    public void submit_burstWhileWriterBusy_onlyLatestWriteOfEachFileIsWritten() throws Exception {
+        WriteBehindWriter writer = new WriteBehindWriter(e -> { });
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch burstSubmitted = new CountDownLatch(1);
+        writer.submit(FIRST_FILE, () -> {
+            writerBusy.countDown();
+            awaitUninterruptibly(burstSubmitted);
+            written.add("first 1");
+        });
+        writerBusy.await();
+
+        writer.submit(SECOND_FILE, () -> written.add("second 1"));
+        writer.submit(FIRST_FILE, () -> written.add("first 2"));
+        writer.submit(SECOND_FILE, () -> written.add("second 2"));
+        writer.submit(FIRST_FILE, () -> written.add("first 3"));
+        burstSubmitted.countDown();
+        writer.flush();
+
+        assertEquals(List.of("first 1", "second 2", "first 3"), written);
+    }
+
+    @Test
+    public void submit_writeFails_failurePassedToHandlerAndLaterWritesContinue() {
+        IOException failure = new IOException("disk full");
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindWriter writer = new WriteBehindWriter(failures::add);
+        writer.submit(FIRST_FILE, () -> {
+            throw failure;
+        });
+        writer.submit(SECOND_FILE, () -> written.add("second"));
+        writer.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(failure, failures.get(0));
+        assertEquals(List.of("second"), written);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
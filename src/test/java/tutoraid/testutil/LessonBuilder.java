@@ -4,6 +4,7 @@ import tutoraid.model.lesson.Capacity;
 import tutoraid.model.lesson.Lesson;
 import tutoraid.model.lesson.LessonName;
 import tutoraid.model.lesson.Price;
+import tutoraid.model.lesson.Students;
 import tutoraid.model.lesson.Timing;
 
 /**
@@ -16,6 +17,7 @@ public class LessonBuilder {
     public static final String DEFAULT_LESSON_PRICE = "100";
     public static final String DEFAULT_LESSON_TIMING = "1000-1200";
 
+    private Long id;
     private LessonName lessonName;
     private Capacity capacity;
     private Price price;
@@ -35,12 +37,21 @@ public class LessonBuilder {
      * Initializes the LessonBuilder with the data of {@code lessonToCopy}.
      */
     public LessonBuilder(Lesson lessonToCopy) {
+        id = lessonToCopy.getId();
         lessonName = lessonToCopy.getLessonName();
         capacity = lessonToCopy.getCapacity();
         price = lessonToCopy.getPrice();
         timing = lessonToCopy.getTiming();
     }
 
+    /**
+     * Sets the ID of the {@code Lesson} that we are building.
+     */
+    public LessonBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code LessonName} of the {@code Lesson} that we are building.
      */
@@ -74,6 +85,9 @@ public class LessonBuilder {
     }
 
     public Lesson build() {
-        return new Lesson(lessonName, capacity, price, timing);
+        if (id == null) {
+            return new Lesson(lessonName, capacity, price, timing);
+        }
+        return new Lesson(id, lessonName, capacity, price, new Students(), timing);
     }
 }
@@ -2,6 +2,7 @@ package tutoraid.testutil;
 
 import java.util.ArrayList;
 
+import tutoraid.model.student.Lessons;
 import tutoraid.model.student.ParentName;
 import tutoraid.model.student.Phone;
 import tutoraid.model.student.ProgressList;
@@ -19,6 +20,7 @@ public class StudentBuilder {
     public static final ArrayList<String> DEFAULT_PROGRESS_LIST = new ArrayList<>();
     public static final boolean DEFAULT_PAYMENT_STATUS = false;
 
+    private Long id;
     private StudentName studentName;
     private Phone studentPhone;
     private ParentName parentName;
@@ -40,6 +42,7 @@ public class StudentBuilder {
      * Initializes the StudentBuilder with the data of {@code studentToCopy}.
      */
     public StudentBuilder(Student studentToCopy) {
+        id = studentToCopy.getId();
         studentName = studentToCopy.getStudentName();
         studentPhone = studentToCopy.getStudentPhone();
         parentName = studentToCopy.getParentName();
@@ -47,6 +50,14 @@ public class StudentBuilder {
         progressList = studentToCopy.getProgressList();
     }
 
+    /**
+     * Sets the ID of the {@code Student} that we are building.
+     */
+    public StudentBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code StudentName} of the {@code Student} that we are building.
      */
@@ -94,7 +105,11 @@ public class StudentBuilder {
      * @return the Student object that is built
      */
     public Student build() {
-        return new Student(studentName, studentPhone, parentName, parentPhone,
-                progressList);
+        if (id == null) {
+            return new Student(studentName, studentPhone, parentName, parentPhone,
+                    progressList);
+        }
+        return new Student(id, studentName, studentPhone, parentName, parentPhone,
+                progressList, new Lessons());
     }
 }
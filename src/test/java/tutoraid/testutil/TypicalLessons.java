@@ -31,12 +31,14 @@ public class TypicalLessons {
             .build();
 
     public static final Lesson MATHS_ONE = new LessonBuilder()
+            .withId(101)
             .withLessonName("Maths 1")
             .withCapacity("50")
             .withPrice("100")
             .withTiming("1000-1200")
             .build();
     public static final Lesson SCIENCE_ONE = new LessonBuilder()
+            .withId(102)
             .withLessonName("Science 1")
             .withCapacity("50")
             .withPrice("125")
@@ -28,6 +28,7 @@ import tutoraid.model.student.StudentName;
  */
 public class TypicalStudents {
     public static final Student ALICE = new StudentBuilder()
+            .withId(1)
             .withStudentName("Alice Pauline")
             .withStudentPhone("94351234")
             .withParentName("Mrs Tan")
@@ -35,6 +36,7 @@ public class TypicalStudents {
             .withProgressList(new ArrayList<>())
             .build();
     public static final Student BENSON = new StudentBuilder()
+            .withId(2)
             .withStudentName("Benson Meier")
             .withStudentPhone("98765423")
             .withParentName("Mrs Meier")
@@ -42,13 +44,16 @@ public class TypicalStudents {
             .withProgressList(new ArrayList<>())
             .build();
     public static final InitialStudent INITIAL_BENSON = new InitialStudent(
+            2,
             new StudentName("Benson Meier"),
             new Phone("98765423"),
             new ParentName("Mrs Meier"),
             new Phone("98765432"),
             new ProgressList(),
+            new ArrayList<>(),
             new ArrayList<>());
     public static final Student CARL = new StudentBuilder()
+            .withId(3)
             .withStudentName("Carl Kurz")
             .withStudentPhone("95352563")
             .withParentName("Mr Kurz")
@@ -56,6 +61,7 @@ public class TypicalStudents {
             .withProgressList(new ArrayList<>())
             .build();
     public static final Student DANIEL = new StudentBuilder()
+            .withId(4)
             .withStudentName("Daniel Meier")
             .withStudentPhone("87652533")
             .withParentName("Mrs Meier")
@@ -63,12 +69,14 @@ public class TypicalStudents {
             .withProgressList(new ArrayList<>())
             .build();
     public static final Student ELLE = new StudentBuilder()
+            .withId(5)
             .withStudentName("Elle Meyer")
             .withStudentPhone("9482224")
             .withParentName("Mrs Meyer")
             .withParentPhone("9482290")
             .build();
     public static final Student FIONA = new StudentBuilder()
+            .withId(6)
             .withStudentName("Fiona Kunz")
             .withStudentPhone("9482427")
             .withParentName("Mr Daniel")
@@ -76,6 +84,7 @@ public class TypicalStudents {
             .withProgressList(new ArrayList<>())
             .build();
     public static final Student GEORGE = new StudentBuilder()
+            .withId(7)
             .withStudentName("George Best")
             .withStudentPhone("9482442")
             .withParentName("Mrs Kayla")